@@ -0,0 +1,113 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.benchmarks.corpus;
+
+import com.itextpdf.bouncycastleconnector.BouncyCastleFactoryCreator;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.SecureRandom;
+import java.security.Security;
+import java.security.cert.Certificate;
+import java.security.cert.X509Certificate;
+import java.util.Date;
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.operator.OperatorCreationException;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+
+/**
+ * A self-signed key and certificate generated on the fly for the signing benchmarks.
+ */
+public final class SigningMaterial {
+
+    private static final long VALIDITY_MILLIS = 365L * 24 * 60 * 60 * 1000;
+
+    private final PrivateKey privateKey;
+    private final X509Certificate certificate;
+
+    private SigningMaterial(PrivateKey privateKey, X509Certificate certificate) {
+        this.privateKey = privateKey;
+        this.certificate = certificate;
+    }
+
+    /**
+     * Generates a new RSA key pair and a self-signed certificate for it.
+     *
+     * @param seed the seed of the key generator
+     *
+     * @return generated signing material
+     */
+    public static SigningMaterial create(long seed) {
+        Security.addProvider(BouncyCastleFactoryCreator.getFactory().getProvider());
+        try {
+            SecureRandom random = SecureRandom.getInstance("SHA1PRNG");
+            random.setSeed(seed);
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(2048, random);
+            KeyPair keyPair = generator.generateKeyPair();
+
+            X500Name subject = new X500Name("CN=iText benchmark, O=Apryse");
+            Date notBefore = new Date(System.currentTimeMillis() - VALIDITY_MILLIS);
+            Date notAfter = new Date(System.currentTimeMillis() + VALIDITY_MILLIS);
+            JcaX509v3CertificateBuilder builder = new JcaX509v3CertificateBuilder(subject, BigInteger.valueOf(seed),
+                    notBefore, notAfter, subject, keyPair.getPublic());
+            X509Certificate certificate = new JcaX509CertificateConverter().getCertificate(
+                    builder.build(new JcaContentSignerBuilder("SHA256withRSA").build(keyPair.getPrivate())));
+            return new SigningMaterial(keyPair.getPrivate(), certificate);
+        } catch (GeneralSecurityException | OperatorCreationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Gets the private key.
+     *
+     * @return the private key
+     */
+    public PrivateKey getPrivateKey() {
+        return privateKey;
+    }
+
+    /**
+     * Gets the self-signed certificate.
+     *
+     * @return the certificate
+     */
+    public X509Certificate getCertificate() {
+        return certificate;
+    }
+
+    /**
+     * Gets the certificate chain, which consists of the self-signed certificate only.
+     *
+     * @return the certificate chain
+     */
+    public Certificate[] getChain() {
+        return new Certificate[] {certificate};
+    }
+}
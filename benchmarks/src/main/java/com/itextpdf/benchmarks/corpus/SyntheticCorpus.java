@@ -0,0 +1,186 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.benchmarks.corpus;
+
+import com.itextpdf.io.font.constants.StandardFonts;
+import com.itextpdf.kernel.font.PdfFont;
+import com.itextpdf.kernel.font.PdfFontFactory;
+import com.itextpdf.kernel.geom.PageSize;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfPage;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.kernel.pdf.WriterProperties;
+import com.itextpdf.kernel.pdf.canvas.PdfCanvas;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+
+/**
+ * Generates synthetic, fully reproducible documents for the benchmarks.
+ *
+ * <p>
+ * All the documents are produced in memory from a fixed seed, so benchmark results
+ * do not depend on any external corpus and can be reproduced offline.
+ */
+public final class SyntheticCorpus {
+
+    /**
+     * The seed used to generate the document text unless another one is specified.
+     */
+    public static final long DEFAULT_SEED = 0x17E47L;
+
+    private static final String[] SYLLABLES = {"ar", "be", "ci", "do", "en", "fa", "gu", "ho", "in", "ja", "ka",
+            "lo", "mu", "ne", "or", "pa", "qu", "ri", "su", "ta", "ul", "ve", "wo", "xi", "yo", "ze"};
+
+    private static final float FONT_SIZE = 9;
+    private static final float LEADING = 11;
+    private static final float MARGIN = 36;
+
+    private SyntheticCorpus() {
+        // Empty constructor
+    }
+
+    /**
+     * Creates a text-heavy document where every page is filled with lines of pseudo-random words.
+     *
+     * @param pageCount the number of pages to generate
+     * @param fullCompression whether the document is written with object and cross-reference streams
+     *
+     * @return the bytes of the generated document
+     */
+    public static byte[] createTextDocument(int pageCount, boolean fullCompression) {
+        return createTextDocument(pageCount, fullCompression, DEFAULT_SEED);
+    }
+
+    /**
+     * Creates a text-heavy document where every page is filled with lines of pseudo-random words.
+     *
+     * @param pageCount the number of pages to generate
+     * @param fullCompression whether the document is written with object and cross-reference streams
+     * @param seed the seed of the text generator
+     *
+     * @return the bytes of the generated document
+     */
+    public static byte[] createTextDocument(int pageCount, boolean fullCompression, long seed) {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        WriterProperties writerProperties = new WriterProperties().setFullCompressionMode(fullCompression);
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfWriter(baos, writerProperties))) {
+            fillTextPages(pdfDocument, pageCount, new Random(seed));
+        }
+        return baos.toByteArray();
+    }
+
+    /**
+     * Adds pages filled with lines of pseudo-random words to the passed document.
+     *
+     * @param pdfDocument the document to add the pages to
+     * @param pageCount the number of pages to add
+     * @param random the text generator
+     */
+    public static void fillTextPages(PdfDocument pdfDocument, int pageCount, Random random) {
+        PdfFont font = createFont();
+        for (int i = 0; i < pageCount; ++i) {
+            PdfPage page = pdfDocument.addNewPage(PageSize.A4);
+            PdfCanvas canvas = new PdfCanvas(page);
+            canvas.beginText().setFontAndSize(font, FONT_SIZE).setLeading(LEADING)
+                    .moveText(MARGIN, PageSize.A4.getHeight() - MARGIN);
+            int lineCount = (int) ((PageSize.A4.getHeight() - 2 * MARGIN) / LEADING);
+            for (int line = 0; line < lineCount; ++line) {
+                canvas.newlineShowText(createSentence(random, 14));
+            }
+            canvas.endText().release();
+        }
+    }
+
+    /**
+     * Creates a content-heavy document where every page is filled with vector graphics and short text runs,
+     * so that its content streams mostly consist of numeric operands, names and operators.
+     *
+     * @param pageCount the number of pages to generate
+     *
+     * @return the bytes of the generated document
+     */
+    public static byte[] createGraphicsDocument(int pageCount) {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        Random random = new Random(DEFAULT_SEED);
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfWriter(baos))) {
+            PdfFont font = createFont();
+            for (int i = 0; i < pageCount; ++i) {
+                PdfCanvas canvas = new PdfCanvas(pdfDocument.addNewPage(PageSize.A4));
+                for (int shape = 0; shape < 500; ++shape) {
+                    float x = MARGIN + random.nextFloat() * (PageSize.A4.getWidth() - 2 * MARGIN);
+                    float y = MARGIN + random.nextFloat() * (PageSize.A4.getHeight() - 2 * MARGIN);
+                    canvas.saveState()
+                            .concatMatrix(1, 0, 0, 1, x, y)
+                            .setStrokeColorRgb(random.nextFloat(), random.nextFloat(), random.nextFloat())
+                            .setLineWidth(random.nextFloat() * 2)
+                            .moveTo(0, 0)
+                            .curveTo(random.nextFloat() * 20, random.nextFloat() * 20, random.nextFloat() * 20,
+                                    random.nextFloat() * 20, random.nextFloat() * 20, random.nextFloat() * 20)
+                            .lineTo(random.nextFloat() * 20, random.nextFloat() * 20)
+                            .rectangle(0, 0, random.nextFloat() * 10, random.nextFloat() * 10)
+                            .stroke()
+                            .beginText()
+                            .setFontAndSize(font, FONT_SIZE)
+                            .moveText(random.nextFloat() * 5, random.nextFloat() * 5)
+                            .showText(createSentence(random, 2))
+                            .endText()
+                            .restoreState();
+                }
+                canvas.release();
+            }
+        }
+        return baos.toByteArray();
+    }
+
+    /**
+     * Creates a sentence of pseudo-random words.
+     *
+     * @param random the text generator
+     * @param wordCount the number of words in the sentence
+     *
+     * @return the generated sentence
+     */
+    public static String createSentence(Random random, int wordCount) {
+        StringBuilder sentence = new StringBuilder();
+        for (int i = 0; i < wordCount; ++i) {
+            if (i > 0) {
+                sentence.append(' ');
+            }
+            int syllableCount = 1 + random.nextInt(4);
+            for (int j = 0; j < syllableCount; ++j) {
+                sentence.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+            }
+        }
+        return sentence.toString();
+    }
+
+    private static PdfFont createFont() {
+        try {
+            return PdfFontFactory.createFont(StandardFonts.HELVETICA);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.benchmarks.kernel;
+
+import com.itextpdf.benchmarks.corpus.SyntheticCorpus;
+import com.itextpdf.io.source.RandomAccessSourceFactory;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfReader;
+import com.itextpdf.kernel.pdf.ReaderProperties;
+import com.itextpdf.kernel.pdf.canvas.parser.EventType;
+import com.itextpdf.kernel.pdf.canvas.parser.PdfCanvasProcessor;
+import com.itextpdf.kernel.pdf.canvas.parser.data.IEventData;
+import com.itextpdf.kernel.pdf.canvas.parser.listener.IEventListener;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures {@link PdfCanvasProcessor} on its own, with a listener which does not do any work, so that the cost
+ * of the content parsing and of the operators is not hidden by the text extraction strategies.
+ * Run with {@code -prof gc} to see the allocation rate per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PdfCanvasProcessorBenchmark {
+
+    @Param({"20"})
+    public int pageCount;
+
+    @Param({"text", "graphics"})
+    public String content;
+
+    private PdfDocument pdfDocument;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        byte[] document = "text".equals(content) ? SyntheticCorpus.createTextDocument(pageCount, true)
+                : SyntheticCorpus.createGraphicsDocument(pageCount);
+        pdfDocument = new PdfDocument(new PdfReader(new RandomAccessSourceFactory().createSource(document),
+                new ReaderProperties()));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pdfDocument.close();
+    }
+
+    @Benchmark
+    public void processPageContent(Blackhole blackhole) {
+        ConsumingEventListener listener = new ConsumingEventListener(blackhole);
+        PdfCanvasProcessor processor = new PdfCanvasProcessor(listener);
+        for (int i = 1; i <= pdfDocument.getNumberOfPages(); ++i) {
+            processor.processPageContent(pdfDocument.getPage(i));
+            processor.reset();
+        }
+    }
+
+    private static final class ConsumingEventListener implements IEventListener {
+        private final Blackhole blackhole;
+
+        ConsumingEventListener(Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @Override
+        public void eventOccurred(IEventData data, EventType type) {
+            blackhole.consume(data);
+        }
+
+        @Override
+        public Set<EventType> getSupportedEvents() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.benchmarks.kernel;
+
+import com.itextpdf.benchmarks.corpus.SyntheticCorpus;
+import com.itextpdf.io.source.RandomAccessSourceFactory;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfReader;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.kernel.pdf.ReaderProperties;
+import com.itextpdf.kernel.utils.PdfMerger;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures merging of many small documents into one with {@link PdfMerger}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PdfMergerBenchmark {
+
+    @Param({"100"})
+    public int sourceCount;
+
+    @Param({"2"})
+    public int pagesPerSource;
+
+    private byte[][] sources;
+
+    @Setup
+    public void setUp() {
+        sources = new byte[sourceCount][];
+        for (int i = 0; i < sourceCount; ++i) {
+            sources[i] = SyntheticCorpus.createTextDocument(pagesPerSource, false, SyntheticCorpus.DEFAULT_SEED + i);
+        }
+    }
+
+    @Benchmark
+    public int merge() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (PdfDocument resultDocument = new PdfDocument(new PdfWriter(output))) {
+            PdfMerger merger = new PdfMerger(resultDocument).setCloseSourceDocuments(true);
+            for (byte[] source : sources) {
+                PdfDocument sourceDocument = new PdfDocument(new PdfReader(
+                        new RandomAccessSourceFactory().createSource(source), new ReaderProperties()));
+                merger.merge(sourceDocument, 1, sourceDocument.getNumberOfPages());
+            }
+        }
+        return output.size();
+    }
+}
@@ -0,0 +1,132 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.benchmarks.kernel;
+
+import com.itextpdf.benchmarks.corpus.SyntheticCorpus;
+import com.itextpdf.io.source.PdfTokenizer;
+import com.itextpdf.io.source.RandomAccessFileOrArray;
+import com.itextpdf.io.source.RandomAccessSourceFactory;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfNumber;
+import com.itextpdf.kernel.pdf.PdfObject;
+import com.itextpdf.kernel.pdf.PdfReader;
+import com.itextpdf.kernel.pdf.ReaderProperties;
+import com.itextpdf.kernel.pdf.canvas.parser.util.PdfCanvasParser;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures tokenizing and parsing of the content streams of content-heavy pages with {@link PdfTokenizer}
+ * and {@link PdfCanvasParser}, as well as parsing of the indirect objects of the document.
+ *
+ * <p>
+ * Run with {@code -prof gc} to see the allocation rate of the tokenizer.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PdfTokenizerBenchmark {
+
+    @Param({"10"})
+    public int pageCount;
+
+    private byte[] document;
+
+    private List<byte[]> contents;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        document = SyntheticCorpus.createGraphicsDocument(pageCount);
+        contents = new ArrayList<>();
+        try (PdfDocument pdfDocument = openPdfDocument()) {
+            for (int i = 1; i <= pdfDocument.getNumberOfPages(); ++i) {
+                contents.add(pdfDocument.getPage(i).getContentBytes());
+            }
+        }
+    }
+
+    @Benchmark
+    public void tokenizeContent(Blackhole blackhole) throws IOException {
+        RandomAccessSourceFactory factory = new RandomAccessSourceFactory();
+        for (byte[] content : contents) {
+            PdfTokenizer tokenizer = new PdfTokenizer(new RandomAccessFileOrArray(factory.createSource(content)));
+            while (tokenizer.nextToken()) {
+                blackhole.consume(tokenizer.getTokenType());
+                blackhole.consume(tokenizer.getByteContentLength());
+            }
+        }
+    }
+
+    @Benchmark
+    public void parseContent(Blackhole blackhole) throws IOException {
+        RandomAccessSourceFactory factory = new RandomAccessSourceFactory();
+        List<PdfObject> operands = new ArrayList<>();
+        for (byte[] content : contents) {
+            PdfCanvasParser parser = new PdfCanvasParser(
+                    new PdfTokenizer(new RandomAccessFileOrArray(factory.createSource(content))));
+            while (!parser.parse(operands).isEmpty()) {
+                for (PdfObject operand : operands) {
+                    if (operand instanceof PdfNumber) {
+                        blackhole.consume(((PdfNumber) operand).doubleValue());
+                    } else {
+                        blackhole.consume(operand);
+                    }
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void parseObjects(Blackhole blackhole) throws IOException {
+        try (PdfDocument pdfDocument = openPdfDocument()) {
+            int objectCount = pdfDocument.getNumberOfPdfObjects();
+            for (int i = 1; i < objectCount; ++i) {
+                blackhole.consume(pdfDocument.getPdfObject(i));
+            }
+        }
+    }
+
+    private PdfDocument openPdfDocument() throws IOException {
+        return new PdfDocument(new PdfReader(new RandomAccessSourceFactory().createSource(document),
+                new ReaderProperties()));
+    }
+}
@@ -0,0 +1,94 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.benchmarks.layout;
+
+import com.itextpdf.benchmarks.corpus.SyntheticCorpus;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.layout.Document;
+import com.itextpdf.layout.element.Cell;
+import com.itextpdf.layout.element.Paragraph;
+import com.itextpdf.layout.element.Table;
+import com.itextpdf.layout.properties.UnitValue;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures layouting of paragraphs and tables with {@link Document}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LayoutBenchmark {
+
+    private static final int TABLE_COLUMNS = 6;
+
+    @Param({"500"})
+    public int elementCount;
+
+    @Benchmark
+    public int paragraphs() {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        Random random = new Random(SyntheticCorpus.DEFAULT_SEED);
+        try (Document document = new Document(new PdfDocument(new PdfWriter(output)))) {
+            for (int i = 0; i < elementCount; ++i) {
+                document.add(new Paragraph(SyntheticCorpus.createSentence(random, 60)));
+            }
+        }
+        return output.size();
+    }
+
+    @Benchmark
+    public int table() {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        Random random = new Random(SyntheticCorpus.DEFAULT_SEED);
+        try (Document document = new Document(new PdfDocument(new PdfWriter(output)))) {
+            Table table = new Table(UnitValue.createPercentArray(TABLE_COLUMNS)).useAllAvailableWidth();
+            for (int i = 0; i < TABLE_COLUMNS; ++i) {
+                table.addHeaderCell(new Cell().add(new Paragraph("Column " + i)));
+            }
+            for (int i = 0; i < elementCount; ++i) {
+                for (int j = 0; j < TABLE_COLUMNS; ++j) {
+                    table.addCell(new Cell().add(new Paragraph(SyntheticCorpus.createSentence(random, 3))));
+                }
+            }
+            document.add(table);
+        }
+        return output.size();
+    }
+}
@@ -0,0 +1,111 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.benchmarks.signatures;
+
+import com.itextpdf.benchmarks.corpus.SigningMaterial;
+import com.itextpdf.benchmarks.corpus.SyntheticCorpus;
+import com.itextpdf.bouncycastleconnector.BouncyCastleFactoryCreator;
+import com.itextpdf.io.source.RandomAccessSourceFactory;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfReader;
+import com.itextpdf.kernel.pdf.ReaderProperties;
+import com.itextpdf.kernel.pdf.StampingProperties;
+import com.itextpdf.signatures.BouncyCastleDigest;
+import com.itextpdf.signatures.DigestAlgorithms;
+import com.itextpdf.signatures.PdfSigner;
+import com.itextpdf.signatures.PrivateKeySignature;
+import com.itextpdf.signatures.validation.v1.ValidatorChainBuilder;
+import com.itextpdf.signatures.validation.v1.report.ValidationReport;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures signing with {@link PdfSigner} and validation of the produced signature with
+ * {@link com.itextpdf.signatures.validation.v1.SignatureValidator}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SigningBenchmark {
+
+    @Param({"10", "200"})
+    public int pageCount;
+
+    private SigningMaterial signingMaterial;
+
+    private byte[] document;
+
+    private byte[] signedDocument;
+
+    @Setup
+    public void setUp() throws IOException, GeneralSecurityException {
+        signingMaterial = SigningMaterial.create(SyntheticCorpus.DEFAULT_SEED);
+        document = SyntheticCorpus.createTextDocument(pageCount, true);
+        signedDocument = sign();
+    }
+
+    @Benchmark
+    public byte[] signDetached() throws IOException, GeneralSecurityException {
+        return sign();
+    }
+
+    @Benchmark
+    public ValidationReport validateSignatures() throws IOException {
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfReader(
+                new RandomAccessSourceFactory().createSource(signedDocument), new ReaderProperties()))) {
+            return new ValidatorChainBuilder()
+                    .withTrustedCertificates(Collections.singletonList(signingMaterial.getCertificate()))
+                    .buildSignatureValidator(pdfDocument)
+                    .validateSignatures();
+        }
+    }
+
+    private byte[] sign() throws IOException, GeneralSecurityException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        PdfSigner signer = new PdfSigner(new PdfReader(new RandomAccessSourceFactory().createSource(document),
+                new ReaderProperties()), output, new StampingProperties());
+        PrivateKeySignature signature = new PrivateKeySignature(signingMaterial.getPrivateKey(),
+                DigestAlgorithms.SHA256, BouncyCastleFactoryCreator.getFactory().getProviderName());
+        signer.signDetached(new BouncyCastleDigest(), signature, signingMaterial.getChain(), null, null, null, 0,
+                PdfSigner.CryptoStandard.CMS);
+        return output.toByteArray();
+    }
+}
@@ -144,6 +144,8 @@ public final class IoExceptionMessageConstant {
     public static final String PHOTOMETRIC_IS_NOT_SUPPORTED = "Photometric {0} is not supported.";
     public static final String PLANAR_IMAGES_ARE_NOT_SUPPORTED = "Planar images are not supported.";
     public static final String PNG_IMAGE_EXCEPTION = "PNG image exception.";
+    public static final String POOL_CAN_NOT_BE_NULL = "Pool can not be null.";
+    public static final String POOL_CAPACITY_CAN_NOT_BE_NEGATIVE = "Pool capacity can not be negative.";
     public static final String PREMATURE_EOF_WHILE_READING_JPEG = "Premature EOF while reading JPEG.";
     public static final String READ_BASE_128_FAILED = "Reading woff2 base 128 number exception";
     public static final String READ_COLLECTION_HEADER_FAILED = "Reading collection woff2 header exception";
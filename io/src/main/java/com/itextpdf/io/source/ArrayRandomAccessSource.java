@@ -28,7 +28,7 @@ import com.itextpdf.io.exceptions.IoExceptionMessageConstant;
 /**
  * A RandomAccessSource that is based on an underlying byte array
  */
-class ArrayRandomAccessSource implements IRandomAccessSource {
+class ArrayRandomAccessSource implements IThreadSafeRandomAccessSource {
 
 
     private byte[] array;
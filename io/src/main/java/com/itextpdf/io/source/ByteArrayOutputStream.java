@@ -24,6 +24,8 @@ package com.itextpdf.io.source;
 
 public class ByteArrayOutputStream extends java.io.ByteArrayOutputStream{
 
+    private long modificationCount;
+
     public ByteArrayOutputStream() {
         super();
     }
@@ -33,14 +35,44 @@ public class ByteArrayOutputStream extends java.io.ByteArrayOutputStream{
     }
 
     public ByteArrayOutputStream assignBytes(byte[] bytes, int count) {
+        modificationCount++;
         buf = bytes;
         this.count = count;
         return this;
     }
 
     public ByteArrayOutputStream assignBytes(byte[] bytes) {
+        modificationCount++;
         buf = bytes;
         this.count = bytes.length;
         return this;
     }
+
+    @Override
+    public void write(int b) {
+        modificationCount++;
+        super.write(b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        modificationCount++;
+        super.write(b, off, len);
+    }
+
+    @Override
+    public void reset() {
+        modificationCount++;
+        super.reset();
+    }
+
+    /**
+     * Gets the number of the modifications of the data made via the methods of this class, which allows to check
+     * cheaply whether the data have been changed since some moment.
+     *
+     * @return the number of the modifications made so far
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
 }
@@ -38,6 +38,11 @@ public final class ByteUtils {
     private static final byte[] one = new byte[]{49};
     private static final byte[] negOne = new byte[]{(byte) '-', 49};
 
+    // the powers of ten which are exactly representable as doubles
+    private static final double[] exactPowersOfTen = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+
     public static byte[] getIsoBytes(String text) {
         if (text == null)
             return null;
@@ -246,6 +251,52 @@ public final class ByteUtils {
         return buffer == null ? buf.getInternalBuffer() : null;
     }
 
+    /**
+     * Parses the decimal number written in ISO-8859-1 bytes without creating a string.
+     * The result is the same as of {@link Double#parseDouble(String)} for the string of the bytes.
+     * <p>
+     * The plain numbers with up to 15 significant digits, i.e. the ones usually found in PDF documents,
+     * are parsed directly from the bytes, the other ones are parsed with {@link Double#parseDouble(String)}.
+     *
+     * @param bytes the bytes containing the number
+     * @param offset the offset of the number in the bytes
+     * @param length the length of the number
+     * @return the parsed number
+     * @throws NumberFormatException if the bytes don't contain a number
+     */
+    public static double parseDouble(byte[] bytes, int offset, int length) {
+        int end = offset + length;
+        int i = offset;
+        boolean negative = false;
+        if (i < end && (bytes[i] == '-' || bytes[i] == '+')) {
+            negative = bytes[i] == '-';
+            ++i;
+        }
+        long mantissa = 0;
+        int digitCount = 0;
+        int fractionDigitCount = -1;
+        for (; i < end; ++i) {
+            int b = bytes[i];
+            if (b >= '0' && b <= '9') {
+                mantissa = mantissa * 10 + (b - '0');
+                ++digitCount;
+                if (fractionDigitCount >= 0) {
+                    ++fractionDigitCount;
+                }
+            } else if (b == '.' && fractionDigitCount < 0) {
+                fractionDigitCount = 0;
+            } else {
+                break;
+            }
+        }
+        // both the mantissa and the power of ten are exact, so the division is correctly rounded as parseDouble is
+        if (i == end && digitCount > 0 && digitCount <= 15 && fractionDigitCount < exactPowersOfTen.length) {
+            double value = fractionDigitCount > 0 ? mantissa / exactPowersOfTen[fractionDigitCount] : mantissa;
+            return negative ? -value : value;
+        }
+        return Double.parseDouble(new String(bytes, offset, length, StandardCharsets.ISO_8859_1));
+    }
+
     private static int longSize(long l) {
         long m = 10;
         for (int i = 1; i < 19; i++) {
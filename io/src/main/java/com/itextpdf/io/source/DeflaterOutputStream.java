@@ -22,14 +22,21 @@
  */
 package com.itextpdf.io.source;
 
+import com.itextpdf.io.exceptions.IoExceptionMessageConstant;
+
 import java.io.IOException;
 import java.io.OutputStream;
-import java.util.zip.Deflater;
 
 public class DeflaterOutputStream extends java.util.zip.DeflaterOutputStream {
 
+    private final ZlibCodecPool pool;
+
+    private final int level;
+
+    private boolean finished;
+
     public DeflaterOutputStream(OutputStream out, int level, int size) {
-        super(out, new Deflater(level), size);
+        this(out, level, size, ZlibCodecPool.getInstance());
     }
 
     public DeflaterOutputStream(OutputStream out, int level) {
@@ -40,15 +47,42 @@ public class DeflaterOutputStream extends java.util.zip.DeflaterOutputStream {
         this(out, -1);
     }
 
+    private DeflaterOutputStream(OutputStream out, int level, int size, ZlibCodecPool pool) {
+        super(out, pool.acquireDeflater(level), size);
+        this.pool = pool;
+        this.level = level;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (finished) {
+            throw new IOException(IoExceptionMessageConstant.ALREADY_CLOSED);
+        }
+        super.write(b, off, len);
+    }
+
     @Override
     public void close() throws IOException {
         finish();
         super.close();
     }
 
+    /**
+     * Finishes writing compressed data to the output stream without closing the underlying stream
+     * and returns the deflater to the {@link ZlibCodecPool}. Nothing can be written to this stream afterwards.
+     *
+     * @throws IOException if an I/O error has occurred
+     */
     @Override
     public void finish() throws IOException {
-        super.finish();
-        def.end();
+        if (finished) {
+            return;
+        }
+        try {
+            super.finish();
+        } finally {
+            finished = true;
+            pool.releaseDeflater(def, level);
+        }
     }
 }
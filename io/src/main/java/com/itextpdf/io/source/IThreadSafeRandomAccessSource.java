@@ -0,0 +1,34 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.io.source;
+
+/**
+ * A marker interface for the {@link IRandomAccessSource} implementations which can be read from different threads
+ * at the same time without any external synchronization.
+ *
+ * <p>
+ * {@link RandomAccessFileOrArray#createView()} and {@link RandomAccessFileOrArray#createSourceView()} do not wrap
+ * such sources into {@link ThreadSafeRandomAccessSource}, so that the views do not serialize each other's reads.
+ */
+public interface IThreadSafeRandomAccessSource extends IRandomAccessSource {
+}
@@ -0,0 +1,154 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.io.source;
+
+import com.itextpdf.io.logs.IoLogMessageConstant;
+
+import java.nio.channels.FileChannel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A thread-safe RandomAccessSource that reads the underlying FileChannel with positional reads.
+ *
+ * <p>
+ * The channel position is never changed, so reads from different threads do not need any synchronization and
+ * can proceed concurrently. Single byte reads are served from the most recently read page, which is an immutable
+ * snapshot replaced as a whole, so that byte-by-byte parsing does not result in a system call per byte.
+ *
+ * <p>
+ * Note that a {@link FileChannel} is closed if a thread blocked in its I/O operation is interrupted,
+ * so the threads reading this source should not be interrupted.
+ */
+public class LockFreeFileChannelRandomAccessSource implements IThreadSafeRandomAccessSource {
+
+    private static final int PAGE_SIZE = 4096;
+
+    /**
+     * The underlying channel
+     */
+    private final FileChannel channel;
+
+    /**
+     * The length of the channel at the moment this source was created
+     */
+    private final long length;
+
+    /**
+     * The most recently read page. The page itself is never modified, it is only replaced.
+     */
+    private volatile Page lastPage;
+
+    /**
+     * Constructs a new {@link LockFreeFileChannelRandomAccessSource} based on the specified FileChannel.
+     * The source takes the ownership of the channel, i.e. the channel is closed when the source is closed.
+     *
+     * @param channel the underlying channel
+     * @throws java.io.IOException if the size of the channel can not be obtained
+     */
+    public LockFreeFileChannelRandomAccessSource(FileChannel channel) throws java.io.IOException {
+        this.channel = channel;
+        this.length = channel.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int get(long position) throws java.io.IOException {
+        if (position < 0 || position >= length) {
+            return -1;
+        }
+        Page page = lastPage;
+        if (page == null || position < page.offset || position >= page.offset + page.length) {
+            page = readPage(position);
+            lastPage = page;
+        }
+        return page.data[(int) (position - page.offset)] & 0xff;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int get(long position, byte[] bytes, int off, int len) throws java.io.IOException {
+        if (position >= length) {
+            return -1;
+        }
+        int toRead = (int) Math.min(len, length - position);
+        int read = readFully(position, bytes, off, toRead);
+        return read > 0 ? read : -1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public long length() {
+        return length;
+    }
+
+    /**
+     * Closes the underlying channel.
+     *
+     * @throws java.io.IOException if the channel can not be closed
+     */
+    public void close() throws java.io.IOException {
+        lastPage = null;
+        try {
+            channel.close();
+        } catch (Exception ex) {
+            Logger logger = LoggerFactory.getLogger(LockFreeFileChannelRandomAccessSource.class);
+            logger.error(IoLogMessageConstant.FILE_CHANNEL_CLOSING_FAILED, ex);
+        }
+    }
+
+    private Page readPage(long position) throws java.io.IOException {
+        long offset = position - position % PAGE_SIZE;
+        byte[] data = new byte[(int) Math.min(PAGE_SIZE, length - offset)];
+        int read = readFully(offset, data, 0, data.length);
+        return new Page(offset, data, Math.max(read, 0));
+    }
+
+    private int readFully(long position, byte[] bytes, int off, int len) throws java.io.IOException {
+        java.nio.ByteBuffer buffer = java.nio.ByteBuffer.wrap(bytes, off, len);
+        int read = 0;
+        while (read < len) {
+            int count = channel.read(buffer, position + read);
+            if (count < 0) {
+                break;
+            }
+            read += count;
+        }
+        return read;
+    }
+
+    private static final class Page {
+        final long offset;
+        final byte[] data;
+        final int length;
+
+        Page(long offset, byte[] data, int length) {
+            this.offset = offset;
+            this.data = data;
+            this.length = length;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.io.source;
+
+import com.itextpdf.io.logs.IoLogMessageConstant;
+
+import java.nio.channels.FileChannel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A thread-safe RandomAccessSource that maps the whole underlying FileChannel into memory.
+ *
+ * <p>
+ * Unlike {@link MappedChannelRandomAccessSource} the mapping is created eagerly and is never re-opened,
+ * and the reads do not change any shared state, so they can proceed concurrently without synchronization.
+ * A single mapping can not exceed {@link Integer#MAX_VALUE} bytes, bigger channels should be read with
+ * {@link LockFreeFileChannelRandomAccessSource}.
+ */
+class LockFreeMappedChannelRandomAccessSource extends MappedChannelRandomAccessSource
+        implements IThreadSafeRandomAccessSource {
+
+    /**
+     * The underlying channel
+     */
+    private final FileChannel channel;
+
+    /**
+     * Maps the whole channel. The source takes the ownership of the channel,
+     * i.e. the channel is closed when the source is closed.
+     *
+     * @param channel the underlying channel
+     * @throws java.io.IOException if the channel can not be mapped
+     */
+    public LockFreeMappedChannelRandomAccessSource(FileChannel channel) throws java.io.IOException {
+        super(channel, 0, channel.size());
+        this.channel = channel;
+        open();
+    }
+
+    /**
+     * Unmaps the channel and closes it.
+     *
+     * @throws java.io.IOException if the mapping can not be released
+     */
+    @Override
+    public void close() throws java.io.IOException {
+        try {
+            super.close();
+        } finally {
+            try {
+                channel.close();
+            } catch (Exception ex) {
+                Logger logger = LoggerFactory.getLogger(LockFreeMappedChannelRandomAccessSource.class);
+                logger.error(IoLogMessageConstant.FILE_CHANNEL_CLOSING_FAILED, ex);
+            }
+        }
+    }
+}
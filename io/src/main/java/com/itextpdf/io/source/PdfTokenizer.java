@@ -99,6 +99,11 @@ public class PdfTokenizer implements Closeable {
     protected ByteBuffer outBuf;
 
     private final RandomAccessFileOrArray file;
+    /**
+     * The buffers the numbers read ahead by {@link #nextValidToken()} are kept in, reused for every token.
+     */
+    private final ByteBuffer firstNumberBuf = new ByteBuffer(16);
+    private final ByteBuffer secondNumberBuf = new ByteBuffer(16);
     /**
      * Streams are closed automatically.
      */
@@ -265,8 +270,8 @@ public class PdfTokenizer implements Closeable {
 
     public void nextValidToken() throws java.io.IOException {
         int level = 0;
-        byte[] n1 = null;
-        byte[] n2 = null;
+        ByteBuffer n1 = firstNumberBuf.reset();
+        ByteBuffer n2 = secondNumberBuf.reset();
         long ptr = 0;
         while (nextToken()) {
             if (type == TokenType.Comment)
@@ -276,7 +281,7 @@ public class PdfTokenizer implements Closeable {
                     if (type != TokenType.Number)
                         return;
                     ptr = file.getPosition();
-                    n1 = getByteContent();
+                    n1.append(outBuf.getInternalBuffer(), 0, outBuf.size());
                     ++level;
                     break;
                 }
@@ -284,42 +289,40 @@ public class PdfTokenizer implements Closeable {
                     if (type != TokenType.Number) {
                         file.seek(ptr);
                         type = TokenType.Number;
-                        outBuf.reset().append(n1);
+                        outBuf.reset().append(n1.getInternalBuffer(), 0, n1.size());
                         return;
                     }
-                    n2 = getByteContent();
+                    n2.append(outBuf.getInternalBuffer(), 0, outBuf.size());
                     ++level;
                     break;
                 }
                 case 2: {
                     if (type == TokenType.Other) {
                         if (tokenValueEqualsTo(R)) {
-                            assert n2 != null;
                             type = TokenType.Ref;
                             try {
-                                reference = Integer.parseInt(new String(n1));
-                                generation = Integer.parseInt(new String(n2));
+                                reference = parseInt(n1);
+                                generation = parseInt(n2);
                             } catch (Exception ex) {
                                 //warn about incorrect reference number
                                 //Exception: NumberFormatException for java, FormatException or OverflowException for .NET
                                 Logger logger = LoggerFactory.getLogger(PdfTokenizer.class);
                                 logger.error(MessageFormatUtil.format(IoLogMessageConstant.INVALID_INDIRECT_REFERENCE,
-                                        new String(n1), new String(n2)));
+                                        toString(n1), toString(n2)));
                                 reference = -1;
                                 generation = 0;
                             }
                             return;
                         } else if (tokenValueEqualsTo(Obj)) {
-                            assert n2 != null;
                             type = TokenType.Obj;
-                            reference = Integer.parseInt(new String(n1));
-                            generation = Integer.parseInt(new String(n2));
+                            reference = parseInt(n1);
+                            generation = parseInt(n2);
                             return;
                         }
                     }
                     file.seek(ptr);
                     type = TokenType.Number;
-                    outBuf.reset().append(n1);
+                    outBuf.reset().append(n1.getInternalBuffer(), 0, n1.size());
                     return;
                 }
             }
@@ -329,7 +332,7 @@ public class PdfTokenizer implements Closeable {
         // then we are still looking at a number - set the type back to Number
         if (level == 1) {
             type = TokenType.Number;
-            outBuf.reset().append(n1);
+            outBuf.reset().append(n1.getInternalBuffer(), 0, n1.size());
         }
 
         // if we hit here, the file is either corrupt (stream ended unexpectedly),
@@ -506,11 +509,31 @@ public class PdfTokenizer implements Closeable {
     }
 
     public long getLongValue() {
-        return Long.parseLong(getStringValue());
+        return parseLong(outBuf);
     }
 
     public int getIntValue() {
-        return Integer.parseInt(getStringValue());
+        return parseInt(outBuf);
+    }
+
+    /**
+     * Gets the length of the content of the current token.
+     *
+     * @return the length of the token content
+     */
+    public int getByteContentLength() {
+        return outBuf.size();
+    }
+
+    /**
+     * Gets the buffer the content of the current token is stored in, starting from index 0.
+     * Unlike {@link #getByteContent()}, the content isn't copied, so the buffer is valid only until
+     * the next token is read and shall not be modified. Its length is {@link #getByteContentLength()}.
+     *
+     * @return the buffer with the token content
+     */
+    public byte[] getInternalByteContent() {
+        return outBuf.getInternalBuffer();
     }
 
     public boolean isHexString() {
@@ -529,6 +552,62 @@ public class PdfTokenizer implements Closeable {
         return file.createView();
     }
 
+    /**
+     * Parses the integer written in the buffer without creating a string. The numbers which can't be parsed directly,
+     * e.g. the ones which are too long or malformed, are parsed with {@link Integer#parseInt(String)}, which
+     * also throws the same exceptions as for the string value of the buffer.
+     */
+    private static int parseInt(ByteBuffer buffer) {
+        long value = parseDigits(buffer);
+        if (value != Long.MIN_VALUE && value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+            return (int) value;
+        }
+        return Integer.parseInt(toString(buffer));
+    }
+
+    /**
+     * Parses the long written in the buffer without creating a string, the same way as {@link #parseInt(ByteBuffer)}.
+     */
+    private static long parseLong(ByteBuffer buffer) {
+        long value = parseDigits(buffer);
+        if (value != Long.MIN_VALUE) {
+            return value;
+        }
+        return Long.parseLong(toString(buffer));
+    }
+
+    /**
+     * Parses up to 18 digits with an optional leading sign.
+     *
+     * @return the parsed value, or {@link Long#MIN_VALUE} if the buffer isn't such a number
+     */
+    private static long parseDigits(ByteBuffer buffer) {
+        byte[] bytes = buffer.getInternalBuffer();
+        int size = buffer.size();
+        int i = 0;
+        boolean negative = false;
+        if (size > 0 && (bytes[0] == '-' || bytes[0] == '+')) {
+            negative = bytes[0] == '-';
+            i = 1;
+        }
+        if (i == size || size - i > 18) {
+            return Long.MIN_VALUE;
+        }
+        long value = 0;
+        for (; i < size; ++i) {
+            int digit = bytes[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return Long.MIN_VALUE;
+            }
+            value = value * 10 + digit;
+        }
+        return negative ? -value : value;
+    }
+
+    private static String toString(ByteBuffer buffer) {
+        return new String(buffer.getInternalBuffer(), 0, buffer.size());
+    }
+
     /**
      * Resolve escape symbols or hexadecimal symbols.
      * <p>
@@ -75,8 +75,7 @@ public class RandomAccessFileOrArray implements DataInput {
      * @return the new view
      */
     public RandomAccessFileOrArray createView() {
-        ensureByteSourceIsThreadSafe();
-        return new RandomAccessFileOrArray(new IndependentRandomAccessSource(byteSource));
+        return new RandomAccessFileOrArray(new IndependentRandomAccessSource(getThreadSafeByteSource()));
     }
 
     /**
@@ -86,8 +85,7 @@ public class RandomAccessFileOrArray implements DataInput {
      * @return the byte source view.
      */
     public IRandomAccessSource createSourceView() {
-        ensureByteSourceIsThreadSafe();
-        return new IndependentRandomAccessSource(byteSource);
+        return new IndependentRandomAccessSource(getThreadSafeByteSource());
     }
 
     /**
@@ -576,9 +574,11 @@ public class RandomAccessFileOrArray implements DataInput {
         return new String(buf, encoding);
     }
 
-    private void ensureByteSourceIsThreadSafe() {
-        if (!(byteSource instanceof ThreadSafeRandomAccessSource)) {
+    // views may be created on several threads at once, so the byte source has to be wrapped exactly once
+    private synchronized IRandomAccessSource getThreadSafeByteSource() {
+        if (!(byteSource instanceof IThreadSafeRandomAccessSource)) {
             byteSource = new ThreadSafeRandomAccessSource(byteSource);
         }
+        return byteSource;
     }
 }
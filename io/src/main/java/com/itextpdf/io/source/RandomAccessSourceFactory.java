@@ -59,6 +59,11 @@ public final class RandomAccessSourceFactory {
      */
     private boolean exclusivelyLockFile = false;
 
+    /**
+     * Whether the file sources should support concurrent reads without synchronization
+     */
+    private boolean useLockFreeAccess = false;
+
     /**
      * Creates a factory that will give preference to accessing the underling data source using memory mapped files
      */
@@ -98,6 +103,20 @@ public final class RandomAccessSourceFactory {
         return this;
     }
 
+    /**
+     * Determines whether the file sources should be created as {@link IThreadSafeRandomAccessSource},
+     * i.e. whether they should be read with positional reads which don't need any synchronization.
+     * Such sources are not wrapped into {@link ThreadSafeRandomAccessSource} by the views of
+     * {@link RandomAccessFileOrArray}, so that several threads can read the same file simultaneously.
+     *
+     * @param useLockFreeAccess true if the file sources should support concurrent reads, false otherwise
+     * @return this object (this allows chaining of method calls)
+     */
+    public RandomAccessSourceFactory setUseLockFreeAccess(boolean useLockFreeAccess) {
+        this.useLockFreeAccess = useLockFreeAccess;
+        return this;
+    }
+
     /**
      * Creates a {@link IRandomAccessSource} based on a byte array
      * @param data the byte array
@@ -206,7 +225,8 @@ public final class RandomAccessSourceFactory {
         }
 
         if (usePlainRandomAccess){
-            return new RAFRandomAccessSource(raf);
+            return useLockFreeAccess ? (IRandomAccessSource) new LockFreeFileChannelRandomAccessSource(raf.getChannel())
+                    : new RAFRandomAccessSource(raf);
         }
 
         try{
@@ -214,7 +234,8 @@ public final class RandomAccessSourceFactory {
             // files with zero length can't be mapped and will throw an IllegalArgumentException.
             // Just open using a simple RAF source.
             if (raf.length() <= 0)
-                return new RAFRandomAccessSource(raf);
+                return useLockFreeAccess ? (IRandomAccessSource) new LockFreeFileChannelRandomAccessSource(raf.getChannel())
+                        : new RAFRandomAccessSource(raf);
 
             try {
 
@@ -241,11 +262,15 @@ public final class RandomAccessSourceFactory {
      * Unless you are explicitly working with a {@code FileChannel} already, it is better to use
      * {@link RandomAccessSourceFactory#createBestSource(String)}.
      * If the file is large, it will be opened using a paging strategy.
+     * If lock-free access is requested, the created source is an {@link IThreadSafeRandomAccessSource}.
      * @param channel the name of the file or resource to create the {@link IRandomAccessSource} for
      * @return the newly created {@link IRandomAccessSource}
      * @throws java.io.IOException in case of any I/O error
      */
     public IRandomAccessSource createBestSource(FileChannel channel) throws java.io.IOException {
+        if (useLockFreeAccess) {
+            return createLockFreeSource(channel);
+        }
 
         // if less than the fully mapped usage of PagedFileChannelRandomAccessSource,
         // just map the whole thing and be done with it
@@ -295,6 +320,27 @@ public final class RandomAccessSourceFactory {
         }
     }
 
+    /**
+     * Creates a thread-safe source for the channel: the whole channel is mapped into memory if it fits
+     * into a single mapping, otherwise (or if the map operation fails) it is read with positional reads.
+     * @param channel the channel to create the source for
+     * @return the newly created {@link IThreadSafeRandomAccessSource}
+     * @throws java.io.IOException in case of any I/O error
+     */
+    private static IRandomAccessSource createLockFreeSource(FileChannel channel) throws java.io.IOException {
+        long size = channel.size();
+        if (size > 0 && size <= Integer.MAX_VALUE) {
+            try {
+                return new LockFreeMappedChannelRandomAccessSource(channel);
+            } catch (java.io.IOException e) {
+                if (!exceptionIsMapFailureException(e)) {
+                    throw e;
+                }
+            }
+        }
+        return new LockFreeFileChannelRandomAccessSource(channel);
+    }
+
     /**
      * Utility method that determines whether a given java.io.IOException is the result
      * of a failure to map a memory mapped file.  It would be better if the runtime
@@ -24,7 +24,7 @@ package com.itextpdf.io.source;
 
 import java.io.IOException;
 
-public class ThreadSafeRandomAccessSource implements IRandomAccessSource {
+public class ThreadSafeRandomAccessSource implements IThreadSafeRandomAccessSource {
     private final IRandomAccessSource source;
     private final Object lockObj = new Object();
     
@@ -0,0 +1,232 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.io.source;
+
+import com.itextpdf.io.exceptions.IoExceptionMessageConstant;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * A bounded thread-safe pool of {@link Deflater} and {@link Inflater} instances.
+ *
+ * <p>
+ * Each codec holds native zlib state, which is expensive to allocate and is released only when the codec is ended.
+ * The pool lets the codecs be reused across the streams and documents instead: {@link DeflaterOutputStream} and the
+ * FlateDecode filters acquire the codecs from {@link #getInstance() the shared pool} and return them once the stream
+ * is compressed or decompressed. The codecs which are returned when the pool is full are ended.
+ *
+ * <p>
+ * Deflaters are pooled per compression level, so that a reused deflater produces exactly the same output as a new one.
+ */
+public final class ZlibCodecPool {
+
+    /**
+     * The default maximum number of idle codecs of each kind (and of each compression level for deflaters).
+     */
+    public static final int DEFAULT_CAPACITY = Math.max(4, 2 * Runtime.getRuntime().availableProcessors());
+
+    private static final int MIN_LEVEL = Deflater.DEFAULT_COMPRESSION;
+    private static final int MAX_LEVEL = Deflater.BEST_COMPRESSION;
+
+    private static volatile ZlibCodecPool instance = new ZlibCodecPool(DEFAULT_CAPACITY);
+
+    private final int capacity;
+
+    private final List<BlockingQueue<Deflater>> deflaters;
+
+    private final BlockingQueue<Inflater> inflaters;
+
+    private final AtomicLong deflaterHits = new AtomicLong();
+    private final AtomicLong deflaterMisses = new AtomicLong();
+    private final AtomicLong inflaterHits = new AtomicLong();
+    private final AtomicLong inflaterMisses = new AtomicLong();
+
+    /**
+     * Creates a pool which keeps at most {@code capacity} idle inflaters and at most {@code capacity}
+     * idle deflaters of each compression level.
+     *
+     * @param capacity the maximum number of idle codecs, 0 to disable pooling
+     */
+    public ZlibCodecPool(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException(IoExceptionMessageConstant.POOL_CAPACITY_CAN_NOT_BE_NEGATIVE);
+        }
+        this.capacity = capacity;
+        this.deflaters = new ArrayList<>(MAX_LEVEL - MIN_LEVEL + 1);
+        if (capacity > 0) {
+            for (int level = MIN_LEVEL; level <= MAX_LEVEL; level++) {
+                deflaters.add(new ArrayBlockingQueue<>(capacity));
+            }
+            this.inflaters = new ArrayBlockingQueue<>(capacity);
+        } else {
+            this.inflaters = null;
+        }
+    }
+
+    /**
+     * Gets the pool shared by all the documents.
+     *
+     * @return the shared pool
+     */
+    public static ZlibCodecPool getInstance() {
+        return instance;
+    }
+
+    /**
+     * Replaces the pool shared by all the documents, e.g. to change its capacity or to disable pooling
+     * by passing a pool with zero capacity. The codecs idle in the previous pool are not ended,
+     * they are released by the garbage collector.
+     *
+     * @param pool the new shared pool
+     */
+    public static void setInstance(ZlibCodecPool pool) {
+        if (pool == null) {
+            throw new IllegalArgumentException(IoExceptionMessageConstant.POOL_CAN_NOT_BE_NULL);
+        }
+        instance = pool;
+    }
+
+    /**
+     * Gets the maximum number of idle codecs of each kind.
+     *
+     * @return the capacity of the pool
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Gets a deflater with the specified compression level, which is either taken from the pool or created.
+     * The deflater shall be passed back to {@link #releaseDeflater(Deflater, int)} once it's not needed anymore.
+     *
+     * @param level the compression level, from -1 to 9
+     * @return the deflater
+     */
+    public Deflater acquireDeflater(int level) {
+        BlockingQueue<Deflater> queue = getDeflaterQueue(level);
+        Deflater deflater = queue == null ? null : queue.poll();
+        if (deflater == null) {
+            deflaterMisses.incrementAndGet();
+            return new Deflater(level);
+        }
+        deflaterHits.incrementAndGet();
+        return deflater;
+    }
+
+    /**
+     * Returns the deflater to the pool. The deflater shall not be used by the caller afterwards.
+     *
+     * @param deflater the deflater acquired with {@link #acquireDeflater(int)}
+     * @param level    the compression level the deflater was acquired with
+     */
+    public void releaseDeflater(Deflater deflater, int level) {
+        BlockingQueue<Deflater> queue = getDeflaterQueue(level);
+        if (queue != null) {
+            deflater.reset();
+            if (queue.offer(deflater)) {
+                return;
+            }
+        }
+        deflater.end();
+    }
+
+    /**
+     * Gets an inflater, which is either taken from the pool or created.
+     * The inflater shall be passed back to {@link #releaseInflater(Inflater)} once it's not needed anymore.
+     *
+     * @return the inflater
+     */
+    public Inflater acquireInflater() {
+        Inflater inflater = inflaters == null ? null : inflaters.poll();
+        if (inflater == null) {
+            inflaterMisses.incrementAndGet();
+            return new Inflater();
+        }
+        inflaterHits.incrementAndGet();
+        return inflater;
+    }
+
+    /**
+     * Returns the inflater to the pool. The inflater shall not be used by the caller afterwards.
+     *
+     * @param inflater the inflater acquired with {@link #acquireInflater()}
+     */
+    public void releaseInflater(Inflater inflater) {
+        if (inflaters != null) {
+            inflater.reset();
+            if (inflaters.offer(inflater)) {
+                return;
+            }
+        }
+        inflater.end();
+    }
+
+    /**
+     * Gets the number of deflaters which were reused from the pool.
+     *
+     * @return the number of deflater pool hits
+     */
+    public long getDeflaterHits() {
+        return deflaterHits.get();
+    }
+
+    /**
+     * Gets the number of deflaters which were created because there was no idle one in the pool.
+     *
+     * @return the number of deflater pool misses
+     */
+    public long getDeflaterMisses() {
+        return deflaterMisses.get();
+    }
+
+    /**
+     * Gets the number of inflaters which were reused from the pool.
+     *
+     * @return the number of inflater pool hits
+     */
+    public long getInflaterHits() {
+        return inflaterHits.get();
+    }
+
+    /**
+     * Gets the number of inflaters which were created because there was no idle one in the pool.
+     *
+     * @return the number of inflater pool misses
+     */
+    public long getInflaterMisses() {
+        return inflaterMisses.get();
+    }
+
+    private BlockingQueue<Deflater> getDeflaterQueue(int level) {
+        if (capacity == 0 || level < MIN_LEVEL || level > MAX_LEVEL) {
+            return null;
+        }
+        return deflaters.get(level - MIN_LEVEL);
+    }
+}
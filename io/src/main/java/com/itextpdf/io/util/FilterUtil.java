@@ -24,6 +24,7 @@ package com.itextpdf.io.util;
 
 import com.itextpdf.io.exceptions.IOException;
 import com.itextpdf.io.exceptions.IoExceptionMessageConstant;
+import com.itextpdf.io.source.ZlibCodecPool;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -57,7 +58,9 @@ public final class FilterUtil {
      */
     public static byte[] flateDecode(byte[] input, boolean strict) {
         ByteArrayInputStream stream = new ByteArrayInputStream(input);
-        InflaterInputStream zip = new InflaterInputStream(stream);
+        ZlibCodecPool pool = ZlibCodecPool.getInstance();
+        Inflater inflater = pool.acquireInflater();
+        InflaterInputStream zip = new InflaterInputStream(stream, inflater);
         ByteArrayOutputStream output = new ByteArrayOutputStream();
         byte[] b = new byte[strict ? 4092 : 1];
         try {
@@ -78,6 +81,7 @@ public final class FilterUtil {
                 //Log the error
                 LOGGER.error(e.getMessage(),e);
             }
+            pool.releaseInflater(inflater);
         }
     }
 
@@ -101,12 +105,15 @@ public final class FilterUtil {
      * @param inflated the buffer for the uncompressed data
      */
     public static void inflateData(byte[] deflated, byte[] inflated) {
-        Inflater inflater = new Inflater();
+        ZlibCodecPool pool = ZlibCodecPool.getInstance();
+        Inflater inflater = pool.acquireInflater();
         inflater.setInput(deflated);
         try {
             inflater.inflate(inflated);
         } catch (DataFormatException dfe) {
             throw new IOException(IoExceptionMessageConstant.CANNOT_INFLATE_TIFF_IMAGE);
+        } finally {
+            pool.releaseInflater(inflater);
         }
     }
 
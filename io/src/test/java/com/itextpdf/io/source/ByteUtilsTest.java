@@ -0,0 +1,79 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.io.source;
+
+import com.itextpdf.test.ExtendedITextTest;
+import com.itextpdf.test.annotations.type.UnitTest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@Category(UnitTest.class)
+public class ByteUtilsTest extends ExtendedITextTest {
+
+    @Test
+    public void parseDoubleTest() {
+        String[] numbers = new String[] {"0", "-0", "+12", "12.", ".5", "-.5", "-3.25", "0.1", "612.0001",
+                "123456789012345", "1234567890123456789", "0.0000000000000000000000001", "1e5", " 7 "};
+        for (String number : numbers) {
+            assertParsedAsDouble(number);
+        }
+    }
+
+    @Test
+    public void parseRandomDoubleTest() {
+        Random random = new Random(17);
+        for (int i = 0; i < 100000; i++) {
+            String number = Double.toString(random.nextInt(2000000) / Math.pow(10, random.nextInt(8)) - 1000);
+            assertParsedAsDouble(number);
+        }
+    }
+
+    @Test
+    public void parseDoubleWithOffsetTest() {
+        byte[] bytes = "[1.5 -2]".getBytes(StandardCharsets.ISO_8859_1);
+        Assert.assertEquals(1.5, ByteUtils.parseDouble(bytes, 1, 3), 0);
+        Assert.assertEquals(-2, ByteUtils.parseDouble(bytes, 5, 2), 0);
+    }
+
+    @Test
+    public void parseInvalidDoubleTest() {
+        Assert.assertThrows(NumberFormatException.class, () -> parseDouble("-"));
+        Assert.assertThrows(NumberFormatException.class, () -> parseDouble("."));
+        Assert.assertThrows(NumberFormatException.class, () -> parseDouble("1.2.3"));
+        Assert.assertThrows(NumberFormatException.class, () -> parseDouble(""));
+    }
+
+    private static void assertParsedAsDouble(String number) {
+        Assert.assertEquals(number, Double.doubleToLongBits(Double.parseDouble(number)),
+                Double.doubleToLongBits(parseDouble(number)));
+    }
+
+    private static double parseDouble(String number) {
+        byte[] bytes = number.getBytes(StandardCharsets.ISO_8859_1);
+        return ByteUtils.parseDouble(bytes, 0, bytes.length);
+    }
+}
@@ -0,0 +1,144 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.io.source;
+
+import com.itextpdf.commons.utils.FileUtil;
+import com.itextpdf.test.ExtendedITextTest;
+import com.itextpdf.test.annotations.type.IntegrationTest;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@Category(IntegrationTest.class)
+public class LockFreeFileChannelRandomAccessSourceTest extends ExtendedITextTest {
+    private final static String SOURCE_FILE = "./src/test/resources/com/itextpdf/io/source/RAF.txt";
+    private final static String DESTINATION_FOLDER = "./target/test/com/itextpdf/io/source/LockFreeFileChannelRandomAccessSourceTest/";
+
+    private final byte[] content = "Hello, world!".getBytes();
+
+    @BeforeClass
+    public static void beforeClass() {
+        createOrClearDestinationFolder(DESTINATION_FOLDER);
+    }
+
+    @Test
+    public void getByIndexTest() throws IOException {
+        RandomAccessFile raf = FileUtil.getRandomAccessFile(new File(SOURCE_FILE));
+        LockFreeFileChannelRandomAccessSource source = new LockFreeFileChannelRandomAccessSource(raf.getChannel());
+        try {
+            Assert.assertEquals(content.length, source.length());
+            for (int i = 0; i < content.length; i++) {
+                Assert.assertEquals(content[i], source.get(i));
+            }
+            Assert.assertEquals(-1, source.get(content.length));
+        } finally {
+            source.close();
+        }
+    }
+
+    @Test
+    public void getArrayByIndexesTest() throws IOException {
+        final int beginIndex = 7;
+        final int length = 5;
+
+        RandomAccessFile raf = FileUtil.getRandomAccessFile(new File(SOURCE_FILE));
+        LockFreeFileChannelRandomAccessSource source = new LockFreeFileChannelRandomAccessSource(raf.getChannel());
+        try {
+            byte[] dest = new byte[24];
+
+            Assert.assertEquals(length, source.get(beginIndex, dest, 0, length));
+            for (int i = 0; i < length; i++) {
+                Assert.assertEquals(content[beginIndex + i], dest[i]);
+            }
+            // the read is truncated at the end of the file
+            Assert.assertEquals(content.length - beginIndex, source.get(beginIndex, dest, 0, dest.length));
+            Assert.assertEquals(-1, source.get(content.length, dest, 0, dest.length));
+        } finally {
+            source.close();
+        }
+    }
+
+    @Test
+    public void closeChannelTest() throws IOException {
+        RandomAccessFile raf = FileUtil.getRandomAccessFile(new File(SOURCE_FILE));
+        LockFreeFileChannelRandomAccessSource source = new LockFreeFileChannelRandomAccessSource(raf.getChannel());
+        source.close();
+        Assert.assertFalse(raf.getChannel().isOpen());
+    }
+
+    @Test
+    public void concurrentReadsTest() throws Exception {
+        String fileName = DESTINATION_FOLDER + "concurrentReads.bin";
+        final byte[] expected = new byte[100000];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = (byte) (i * 31 + i / 251);
+        }
+        try (OutputStream os = FileUtil.getFileOutputStream(fileName)) {
+            os.write(expected);
+        }
+
+        RandomAccessFile raf = FileUtil.getRandomAccessFile(new File(fileName));
+        final LockFreeFileChannelRandomAccessSource source = new LockFreeFileChannelRandomAccessSource(raf.getChannel());
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                final int step = 2 * t + 1;
+                results.add(executor.submit(() -> {
+                    for (int i = 0; i < expected.length; i += step) {
+                        if ((byte) source.get(i) != expected[i]) {
+                            return false;
+                        }
+                    }
+                    byte[] chunk = new byte[1000];
+                    for (int i = 0; i < expected.length; i += chunk.length * step) {
+                        source.get(i, chunk, 0, chunk.length);
+                        for (int j = 0; j < chunk.length; j++) {
+                            if (chunk[j] != expected[i + j]) {
+                                return false;
+                            }
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                Assert.assertTrue(result.get());
+            }
+        } finally {
+            executor.shutdown();
+            source.close();
+        }
+    }
+}
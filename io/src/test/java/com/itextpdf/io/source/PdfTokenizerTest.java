@@ -94,6 +94,64 @@ public class PdfTokenizerTest extends ExtendedITextTest {
         Assert.assertEquals(15, tok.getIntValue());
     }
 
+    @Test
+    public void getIntValueSignedTest() throws IOException {
+        String data = "-2147483648 +7";
+
+        RandomAccessSourceFactory factory = new RandomAccessSourceFactory();
+        PdfTokenizer tok = new PdfTokenizer(new RandomAccessFileOrArray(
+                factory.createSource(data.getBytes(StandardCharsets.ISO_8859_1))));
+
+        tok.nextToken();
+        Assert.assertEquals(Integer.MIN_VALUE, tok.getIntValue());
+        tok.nextToken();
+        Assert.assertEquals(7, tok.getIntValue());
+    }
+
+    @Test
+    public void getIntValueOverflowTest() throws IOException {
+        String data = "2147483648 1.5";
+
+        RandomAccessSourceFactory factory = new RandomAccessSourceFactory();
+        PdfTokenizer tok = new PdfTokenizer(new RandomAccessFileOrArray(
+                factory.createSource(data.getBytes(StandardCharsets.ISO_8859_1))));
+
+        tok.nextToken();
+        Assert.assertEquals(2147483648L, tok.getLongValue());
+        Assert.assertThrows(NumberFormatException.class, () -> tok.getIntValue());
+        tok.nextToken();
+        Assert.assertThrows(NumberFormatException.class, () -> tok.getIntValue());
+    }
+
+    @Test
+    public void nextValidTokenReuseTest() throws IOException {
+        String data = "12 0 R 13 1 obj 5 6 /Name";
+
+        RandomAccessSourceFactory factory = new RandomAccessSourceFactory();
+        PdfTokenizer tok = new PdfTokenizer(new RandomAccessFileOrArray(
+                factory.createSource(data.getBytes(StandardCharsets.ISO_8859_1))));
+
+        tok.nextValidToken();
+        Assert.assertEquals(TokenType.Ref, tok.getTokenType());
+        Assert.assertEquals(12, tok.getObjNr());
+        Assert.assertEquals(0, tok.getGenNr());
+        tok.nextValidToken();
+        Assert.assertEquals(TokenType.Obj, tok.getTokenType());
+        Assert.assertEquals(13, tok.getObjNr());
+        Assert.assertEquals(1, tok.getGenNr());
+        tok.nextValidToken();
+        Assert.assertEquals(TokenType.Number, tok.getTokenType());
+        Assert.assertEquals("5", tok.getStringValue());
+        tok.nextValidToken();
+        Assert.assertEquals(TokenType.Number, tok.getTokenType());
+        Assert.assertEquals("6", tok.getStringValue());
+        tok.nextValidToken();
+        Assert.assertEquals(TokenType.Name, tok.getTokenType());
+        Assert.assertEquals(4, tok.getByteContentLength());
+        Assert.assertEquals("Name", new String(tok.getInternalByteContent(), 0, tok.getByteContentLength(),
+                StandardCharsets.ISO_8859_1));
+    }
+
     @Test
     public void getPositionTest() throws IOException {
         String data = "/Name1 70";
@@ -81,4 +81,49 @@ public class RandomAccessSourceFactoryTest extends ExtendedITextTest {
             Assert.assertEquals(extractedRandomAccessSource, rasInputStream.getSource());
         }
     }
+
+    @Test
+    public void createLockFreeBestSourceTest() throws IOException {
+        IRandomAccessSource source = new RandomAccessSourceFactory()
+                .setUseLockFreeAccess(true)
+                .createBestSource(SOURCE_FILE);
+        try {
+            Assert.assertTrue(source instanceof IThreadSafeRandomAccessSource);
+            Assert.assertEquals(13, source.length());
+            Assert.assertEquals(72, source.get(0));
+        } finally {
+            source.close();
+        }
+    }
+
+    @Test
+    public void createLockFreePlainRandomAccessSourceTest() throws IOException {
+        IRandomAccessSource source = new RandomAccessSourceFactory()
+                .setUsePlainRandomAccess(true)
+                .setUseLockFreeAccess(true)
+                .createBestSource(SOURCE_FILE);
+        try {
+            Assert.assertTrue(source instanceof LockFreeFileChannelRandomAccessSource);
+            Assert.assertEquals(72, source.get(0));
+        } finally {
+            source.close();
+        }
+    }
+
+    @Test
+    public void lockFreeSourceViewTest() throws IOException {
+        IRandomAccessSource source = new RandomAccessSourceFactory()
+                .setUseLockFreeAccess(true)
+                .createBestSource(SOURCE_FILE);
+        RandomAccessFileOrArray file = new RandomAccessFileOrArray(source);
+        try {
+            IRandomAccessSource view = file.createSourceView();
+            view.close();
+            // closing the view does not affect the source
+            Assert.assertEquals(72, file.read());
+            Assert.assertEquals(33, source.get(12));
+        } finally {
+            file.close();
+        }
+    }
 }
@@ -0,0 +1,152 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.io.source;
+
+import com.itextpdf.io.exceptions.IoExceptionMessageConstant;
+import com.itextpdf.io.util.FilterUtil;
+import com.itextpdf.test.ExtendedITextTest;
+import com.itextpdf.test.annotations.type.UnitTest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@Category(UnitTest.class)
+public class ZlibCodecPoolTest extends ExtendedITextTest {
+
+    private ZlibCodecPool sharedPool;
+
+    @Before
+    public void setUp() {
+        sharedPool = ZlibCodecPool.getInstance();
+    }
+
+    @After
+    public void tearDown() {
+        ZlibCodecPool.setInstance(sharedPool);
+    }
+
+    @Test
+    public void deflaterIsReusedTest() {
+        ZlibCodecPool pool = new ZlibCodecPool(2);
+        Deflater deflater = pool.acquireDeflater(Deflater.BEST_SPEED);
+        pool.releaseDeflater(deflater, Deflater.BEST_SPEED);
+
+        Assert.assertSame(deflater, pool.acquireDeflater(Deflater.BEST_SPEED));
+        Assert.assertEquals(1, pool.getDeflaterHits());
+        Assert.assertEquals(1, pool.getDeflaterMisses());
+    }
+
+    @Test
+    public void deflatersArePooledPerLevelTest() {
+        ZlibCodecPool pool = new ZlibCodecPool(2);
+        Deflater deflater = pool.acquireDeflater(Deflater.BEST_SPEED);
+        pool.releaseDeflater(deflater, Deflater.BEST_SPEED);
+
+        Assert.assertNotSame(deflater, pool.acquireDeflater(Deflater.BEST_COMPRESSION));
+        Assert.assertEquals(0, pool.getDeflaterHits());
+        Assert.assertEquals(2, pool.getDeflaterMisses());
+    }
+
+    @Test
+    public void inflaterIsReusedTest() {
+        ZlibCodecPool pool = new ZlibCodecPool(2);
+        Inflater inflater = pool.acquireInflater();
+        pool.releaseInflater(inflater);
+
+        Assert.assertSame(inflater, pool.acquireInflater());
+        Assert.assertEquals(1, pool.getInflaterHits());
+        Assert.assertEquals(1, pool.getInflaterMisses());
+    }
+
+    @Test
+    public void poolIsBoundedTest() {
+        ZlibCodecPool pool = new ZlibCodecPool(1);
+        Inflater first = pool.acquireInflater();
+        Inflater second = pool.acquireInflater();
+        pool.releaseInflater(first);
+        pool.releaseInflater(second);
+
+        Assert.assertSame(first, pool.acquireInflater());
+        Assert.assertNotSame(second, pool.acquireInflater());
+        Assert.assertEquals(1, pool.getInflaterHits());
+        Assert.assertEquals(3, pool.getInflaterMisses());
+    }
+
+    @Test
+    public void zeroCapacityDisablesPoolingTest() {
+        ZlibCodecPool pool = new ZlibCodecPool(0);
+        Deflater deflater = pool.acquireDeflater(Deflater.DEFAULT_COMPRESSION);
+        pool.releaseDeflater(deflater, Deflater.DEFAULT_COMPRESSION);
+
+        Assert.assertNotSame(deflater, pool.acquireDeflater(Deflater.DEFAULT_COMPRESSION));
+        Assert.assertEquals(0, pool.getDeflaterHits());
+    }
+
+    @Test
+    public void negativeCapacityTest() {
+        Exception e = Assert.assertThrows(IllegalArgumentException.class, () -> new ZlibCodecPool(-1));
+        Assert.assertEquals(IoExceptionMessageConstant.POOL_CAPACITY_CAN_NOT_BE_NEGATIVE, e.getMessage());
+    }
+
+    @Test
+    public void pooledDeflaterOutputStreamTest() throws IOException {
+        ZlibCodecPool pool = new ZlibCodecPool(2);
+        ZlibCodecPool.setInstance(pool);
+        byte[] data = "Hello, world! Hello, world! Hello, world!".getBytes(StandardCharsets.UTF_8);
+
+        byte[] first = deflate(data);
+        byte[] second = deflate(data);
+
+        Assert.assertArrayEquals(first, second);
+        Assert.assertArrayEquals(data, FilterUtil.flateDecode(second));
+        Assert.assertEquals(1, pool.getDeflaterHits());
+        Assert.assertEquals(1, pool.getInflaterMisses());
+    }
+
+    @Test
+    public void writeAfterFinishTest() throws IOException {
+        DeflaterOutputStream zip = new DeflaterOutputStream(new ByteArrayOutputStream());
+        zip.write(1);
+        zip.finish();
+        // finishing the stream twice is allowed
+        zip.close();
+
+        Exception e = Assert.assertThrows(IOException.class, () -> zip.write(1));
+        Assert.assertEquals(IoExceptionMessageConstant.ALREADY_CLOSED, e.getMessage());
+    }
+
+    private static byte[] deflate(byte[] data) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        DeflaterOutputStream zip = new DeflaterOutputStream(baos, Deflater.BEST_COMPRESSION);
+        zip.write(data);
+        zip.close();
+        return baos.toByteArray();
+    }
+}
@@ -75,6 +75,8 @@ public final class KernelExceptionMessageConstant {
             = "Cannot embed Type0 font with CID font program based on non-generic predefined CMap.";
     public static final String CANNOT_GET_CONTENT_BYTES = "Cannot get content bytes.";
     public static final String CANNOT_GET_PDF_STREAM_BYTES = "Cannot get PdfStream bytes.";
+    public static final String CANNOT_OPEN_SOURCE_DOCUMENT_FOR_MERGING = "Cannot open the source document for "
+            + "merging.";
     public static final String CANNOT_OPERATE_WITH_FLUSHED_PDF_STREAM = "Cannot operate with the flushed PdfStream.";
     public static final String CANNOT_RETRIEVE_MEDIA_BOX_ATTRIBUTE = "Invalid PDF. There is no media box attribute "
             + "for page or its parents.";
@@ -123,7 +125,12 @@ public final class KernelExceptionMessageConstant {
                     + "to PdfReader constructor with properties. See ReaderProperties#setPublicKeySecurityParams() "
                     + "method.";
     public static final String CF_NOT_FOUND_ENCRYPTION = "/CF not found (encryption)";
+    public static final String CHUNK_SIZE_SHALL_BE_POSITIVE = "The chunk size shall be positive.";
     public static final String COLOR_SPACE_NOT_FOUND = "ColorSpace not found.";
+    public static final String CONCURRENT_READING_REQUIRED_FOR_PARALLEL_TEXT_EXTRACTION = "The document shall be "
+            + "opened with concurrent reading enabled to extract the text of its pages on other threads.";
+    public static final String CONCURRENT_READING_REQUIRES_READING_MODE = "Concurrent reading is supported only "
+            + "for the documents opened in reading mode.";
     public static final String CONTENT_STREAM_MUST_NOT_INVOKE_OPERATORS_THAT_SPECIFY_COLORS_OR_OTHER_COLOR_RELATED_PARAMETERS =
             "Content stream must not invoke operators that specify colors or other color related parameters in "
                     + "the graphics state.";
@@ -194,6 +201,8 @@ public final class KernelExceptionMessageConstant {
     public static final String FONT_AND_SIZE_MUST_BE_SET_BEFORE_WRITING_ANY_TEXT = "Font and size must be set before "
             + "writing any text.";
     public static final String FONT_EMBEDDING_ISSUE = "Font embedding issue.";
+    public static final String FORM_XOBJECT_CACHE_SIZE_CANNOT_BE_NEGATIVE = "The size of the Form XObject cache "
+            + "cannot be negative.";
     public static final String FORM_XOBJECT_MUST_HAVE_BBOX = "Form XObject must have BBox.";
     public static final String FUNCTION_IS_NOT_COMPATIBLE_WITH_COLOR_SPACE = "Function is not compatible with "
             + "ColorSpace.";
@@ -257,8 +266,20 @@ public final class KernelExceptionMessageConstant {
     public static final String INVALID_XREF_TABLE = "Invalid xref table.";
     public static final String IO_EXCEPTION = "I/O exception.";
     public static final String IO_EXCEPTION_WHILE_CREATING_FONT = "I/O exception while creating Font";
+    public static final String LINEARIZATION_IS_NOT_SUPPORTED_FOR_ENCRYPTED_DOCUMENTS = "Linearization is not "
+            + "supported for the encrypted documents.";
+    public static final String LINEARIZATION_IS_NOT_SUPPORTED_IN_APPEND_MODE = "Linearization is not supported "
+            + "in append mode.";
+    public static final String LITERAL_TO_SEARCH_FOR_CANNOT_BE_EMPTY = "The literal to be searched for cannot be "
+            + "empty.";
     public static final String LZW_DECODER_EXCEPTION = "LZW decoder exception.";
     public static final String LZW_FLAVOUR_NOT_SUPPORTED = "LZW flavour not supported.";
+    public static final String MAX_DIGESTS_IN_MEMORY_SHALL_BE_POSITIVE = "The maximum number of digests in memory "
+            + "shall be positive.";
+    public static final String MAX_PREPARED_DOCUMENTS_SHALL_BE_POSITIVE = "The maximum number of prepared "
+            + "documents shall be positive.";
+    public static final String METADATA_ONLY_MODE_REQUIRES_READING_MODE = "Metadata-only mode is supported only "
+            + "for the documents opened in reading mode.";
     public static final String MISSING_REQUIRED_FIELD_IN_FONT_DICTIONARY
             = "Missing required field {0} in font dictionary.";
     public static final String MUST_BE_A_TAGGED_DOCUMENT = "Must be a tagged document.";
@@ -275,12 +296,16 @@ public final class KernelExceptionMessageConstant {
     public static final String NOT_A_WMF_IMAGE = "Not a WMF image.";
     public static final String NO_VALID_ENCRYPTION_MODE = "No valid encryption mode.";
     public static final String NUMBER_OF_PAGES_CAN_NOT_BE_NEGATIVE = "Number of pages can not be negative.";
+    public static final String NUMBER_OF_RETAINED_PAGES_SHALL_BE_POSITIVE = "The number of retained pages shall be "
+            + "positive.";
     public static final String NUMBER_OF_BOOLEANS_IN_THE_ARRAY_DOES_NOT_CORRESPOND_WITH_THE_NUMBER_OF_FIELDS = "The "
             + "number of booleans in the array doesn't correspond with the number of fields.";
     public static final String OBJECT_MUST_BE_INDIRECT_TO_WORK_WITH_THIS_WRAPPER = "Object must be indirect to work "
             + "with this wrapper.";
     public static final String OBJECT_NUMBER_OF_THE_FIRST_OBJECT_IN_THIS_XREF_SUBSECTION_NOT_FOUND = "Object number "
             + "of the first object in this xref subsection not found.";
+    public static final String OBJECT_STREAM_CACHE_SIZE_SHALL_NOT_BE_NEGATIVE = "The object stream cache size shall "
+            + "not be negative.";
     public static final String ONLY_IDENTITY_CMAPS_SUPPORTS_WITH_TRUETYPE = "Only Identity CMaps supports with "
             + "truetype";
     public static final String ONLY_BMP_CAN_BE_WRAPPED_IN_WMF = "Only BMP can be wrapped in WMF.";
@@ -290,6 +315,8 @@ public final class KernelExceptionMessageConstant {
     public static final String PAGE_CANNOT_BE_ADDED_TO_DOCUMENT_BECAUSE_IT_BELONGS_TO_ANOTHER_DOCUMENT =
             "The passed page belongs to document {0} (page {1} of the document) and therefore cannot be added "
                     + "to this document ({2}).";
+    public static final String PAGES_MEMORY_BUDGET_SHALL_NOT_BE_NEGATIVE = "The pages memory budget shall not be "
+            + "negative.";
     public static final String PAGE_IS_NOT_SET_FOR_THE_PDF_TAG_STRUCTURE = "Page is not set for the pdf tag structure.";
     public static final String PAGE_ALREADY_FLUSHED = "The page has been already flushed.";
     public static final String PDF_ENCRYPTION = "PdfEncryption exception.";
@@ -321,7 +348,10 @@ public final class KernelExceptionMessageConstant {
     public static final String RESOURCES_DO_NOT_CONTAIN_EXTGSTATE_ENTRY_UNABLE_TO_PROCESS_THIS_OPERATOR = "Resources "
             + "do not contain ExtGState entry. Unable to process operator {0}.";
     public static final String SHADING_TYPE_NOT_FOUND = "Shading type not found.";
+    public static final String SPILL_THRESHOLD_SHALL_NOT_BE_NEGATIVE = "The spill threshold shall not be negative.";
     public static final String STDCF_NOT_FOUND_ENCRYPTION = "/StdCF not found (encryption)";
+    public static final String STREAM_DATA_EXCEED_MAX_INTEGER_VALUE = "The data of a single stream exceed "
+            + "the maximum integer value of bytes.";
     public static final String STREAM_SHALL_END_WITH_ENDSTREAM = "Stream shall end with endstream keyword.";
     public static final String STRUCT_PARENT_INDEX_NOT_FOUND_IN_TAGGED_OBJECT = "StructParent index not found in "
             + "tagged object.";
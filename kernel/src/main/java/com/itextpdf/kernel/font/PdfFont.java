@@ -30,18 +30,20 @@ import com.itextpdf.kernel.exceptions.KernelExceptionMessageConstant;
 import com.itextpdf.kernel.exceptions.PdfException;
 import com.itextpdf.kernel.pdf.PdfDictionary;
 import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfIndirectReference;
 import com.itextpdf.kernel.pdf.PdfName;
 import com.itextpdf.kernel.pdf.PdfNumber;
 import com.itextpdf.kernel.pdf.PdfObject;
 import com.itextpdf.kernel.pdf.PdfObjectWrapper;
 import com.itextpdf.kernel.pdf.PdfOutputStream;
+import com.itextpdf.kernel.pdf.PdfReader;
 import com.itextpdf.kernel.pdf.PdfStream;
 import com.itextpdf.kernel.pdf.PdfString;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 
 public abstract class PdfFont extends PdfObjectWrapper<PdfDictionary> {
@@ -56,7 +58,8 @@ public abstract class PdfFont extends PdfObjectWrapper<PdfDictionary> {
 
     protected static final byte[] EMPTY_BYTES = new byte[0];
 
-    protected Map<Integer, Glyph> notdefGlyphs = new HashMap<>();
+    // the fonts read from the document may be used for decoding on several threads
+    protected Map<Integer, Glyph> notdefGlyphs = new ConcurrentHashMap<>();
 
     /**
      * false, if the font comes from PdfDocument.
@@ -75,7 +78,10 @@ public abstract class PdfFont extends PdfObjectWrapper<PdfDictionary> {
 
     protected PdfFont(PdfDictionary fontDictionary) {
         super(fontDictionary);
-        getPdfObject().put(PdfName.Type, PdfName.Font);
+        // the dictionaries of the documents which are read concurrently may be accessed by other threads
+        if (!isReadConcurrently(fontDictionary)) {
+            getPdfObject().put(PdfName.Type, PdfName.Font);
+        }
     }
 
     protected PdfFont() {
@@ -552,4 +558,13 @@ public abstract class PdfFont extends PdfObjectWrapper<PdfDictionary> {
                 "fontProgram=" + fontProgram +
                 '}';
     }
+
+    private static boolean isReadConcurrently(PdfDictionary fontDictionary) {
+        PdfIndirectReference reference = fontDictionary.getIndirectReference();
+        if (reference == null || reference.getDocument() == null) {
+            return false;
+        }
+        PdfReader reader = reference.getDocument().getReader();
+        return reader != null && reader.isConcurrentReading();
+    }
 }
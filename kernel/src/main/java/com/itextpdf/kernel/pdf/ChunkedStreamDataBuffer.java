@@ -0,0 +1,103 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.kernel.pdf;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A stream data buffer which keeps the data in fixed-size chunks either on heap or in direct (off-heap) memory.
+ */
+final class ChunkedStreamDataBuffer implements IStreamDataBuffer {
+
+    private static final int TRANSFER_BUFFER_SIZE = 64 * 1024;
+
+    private final int chunkSize;
+    private final boolean direct;
+    private List<ByteBuffer> chunks = new ArrayList<>();
+    private long size;
+
+    /**
+     * Creates the buffer.
+     *
+     * @param chunkSize the size of the chunks in bytes
+     * @param direct    true to allocate the chunks in direct memory, false to allocate them on heap
+     */
+    ChunkedStreamDataBuffer(int chunkSize, boolean direct) {
+        this.chunkSize = chunkSize;
+        this.direct = direct;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        while (len > 0) {
+            ByteBuffer chunk = chunks.isEmpty() ? null : chunks.get(chunks.size() - 1);
+            if (chunk == null || !chunk.hasRemaining()) {
+                chunk = direct ? ByteBuffer.allocateDirect(chunkSize) : ByteBuffer.allocate(chunkSize);
+                chunks.add(chunk);
+            }
+            int n = Math.min(len, chunk.remaining());
+            chunk.put(b, off, n);
+            off += n;
+            len -= n;
+            size += n;
+        }
+    }
+
+    @Override
+    public long size() {
+        return size;
+    }
+
+    @Override
+    public void writeTo(OutputStream out) throws IOException {
+        byte[] transferBuffer = null;
+        for (ByteBuffer chunk : chunks) {
+            if (chunk.hasArray()) {
+                out.write(chunk.array(), chunk.arrayOffset(), chunk.position());
+                continue;
+            }
+            if (transferBuffer == null) {
+                transferBuffer = new byte[Math.min(chunkSize, TRANSFER_BUFFER_SIZE)];
+            }
+            ByteBuffer data = chunk.duplicate();
+            ((Buffer) data).flip();
+            while (data.hasRemaining()) {
+                int n = Math.min(transferBuffer.length, data.remaining());
+                data.get(transferBuffer, 0, n);
+                out.write(transferBuffer, 0, n);
+            }
+        }
+    }
+
+    @Override
+    public void release() {
+        // The direct chunks are freed by the garbage collector once they are not referenced
+        chunks = new ArrayList<>();
+        size = 0;
+    }
+}
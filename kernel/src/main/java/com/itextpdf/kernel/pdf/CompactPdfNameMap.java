@@ -0,0 +1,286 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.kernel.pdf;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * A map which backs the entries of {@link PdfDictionary}. Most of the dictionaries are small, so while the number
+ * of entries doesn't exceed {@link #MAX_ARRAY_SIZE}, they are stored in the arrays of keys and values sorted by key.
+ * It takes much less memory than {@link TreeMap} nodes, and the lookup of the predefined names, which are
+ * usually the same instances, boils down to the identity comparison. The bigger dictionaries are stored
+ * in a {@link TreeMap}. In both cases the entries are iterated in the order of the keys.
+ */
+final class CompactPdfNameMap extends AbstractMap<PdfName, PdfObject> {
+
+    /**
+     * The maximum number of entries stored in the arrays.
+     */
+    static final int MAX_ARRAY_SIZE = 16;
+
+    private static final int INITIAL_ARRAY_SIZE = 4;
+
+    private PdfName[] keys;
+    private PdfObject[] values;
+    private int size;
+
+    /**
+     * The map the entries are stored in if there are more than {@link #MAX_ARRAY_SIZE} of them.
+     */
+    private TreeMap<PdfName, PdfObject> treeMap;
+
+    private int modCount;
+
+    private Set<Map.Entry<PdfName, PdfObject>> entrySet;
+
+    @Override
+    public int size() {
+        return treeMap != null ? treeMap.size() : size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return treeMap != null ? treeMap.containsKey(key) : indexOf(key) >= 0;
+    }
+
+    @Override
+    public PdfObject get(Object key) {
+        if (treeMap != null) {
+            return treeMap.get(key);
+        }
+        int index = indexOf(key);
+        return index >= 0 ? values[index] : null;
+    }
+
+    @Override
+    public PdfObject put(PdfName key, PdfObject value) {
+        if (treeMap != null) {
+            return treeMap.put(key, value);
+        }
+        int index = indexOf(key);
+        if (index >= 0) {
+            PdfObject oldValue = values[index];
+            values[index] = value;
+            return oldValue;
+        }
+        if (size == MAX_ARRAY_SIZE) {
+            convertToTreeMap();
+            return treeMap.put(key, value);
+        }
+        if (keys == null) {
+            keys = new PdfName[INITIAL_ARRAY_SIZE];
+            values = new PdfObject[INITIAL_ARRAY_SIZE];
+        } else if (size == keys.length) {
+            int capacity = Math.min(size * 2, MAX_ARRAY_SIZE);
+            PdfName[] newKeys = new PdfName[capacity];
+            PdfObject[] newValues = new PdfObject[capacity];
+            System.arraycopy(keys, 0, newKeys, 0, size);
+            System.arraycopy(values, 0, newValues, 0, size);
+            keys = newKeys;
+            values = newValues;
+        }
+        int insertionPoint = -(index + 1);
+        System.arraycopy(keys, insertionPoint, keys, insertionPoint + 1, size - insertionPoint);
+        System.arraycopy(values, insertionPoint, values, insertionPoint + 1, size - insertionPoint);
+        keys[insertionPoint] = key;
+        values[insertionPoint] = value;
+        size++;
+        modCount++;
+        return null;
+    }
+
+    @Override
+    public PdfObject remove(Object key) {
+        if (treeMap != null) {
+            return treeMap.remove(key);
+        }
+        int index = indexOf(key);
+        if (index < 0) {
+            return null;
+        }
+        PdfObject oldValue = values[index];
+        removeAt(index);
+        return oldValue;
+    }
+
+    @Override
+    public void clear() {
+        treeMap = null;
+        keys = null;
+        values = null;
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public Set<Map.Entry<PdfName, PdfObject>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    /**
+     * Searches the key in the arrays.
+     *
+     * @param key the key to search
+     * @return the index of the key, if it is found, otherwise {@code (-(insertion point) - 1)}
+     */
+    private int indexOf(Object key) {
+        for (int i = 0; i < size; i++) {
+            if (keys[i] == key) {
+                return i;
+            }
+        }
+        if (!(key instanceof PdfName)) {
+            if (key == null) {
+                // the same as TreeMap does
+                throw new NullPointerException();
+            }
+            return -(size + 1);
+        }
+        PdfName name = (PdfName) key;
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int comparison = keys[middle].compareTo(name);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private void removeAt(int index) {
+        int moved = size - index - 1;
+        System.arraycopy(keys, index + 1, keys, index, moved);
+        System.arraycopy(values, index + 1, values, index, moved);
+        size--;
+        keys[size] = null;
+        values[size] = null;
+        modCount++;
+    }
+
+    private void convertToTreeMap() {
+        TreeMap<PdfName, PdfObject> map = new TreeMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(keys[i], values[i]);
+        }
+        treeMap = map;
+        keys = null;
+        values = null;
+        size = 0;
+        modCount++;
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<PdfName, PdfObject>> {
+        @Override
+        public Iterator<Map.Entry<PdfName, PdfObject>> iterator() {
+            return treeMap != null ? treeMap.entrySet().iterator() : new ArrayEntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return CompactPdfNameMap.this.size();
+        }
+
+        @Override
+        public void clear() {
+            CompactPdfNameMap.this.clear();
+        }
+    }
+
+    private final class ArrayEntryIterator implements Iterator<Map.Entry<PdfName, PdfObject>> {
+        private int next;
+        private int last = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return next < size;
+        }
+
+        @Override
+        public Map.Entry<PdfName, PdfObject> next() {
+            checkForComodification();
+            if (next >= size) {
+                throw new NoSuchElementException();
+            }
+            last = next++;
+            return new ArrayEntry(last);
+        }
+
+        @Override
+        public void remove() {
+            if (last < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            removeAt(last);
+            next = last;
+            last = -1;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    private final class ArrayEntry extends AbstractMap.SimpleEntry<PdfName, PdfObject> {
+        private final int index;
+
+        ArrayEntry(int index) {
+            super(keys[index], values[index]);
+            this.index = index;
+        }
+
+        @Override
+        public PdfObject setValue(PdfObject value) {
+            // Writes the value through, the same way TreeMap entries do
+            if (index < size && keys[index] == getKey()) {
+                values[index] = value;
+            }
+            return super.setValue(value);
+        }
+    }
+}
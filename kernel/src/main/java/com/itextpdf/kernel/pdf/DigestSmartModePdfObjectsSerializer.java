@@ -0,0 +1,239 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.kernel.pdf;
+
+import com.itextpdf.io.source.ByteUtils;
+import com.itextpdf.kernel.exceptions.PdfException;
+
+import java.io.File;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Smart mode serializer which feeds the content of the objects directly into SHA-256 digests instead of
+ * serializing them into byte arrays. The content of an indirect object referenced from another one is represented
+ * by its digest, so the memory needed for an object is fixed regardless of the size of the referenced objects.
+ * The digests of the copied objects are kept in a bounded {@link SmartModeDigestIndex}.
+ */
+class DigestSmartModePdfObjectsSerializer extends SmartModePdfObjectsSerializer {
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final int DIGEST_LENGTH = 32;
+
+    private static final byte[] NULL = ByteUtils.getIsoBytes("$Lnull");
+    private static final byte[] REFERENCE = ByteUtils.getIsoBytes("$R");
+    private static final byte[] STREAM = ByteUtils.getIsoBytes("$B");
+    private static final byte[] DICTIONARY = ByteUtils.getIsoBytes("$D");
+    private static final byte[] DICTIONARY_END = ByteUtils.getIsoBytes("$\\D");
+    private static final byte[] ARRAY = ByteUtils.getIsoBytes("$A");
+    private static final byte[] ARRAY_END = ByteUtils.getIsoBytes("$\\A");
+    private static final byte[] STRING = ByteUtils.getIsoBytes("$S");
+    private static final byte[] NAME = ByteUtils.getIsoBytes("$N");
+    private static final byte[] LITERAL = ByteUtils.getIsoBytes("$L");
+
+    private final SmartModeDigestIndex index;
+
+    /**
+     * Digests for the indirect objects which are being digested at the moment, by their nesting depth.
+     */
+    private final List<MessageDigest> digests = new ArrayList<>();
+
+    private PdfDocument documentTo;
+
+    DigestSmartModePdfObjectsSerializer(int maxDigestsInMemory, File spillDirectory) {
+        this.index = new SmartModeDigestIndex(DIGEST_LENGTH, maxDigestsInMemory, spillDirectory);
+    }
+
+    @Override
+    public void saveSerializedObject(SerializedObjectContent serializedContent, PdfIndirectReference objectReference) {
+        documentTo = objectReference.getDocument();
+        try {
+            index.put(serializedContent.getSerializedContent(), objectReference.getObjNumber());
+        } catch (IOException e) {
+            throw new PdfException(e);
+        }
+    }
+
+    @Override
+    public PdfIndirectReference getSavedSerializedObject(SerializedObjectContent serializedContent) {
+        if (serializedContent == null || documentTo == null) {
+            return null;
+        }
+        int objNr;
+        try {
+            objNr = index.get(serializedContent.getSerializedContent());
+        } catch (IOException e) {
+            throw new PdfException(e);
+        }
+        return objNr == 0 ? null : documentTo.getXref().get(objNr);
+    }
+
+    @Override
+    public SerializedObjectContent serializeObject(PdfObject obj) {
+        if (!obj.isStream() && !obj.isDictionary()) {
+            return null;
+        }
+        PdfIndirectReference indRef = obj.getIndirectReference();
+        assert indRef != null;
+        Map<PdfIndirectReference, byte[]> digestsCache = indRef.getDocument().serializedObjectsCache;
+
+        byte[] digest = digestsCache.get(indRef);
+        if (digest == null) {
+            MessageDigest md = getDigest(0);
+            try {
+                digestObject(obj, md, 100, 0, digestsCache);
+            } catch (SelfReferenceException e) {
+                md.reset();
+                return null;
+            }
+            digest = md.digest();
+        }
+        return new SerializedObjectContent(digest);
+    }
+
+    @Override
+    void close() {
+        try {
+            index.close();
+        } catch (IOException e) {
+            throw new PdfException(e);
+        }
+    }
+
+    /**
+     * Gets the index of the digests, for testing purposes.
+     *
+     * @return the digests index
+     */
+    SmartModeDigestIndex getIndex() {
+        return index;
+    }
+
+    private void digestObject(PdfObject obj, MessageDigest md, int level, int depth,
+            Map<PdfIndirectReference, byte[]> digestsCache) throws SelfReferenceException {
+        if (level <= 0) {
+            return;
+        }
+        if (obj == null) {
+            md.update(NULL);
+            return;
+        }
+
+        if (obj.isIndirectReference()) {
+            PdfIndirectReference reference = (PdfIndirectReference) obj;
+            byte[] cached = digestsCache.get(reference);
+            if (cached == null) {
+                if (digestsCache.containsKey(reference)) {
+                    //referencing itself
+                    throw new SelfReferenceException();
+                }
+                digestsCache.put(reference, null);
+                MessageDigest referenceMd = getDigest(depth + 1);
+                try {
+                    digestObject(reference.getRefersTo(), referenceMd, level, depth + 1, digestsCache);
+                } catch (SelfReferenceException e) {
+                    referenceMd.reset();
+                    throw e;
+                }
+                cached = referenceMd.digest();
+                digestsCache.put(reference, cached);
+            }
+            md.update(REFERENCE);
+            md.update(cached);
+            return;
+        }
+
+        if (obj.isStream()) {
+            digestDictionary((PdfDictionary) obj, md, level - 1, depth, digestsCache);
+            md.update(STREAM);
+            byte[] bytes = ((PdfStream) obj).getBytes(false);
+            updateLength(md, bytes.length);
+            md.update(bytes);
+        } else if (obj.isDictionary()) {
+            digestDictionary((PdfDictionary) obj, md, level - 1, depth, digestsCache);
+        } else if (obj.isArray()) {
+            PdfArray array = (PdfArray) obj;
+            md.update(ARRAY);
+            if (level > 1) {
+                for (int k = 0; k < array.size(); ++k) {
+                    digestObject(array.get(k, false), md, level - 1, depth, digestsCache);
+                }
+                md.update(ARRAY_END);
+            }
+        } else if (obj.isString()) {
+            updateWithValue(md, STRING, obj.toString());
+        } else if (obj.isName()) {
+            updateWithValue(md, NAME, obj.toString());
+        } else {
+            // PdfNull case is also here
+            updateWithValue(md, LITERAL, obj.toString());
+        }
+    }
+
+    private void digestDictionary(PdfDictionary dic, MessageDigest md, int level, int depth,
+            Map<PdfIndirectReference, byte[]> digestsCache) throws SelfReferenceException {
+        md.update(DICTIONARY);
+        if (level <= 0) {
+            return;
+        }
+        for (PdfName key : dic.keySet()) {
+            if (isKeyRefersBack(dic, key)) {
+                continue;
+            }
+            digestObject(key, md, level, depth, digestsCache);
+            digestObject(dic.get(key, false), md, level, depth, digestsCache);
+        }
+        md.update(DICTIONARY_END);
+    }
+
+    private MessageDigest getDigest(int depth) {
+        while (digests.size() <= depth) {
+            try {
+                digests.add(MessageDigest.getInstance(DIGEST_ALGORITHM));
+            } catch (Exception e) {
+                throw new PdfException(e);
+            }
+        }
+        return digests.get(depth);
+    }
+
+    /**
+     * Updates the digest with the marker and the length-prefixed value, so that the values can't be confused with
+     * the markers.
+     */
+    private static void updateWithValue(MessageDigest md, byte[] marker, String value) {
+        byte[] bytes = ByteUtils.getIsoBytes(value);
+        md.update(marker);
+        updateLength(md, bytes.length);
+        md.update(bytes);
+    }
+
+    private static void updateLength(MessageDigest md, int length) {
+        md.update((byte) (length >>> 24));
+        md.update((byte) (length >>> 16));
+        md.update((byte) (length >>> 8));
+        md.update((byte) length);
+    }
+}
@@ -23,6 +23,7 @@
 package com.itextpdf.kernel.pdf;
 
 import com.itextpdf.commons.actions.contexts.IMetaInfo;
+import com.itextpdf.kernel.exceptions.KernelExceptionMessageConstant;
 
 /**
  * Class with additional properties for {@link PdfDocument} processing.
@@ -33,6 +34,17 @@ public class DocumentProperties {
 
     protected IMetaInfo metaInfo = null;
 
+    /**
+     * The estimated memory, in bytes, which the pages are allowed to retain before they are flushed or
+     * released automatically, or 0 if the pages are not flushed automatically.
+     */
+    protected long maxRetainedPagesMemory = 0;
+
+    /**
+     * The number of the most recently used pages which are never flushed or released automatically.
+     */
+    protected int minRetainedPages = 1;
+
     /**
      * Default constructor, use provided setters for configuration options.
      */
@@ -46,6 +58,8 @@ public class DocumentProperties {
      */
     public DocumentProperties(DocumentProperties other) {
         this.metaInfo = other.metaInfo;
+        this.maxRetainedPagesMemory = other.maxRetainedPagesMemory;
+        this.minRetainedPages = other.minRetainedPages;
     }
 
     /**
@@ -67,4 +81,42 @@ public class DocumentProperties {
     public boolean isEventCountingMetaInfoSet() {
         return this.metaInfo != null;
     }
+
+    /**
+     * Sets the memory budget of the document pages. Once the estimated memory retained by the pages
+     * (their dictionaries, content streams, annotations and resources) exceeds the budget, the least recently
+     * used pages are automatically flushed or released, until the retained memory fits into the budget again
+     * or only {@code minRetainedPages} pages are left. The budget is checked when a page is added to
+     * the document or is accessed for the first time, and the current footprint can be obtained with
+     * {@link PdfDocument#getRetainedPagesMemory()}.
+     * <p>
+     * The pages are dropped the same way they would be dropped manually: in reading mode they are released
+     * with {@link PageFlushingHelper#releaseDeep(int)} and can be re-read later, in append mode they are handled by
+     * {@link PageFlushingHelper#appendModeFlush(int)}, and in writing and stamping modes they are flushed with
+     * {@link PdfPage#flush()}, so they can't be modified afterwards. Thus the pages which are going to be modified
+     * again, e.g. to add "page X of Y" footers once the document is complete, must not be dropped:
+     * choose {@code minRetainedPages} accordingly. Pages are never dropped while pages are copied
+     * by {@link PdfDocument#copyPagesTo(java.util.List, PdfDocument)} and similar methods.
+     * <p>
+     * The budget is not supported for the documents opened with {@link ReaderProperties#setConcurrentReading(boolean)}.
+     *
+     * @param maxRetainedPagesMemory the estimated memory in bytes the pages may retain, or 0 to disable
+     *                               automatic dropping of the pages
+     * @param minRetainedPages       the number of the most recently used pages which are never dropped
+     *                               automatically, at least 1
+     * @return this {@link DocumentProperties} instance
+     */
+    public DocumentProperties setPagesMemoryBudget(long maxRetainedPagesMemory, int minRetainedPages) {
+        if (maxRetainedPagesMemory < 0) {
+            throw new IllegalArgumentException(
+                    KernelExceptionMessageConstant.PAGES_MEMORY_BUDGET_SHALL_NOT_BE_NEGATIVE);
+        }
+        if (minRetainedPages < 1) {
+            throw new IllegalArgumentException(
+                    KernelExceptionMessageConstant.NUMBER_OF_RETAINED_PAGES_SHALL_BE_POSITIVE);
+        }
+        this.maxRetainedPagesMemory = maxRetainedPagesMemory;
+        this.minRetainedPages = minRetainedPages;
+        return this;
+    }
 }
@@ -0,0 +1,66 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.kernel.pdf;
+
+import com.itextpdf.kernel.exceptions.KernelExceptionMessageConstant;
+
+/**
+ * A {@link IStreamDataStorage} which keeps the stream data on heap in the chunks of the fixed size.
+ * <p>
+ * Unlike the default byte array of the stream, the data are never copied to a larger array when they grow,
+ * and no contiguous array of the size of the whole stream is required, which reduces the peak heap usage and
+ * the heap fragmentation for the large streams.
+ */
+public class HeapStreamDataStorage implements IStreamDataStorage {
+
+    /**
+     * The default size of the chunks in bytes.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+
+    private final int chunkSize;
+
+    /**
+     * Creates the storage with the default chunk size.
+     */
+    public HeapStreamDataStorage() {
+        this(DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates the storage.
+     *
+     * @param chunkSize the size of the chunks in bytes, shall be positive
+     */
+    public HeapStreamDataStorage(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException(KernelExceptionMessageConstant.CHUNK_SIZE_SHALL_BE_POSITIVE);
+        }
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public IStreamDataBuffer createBuffer() {
+        return new ChunkedStreamDataBuffer(chunkSize, false);
+    }
+}
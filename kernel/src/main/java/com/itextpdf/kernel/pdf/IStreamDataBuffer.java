@@ -0,0 +1,66 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.kernel.pdf;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * An append-only buffer for the data of a single {@link PdfStream}, created by {@link IStreamDataStorage}.
+ * <p>
+ * A buffer is used by a single thread at a time.
+ */
+public interface IStreamDataBuffer {
+
+    /**
+     * Appends the bytes to the end of the buffer.
+     *
+     * @param b   the bytes to append
+     * @param off the offset of the first byte to append
+     * @param len the number of bytes to append
+     *
+     * @throws IOException if the bytes can't be stored
+     */
+    void write(byte[] b, int off, int len) throws IOException;
+
+    /**
+     * Gets the number of bytes in the buffer.
+     *
+     * @return the number of bytes in the buffer
+     */
+    long size();
+
+    /**
+     * Writes all the bytes of the buffer to the output stream.
+     *
+     * @param out the stream to write the bytes to
+     *
+     * @throws IOException if the bytes can't be read or written
+     */
+    void writeTo(OutputStream out) throws IOException;
+
+    /**
+     * Releases the resources held by the buffer. The buffer shall not be used afterwards.
+     */
+    void release();
+}
@@ -0,0 +1,47 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.kernel.pdf;
+
+/**
+ * A storage for the data of the large {@link PdfStream} objects of the document being written.
+ * <p>
+ * By default the data of a stream is kept in a heap byte array until the stream is written. If a storage is
+ * set via {@link WriterProperties#setStreamDataStorage(IStreamDataStorage, int)}, the data of the streams
+ * exceeding the spill threshold are moved to the buffers created by this storage instead, which allows to produce
+ * documents with the binary content much larger than the available heap.
+ *
+ * @see HeapStreamDataStorage
+ * @see OffHeapStreamDataStorage
+ * @see TempFileStreamDataStorage
+ */
+public interface IStreamDataStorage {
+
+    /**
+     * Creates a new empty buffer for the data of a single stream.
+     * <p>
+     * The storage may be shared by several writers, so this method shall be thread-safe.
+     *
+     * @return the new buffer
+     */
+    IStreamDataBuffer createBuffer();
+}
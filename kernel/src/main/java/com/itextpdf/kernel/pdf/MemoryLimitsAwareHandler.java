@@ -88,6 +88,18 @@ public class MemoryLimitsAwareHandler {
         this.maxXObjectsSizePerPage = maxXObjectsSizePerPage;
     }
 
+    /**
+     * Creates a new {@link MemoryLimitsAwareHandler} with the same limits as this one, but without the memory
+     * which has been already considered by this handler, so that it can be used to handle another document.
+     * The subclasses are expected to override this method to create the instances of their own class.
+     *
+     * @return the new {@link MemoryLimitsAwareHandler} instance
+     */
+    public MemoryLimitsAwareHandler createNewInstance() {
+        return new MemoryLimitsAwareHandler(maxSizeOfSingleDecompressedPdfStream, maxSizeOfDecompressedPdfStreamsSum,
+                maxNumberOfElementsInXrefStructure, maxXObjectsSizePerPage);
+    }
+
     /**
      * Gets the maximum allowed size which can be occupied by a single decompressed pdf stream.
      *
@@ -276,6 +288,24 @@ public class MemoryLimitsAwareHandler {
         return this;
     }
 
+    /**
+     * Considers the number of bytes occupied by the pdf stream which was decompressed incrementally,
+     * i.e. without {@link #beginDecompressedPdfStreamProcessing()} and {@link #endDecompressedPdfStreamProcessing()}.
+     * If memory limits have not been faced, throws an exception.
+     *
+     * @param numOfOccupiedBytes the number of bytes which are occupied by the decompressed pdf stream.
+     * @return this {@link MemoryLimitsAwareHandler} instance.
+     * @see MemoryLimitsAwareException
+     */
+    synchronized MemoryLimitsAwareHandler considerIncrementallyDecompressedPdfStream(long numOfOccupiedBytes) {
+        allMemoryUsedForDecompression += numOfOccupiedBytes;
+        if (allMemoryUsedForDecompression > maxSizeOfDecompressedPdfStreamsSum) {
+            throw new MemoryLimitsAwareException(
+                    KernelExceptionMessageConstant.DURING_DECOMPRESSION_MULTIPLE_STREAMS_IN_SUM_OCCUPIED_MORE_MEMORY_THAN_ALLOWED);
+        }
+        return this;
+    }
+
     long getAllMemoryUsedForDecompression() {
         return allMemoryUsedForDecompression;
     }
@@ -0,0 +1,131 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.kernel.pdf;
+
+import com.itextpdf.kernel.exceptions.KernelExceptionMessageConstant;
+import com.itextpdf.kernel.exceptions.MemoryLimitsAwareException;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Counts the bytes produced by a filter stage of an incrementally decoded pdf stream and enforces
+ * the limits of {@link MemoryLimitsAwareHandler} on them, the same way as they are enforced on
+ * the decompression into byte arrays.
+ * <p>
+ * Each stage is checked against the limit of the single decompressed pdf stream. The size of the largest stage
+ * is added to the sum of the decompressed pdf streams once the last stage is read to the end or closed.
+ */
+class MemoryLimitsAwareInputStream extends FilterInputStream {
+
+    private final MemoryLimitsAwareHandler handler;
+    private final MemoryLimitsAwareInputStream previousStage;
+    private long count;
+    private boolean lastStage;
+    private boolean considered;
+
+    /**
+     * Creates the stream.
+     *
+     * @param in            the decoded data of the filter stage
+     * @param handler       the handler which limits are enforced
+     * @param previousStage the stream of the previous filter stage, or {@code null} for the first stage
+     */
+    MemoryLimitsAwareInputStream(InputStream in, MemoryLimitsAwareHandler handler,
+            MemoryLimitsAwareInputStream previousStage) {
+        super(in);
+        this.handler = handler;
+        this.previousStage = previousStage;
+    }
+
+    /**
+     * Marks the stream as the last filter stage, which adds the decompressed size to the sum limit
+     * of the handler.
+     *
+     * @return this {@link MemoryLimitsAwareInputStream} instance
+     */
+    MemoryLimitsAwareInputStream setLastStage() {
+        this.lastStage = true;
+        return this;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        consider(b < 0 ? -1 : 1);
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int n = super.read(b, off, len);
+        consider(n);
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = super.skip(n);
+        consider(skipped);
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            considerDecompressedSize();
+        } finally {
+            super.close();
+        }
+    }
+
+    private void consider(long n) {
+        if (n < 0) {
+            considerDecompressedSize();
+            return;
+        }
+        count += n;
+        if (count > handler.getMaxSizeOfSingleDecompressedPdfStream()) {
+            throw new MemoryLimitsAwareException(
+                    KernelExceptionMessageConstant.DURING_DECOMPRESSION_SINGLE_STREAM_OCCUPIED_MORE_MEMORY_THAN_ALLOWED);
+        }
+    }
+
+    private void considerDecompressedSize() {
+        if (!lastStage || considered) {
+            return;
+        }
+        considered = true;
+        long maxStageSize = 0;
+        for (MemoryLimitsAwareInputStream stage = this; stage != null; stage = stage.previousStage) {
+            maxStageSize = Math.max(maxStageSize, stage.count);
+        }
+        handler.considerIncrementallyDecompressedPdfStream(maxStageSize);
+    }
+}
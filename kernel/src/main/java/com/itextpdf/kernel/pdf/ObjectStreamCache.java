@@ -0,0 +1,129 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.kernel.pdf;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps the decoded data and the offset tables of the recently read object streams of a {@link PdfReader},
+ * so that the objects of the same object stream can be re-read without decoding the stream again.
+ *
+ * <p>
+ * The size of the cache is limited by {@link ReaderProperties#setObjectStreamCacheSize(long)},
+ * the least recently used object streams are evicted first.
+ */
+final class ObjectStreamCache {
+
+    // Rough footprint of an entry besides the decoded data
+    private static final int ENTRY_SIZE = 64;
+
+    private final long maxSize;
+    // object streams by their numbers in the order of their use, the least recently used first
+    private final LinkedHashMap<Integer, ObjectStreamData> objectStreams = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long size = 0;
+    private long hitCount = 0;
+    private long missCount = 0;
+
+    ObjectStreamCache(long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Gets the cached data of the object stream and registers the cache hit or miss.
+     *
+     * @param objectStreamNumber the object number of the object stream
+     * @return the cached data or {@code null} if the object stream is not cached
+     */
+    synchronized ObjectStreamData get(int objectStreamNumber) {
+        ObjectStreamData data = objectStreams.get(objectStreamNumber);
+        if (data == null) {
+            ++missCount;
+        } else {
+            ++hitCount;
+        }
+        return data;
+    }
+
+    /**
+     * Puts the data of the object stream to the cache, evicting the least recently used object streams
+     * if the size of the cache is exceeded. The data which exceed the size of the cache on their own are not cached.
+     *
+     * @param objectStreamNumber the object number of the object stream
+     * @param data               the data of the object stream
+     */
+    synchronized void put(int objectStreamNumber, ObjectStreamData data) {
+        long dataSize = getSize(data);
+        if (dataSize > maxSize) {
+            return;
+        }
+        ObjectStreamData previous = objectStreams.put(objectStreamNumber, data);
+        if (previous != null) {
+            size -= getSize(previous);
+        }
+        size += dataSize;
+        Iterator<Map.Entry<Integer, ObjectStreamData>> iterator = objectStreams.entrySet().iterator();
+        while (size > maxSize && iterator.hasNext()) {
+            size -= getSize(iterator.next().getValue());
+            iterator.remove();
+        }
+    }
+
+    synchronized void clear() {
+        objectStreams.clear();
+        size = 0;
+    }
+
+    synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    synchronized long getMissCount() {
+        return missCount;
+    }
+
+    synchronized long getSize() {
+        return size;
+    }
+
+    private static long getSize(ObjectStreamData data) {
+        return ENTRY_SIZE + data.bytes.length + 8L * data.objNumbers.length;
+    }
+
+    /**
+     * The decoded data of an object stream along with the numbers and the offsets of the contained objects.
+     */
+    static final class ObjectStreamData {
+        final byte[] bytes;
+        final int[] objNumbers;
+        final int[] addresses;
+
+        ObjectStreamData(byte[] bytes, int[] objNumbers, int[] addresses) {
+            this.bytes = bytes;
+            this.objNumbers = objNumbers;
+            this.addresses = addresses;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.kernel.pdf;
+
+import com.itextpdf.kernel.exceptions.KernelExceptionMessageConstant;
+
+/**
+ * A {@link IStreamDataStorage} which keeps the stream data outside of the heap in the direct
+ * {@link java.nio.ByteBuffer} chunks of the fixed size.
+ * <p>
+ * The amount of the direct memory is limited by the {@code -XX:MaxDirectMemorySize} option of the JVM.
+ * The chunks are freed by the garbage collector once the streams are written.
+ */
+public class OffHeapStreamDataStorage implements IStreamDataStorage {
+
+    /**
+     * The default size of the chunks in bytes.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1024 * 1024;
+
+    private final int chunkSize;
+
+    /**
+     * Creates the storage with the default chunk size.
+     */
+    public OffHeapStreamDataStorage() {
+        this(DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates the storage.
+     *
+     * @param chunkSize the size of the chunks in bytes, shall be positive
+     */
+    public OffHeapStreamDataStorage(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException(KernelExceptionMessageConstant.CHUNK_SIZE_SHALL_BE_POSITIVE);
+        }
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public IStreamDataBuffer createBuffer() {
+        return new ChunkedStreamDataBuffer(chunkSize, true);
+    }
+}
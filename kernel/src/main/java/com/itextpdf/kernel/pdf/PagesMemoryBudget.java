@@ -0,0 +1,329 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.kernel.pdf;
+
+import com.itextpdf.io.source.ByteArrayOutputStream;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps the estimated memory retained by the pages of a {@link PdfDocument} within the budget
+ * set by {@link DocumentProperties#setPagesMemoryBudget(long, int)}, by flushing or releasing
+ * the least recently used pages.
+ *
+ * <p>
+ * The estimation covers the objects reachable from the page dictionaries which are loaded in memory
+ * and are not flushed: the dictionaries and arrays themselves and the data of the streams held in memory.
+ * An indirect object shared by several pages is attributed to the first of them which is estimated.
+ * The estimate of a page is kept until the page is used again. Since the content of a page is usually
+ * written or read right after the page is got, the page is estimated once more at the next check.
+ */
+final class PagesMemoryBudget {
+
+    // Rough per-object footprint of PdfDictionary, PdfArray and PdfPrimitiveObject instances
+    private static final int CONTAINER_SIZE = 64;
+    private static final int ENTRY_SIZE = 48;
+    private static final int PRIMITIVE_SIZE = 24;
+
+    private final PdfDocument document;
+    private final long maxRetainedMemory;
+    private final int minRetainedPages;
+
+    // pages in the order of their use, the least recently used first
+    private final LinkedHashSet<PdfPage> pages = new LinkedHashSet<>();
+
+    private final Map<PdfPage, PageEstimate> estimates = new HashMap<>();
+    // the pages the estimated indirect objects are attributed to
+    private final Map<PdfIndirectReference, PdfPage> owners = new IdentityHashMap<>();
+    private long retainedMemory = 0;
+
+    // pages used since the last check and pages used before it, which are estimated at the next check
+    private Set<PdfPage> usedPages = new LinkedHashSet<>();
+    private Set<PdfPage> previouslyUsedPages = new LinkedHashSet<>();
+
+    private int suspendCount = 0;
+    private boolean droppingPages = false;
+
+    PagesMemoryBudget(PdfDocument document, long maxRetainedMemory, int minRetainedPages) {
+        this.document = document;
+        this.maxRetainedMemory = maxRetainedMemory;
+        this.minRetainedPages = minRetainedPages;
+    }
+
+    /**
+     * Registers the use of the page. If the page is used for the first time, the budget is checked.
+     *
+     * @param page the page which is added to the document or is got from it
+     */
+    void pageUsed(PdfPage page) {
+        if (droppingPages || page == null || page.isFlushed()) {
+            return;
+        }
+        boolean newPage = !pages.remove(page);
+        pages.add(page);
+        usedPages.add(page);
+        if (newPage && suspendCount == 0) {
+            dropPagesOverBudget();
+        }
+    }
+
+    void pageRemoved(PdfPage page) {
+        pages.remove(page);
+        forget(page);
+    }
+
+    /**
+     * Prevents the pages from being dropped, e.g. while they are being copied.
+     * Each call shall be followed by the {@link #resume()} call.
+     */
+    void suspend() {
+        ++suspendCount;
+    }
+
+    void resume() {
+        if (--suspendCount == 0) {
+            dropPagesOverBudget();
+        }
+    }
+
+    long getRetainedMemory() {
+        removeDroppedPages();
+        estimatePages(previouslyUsedPages);
+        estimatePages(usedPages);
+        return retainedMemory;
+    }
+
+    private void dropPagesOverBudget() {
+        if (pages.size() <= minRetainedPages) {
+            return;
+        }
+        estimatePages(previouslyUsedPages);
+        estimatePages(usedPages);
+        previouslyUsedPages = usedPages;
+        usedPages = new LinkedHashSet<>();
+        droppingPages = true;
+        try {
+            Iterator<PdfPage> iterator = pages.iterator();
+            while (retainedMemory > maxRetainedMemory && pages.size() > minRetainedPages && iterator.hasNext()) {
+                PdfPage page = iterator.next();
+                iterator.remove();
+                forget(page);
+                // the pages flushed or released by the user are only forgotten when they are reached here
+                if (!isDropped(page)) {
+                    dropPage(page);
+                }
+            }
+        } finally {
+            droppingPages = false;
+        }
+    }
+
+    private void dropPage(PdfPage page) {
+        if (document.getWriter() == null || document.isAppendMode()) {
+            int pageNum = document.getPageNumber(page);
+            if (pageNum < 1) {
+                return;
+            }
+            PageFlushingHelper flushingHelper = new PageFlushingHelper(document);
+            if (document.getWriter() == null) {
+                flushingHelper.releaseDeep(pageNum);
+            } else {
+                flushingHelper.appendModeFlush(pageNum);
+            }
+        } else {
+            page.flush();
+        }
+    }
+
+    /**
+     * Forgets all the pages which were flushed or released by the user. Since it goes through all the tracked
+     * pages, it is only used when the retained memory is queried, otherwise such pages are forgotten
+     * when they are estimated or reached while dropping the pages.
+     */
+    private void removeDroppedPages() {
+        Iterator<PdfPage> iterator = pages.iterator();
+        while (iterator.hasNext()) {
+            PdfPage page = iterator.next();
+            if (isDropped(page)) {
+                iterator.remove();
+                forget(page);
+            }
+        }
+    }
+
+    private void estimatePages(Set<PdfPage> pagesToEstimate) {
+        List<PdfPage> droppedPages = null;
+        for (PdfPage page : pagesToEstimate) {
+            if (!pages.contains(page)) {
+                continue;
+            }
+            if (isDropped(page)) {
+                if (droppedPages == null) {
+                    droppedPages = new ArrayList<>();
+                }
+                droppedPages.add(page);
+                continue;
+            }
+            releaseEstimate(page);
+            PageEstimate estimate = estimateMemory(page);
+            estimates.put(page, estimate);
+            retainedMemory += estimate.memory;
+        }
+        if (droppedPages != null) {
+            for (PdfPage page : droppedPages) {
+                pages.remove(page);
+                forget(page);
+            }
+        }
+    }
+
+    private static boolean isDropped(PdfPage page) {
+        return page.isFlushed() || page.getPdfObject().getIndirectReference() == null;
+    }
+
+    private void forget(PdfPage page) {
+        releaseEstimate(page);
+        estimates.remove(page);
+        usedPages.remove(page);
+        previouslyUsedPages.remove(page);
+    }
+
+    /**
+     * Subtracts the estimate of the page from the retained memory and detaches the objects attributed to it,
+     * so that they can be attributed to other pages.
+     */
+    private void releaseEstimate(PdfPage page) {
+        PageEstimate estimate = estimates.get(page);
+        if (estimate == null) {
+            return;
+        }
+        retainedMemory -= estimate.memory;
+        for (PdfIndirectReference reference : estimate.ownedReferences) {
+            if (owners.get(reference) == page) {
+                owners.remove(reference);
+            }
+        }
+        estimate.memory = 0;
+        estimate.ownedReferences.clear();
+    }
+
+    private PageEstimate estimateMemory(PdfPage page) {
+        PdfDictionary pageDictionary = page.getPdfObject();
+        PageEstimate estimate = new PageEstimate();
+        Set<PdfObject> visited = Collections.newSetFromMap(new IdentityHashMap<PdfObject, Boolean>());
+        Deque<PdfObject> objects = new ArrayDeque<>();
+        objects.push(pageDictionary);
+        while (!objects.isEmpty()) {
+            PdfObject object = objects.pop();
+            if (object.isFlushed() || !visited.add(object)) {
+                continue;
+            }
+            // Other pages, e.g. the destinations of links, are estimated on their own
+            if (object != pageDictionary && object.isDictionary()
+                    && PdfName.Page.equals(((PdfDictionary) object).getAsName(PdfName.Type))) {
+                continue;
+            }
+            PdfIndirectReference reference = object.getIndirectReference();
+            if (reference != null) {
+                PdfPage owner = owners.get(reference);
+                if (owner != null && owner != page && estimates.containsKey(owner)) {
+                    continue;
+                }
+                owners.put(reference, page);
+                estimate.ownedReferences.add(reference);
+            }
+            switch (object.getType()) {
+                case PdfObject.STREAM:
+                    estimate.memory += getStreamDataSize((PdfStream) object);
+                    estimate.memory += estimateDictionary((PdfDictionary) object, pageDictionary, objects);
+                    break;
+                case PdfObject.DICTIONARY:
+                    estimate.memory += estimateDictionary((PdfDictionary) object, pageDictionary, objects);
+                    break;
+                case PdfObject.ARRAY: {
+                    PdfArray array = (PdfArray) object;
+                    estimate.memory += CONTAINER_SIZE + (long) ENTRY_SIZE * array.size();
+                    for (int i = 0; i < array.size(); i++) {
+                        pushIfLoaded(objects, array.get(i, false));
+                    }
+                    break;
+                }
+                default:
+                    estimate.memory += PRIMITIVE_SIZE;
+                    break;
+            }
+        }
+        return estimate;
+    }
+
+    private static long estimateDictionary(PdfDictionary dictionary, PdfDictionary pageDictionary,
+            Deque<PdfObject> objects) {
+        for (PdfName key : dictionary.keySet()) {
+            if (!PdfName.Parent.equals(key) || dictionary != pageDictionary) {
+                pushIfLoaded(objects, dictionary.get(key, false));
+            }
+        }
+        return CONTAINER_SIZE + (long) ENTRY_SIZE * dictionary.size();
+    }
+
+    private static void pushIfLoaded(Deque<PdfObject> objects, PdfObject object) {
+        if (object != null && object.isIndirectReference()) {
+            // The objects which are not read yet don't retain any memory
+            object = ((PdfIndirectReference) object).refersTo;
+        }
+        if (object != null) {
+            objects.push(object);
+        }
+    }
+
+    private static long getStreamDataSize(PdfStream stream) {
+        if (stream.hasPendingRawData()) {
+            // The data of the copied stream are kept in the source document until written
+            return 0;
+        }
+        PdfOutputStream outputStream = stream.getOutputStream();
+        if (outputStream != null && outputStream.getOutputStream() instanceof SpillingByteArrayOutputStream) {
+            // The data moved to the stream data storage are not kept on heap
+            return ((SpillingByteArrayOutputStream) outputStream.getOutputStream()).getHeapSize();
+        }
+        if (outputStream != null && outputStream.getOutputStream() instanceof ByteArrayOutputStream) {
+            return ((ByteArrayOutputStream) outputStream.getOutputStream()).size();
+        }
+        return 0;
+    }
+
+    private static final class PageEstimate {
+        long memory;
+        final List<PdfIndirectReference> ownedReferences = new ArrayList<>();
+    }
+}
@@ -0,0 +1,262 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.kernel.pdf;
+
+import com.itextpdf.io.source.ByteArrayOutputStream;
+import com.itextpdf.io.source.DeflaterOutputStream;
+
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Compresses the data of {@link PdfStream} objects on an {@link Executor} ahead of their serialization.
+ *
+ * <p>
+ * A stream is compressed from the snapshot of its data taken when its compression starts. The compressed data
+ * is used by {@link PdfOutputStream} only if the data and the compression level of the stream did not change
+ * since the submission, which is checked via the identity and the modification count of the buffer holding
+ * the data, otherwise the stream is compressed on write as usual. Thus the output is exactly the same as without
+ * this compressor, only the streams are deflated on the executor threads.
+ *
+ * <p>
+ * Since both the snapshot and the compressed data are kept until the stream is written, only a limited number
+ * of streams is compressed ahead at a time. The other submitted streams wait in the order of the submission,
+ * and are passed to the executor once the streams compressed ahead are written.
+ */
+class ParallelStreamCompressor {
+
+    /**
+     * Streams smaller than this are compressed on write, as it's cheaper than passing them to the executor.
+     */
+    private static final int MIN_STREAM_LENGTH = 4096;
+
+    /**
+     * The maximum number of the streams which are compressed ahead and not written yet.
+     */
+    static final int MAX_STREAMS_IN_FLIGHT = Math.max(2, 2 * Runtime.getRuntime().availableProcessors());
+
+    /**
+     * The maximum total size of the data of the streams which are compressed ahead and not written yet.
+     * A single stream exceeding it is still compressed ahead, if no other stream is.
+     */
+    static final long MAX_BYTES_IN_FLIGHT = 32L * 1024 * 1024;
+
+    private final Executor executor;
+
+    private final Map<PdfStream, CompressionTask> tasks = new IdentityHashMap<>();
+
+    // the streams which wait for the compression, in the order of the submission
+    private final Deque<PdfStream> waitingStreams = new ArrayDeque<>();
+    private final Map<PdfStream, Integer> waitingCompressionLevels = new IdentityHashMap<>();
+
+    private long bytesInFlight = 0;
+
+    ParallelStreamCompressor(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Submits the compression of the stream data, if the stream is going to be compressed on write.
+     * The stream is compressed once the streams compressed ahead of it are written, see {@link #take}.
+     *
+     * @param stream                  the stream to compress
+     * @param defaultCompressionLevel the compression level of the writer
+     */
+    void submit(PdfStream stream, int defaultCompressionLevel) {
+        if (tasks.containsKey(stream) || waitingCompressionLevels.containsKey(stream)
+                || getCompressionLevelOnWrite(stream, defaultCompressionLevel) == CompressionConstants.NO_COMPRESSION
+                || getDataSize(stream) < MIN_STREAM_LENGTH) {
+            return;
+        }
+        waitingStreams.addLast(stream);
+        waitingCompressionLevels.put(stream, defaultCompressionLevel);
+        startWaitingTasks();
+    }
+
+    /**
+     * Gets the compressed data of the stream, waiting for its compression if it is running already.
+     *
+     * @param stream           the stream which is being written
+     * @param compressionLevel the compression level the stream is going to be written with
+     * @return the compressed data, or {@code null} if the stream wasn't submitted, or its compression hasn't
+     * started yet, or its data or compression level were changed after the submission, or the compression failed
+     */
+    ByteArrayOutputStream take(PdfStream stream, int compressionLevel) {
+        // the stream whose compression hasn't started yet is compressed on write
+        waitingCompressionLevels.remove(stream);
+        CompressionTask task = tasks.remove(stream);
+        if (task == null) {
+            return null;
+        }
+        bytesInFlight -= task.sourceSize;
+        try {
+            if (task.compressionLevel != compressionLevel || stream.getOutputStream() == null
+                    || stream.getOutputStream().getOutputStream() != task.source
+                    || task.source.getModificationCount() != task.sourceModificationCount || isSpilled(stream)) {
+                task.cancel(false);
+                return null;
+            }
+            try {
+                return task.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            } catch (ExecutionException e) {
+                return null;
+            } catch (CancellationException e) {
+                return null;
+            }
+        } finally {
+            startWaitingTasks();
+        }
+    }
+
+    /**
+     * Discards the compressed data of the streams which were not written.
+     */
+    void clear() {
+        for (CompressionTask task : tasks.values()) {
+            task.cancel(false);
+        }
+        tasks.clear();
+        waitingStreams.clear();
+        waitingCompressionLevels.clear();
+        bytesInFlight = 0;
+    }
+
+    private void startWaitingTasks() {
+        while (!waitingStreams.isEmpty() && tasks.size() < MAX_STREAMS_IN_FLIGHT
+                && (tasks.isEmpty() || bytesInFlight < MAX_BYTES_IN_FLIGHT)) {
+            PdfStream stream = waitingStreams.removeFirst();
+            Integer defaultCompressionLevel = waitingCompressionLevels.remove(stream);
+            if (defaultCompressionLevel == null) {
+                // the stream has been written already
+                continue;
+            }
+            // the stream may have been changed while it was waiting
+            int compressionLevel = getCompressionLevelOnWrite(stream, (int) defaultCompressionLevel);
+            if (compressionLevel == CompressionConstants.NO_COMPRESSION) {
+                continue;
+            }
+            ByteArrayOutputStream data = (ByteArrayOutputStream) stream.getOutputStream().getOutputStream();
+            CompressionTask task = new CompressionTask(data, compressionLevel);
+            try {
+                executor.execute(task);
+            } catch (RejectedExecutionException e) {
+                continue;
+            }
+            tasks.put(stream, task);
+            bytesInFlight += task.sourceSize;
+        }
+    }
+
+    private static int getDataSize(PdfStream stream) {
+        return ((ByteArrayOutputStream) stream.getOutputStream().getOutputStream()).size();
+    }
+
+    /**
+     * Gets the compression level which {@link PdfOutputStream} is going to compress the stream data with,
+     * or {@link CompressionConstants#NO_COMPRESSION} if the data are not going to be compressed on write.
+     */
+    private static int getCompressionLevelOnWrite(PdfStream stream, int defaultCompressionLevel) {
+        // The data which are still in the source document are compressed on write if needed
+        if (stream.isFlushed() || stream instanceof PdfObjectStream || stream.getInputStream() != null
+                || stream.hasPendingRawData() || stream.getOutputStream() == null
+                || !(stream.getOutputStream().getOutputStream() instanceof ByteArrayOutputStream)
+                || isSpilled(stream)) {
+            return CompressionConstants.NO_COMPRESSION;
+        }
+        boolean userDefinedCompression = stream.getCompressionLevel() != CompressionConstants.UNDEFINED_COMPRESSION;
+        if (!userDefinedCompression) {
+            // Filtered streams and metadata are compressed only if the compression level is set explicitly
+            if (stream.containsKey(PdfName.Filter) || PdfName.Metadata.equals(stream.getAsName(PdfName.Type))) {
+                return CompressionConstants.NO_COMPRESSION;
+            }
+            return defaultCompressionLevel;
+        }
+        PdfObject decodeParms = stream.get(PdfName.DecodeParms, false);
+        if (!isFilterCompressible(stream.get(PdfName.Filter, false))
+                || decodeParms != null && (decodeParms.isFlushed() || decodeParms.isIndirectReference())) {
+            return CompressionConstants.NO_COMPRESSION;
+        }
+        return stream.getCompressionLevel();
+    }
+
+    /**
+     * Checks if the stream data are kept in the stream data storage, in which case they are compressed on write
+     * to avoid loading them to the heap.
+     */
+    private static boolean isSpilled(PdfStream stream) {
+        OutputStream data = stream.getOutputStream().getOutputStream();
+        return data instanceof SpillingByteArrayOutputStream && ((SpillingByteArrayOutputStream) data).isSpilled();
+    }
+
+    private static boolean isFilterCompressible(PdfObject filter) {
+        if (filter == null) {
+            return true;
+        }
+        if (filter.isFlushed() || filter.isIndirectReference()) {
+            return false;
+        }
+        if (filter.isArray()) {
+            for (PdfObject element : (PdfArray) filter) {
+                if (element.isFlushed()) {
+                    return false;
+                }
+            }
+            return !((PdfArray) filter).contains(PdfName.FlateDecode);
+        }
+        return !PdfName.FlateDecode.equals(filter);
+    }
+
+    private static final class CompressionTask extends FutureTask<ByteArrayOutputStream> {
+        final ByteArrayOutputStream source;
+        final long sourceModificationCount;
+        final int sourceSize;
+        final int compressionLevel;
+
+        CompressionTask(final ByteArrayOutputStream source, final int compressionLevel) {
+            super(() -> {
+                // the snapshot is taken only when the compression starts, so that the waiting tasks don't keep it
+                byte[] data = source.toByteArray();
+                ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(data.length / 4, 32));
+                DeflaterOutputStream zip = new DeflaterOutputStream(compressed, compressionLevel);
+                zip.write(data);
+                zip.finish();
+                return compressed;
+            });
+            this.source = source;
+            this.sourceModificationCount = source.getModificationCount();
+            this.sourceSize = source.size();
+            this.compressionLevel = compressionLevel;
+        }
+    }
+}
@@ -0,0 +1,316 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.kernel.pdf;
+
+import com.itextpdf.io.source.ByteBuffer;
+import com.itextpdf.io.source.IRandomAccessSource;
+import com.itextpdf.io.source.PdfTokenizer;
+import com.itextpdf.io.source.RandomAccessFileOrArray;
+import com.itextpdf.kernel.pdf.PdfReader.ReusableRandomAccessSource;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Scans the document for the beginnings of the indirect objects and the trailers on an {@link Executor},
+ * which is used to rebuild the cross-reference table of a damaged document.
+ *
+ * <p>
+ * The document is split into chunks which are read with bulk reads and scanned in parallel, and the results are
+ * merged in the order of the chunks. The lines are recognized exactly as {@link PdfReader#rebuildXref()} recognizes
+ * them when it reads the document line by line with {@link PdfTokenizer#readLineSegment(ByteBuffer, boolean)}, so
+ * the rebuilt cross-reference table is the same.
+ */
+final class ParallelXrefScanner {
+
+    static final int DEFAULT_CHUNK_SIZE = 4 * 1024 * 1024;
+
+    // the capacity of the line buffer PdfReader#rebuildXref reads the lines to
+    private static final int LINE_BUFFER_CAPACITY = 24;
+    // lines starting in a chunk are read from the chunk data unless they are longer
+    private static final int CHUNK_OVERLAP = 256;
+    // the whitespaces preceding a chunk are read backwards by blocks of this size
+    private static final int LOOKBEHIND_BLOCK_SIZE = 4096;
+
+    private final Executor executor;
+    private final int chunkSize;
+
+    ParallelXrefScanner(Executor executor, int chunkSize) {
+        this.executor = executor;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Scans the document.
+     *
+     * @param source the source of the document, which shall support concurrent reads
+     * @return the found objects and trailers in the order of their positions
+     * @throws IOException on error
+     */
+    ScanResult scan(IRandomAccessSource source) throws IOException {
+        long length = source.length();
+        List<FutureTask<ScanResult>> tasks = new ArrayList<>();
+        for (long start = 0; start < length; start += chunkSize) {
+            final long chunkStart = start;
+            final long chunkEnd = Math.min(length, start + chunkSize);
+            FutureTask<ScanResult> task = new FutureTask<>(new Callable<ScanResult>() {
+                @Override
+                public ScanResult call() throws IOException {
+                    return scanChunk(source, chunkStart, chunkEnd);
+                }
+            });
+            try {
+                executor.execute(task);
+            } catch (RejectedExecutionException e) {
+                task.run();
+            }
+            tasks.add(task);
+        }
+
+        ScanResult result = new ScanResult();
+        try {
+            for (FutureTask<ScanResult> task : tasks) {
+                result.append(getResult(task));
+            }
+        } finally {
+            for (FutureTask<ScanResult> task : tasks) {
+                task.cancel(false);
+            }
+        }
+        return result;
+    }
+
+    private static ScanResult getResult(FutureTask<ScanResult> task) throws IOException {
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    static ScanResult scanChunk(IRandomAccessSource source, long start, long end) throws IOException {
+        ScanResult result = new ScanResult();
+        ChunkData data = new ChunkData(source, start,
+                (int) Math.min(source.length() - start, end - start + CHUNK_OVERLAP));
+        ByteBuffer line = new ByteBuffer(LINE_BUFFER_CAPACITY);
+        PdfTokenizer lineTokenizer = new PdfTokenizer(
+                new RandomAccessFileOrArray(new ReusableRandomAccessSource(line)));
+
+        // the position the line-by-line reading reads the next line from, or -1 if the position is inside a line;
+        // the leading whitespaces, including empty lines, belong to the line
+        long lineStart = findLineStart(source, start);
+        for (long pos = start; pos < end; ++pos) {
+            int b = data.get(pos);
+            if (lineStart >= 0) {
+                if (PdfTokenizer.isWhitespace(b)) {
+                    continue;
+                }
+                if (b == 't' || b >= '0' && b <= '9') {
+                    readLine(data, pos, line);
+                    if (b == 't') {
+                        if (PdfTokenizer.checkTrailer(line)) {
+                            result.addTrailer(lineStart);
+                        }
+                    } else {
+                        int[] obj = PdfTokenizer.checkObjectStart(lineTokenizer);
+                        if (obj != null) {
+                            result.addObject(obj[0], obj[1], lineStart);
+                        }
+                    }
+                }
+                lineStart = -1;
+            }
+            if (b == '\n') {
+                lineStart = pos + 1;
+            } else if (b == '\r') {
+                lineStart = data.get(pos + 1) == '\n' ? pos + 2 : pos + 1;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Finds the position the line-by-line reading reads the line containing the given position from, if the line
+     * has only whitespaces before the position, i.e. the position just after the first end of line following the last
+     * non-whitespace character, or the beginning of the document.
+     *
+     * @return the position of the line start, or -1 if there are other characters before the position in the line
+     */
+    private static long findLineStart(IRandomAccessSource source, long pos) throws IOException {
+        long firstEol = -1;
+        byte[] block = new byte[LOOKBEHIND_BLOCK_SIZE];
+        long blockEnd = pos;
+        while (blockEnd > 0) {
+            long blockStart = Math.max(0, blockEnd - block.length);
+            int blockLength = (int) (blockEnd - blockStart);
+            readFully(source, blockStart, block, blockLength);
+            for (int i = blockLength - 1; i >= 0; --i) {
+                int b = block[i] & 0xff;
+                if (b == '\n' || b == '\r') {
+                    firstEol = blockStart + i;
+                } else if (!PdfTokenizer.isWhitespace(b)) {
+                    if (firstEol < 0) {
+                        return -1;
+                    }
+                    return source.get(firstEol) == '\r' && source.get(firstEol + 1) == '\n'
+                            ? firstEol + 2 : firstEol + 1;
+                }
+            }
+            blockEnd = blockStart;
+        }
+        return 0;
+    }
+
+    private static int readFully(IRandomAccessSource source, long pos, byte[] bytes, int length) throws IOException {
+        int read = 0;
+        while (read < length) {
+            int n = source.get(pos + read, bytes, read, length - read);
+            if (n <= 0) {
+                break;
+            }
+            read += n;
+        }
+        return read;
+    }
+
+    /**
+     * Reads the line starting at the position exactly as {@link PdfTokenizer#readLineSegment(ByteBuffer, boolean)}
+     * reads it: consecutive spaces are collapsed and the line is truncated to the capacity of the buffer.
+     */
+    private static void readLine(ChunkData data, long pos, ByteBuffer line) throws IOException {
+        line.reset();
+        boolean prevWasWhitespace = false;
+        for (int c = data.get(pos); c != -1 && c != '\n' && c != '\r' && line.size() < line.capacity();
+                c = data.get(++pos)) {
+            if (c == 9 || c == 12 || c == 32) {
+                if (prevWasWhitespace) {
+                    continue;
+                }
+                prevWasWhitespace = true;
+            } else {
+                prevWasWhitespace = false;
+            }
+            line.append((byte) c);
+        }
+    }
+
+    /**
+     * The data of a chunk of the document, which are read at once.
+     */
+    private static final class ChunkData {
+        private final IRandomAccessSource source;
+        private final long start;
+        private final byte[] bytes;
+        private final int length;
+
+        ChunkData(IRandomAccessSource source, long start, int length) throws IOException {
+            this.source = source;
+            this.start = start;
+            this.bytes = new byte[Math.max(0, length)];
+            this.length = readFully(source, start, bytes, bytes.length);
+        }
+
+        int get(long pos) throws IOException {
+            long index = pos - start;
+            if (index >= 0 && index < length) {
+                return bytes[(int) index] & 0xff;
+            }
+            return source.get(pos);
+        }
+    }
+
+    /**
+     * The positions of the indirect objects and the trailers found in the document.
+     */
+    static final class ScanResult {
+        // object number and generation, and position of each found object
+        private long[] objects = new long[32];
+        private int objectCount = 0;
+        private final List<Long> trailers = new ArrayList<>();
+
+        int getObjectCount() {
+            return objectCount;
+        }
+
+        int getObjectNumber(int index) {
+            return (int) (objects[2 * index] >>> 32);
+        }
+
+        int getGenerationNumber(int index) {
+            return (int) objects[2 * index];
+        }
+
+        long getObjectPosition(int index) {
+            return objects[2 * index + 1];
+        }
+
+        /**
+         * Gets the positions of the lines starting with the trailer keyword.
+         */
+        List<Long> getTrailers() {
+            return trailers;
+        }
+
+        void addObject(int num, int gen, long pos) {
+            if (2 * objectCount + 2 > objects.length) {
+                long[] extended = new long[objects.length * 2];
+                System.arraycopy(objects, 0, extended, 0, objects.length);
+                objects = extended;
+            }
+            objects[2 * objectCount] = (long) num << 32 | gen & 0xffffffffL;
+            objects[2 * objectCount + 1] = pos;
+            ++objectCount;
+        }
+
+        void addTrailer(long pos) {
+            trailers.add(pos);
+        }
+
+        void append(ScanResult other) {
+            for (int i = 0; i < other.objectCount; ++i) {
+                addObject(other.getObjectNumber(i), other.getGenerationNumber(i), other.getObjectPosition(i));
+            }
+            trailers.addAll(other.trailers);
+        }
+    }
+}
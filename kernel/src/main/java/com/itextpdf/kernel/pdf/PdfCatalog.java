@@ -60,7 +60,7 @@ public class PdfCatalog extends PdfObjectWrapper<PdfDictionary> {
     private static final Set<PdfName> PAGE_LAYOUTS = Collections.unmodifiableSet(new HashSet<>(
             Arrays.asList(PdfName.SinglePage, PdfName.OneColumn, PdfName.TwoColumnLeft,
                     PdfName.TwoColumnRight, PdfName.TwoPageLeft, PdfName.TwoPageRight)));
-    final private PdfPagesTree pageTree;
+    private volatile PdfPagesTree pageTree;
     /**
      * Map of the {@link PdfNameTree}. Used for creation {@code name tree}  dictionary.
      */
@@ -96,7 +96,11 @@ public class PdfCatalog extends PdfObjectWrapper<PdfDictionary> {
         ensureObjectIsAddedToDocument(pdfObject);
         getPdfObject().put(PdfName.Type, PdfName.Catalog);
         setForbidRelease();
-        pageTree = new PdfPagesTree(this);
+        // In metadata-only mode the page tree is not needed unless the pages are accessed
+        PdfDocument document = getDocument();
+        if (document == null || !document.isMetadataOnlyMode()) {
+            pageTree = new PdfPagesTree(this);
+        }
     }
 
     /**
@@ -464,7 +468,17 @@ public class PdfCatalog extends PdfObjectWrapper<PdfDictionary> {
         this.ocgCopied = ocgCopied;
     }
     PdfPagesTree getPageTree() {
-        return pageTree;
+        PdfPagesTree tree = pageTree;
+        if (tree == null) {
+            synchronized (this) {
+                tree = pageTree;
+                if (tree == null) {
+                    tree = new PdfPagesTree(this);
+                    pageTree = tree;
+                }
+            }
+        }
+        return tree;
     }
 
     /**
@@ -42,7 +42,7 @@ import java.util.TreeMap;
  */
 public class PdfDictionary extends PdfObject {
 
-    private Map<PdfName, PdfObject> map = new TreeMap<>();
+    private Map<PdfName, PdfObject> map = new CompactPdfNameMap();
 
     /**
      * Creates a new PdfDictionary instance.
@@ -152,6 +152,11 @@ public class PdfDocument implements IEventDispatcher, Closeable {
     protected SerializeOptions serializeOptions = new SerializeOptions();
     protected PdfStructTreeRoot structTreeRoot;
     protected int structParentIndex = -1;
+
+    // the tag structure of the document opened in metadata-only mode is initialized on first access
+    private volatile boolean tagStructureInitDeferred = false;
+
+    private long openingTimeNanos;
     protected boolean closeReader = true;
     protected boolean closeWriter = true;
     protected boolean isClosing = false;
@@ -184,6 +189,7 @@ public class PdfDocument implements IEventDispatcher, Closeable {
     private PdfString modifiedDocumentId;
     private PdfFont defaultFont = null;
     private EncryptedEmbeddedStreamsHandler encryptedEmbeddedStreamsHandler;
+    private PagesMemoryBudget pagesMemoryBudget;
 
     private final DIContainer diContainer = new DIContainer();
 
@@ -211,6 +217,7 @@ public class PdfDocument implements IEventDispatcher, Closeable {
         // default values of the StampingProperties doesn't affect anything
         this.properties = new StampingProperties();
         this.properties.setEventCountingMetaInfo(properties.metaInfo);
+        this.properties.setPagesMemoryBudget(properties.maxRetainedPagesMemory, properties.minRetainedPages);
         open(null);
     }
 
@@ -240,6 +247,7 @@ public class PdfDocument implements IEventDispatcher, Closeable {
         // default values of the StampingProperties doesn't affect anything
         this.properties = new StampingProperties();
         this.properties.setEventCountingMetaInfo(properties.metaInfo);
+        this.properties.setPagesMemoryBudget(properties.maxRetainedPagesMemory, properties.minRetainedPages);
         open(writer.properties.pdfVersion);
     }
 
@@ -389,7 +397,12 @@ public class PdfDocument implements IEventDispatcher, Closeable {
      */
     public PdfPage getPage(int pageNum) {
         checkClosingStatus();
-        return catalog.getPageTree().getPage(pageNum);
+        if (isConcurrentReading()) {
+            synchronized (reader.getReadingLock()) {
+                return catalog.getPageTree().getPage(pageNum);
+            }
+        }
+        return notifyPageUsed(catalog.getPageTree().getPage(pageNum));
     }
 
     /**
@@ -401,7 +414,12 @@ public class PdfDocument implements IEventDispatcher, Closeable {
      */
     public PdfPage getPage(PdfDictionary pageDictionary) {
         checkClosingStatus();
-        return catalog.getPageTree().getPage(pageDictionary);
+        if (isConcurrentReading()) {
+            synchronized (reader.getReadingLock()) {
+                return catalog.getPageTree().getPage(pageDictionary);
+            }
+        }
+        return notifyPageUsed(catalog.getPageTree().getPage(pageDictionary));
     }
 
     /**
@@ -423,6 +441,18 @@ public class PdfDocument implements IEventDispatcher, Closeable {
         return getPage(getNumberOfPages());
     }
 
+    /**
+     * Gets the estimated memory, in bytes, retained by the pages of the document which are in use,
+     * see {@link DocumentProperties#setPagesMemoryBudget(long, int)}. The pages are tracked only if
+     * the pages memory budget is set, otherwise 0 is returned.
+     *
+     * @return the estimated memory retained by the pages in bytes
+     */
+    public long getRetainedPagesMemory() {
+        checkClosingStatus();
+        return pagesMemoryBudget == null ? 0 : pagesMemoryBudget.getRetainedMemory();
+    }
+
     /**
      * Gets current memory limits handler
      *
@@ -552,6 +582,11 @@ public class PdfDocument implements IEventDispatcher, Closeable {
      */
     public int getPageNumber(PdfPage page) {
         checkClosingStatus();
+        if (isConcurrentReading()) {
+            synchronized (reader.getReadingLock()) {
+                return catalog.getPageTree().getPageNumber(page);
+            }
+        }
         return catalog.getPageTree().getPageNumber(page);
     }
 
@@ -563,6 +598,11 @@ public class PdfDocument implements IEventDispatcher, Closeable {
      * @return page number by {@link PdfDictionary}.
      */
     public int getPageNumber(PdfDictionary pageDictionary) {
+        if (isConcurrentReading()) {
+            synchronized (reader.getReadingLock()) {
+                return catalog.getPageTree().getPageNumber(pageDictionary);
+            }
+        }
         return catalog.getPageTree().getPageNumber(pageDictionary);
     }
 
@@ -654,6 +694,9 @@ public class PdfDocument implements IEventDispatcher, Closeable {
             }
 
             dispatchEvent(new PdfDocumentEvent(PdfDocumentEvent.REMOVE_PAGE, removedPage));
+            if (pagesMemoryBudget != null) {
+                pagesMemoryBudget.pageRemoved(removedPage);
+            }
         }
 
         catalog.getPageTree().removePage(pageNum);
@@ -797,6 +840,17 @@ public class PdfDocument implements IEventDispatcher, Closeable {
         return reader;
     }
 
+    /**
+     * Gets the time spent on opening the document, i.e. on reading the document structure and initializing
+     * the document in the constructor. Useful to monitor the open latency, e.g. of the documents opened with
+     * {@link ReaderProperties#setMetadataOnlyMode(boolean)}.
+     *
+     * @return the opening time in nanoseconds
+     */
+    public long getOpeningTimeNanos() {
+        return openingTimeNanos;
+    }
+
     /**
      * Returns {@code true} if the document is opened in append mode, and {@code false} otherwise.
      *
@@ -845,6 +899,7 @@ public class PdfDocument implements IEventDispatcher, Closeable {
             return;
         }
         isClosing = true;
+        pagesMemoryBudget = null;
         try {
             if (writer != null) {
                 if (catalog.isFlushed()) {
@@ -940,7 +995,7 @@ public class PdfDocument implements IEventDispatcher, Closeable {
 
                     writer.flushModifiedWaitingObjects(forbiddenToFlush);
                     for (int i = 0; i < xref.size(); i++) {
-                        PdfIndirectReference indirectReference = xref.get(i);
+                        PdfIndirectReference indirectReference = xref.getIfCreated(i);
                         if (indirectReference != null && !indirectReference.isFree() && indirectReference.checkState(
                                 PdfObject.MODIFIED) && !indirectReference.checkState(PdfObject.FLUSHED)
                                 && !forbiddenToFlush.contains(indirectReference)) {
@@ -964,6 +1019,7 @@ public class PdfDocument implements IEventDispatcher, Closeable {
                         }
                     }
 
+                    writer.compressStreamsAhead(forbiddenToFlush, false);
                     for (int pageNum = 1; pageNum <= getNumberOfPages(); pageNum++) {
                         PdfPage page = getPage(pageNum);
                         if (page != null) {
@@ -1022,6 +1078,7 @@ public class PdfDocument implements IEventDispatcher, Closeable {
                         ByteUtils.getIsoBytes(modifiedDocumentId.getValue()), this.properties.preserveEncryption);
                 xref.writeXrefTableAndTrailer(this, fileId, crypto);
                 writer.flush();
+                writer.linearize();
                 if (writer.getOutputStream() instanceof CountOutputStream) {
                     long amountOfBytes = ((CountOutputStream) writer.getOutputStream()).getAmountOfWrittenBytes();
                     manager.onEvent(new SizeOfPdfStatisticsEvent(amountOfBytes, ITextCoreProductData.getInstance()));
@@ -1069,6 +1126,7 @@ public class PdfDocument implements IEventDispatcher, Closeable {
      * @return true, if the document has tag structure, otherwise false.
      */
     public boolean isTagged() {
+        initDeferredTagStructure();
         return structTreeRoot != null;
     }
 
@@ -1080,6 +1138,7 @@ public class PdfDocument implements IEventDispatcher, Closeable {
      */
     public PdfDocument setTagged() {
         checkClosingStatus();
+        initDeferredTagStructure();
         if (structTreeRoot == null) {
             structTreeRoot = new PdfStructTreeRoot(this);
             catalog.getPdfObject().put(PdfName.StructTreeRoot, structTreeRoot.getPdfObject());
@@ -1099,6 +1158,7 @@ public class PdfDocument implements IEventDispatcher, Closeable {
      * @see #getNextStructParentIndex()
      */
     public PdfStructTreeRoot getStructTreeRoot() {
+        initDeferredTagStructure();
         return structTreeRoot;
     }
 
@@ -1111,6 +1171,7 @@ public class PdfDocument implements IEventDispatcher, Closeable {
      * @see #getNextStructParentIndex()
      */
     public int getNextStructParentIndex() {
+        initDeferredTagStructure();
         return structParentIndex < 0 ? -1 : structParentIndex++;
     }
 
@@ -1286,6 +1347,29 @@ public class PdfDocument implements IEventDispatcher, Closeable {
         if (pagesToCopy.isEmpty()) {
             return Collections.<PdfPage>emptyList();
         }
+        // The copied pages and their copies are used until the whole range is copied, so they must not be dropped
+        PagesMemoryBudget sourceBudget = pagesMemoryBudget;
+        PagesMemoryBudget destinationBudget = toDocument.pagesMemoryBudget;
+        if (sourceBudget != null) {
+            sourceBudget.suspend();
+        }
+        if (destinationBudget != null) {
+            destinationBudget.suspend();
+        }
+        try {
+            return copyPagesToWithoutDroppingPages(pagesToCopy, toDocument, insertBeforePage, copier);
+        } finally {
+            if (sourceBudget != null) {
+                sourceBudget.resume();
+            }
+            if (destinationBudget != null) {
+                destinationBudget.resume();
+            }
+        }
+    }
+
+    private List<PdfPage> copyPagesToWithoutDroppingPages(List<Integer> pagesToCopy, PdfDocument toDocument,
+            int insertBeforePage, IPdfPageExtraCopier copier) {
         pendingDestinationMutations.clear();
         checkClosingStatus();
         List<PdfPage> copiedPages = new ArrayList<>();
@@ -1421,6 +1505,27 @@ public class PdfDocument implements IEventDispatcher, Closeable {
         }
     }
 
+    /**
+     * Flushes the copied streams whose data are still to be transferred as is from the source document.
+     * <p>
+     * The data of such streams are lost with the source document, so once it is closed, they have to be read into
+     * memory. Flushing the streams before closing the source document writes their data directly to the output
+     * instead. Note, that the flushed streams can't be modified anymore.
+     *
+     * @param sourceDoc source document
+     */
+    public void flushCopiedStreams(PdfDocument sourceDoc) {
+        if (getWriter() == null || sourceDoc.getReader() == null) {
+            return;
+        }
+        for (PdfStream copy : sourceDoc.getReader().getPendingRawDataCopies()) {
+            PdfIndirectReference reference = copy.getIndirectReference();
+            if (reference != null && reference.getDocument() == this) {
+                copy.flush();
+            }
+        }
+    }
+
     /**
      * Checks, whether {@link #close()} method will close associated PdfReader.
      *
@@ -2042,6 +2147,7 @@ public class PdfDocument implements IEventDispatcher, Closeable {
      *                      or {@code null} otherwise
      */
     protected void open(PdfVersion newPdfVersion) {
+        long openingStartTime = System.nanoTime();
         this.fingerPrint = new FingerPrint();
         this.encryptedEmbeddedStreamsHandler = new EncryptedEmbeddedStreamsHandler(this);
 
@@ -2055,6 +2161,12 @@ public class PdfDocument implements IEventDispatcher, Closeable {
                 if (reader.pdfDocument != null) {
                     throw new PdfException(KernelExceptionMessageConstant.PDF_READER_HAS_BEEN_ALREADY_UTILIZED);
                 }
+                if (writer != null && reader.isConcurrentReading()) {
+                    throw new PdfException(KernelExceptionMessageConstant.CONCURRENT_READING_REQUIRES_READING_MODE);
+                }
+                if (writer != null && reader.isMetadataOnlyMode()) {
+                    throw new PdfException(KernelExceptionMessageConstant.METADATA_ONLY_MODE_REQUIRES_READING_MODE);
+                }
                 reader.pdfDocument = this;
                 memoryLimitsAwareHandler = reader.properties.memoryLimitsAwareHandler;
                 if (null == memoryLimitsAwareHandler) {
@@ -2088,16 +2200,24 @@ public class PdfDocument implements IEventDispatcher, Closeable {
                     }
                 }
 
-                PdfDictionary str = catalog.getPdfObject().getAsDictionary(PdfName.StructTreeRoot);
-                if (str != null) {
-                    tryInitTagStructure(str);
+                if (reader.isMetadataOnlyMode()) {
+                    tagStructureInitDeferred = true;
+                } else {
+                    PdfDictionary str = catalog.getPdfObject().getAsDictionary(PdfName.StructTreeRoot);
+                    if (str != null) {
+                        tryInitTagStructure(str);
+                    }
                 }
                 if (properties.appendMode && (reader.hasRebuiltXref() || reader.hasFixedXref())) {
                     throw new PdfException(
                             KernelExceptionMessageConstant.APPEND_MODE_REQUIRES_A_DOCUMENT_WITHOUT_ERRORS_EVEN_IF_RECOVERY_IS_POSSIBLE);
                 }
             }
-            xref.initFreeReferencesList(this);
+            if (reader != null && reader.isMetadataOnlyMode()) {
+                xref.deferFreeReferencesListInitialization(this);
+            } else {
+                xref.initFreeReferencesList(this);
+            }
             if (writer != null) {
                 if (reader != null && reader.hasXrefStm() && writer.properties.isFullCompression == null) {
                     writer.properties.isFullCompression = true;
@@ -2162,6 +2282,9 @@ public class PdfDocument implements IEventDispatcher, Closeable {
                 assert modifiedDocumentId != null;
             }
             if (properties.appendMode) {
+                if (writer.isLinearized()) {
+                    throw new PdfException(KernelExceptionMessageConstant.LINEARIZATION_IS_NOT_SUPPORTED_IN_APPEND_MODE);
+                }
                 // Due to constructor reader and writer not null.
                 assert reader != null;
                 RandomAccessFileOrArray file = reader.tokens.getSafeFile();
@@ -2206,6 +2329,10 @@ public class PdfDocument implements IEventDispatcher, Closeable {
                 if (writer.crypto == null) {
                     writer.initCryptoIfSpecified(pdfVersion);
                 }
+                if (writer.crypto != null && writer.isLinearized()) {
+                    throw new PdfException(
+                            KernelExceptionMessageConstant.LINEARIZATION_IS_NOT_SUPPORTED_FOR_ENCRYPTED_DOCUMENTS);
+                }
                 if (writer.crypto != null) {
                     if (!embeddedStreamsSavedOnReading && writer.crypto.isEmbeddedFilesOnly()) {
                         encryptedEmbeddedStreamsHandler.storeAllEmbeddedStreams();
@@ -2222,10 +2349,15 @@ public class PdfDocument implements IEventDispatcher, Closeable {
                     }
                 }
             }
+            if (properties.maxRetainedPagesMemory > 0 && !isConcurrentReading()) {
+                pagesMemoryBudget = new PagesMemoryBudget(this, properties.maxRetainedPagesMemory,
+                        properties.minRetainedPages);
+            }
             if (EventConfirmationType.ON_DEMAND == event.getConfirmationType()) {
                 // Event confirmation: opening has passed successfully
                 EventManager.getInstance().onEvent(new ConfirmEvent(event));
             }
+            openingTimeNanos = System.nanoTime() - openingStartTime;
         } catch (IOException e) {
             throw new PdfException(KernelExceptionMessageConstant.CANNOT_OPEN_DOCUMENT, e, this);
         }
@@ -2338,6 +2470,7 @@ public class PdfDocument implements IEventDispatcher, Closeable {
                     page.getDocument(), page.getDocument().getPageNumber(page), this);
         }
         catalog.getPageTree().addPage(index, page);
+        notifyPageUsed(page);
     }
 
     /**
@@ -2356,6 +2489,7 @@ public class PdfDocument implements IEventDispatcher, Closeable {
                     page.getDocument(), page.getDocument().getPageNumber(page), this);
         }
         catalog.getPageTree().addPage(page);
+        notifyPageUsed(page);
     }
 
     /**
@@ -2413,10 +2547,48 @@ public class PdfDocument implements IEventDispatcher, Closeable {
         return encryptedEmbeddedStreamsHandler.isStreamStoredAsEmbedded(stream);
     }
 
+    boolean isConcurrentReading() {
+        return reader != null && reader.isConcurrentReading();
+    }
+
+    boolean isMetadataOnlyMode() {
+        return reader != null && reader.isMetadataOnlyMode();
+    }
+
+    private void initDeferredTagStructure() {
+        if (!tagStructureInitDeferred) {
+            return;
+        }
+        if (isConcurrentReading()) {
+            synchronized (reader.getReadingLock()) {
+                doInitDeferredTagStructure();
+            }
+        } else {
+            doInitDeferredTagStructure();
+        }
+    }
+
+    private void doInitDeferredTagStructure() {
+        if (tagStructureInitDeferred) {
+            tagStructureInitDeferred = false;
+            PdfDictionary str = catalog.getPdfObject().getAsDictionary(PdfName.StructTreeRoot);
+            if (str != null) {
+                tryInitTagStructure(str);
+            }
+        }
+    }
+
     boolean hasAcroForm() {
         return getCatalog().getPdfObject().containsKey(PdfName.AcroForm);
     }
 
+    private PdfPage notifyPageUsed(PdfPage page) {
+        if (pagesMemoryBudget != null) {
+            pagesMemoryBudget.pageUsed(page);
+        }
+        return page;
+    }
+
     private void tryFlushTagStructure(boolean isAppendMode) {
         try {
             if (tagStructureContext != null) {
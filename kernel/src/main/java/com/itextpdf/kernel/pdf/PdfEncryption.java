@@ -43,6 +43,7 @@ import com.itextpdf.kernel.security.IExternalDecryptionProcess;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
@@ -415,6 +416,18 @@ public class PdfEncryption extends PdfObjectWrapper<PdfDictionary> {
         }
     }
 
+    /**
+     * Creates a stream which decrypts the data read from the passed stream on the fly. The data are decrypted
+     * with the key of the object, which was set by the last {@link #setHashKeyForNextObject(int, int)} call
+     * before this method is called.
+     *
+     * @param is the stream of the encrypted data
+     * @return the stream of the decrypted data, which closes the passed stream on closing
+     */
+    public InputStream getDecryptionStream(InputStream is) {
+        return new DecryptionInputStream(is, securityHandler.getDecryptor());
+    }
+
     public boolean isOpenedWithFullPermission() {
         if (securityHandler instanceof PubKeySecurityHandler) {
             return true;
@@ -643,4 +656,68 @@ public class PdfEncryption extends PdfObjectWrapper<PdfDictionary> {
         return permissions | EncryptionConstants.ALLOW_SCREENREADERS;
     }
 
+
+    private static final class DecryptionInputStream extends InputStream {
+
+        private static final int INPUT_BUFFER_SIZE = 8192;
+
+        private final InputStream in;
+        private final IDecryptor decryptor;
+        private final byte[] inputBuffer = new byte[INPUT_BUFFER_SIZE];
+        private byte[] decrypted;
+        private int position;
+        private boolean finished;
+
+        DecryptionInputStream(InputStream in, IDecryptor decryptor) {
+            this.in = in;
+            this.decryptor = decryptor;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (!ensureDecrypted()) {
+                return -1;
+            }
+            return decrypted[position++] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (!ensureDecrypted()) {
+                return -1;
+            }
+            int n = Math.min(len, decrypted.length - position);
+            System.arraycopy(decrypted, position, b, off, n);
+            position += n;
+            return n;
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+
+        private boolean ensureDecrypted() throws IOException {
+            while (decrypted == null || position == decrypted.length) {
+                if (finished) {
+                    return false;
+                }
+                int n = in.read(inputBuffer, 0, inputBuffer.length);
+                if (n < 0) {
+                    finished = true;
+                    decrypted = decryptor.finish();
+                } else {
+                    decrypted = decryptor.update(inputBuffer, 0, n);
+                }
+                position = 0;
+                if (decrypted == null) {
+                    decrypted = new byte[0];
+                }
+            }
+            return true;
+        }
+    }
 }
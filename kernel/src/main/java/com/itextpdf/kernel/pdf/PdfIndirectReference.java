@@ -25,6 +25,8 @@ package com.itextpdf.kernel.pdf;
 import com.itextpdf.commons.utils.MessageFormatUtil;
 import com.itextpdf.kernel.utils.ICopyFilter;
 
+import java.lang.ref.SoftReference;
+
 public class PdfIndirectReference extends PdfObject implements Comparable<PdfIndirectReference> {
 
 
@@ -42,7 +44,13 @@ public class PdfIndirectReference extends PdfObject implements Comparable<PdfInd
     /**
      * PdfObject that current PdfIndirectReference instance refers to.
      */
-    protected PdfObject refersTo = null;
+    protected volatile PdfObject refersTo = null;
+
+    /**
+     * The object read from the document which may be reclaimed by the garbage collector and re-read on demand,
+     * see {@link ReaderProperties#setReclaimableObjects(boolean)}.
+     */
+    private volatile SoftReference<PdfObject> reclaimableRefersTo = null;
 
     /**
      * Indirect reference number of object stream containing refersTo object.
@@ -104,11 +112,17 @@ public class PdfIndirectReference extends PdfObject implements Comparable<PdfInd
      */
     public PdfObject getRefersTo(boolean recursively) {
         if (!recursively) {
-            if (refersTo == null && !checkState(FLUSHED) && !checkState(MODIFIED) && !checkState(FREE)
+            PdfObject object = getLoadedRefersTo();
+            if (object == null && !checkState(FLUSHED) && !checkState(MODIFIED) && !checkState(FREE)
                     && getReader() != null) {
-                refersTo = getReader().readObject(this);
+                object = getReader().readObject(this);
+                if (object != null && getReader().isObjectReclaimable()) {
+                    setReclaimableRefersTo(object);
+                } else {
+                    setRefersTo(object);
+                }
             }
-            return refersTo;
+            return object;
         } else {
             PdfObject currentRefersTo = getRefersTo(false);
             for (int i = 0; i < LENGTH_OF_INDIRECTS_CHAIN; i++) {
@@ -124,6 +138,46 @@ public class PdfIndirectReference extends PdfObject implements Comparable<PdfInd
 
     protected void setRefersTo(PdfObject refersTo) {
         this.refersTo = refersTo;
+        this.reclaimableRefersTo = null;
+    }
+
+    /**
+     * Sets the object read from the document, which is referenced softly, so that it can be reclaimed
+     * by the garbage collector unless it is used, and re-read from the document on the next access.
+     *
+     * @param refersTo the object read from the document
+     */
+    void setReclaimableRefersTo(PdfObject refersTo) {
+        this.reclaimableRefersTo = new SoftReference<>(refersTo);
+        this.refersTo = null;
+    }
+
+    /**
+     * Gets the object this reference refers to without reading it from the document.
+     *
+     * @return the object or {@code null} if it is not read yet or was reclaimed
+     */
+    PdfObject getLoadedRefersTo() {
+        PdfObject object = refersTo;
+        if (object == null) {
+            SoftReference<PdfObject> reclaimableObject = reclaimableRefersTo;
+            if (reclaimableObject != null) {
+                object = reclaimableObject.get();
+            }
+        }
+        return object;
+    }
+
+    /**
+     * Makes the reference to the softly referenced object strong, so that e.g. the changes of the object are not lost.
+     *
+     * @param object the object which shall not be reclaimed
+     */
+    void retainRefersTo(PdfObject object) {
+        SoftReference<PdfObject> reclaimableObject = reclaimableRefersTo;
+        if (reclaimableObject != null && reclaimableObject.get() == object) {
+            setRefersTo(object);
+        }
     }
 
     public int getObjStreamNumber() {
@@ -0,0 +1,640 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.kernel.pdf;
+
+import com.itextpdf.io.source.ByteArrayOutputStream;
+import com.itextpdf.io.source.ByteUtils;
+import com.itextpdf.io.source.DeflaterOutputStream;
+import com.itextpdf.io.source.RandomAccessSourceFactory;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Rewrites a complete PDF document as a linearized one (ISO 32000-1, Annex F), so that the first page
+ * can be displayed before the whole file is downloaded.
+ *
+ * <p>
+ * The objects are renumbered and reordered as follows: the linearization parameter dictionary, the first-page
+ * cross-reference table, the catalog with the objects needed to open the document, the primary hint stream,
+ * the objects of the first page, the objects of each of the remaining pages, the objects shared by
+ * several pages, all the other objects and the main cross-reference table. Every shared object forms its own
+ * group in the shared object hint table. Object streams are not used.
+ */
+class PdfLinearizer {
+
+    private static final byte[] OBJ_START = ByteUtils.getIsoBytes(" 0 obj\n");
+    private static final byte[] OBJ_END = ByteUtils.getIsoBytes("\nendobj\n");
+
+    /**
+     * The value used to reserve the space for the offsets which are not known until the whole file is laid out.
+     */
+    private static final long RESERVED_OFFSET = 9999999999L;
+
+    private final byte[] pdf;
+
+    private PdfReader reader;
+
+    /**
+     * The new object numbers of all the objects which are written.
+     */
+    private final Map<PdfIndirectReference, Integer> numbers = new HashMap<>();
+
+    private final List<PdfIndirectReference> documentLevelObjects = new ArrayList<>();
+    private final List<PdfIndirectReference> firstPageObjects = new ArrayList<>();
+    private final List<List<PdfIndirectReference>> otherPagesObjects = new ArrayList<>();
+    private final List<PdfIndirectReference> sharedObjects = new ArrayList<>();
+    private final List<PdfIndirectReference> otherObjects = new ArrayList<>();
+
+    /**
+     * The identifiers of the shared object groups referenced by each of the pages except the first one.
+     */
+    private final List<List<Integer>> sharedReferences = new ArrayList<>();
+
+    /**
+     * Creates a linearizer of the document.
+     *
+     * @param pdf the bytes of the complete not encrypted document
+     */
+    PdfLinearizer(byte[] pdf) {
+        this.pdf = pdf;
+    }
+
+    /**
+     * Writes the linearized document.
+     *
+     * @param out the stream to write the document to
+     * @throws IOException in case of any I/O error
+     */
+    void writeTo(PdfOutputStream out) throws IOException {
+        reader = new PdfReader(new RandomAccessSourceFactory().createSource(pdf), new ReaderProperties());
+        PdfDocument document = new PdfDocument(reader);
+        try {
+            classifyObjects(document);
+            write(document, out);
+        } finally {
+            document.close();
+        }
+    }
+
+    private void classifyObjects(PdfDocument document) {
+        PdfDictionary catalog = document.getCatalog().getPdfObject();
+        int numberOfPages = document.getNumberOfPages();
+        List<PdfDictionary> pages = new ArrayList<>(numberOfPages);
+        Set<PdfIndirectReference> notTraversed = new HashSet<>();
+        for (int i = 1; i <= numberOfPages; i++) {
+            PdfDictionary page = document.getPage(i).getPdfObject();
+            pages.add(page);
+            notTraversed.add(page.getIndirectReference());
+        }
+        notTraversed.add(catalog.getIndirectReference());
+
+        // Catalog and the objects needed to open the document
+        Set<PdfIndirectReference> documentLevel = new LinkedHashSet<>();
+        documentLevel.add(catalog.getIndirectReference());
+        collectReachableObjects(catalog.get(PdfName.ViewerPreferences, false), documentLevel, notTraversed, true);
+        collectReachableObjects(catalog.get(PdfName.OpenAction, false), documentLevel, notTraversed, true);
+        if (PdfName.UseOutlines.equals(catalog.getAsName(PdfName.PageMode))) {
+            collectReachableObjects(catalog.get(PdfName.Outlines, false), documentLevel, notTraversed, true);
+        }
+        documentLevelObjects.addAll(documentLevel);
+        notTraversed.addAll(documentLevel);
+
+        // First page objects, including the ones it shares with the other pages
+        Set<PdfIndirectReference> firstPage = new LinkedHashSet<>();
+        firstPage.add(pages.get(0).getIndirectReference());
+        collectReachableObjects(pages.get(0), firstPage, notTraversed, true);
+        firstPageObjects.addAll(firstPage);
+
+        // Objects of the remaining pages: the ones used by a single page are written together with the page
+        List<Set<PdfIndirectReference>> pageClosures = new ArrayList<>();
+        Map<PdfIndirectReference, Integer> usages = new LinkedHashMap<>();
+        for (int i = 1; i < numberOfPages; i++) {
+            Set<PdfIndirectReference> closure = new LinkedHashSet<>();
+            collectReachableObjects(pages.get(i), closure, notTraversed, true);
+            pageClosures.add(closure);
+            for (PdfIndirectReference reference : closure) {
+                if (!firstPage.contains(reference)) {
+                    Integer usage = usages.get(reference);
+                    usages.put(reference, usage == null ? 1 : usage + 1);
+                }
+            }
+        }
+        for (Map.Entry<PdfIndirectReference, Integer> usage : usages.entrySet()) {
+            if (usage.getValue() > 1) {
+                sharedObjects.add(usage.getKey());
+            }
+        }
+
+        // Shared object groups: the first page objects followed by the objects of the shared objects section
+        Map<PdfIndirectReference, Integer> sharedGroups = new HashMap<>();
+        for (PdfIndirectReference reference : firstPageObjects) {
+            sharedGroups.put(reference, sharedGroups.size());
+        }
+        for (PdfIndirectReference reference : sharedObjects) {
+            sharedGroups.put(reference, sharedGroups.size());
+        }
+        for (int i = 1; i < numberOfPages; i++) {
+            List<PdfIndirectReference> pageObjects = new ArrayList<>();
+            pageObjects.add(pages.get(i).getIndirectReference());
+            List<Integer> groups = new ArrayList<>();
+            for (PdfIndirectReference reference : pageClosures.get(i - 1)) {
+                Integer group = sharedGroups.get(reference);
+                if (group != null) {
+                    groups.add(group);
+                } else {
+                    pageObjects.add(reference);
+                }
+            }
+            Collections.sort(groups);
+            otherPagesObjects.add(pageObjects);
+            sharedReferences.add(groups);
+        }
+
+        // All the other objects reachable from the trailer
+        Set<PdfIndirectReference> placed = new HashSet<>(documentLevelObjects);
+        placed.addAll(firstPageObjects);
+        placed.addAll(sharedObjects);
+        for (List<PdfIndirectReference> pageObjects : otherPagesObjects) {
+            placed.addAll(pageObjects);
+        }
+        Set<PdfIndirectReference> all = new LinkedHashSet<>();
+        Set<PdfIndirectReference> none = Collections.<PdfIndirectReference>emptySet();
+        collectReachableObjects(document.getTrailer().get(PdfName.Root, false), all, none, false);
+        collectReachableObjects(document.getTrailer().get(PdfName.Info, false), all, none, false);
+        for (PdfIndirectReference reference : all) {
+            if (!placed.contains(reference)) {
+                otherObjects.add(reference);
+            }
+        }
+    }
+
+    private void write(PdfDocument document, PdfOutputStream out) throws IOException {
+        // Objects of the main section are numbered first, the ones of the first-page section follow them
+        int number = 1;
+        for (List<PdfIndirectReference> pageObjects : otherPagesObjects) {
+            number = assignNumbers(pageObjects, number);
+        }
+        number = assignNumbers(sharedObjects, number);
+        number = assignNumbers(otherObjects, number);
+        final int firstSectionStart = number;
+        final int linearizationDictionaryNumber = number++;
+        number = assignNumbers(documentLevelObjects, number);
+        number = assignNumbers(firstPageObjects, number);
+        final int hintStreamNumber = number++;
+        final int size = number;
+
+        List<byte[]> documentLevel = serializeObjects(documentLevelObjects);
+        List<byte[]> firstPage = serializeObjects(firstPageObjects);
+        List<List<byte[]>> otherPages = new ArrayList<>();
+        for (List<PdfIndirectReference> pageObjects : otherPagesObjects) {
+            otherPages.add(serializeObjects(pageObjects));
+        }
+        List<byte[]> shared = serializeObjects(sharedObjects);
+        List<byte[]> other = serializeObjects(otherObjects);
+
+        int firstPageNumber = numbers.get(firstPageObjects.get(0));
+        int numberOfPages = document.getNumberOfPages();
+        byte[] header = ByteUtils.getIsoBytes("%" + document.getPdfVersion() + "\n%âãÏÓ\n");
+        byte[] id = serializeObject(document.getTrailer().get(PdfName.ID, false));
+        PdfIndirectReference info = document.getTrailer().getAsDictionary(PdfName.Info) == null ? null
+                : document.getTrailer().getAsDictionary(PdfName.Info).getIndirectReference();
+        String firstTrailerStart = "trailer\n<</Size " + size + "/Root " + numbers.get(documentLevelObjects.get(0))
+                + " 0 R" + (info != null && numbers.containsKey(info) ? "/Info " + numbers.get(info) + " 0 R" : "");
+
+        int linearizationDictionaryLength = createLinearizationDictionary(linearizationDictionaryNumber,
+                RESERVED_OFFSET, RESERVED_OFFSET, RESERVED_OFFSET, firstPageNumber, RESERVED_OFFSET, numberOfPages,
+                RESERVED_OFFSET, 0).length;
+        int firstXrefLength = createXrefTable(firstSectionStart, new long[size - firstSectionStart], size - firstSectionStart).length;
+        int firstTrailerLength = createFirstTrailer(firstTrailerStart, id, RESERVED_OFFSET, 0).length;
+
+        // Lay out the file as if there were no hint stream, hint tables shall contain such offsets
+        long[] offsets = new long[size];
+        long firstXrefOffset = header.length + linearizationDictionaryLength;
+        long position = firstXrefOffset + firstXrefLength + firstTrailerLength;
+        position = layOut(documentLevelObjects, documentLevel, offsets, position);
+        final long hintStreamOffset = position;
+        position = layOut(firstPageObjects, firstPage, offsets, position);
+        final long endOfFirstPage = position;
+        long[] pageLengths = new long[numberOfPages];
+        int[] pageObjectCounts = new int[numberOfPages];
+        pageLengths[0] = endOfFirstPage - hintStreamOffset;
+        pageObjectCounts[0] = firstPageObjects.size();
+        for (int i = 0; i < otherPages.size(); i++) {
+            long pageStart = position;
+            position = layOut(otherPagesObjects.get(i), otherPages.get(i), offsets, position);
+            pageLengths[i + 1] = position - pageStart;
+            pageObjectCounts[i + 1] = otherPagesObjects.get(i).size();
+        }
+        final long sharedObjectsOffset = position;
+        position = layOut(sharedObjects, shared, offsets, position);
+        position = layOut(otherObjects, other, offsets, position);
+        final long mainXrefOffsetWithoutHints = position;
+
+        List<byte[]> sharedGroups = new ArrayList<>(firstPage);
+        sharedGroups.addAll(shared);
+        ByteArrayOutputStream hintTables = new ByteArrayOutputStream();
+        writePageOffsetHintTable(hintTables, offsets[firstPageNumber], pageObjectCounts, pageLengths);
+        int sharedObjectHintTableOffset = hintTables.size();
+        writeSharedObjectHintTable(hintTables, sharedObjects.isEmpty() ? 0 : numbers.get(sharedObjects.get(0)),
+                sharedObjects.isEmpty() ? 0 : sharedObjectsOffset, firstPage.size(), sharedGroups);
+        byte[] hintStream = createHintStream(hintStreamNumber, hintTables.toByteArray(), sharedObjectHintTableOffset);
+
+        // Shift all the objects which follow the hint stream
+        for (int i = 0; i < size; i++) {
+            if (offsets[i] >= hintStreamOffset) {
+                offsets[i] += hintStream.length;
+            }
+        }
+        offsets[linearizationDictionaryNumber] = header.length;
+        offsets[hintStreamNumber] = hintStreamOffset;
+        long mainXrefOffset = mainXrefOffsetWithoutHints + hintStream.length;
+        byte[] mainXref = createXrefTable(0, offsets, firstSectionStart);
+        byte[] mainTrailer = ByteUtils.getIsoBytes("trailer\n<</Size " + size + ">>\nstartxref\n"
+                + firstXrefOffset + "\n%%EOF\n");
+        long fileLength = mainXrefOffset + mainXref.length + mainTrailer.length;
+        long mainXrefFirstEntry = mainXrefOffset + ("xref\n0 " + firstSectionStart).length();
+
+        long[] firstSectionOffsets = new long[size - firstSectionStart];
+        System.arraycopy(offsets, firstSectionStart, firstSectionOffsets, 0, firstSectionOffsets.length);
+
+        out.writeBytes(header);
+        out.writeBytes(createLinearizationDictionary(linearizationDictionaryNumber, fileLength, hintStreamOffset,
+                hintStream.length, firstPageNumber, endOfFirstPage + hintStream.length, numberOfPages,
+                mainXrefFirstEntry, linearizationDictionaryLength));
+        out.writeBytes(createXrefTable(firstSectionStart, firstSectionOffsets, firstSectionOffsets.length));
+        out.writeBytes(createFirstTrailer(firstTrailerStart, id, mainXrefOffset, firstTrailerLength));
+        writeAll(out, documentLevel);
+        out.writeBytes(hintStream);
+        writeAll(out, firstPage);
+        for (List<byte[]> page : otherPages) {
+            writeAll(out, page);
+        }
+        writeAll(out, shared);
+        writeAll(out, other);
+        out.writeBytes(mainXref);
+        out.writeBytes(mainTrailer);
+    }
+
+    private int assignNumbers(List<PdfIndirectReference> references, int firstNumber) {
+        int number = firstNumber;
+        for (PdfIndirectReference reference : references) {
+            numbers.put(reference, number++);
+        }
+        return number;
+    }
+
+    private long layOut(List<PdfIndirectReference> references, List<byte[]> objects, long[] offsets, long position) {
+        for (int i = 0; i < references.size(); i++) {
+            offsets[numbers.get(references.get(i))] = position;
+            position += objects.get(i).length;
+        }
+        return position;
+    }
+
+    private List<byte[]> serializeObjects(List<PdfIndirectReference> references) throws IOException {
+        List<byte[]> objects = new ArrayList<>(references.size());
+        for (PdfIndirectReference reference : references) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            PdfOutputStream os = new PdfOutputStream(bytes);
+            os.writeInteger(numbers.get(reference)).writeBytes(OBJ_START);
+            os.write(copyObject(reference.getRefersTo()));
+            os.writeBytes(OBJ_END);
+            objects.add(bytes.toByteArray());
+        }
+        return objects;
+    }
+
+    private byte[] serializeObject(PdfObject object) throws IOException {
+        if (object == null) {
+            return new byte[0];
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        new PdfOutputStream(bytes).write(copyObject(object));
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Copies the object replacing the indirect references with the references to the new object numbers.
+     */
+    private PdfObject copyObject(PdfObject object) throws IOException {
+        switch (object.getType()) {
+            case PdfObject.INDIRECT_REFERENCE:
+                Integer number = numbers.get((PdfIndirectReference) object);
+                return number == null ? (PdfObject) PdfNull.PDF_NULL : new PdfLiteral(number + " 0 R");
+            case PdfObject.ARRAY:
+                PdfArray array = (PdfArray) object;
+                PdfArray arrayCopy = new PdfArray();
+                for (int i = 0; i < array.size(); i++) {
+                    arrayCopy.add(copyObject(array.get(i, false)));
+                }
+                return arrayCopy;
+            case PdfObject.DICTIONARY:
+                return copyEntries((PdfDictionary) object, new PdfDictionary());
+            case PdfObject.STREAM:
+                PdfStream stream = (PdfStream) object;
+                // The data are written as is, the filters are copied together with the other entries
+                PdfStream streamCopy = new PdfStream(reader.readStreamBytesRaw(stream),
+                        CompressionConstants.NO_COMPRESSION);
+                return copyEntries(stream, streamCopy);
+            default:
+                return object;
+        }
+    }
+
+    private PdfDictionary copyEntries(PdfDictionary from, PdfDictionary to) throws IOException {
+        for (PdfName key : from.keySet()) {
+            if (to.isStream() && PdfName.Length.equals(key)) {
+                continue;
+            }
+            to.put(key, copyObject(from.get(key, false)));
+        }
+        return to;
+    }
+
+    private static void writeAll(PdfOutputStream out, List<byte[]> objects) {
+        for (byte[] object : objects) {
+            out.writeBytes(object);
+        }
+    }
+
+    private static byte[] createLinearizationDictionary(int number, long fileLength, long hintStreamOffset,
+            long hintStreamLength, int firstPageNumber, long endOfFirstPage, int numberOfPages,
+            long mainXrefFirstEntry, int paddedLength) {
+        String dictionary = number + " 0 obj\n<</Linearized 1/L " + fileLength + "/H [" + hintStreamOffset + " "
+                + hintStreamLength + "]/O " + firstPageNumber + "/E " + endOfFirstPage + "/N " + numberOfPages
+                + "/T " + mainXrefFirstEntry + ">>";
+        return pad(dictionary, "\nendobj\n", paddedLength);
+    }
+
+    private static byte[] createFirstTrailer(String trailerStart, byte[] id, long mainXrefOffset, int paddedLength) {
+        ByteArrayOutputStream trailer = new ByteArrayOutputStream();
+        trailer.write(ByteUtils.getIsoBytes(trailerStart), 0, trailerStart.length());
+        if (id.length > 0) {
+            trailer.write(ByteUtils.getIsoBytes("/ID "), 0, 4);
+            trailer.write(id, 0, id.length);
+        }
+        byte[] start = trailer.toByteArray();
+        byte[] end = pad("/Prev " + mainXrefOffset + ">>", "\nstartxref\n0\n%%EOF\n",
+                paddedLength == 0 ? 0 : paddedLength - start.length);
+        byte[] result = new byte[start.length + end.length];
+        System.arraycopy(start, 0, result, 0, start.length);
+        System.arraycopy(end, 0, result, start.length, end.length);
+        return result;
+    }
+
+    /**
+     * Pads the content with spaces, so that the result including the ending has the specified length.
+     */
+    private static byte[] pad(String content, String ending, int paddedLength) {
+        StringBuilder sb = new StringBuilder(content);
+        while (sb.length() + ending.length() < paddedLength) {
+            sb.append(' ');
+        }
+        return ByteUtils.getIsoBytes(sb.append(ending).toString());
+    }
+
+    private static byte[] createXrefTable(int firstNumber, long[] offsets, int count) {
+        StringBuilder sb = new StringBuilder("xref\n").append(firstNumber).append(' ').append(count).append('\n');
+        for (int i = 0; i < count; i++) {
+            if (firstNumber + i == 0) {
+                sb.append("0000000000 65535 f\r\n");
+            } else {
+                String offset = String.valueOf(offsets[i]);
+                for (int j = offset.length(); j < 10; j++) {
+                    sb.append('0');
+                }
+                sb.append(offset).append(" 00000 n\r\n");
+            }
+        }
+        return ByteUtils.getIsoBytes(sb.toString());
+    }
+
+    private static byte[] createHintStream(int number, byte[] hintTables, int sharedObjectHintTableOffset)
+            throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        DeflaterOutputStream zip = new DeflaterOutputStream(compressed);
+        zip.write(hintTables);
+        zip.finish();
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        stream.writeBytes(ByteUtils.getIsoBytes(number + " 0 obj\n<</Filter/FlateDecode/Length " + compressed.size()
+                + "/S " + sharedObjectHintTableOffset + ">>stream\n"));
+        compressed.writeTo(stream);
+        stream.writeBytes(ByteUtils.getIsoBytes("\nendstream\nendobj\n"));
+        return stream.toByteArray();
+    }
+
+    /**
+     * Writes the page offset hint table (ISO 32000-1, F.4.1). The content stream related items describe
+     * the whole page, the items of each per-page entry are written item by item for all the pages.
+     */
+    private void writePageOffsetHintTable(ByteArrayOutputStream out, long firstPageOffset, int[] objectCounts,
+            long[] lengths) {
+        int minObjects = Integer.MAX_VALUE;
+        int maxObjects = 0;
+        long minLength = Long.MAX_VALUE;
+        long maxLength = 0;
+        int maxSharedReferences = 0;
+        int maxSharedIdentifier = 0;
+        for (int i = 0; i < objectCounts.length; i++) {
+            minObjects = Math.min(minObjects, objectCounts[i]);
+            maxObjects = Math.max(maxObjects, objectCounts[i]);
+            minLength = Math.min(minLength, lengths[i]);
+            maxLength = Math.max(maxLength, lengths[i]);
+        }
+        for (List<Integer> references : sharedReferences) {
+            maxSharedReferences = Math.max(maxSharedReferences, references.size());
+            for (int identifier : references) {
+                maxSharedIdentifier = Math.max(maxSharedIdentifier, identifier);
+            }
+        }
+        int objectsBits = bitsNeeded(maxObjects - minObjects);
+        int lengthBits = bitsNeeded(maxLength - minLength);
+        int sharedReferencesBits = bitsNeeded(maxSharedReferences);
+        int sharedIdentifierBits = bitsNeeded(maxSharedIdentifier);
+
+        BitWriter writer = new BitWriter(out);
+        writer.write(minObjects, 32);
+        writer.write(firstPageOffset, 32);
+        writer.write(objectsBits, 16);
+        writer.write(minLength, 32);
+        writer.write(lengthBits, 16);
+        // Offset of the content stream from the beginning of the page
+        writer.write(0, 32);
+        writer.write(0, 16);
+        // Length of the content stream
+        writer.write(minLength, 32);
+        writer.write(lengthBits, 16);
+        writer.write(sharedReferencesBits, 16);
+        writer.write(sharedIdentifierBits, 16);
+        // Numerator and denominator of the fractional position of the shared objects
+        writer.write(0, 16);
+        writer.write(1, 16);
+
+        for (int count : objectCounts) {
+            writer.write(count - minObjects, objectsBits);
+        }
+        writer.align();
+        for (long length : lengths) {
+            writer.write(length - minLength, lengthBits);
+        }
+        writer.align();
+        writer.write(0, sharedReferencesBits);
+        for (List<Integer> references : sharedReferences) {
+            writer.write(references.size(), sharedReferencesBits);
+        }
+        writer.align();
+        for (List<Integer> references : sharedReferences) {
+            for (int identifier : references) {
+                writer.write(identifier, sharedIdentifierBits);
+            }
+        }
+        writer.align();
+        for (long length : lengths) {
+            writer.write(length - minLength, lengthBits);
+        }
+        writer.align();
+    }
+
+    /**
+     * Writes the shared object hint table (ISO 32000-1, F.4.2). Each group consists of a single object.
+     */
+    private static void writeSharedObjectHintTable(ByteArrayOutputStream out, int firstSharedObjectNumber,
+            long firstSharedObjectOffset, int firstPageGroups, List<byte[]> groups) {
+        long minLength = Long.MAX_VALUE;
+        long maxLength = 0;
+        for (byte[] group : groups) {
+            minLength = Math.min(minLength, group.length);
+            maxLength = Math.max(maxLength, group.length);
+        }
+        int lengthBits = bitsNeeded(maxLength - minLength);
+
+        BitWriter writer = new BitWriter(out);
+        writer.write(firstSharedObjectNumber, 32);
+        writer.write(firstSharedObjectOffset, 32);
+        writer.write(firstPageGroups, 32);
+        writer.write(groups.size(), 32);
+        writer.write(0, 16);
+        writer.write(minLength, 32);
+        writer.write(lengthBits, 16);
+
+        for (byte[] group : groups) {
+            writer.write(group.length - minLength, lengthBits);
+        }
+        writer.align();
+        // None of the groups has an MD5 signature
+        for (int i = 0; i < groups.size(); i++) {
+            writer.write(0, 1);
+        }
+        writer.align();
+    }
+
+    private static int bitsNeeded(long value) {
+        return 64 - Long.numberOfLeadingZeros(value);
+    }
+
+    /**
+     * Collects the indirect objects reachable from the specified one.
+     *
+     * @param start        the object to start from
+     * @param collected    the set to add the references of the reachable objects to
+     * @param notTraversed the references which are neither collected nor traversed
+     * @param skipParent   whether {@link PdfName#Parent} entries are ignored
+     */
+    private static void collectReachableObjects(PdfObject start, Set<PdfIndirectReference> collected,
+            Set<PdfIndirectReference> notTraversed, boolean skipParent) {
+        Deque<PdfObject> toVisit = new ArrayDeque<>();
+        if (start != null) {
+            toVisit.push(start);
+        }
+        while (!toVisit.isEmpty()) {
+            PdfObject object = toVisit.pop();
+            if (object.isIndirectReference()) {
+                PdfIndirectReference reference = (PdfIndirectReference) object;
+                if (notTraversed.contains(reference) || collected.contains(reference)) {
+                    continue;
+                }
+                object = reference.getRefersTo();
+                if (object == null) {
+                    continue;
+                }
+                collected.add(reference);
+            }
+            List<PdfObject> children = new ArrayList<>();
+            if (object.isArray()) {
+                PdfArray array = (PdfArray) object;
+                for (int i = 0; i < array.size(); i++) {
+                    children.add(array.get(i, false));
+                }
+            } else if (object.isDictionary() || object.isStream()) {
+                PdfDictionary dictionary = (PdfDictionary) object;
+                for (PdfName key : dictionary.keySet()) {
+                    if (!skipParent || !PdfName.Parent.equals(key)) {
+                        children.add(dictionary.get(key, false));
+                    }
+                }
+            }
+            // Push in reverse order to visit the objects in the order they are referenced
+            for (int i = children.size() - 1; i >= 0; i--) {
+                toVisit.push(children.get(i));
+            }
+        }
+    }
+
+    private static final class BitWriter {
+        private final ByteArrayOutputStream out;
+        private int buffer;
+        private int bitsInBuffer;
+
+        BitWriter(ByteArrayOutputStream out) {
+            this.out = out;
+        }
+
+        void write(long value, int bits) {
+            for (int i = bits - 1; i >= 0; i--) {
+                buffer = (buffer << 1) | (int) ((value >>> i) & 1);
+                if (++bitsInBuffer == 8) {
+                    out.write(buffer);
+                    buffer = 0;
+                    bitsInBuffer = 0;
+                }
+            }
+        }
+
+        void align() {
+            if (bitsInBuffer > 0) {
+                write(0, 8 - bitsInBuffer);
+            }
+        }
+    }
+}
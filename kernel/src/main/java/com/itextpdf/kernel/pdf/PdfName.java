@@ -493,6 +493,7 @@ public class PdfName extends PdfPrimitiveObject implements Comparable<PdfName> {
     public static final PdfName LineHeight = createDirectName("LineHeight");
     public static final PdfName LineNum = createDirectName("LineNum");
     public static final PdfName LineThrough = createDirectName("LineThrough");
+    public static final PdfName Linearized = createDirectName("Linearized");
     public static final PdfName Link = createDirectName("Link");
     public static final PdfName List = createDirectName("List");
     public static final PdfName ListMode = createDirectName("ListMode");
@@ -939,6 +940,11 @@ public class PdfName extends PdfPrimitiveObject implements Comparable<PdfName> {
      */
     public static Map<String, PdfName> staticNames;
 
+    /**
+     * Open addressing hash table of the static names, which allows to find them by the bytes of their values
+     */
+    private static final PdfName[] staticNamesTable;
+
     /**
      * Use reflection to cache all the public static final names so
      * future <code>PdfName</code> additions don't have to be "added twice".
@@ -947,6 +953,42 @@ public class PdfName extends PdfPrimitiveObject implements Comparable<PdfName> {
      */
     static {
         staticNames = PdfNameLoader.loadNames();
+        staticNamesTable = PdfNameLoader.createNamesTable(staticNames);
+    }
+
+    /**
+     * Gets the known static name with the value written in the given bytes. Unlike looking the name up in
+     * {@link #staticNames}, neither a string nor a new name is created, so it's suitable for parsing.
+     * Names containing escaped characters aren't decoded, i.e. the bytes are compared to the value as is.
+     *
+     * @param content the bytes containing the value of the name
+     * @param offset the offset of the value in the bytes
+     * @param length the length of the value
+     * @return the static name, or {@code null} if there is no static name with such value
+     */
+    public static PdfName getStaticName(byte[] content, int offset, int length) {
+        int hash = 0;
+        for (int i = offset; i < offset + length; i++) {
+            hash = 31 * hash + (content[i] & 0xff);
+        }
+        int mask = staticNamesTable.length - 1;
+        for (int index = PdfNameLoader.spread(hash) & mask; staticNamesTable[index] != null;
+                index = (index + 1) & mask) {
+            String value = staticNamesTable[index].value;
+            if (value.length() == length && valueEquals(value, content, offset)) {
+                return staticNamesTable[index];
+            }
+        }
+        return null;
+    }
+
+    private static boolean valueEquals(String value, byte[] content, int offset) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) != (content[offset + i] & 0xff)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     private static PdfName createDirectName(String name) {
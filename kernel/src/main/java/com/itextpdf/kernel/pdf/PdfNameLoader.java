@@ -45,4 +45,47 @@ final class PdfNameLoader {
         }
         return staticNames;
     }
+
+    /**
+     * Creates the open addressing hash table of the names with the values consisting of ASCII characters.
+     * The hash of a value is the same as {@link String#hashCode()}, which for ASCII values is also the hash
+     * of their bytes, spread with {@link #spread(int)}.
+     */
+    static PdfName[] createNamesTable(Map<String, PdfName> names) {
+        int size = 16;
+        int count = names == null ? 0 : names.size();
+        // keep the load factor below 1/4, so that the probe sequences are short
+        while (size < count * 4) {
+            size <<= 1;
+        }
+        PdfName[] table = new PdfName[size];
+        if (names == null) {
+            return table;
+        }
+        for (Map.Entry<String, PdfName> entry : names.entrySet()) {
+            String value = entry.getKey();
+            if (!isAscii(value) || !value.equals(entry.getValue().value)) {
+                continue;
+            }
+            int index = spread(value.hashCode()) & (size - 1);
+            while (table[index] != null) {
+                index = (index + 1) & (size - 1);
+            }
+            table[index] = entry.getValue();
+        }
+        return table;
+    }
+
+    static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static boolean isAscii(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > 127) {
+                return false;
+            }
+        }
+        return true;
+    }
 }
@@ -230,7 +230,7 @@ public class PdfNumber extends PdfPrimitiveObject {
 
     protected void generateValue() {
         try {
-            value = java.lang.Double.parseDouble(new String(content, StandardCharsets.ISO_8859_1));
+            value = ByteUtils.parseDouble(content, 0, content.length);
         } catch (NumberFormatException e) {
             value = java.lang.Double.NaN;
         }
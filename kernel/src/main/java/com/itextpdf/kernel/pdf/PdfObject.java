@@ -389,6 +389,7 @@ public abstract class PdfObject {
     public PdfObject setModified() {
         if (indirectReference != null) {
             indirectReference.setState(MODIFIED);
+            indirectReference.retainRefersTo(this);
             setState(FORBID_RELEASE);
         }
         return this;
@@ -414,7 +415,7 @@ public abstract class PdfObject {
         } else {
             if (indirectReference != null && indirectReference.getReader() != null
                     && !indirectReference.checkState(FLUSHED)) {
-                indirectReference.refersTo = null;
+                indirectReference.setRefersTo(null);
                 indirectReference = null;
                 setState(READ_ONLY);
             }
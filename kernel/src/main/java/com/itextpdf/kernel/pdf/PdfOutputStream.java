@@ -299,6 +299,16 @@ public class PdfOutputStream extends OutputStream<PdfOutputStream> {
                 length.setValue((int) (getCurrentPos() - beginStreamContent));
                 pdfStream.updateLength(length.intValue());
                 writeBytes(PdfOutputStream.endstream);
+            } else if (pdfStream.hasPendingRawData() && !checkEncryption(pdfStream)
+                    && !(toCompress && !containsFlateFilter(pdfStream) && (allowCompression || userDefinedCompression))) {
+                // The data of the copied stream are not going to be changed, so they are transferred as is
+                // from the source document without reading them into memory
+                pdfStream.put(PdfName.Length, new PdfNumber(pdfStream.getPendingRawDataLength()));
+                pdfStream.updateLength(pdfStream.getPendingRawDataLength());
+                this.write((PdfDictionary) pdfStream);
+                writeBytes(PdfOutputStream.stream);
+                pdfStream.writePendingRawData(this);
+                writeBytes(PdfOutputStream.endstream);
             } else {
                 //When document is opened in stamping mode the output stream can be uninitialized.
                 //We have to initialize it and write all data from streams input to streams output.
@@ -319,17 +329,23 @@ public class PdfOutputStream extends OutputStream<PdfOutputStream> {
                             && (allowCompression || userDefinedCompression)) {
                         // compress
                         updateCompressionFilter(pdfStream);
-                        byteArrayStream = new ByteArrayOutputStream();
-                        DeflaterOutputStream zip = new DeflaterOutputStream(byteArrayStream, pdfStream.getCompressionLevel());
-                        if (pdfStream instanceof PdfObjectStream) {
-                            PdfObjectStream objectStream = (PdfObjectStream) pdfStream;
-                            ((ByteArrayOutputStream) objectStream.getIndexStream().getOutputStream()).writeTo(zip);
-                            ((ByteArrayOutputStream) objectStream.getOutputStream().getOutputStream()).writeTo(zip);
-                        } else {
-                            assert pdfStream.getOutputStream() != null : "Error in outputStream";
-                            ((ByteArrayOutputStream) pdfStream.getOutputStream().getOutputStream()).writeTo(zip);
+                        byteArrayStream = document != null
+                                ? document.getWriter().getCompressedAhead(pdfStream, pdfStream.getCompressionLevel())
+                                : null;
+                        if (byteArrayStream == null) {
+                            byteArrayStream = createStreamDataBuffer();
+                            DeflaterOutputStream zip = new DeflaterOutputStream(byteArrayStream,
+                                    pdfStream.getCompressionLevel());
+                            if (pdfStream instanceof PdfObjectStream) {
+                                PdfObjectStream objectStream = (PdfObjectStream) pdfStream;
+                                ((ByteArrayOutputStream) objectStream.getIndexStream().getOutputStream()).writeTo(zip);
+                                ((ByteArrayOutputStream) objectStream.getOutputStream().getOutputStream()).writeTo(zip);
+                            } else {
+                                assert pdfStream.getOutputStream() != null : "Error in outputStream";
+                                ((ByteArrayOutputStream) pdfStream.getOutputStream().getOutputStream()).writeTo(zip);
+                            }
+                            zip.finish();
                         }
-                        zip.finish();
                     } else {
                         if (pdfStream instanceof PdfObjectStream) {
                             PdfObjectStream objectStream = (PdfObjectStream) pdfStream;
@@ -342,10 +358,13 @@ public class PdfOutputStream extends OutputStream<PdfOutputStream> {
                         }
                     }
                     if (checkEncryption(pdfStream)) {
-                        ByteArrayOutputStream encodedStream = new ByteArrayOutputStream();
+                        ByteArrayOutputStream encodedStream = createStreamDataBuffer();
                         OutputStreamEncryption ose = crypto.getEncryptionStream(encodedStream);
                         byteArrayStream.writeTo(ose);
                         ose.finish();
+                        if (byteArrayStream != pdfStream.getOutputStream().getOutputStream()) {
+                            byteArrayStream.close();
+                        }
                         byteArrayStream = encodedStream;
                     }
                 } catch (IOException ioe) {
@@ -364,6 +383,21 @@ public class PdfOutputStream extends OutputStream<PdfOutputStream> {
         }
     }
 
+    /**
+     * Replaces the stream the data are written to. The current position is kept as is.
+     *
+     * @param outputStream the new stream to write the data to
+     */
+    void setOutputStream(java.io.OutputStream outputStream) {
+        this.outputStream = outputStream;
+    }
+
+    private ByteArrayOutputStream createStreamDataBuffer() {
+        return document != null && document.getWriter() != null
+                ? document.getWriter().createStreamDataBuffer(0)
+                : new ByteArrayOutputStream();
+    }
+
     protected boolean checkEncryption(PdfStream pdfStream) {
         if (crypto == null || (crypto.isEmbeddedFilesOnly() && !document.doesStreamBelongToEmbeddedFile(pdfStream))) {
             return false;
@@ -31,6 +31,7 @@ import com.itextpdf.io.source.RASInputStream;
 import com.itextpdf.io.source.RandomAccessFileOrArray;
 import com.itextpdf.io.source.RandomAccessSourceFactory;
 import com.itextpdf.io.source.WindowRandomAccessSource;
+import com.itextpdf.io.util.StreamUtil;
 import com.itextpdf.commons.utils.MessageFormatUtil;
 import com.itextpdf.kernel.exceptions.InvalidXRefPrevException;
 import com.itextpdf.kernel.exceptions.MemoryLimitsAwareException;
@@ -40,6 +41,7 @@ import com.itextpdf.kernel.exceptions.KernelExceptionMessageConstant;
 import com.itextpdf.kernel.exceptions.XrefCycledReferencesException;
 import com.itextpdf.kernel.pdf.filters.FilterHandlers;
 import com.itextpdf.kernel.pdf.filters.IFilterHandler;
+import com.itextpdf.kernel.pdf.filters.IStreamingFilterHandler;
 import com.itextpdf.kernel.xmp.XMPException;
 import com.itextpdf.kernel.xmp.XMPMeta;
 import com.itextpdf.kernel.xmp.XMPMetaFactory;
@@ -50,10 +52,16 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.nio.charset.StandardCharsets;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -73,6 +81,11 @@ public class PdfReader implements Closeable {
     private static final String endstream4 = "\rendstream";
     private static final byte[] endstream = ByteUtils.getIsoBytes("endstream");
     private static final byte[] endobj = ByteUtils.getIsoBytes("endobj");
+    /**
+     * The linearization parameter dictionary shall be entirely contained within the first 1024 bytes of the file.
+     */
+    private static final int LINEARIZATION_DICTIONARY_MAX_OFFSET = 1024;
+    private static final int RAW_DATA_TRANSFER_BUFFER_SIZE = 64 * 1024;
 
     protected static boolean correctStreamLength = true;
 
@@ -89,6 +102,17 @@ public class PdfReader implements Closeable {
 
     private XrefProcessor xrefProcessor = new XrefProcessor();
 
+    // guards the shared tokenizer and the decryption state when concurrent reading is enabled
+    private final Object readingLock = new Object();
+
+    // copies of the streams of this document whose data are still to be transferred from the source
+    private final Set<PdfStream> pendingRawDataCopies = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private ObjectStreamCache objectStreamCache;
+
+    // the size of the chunks the document is scanned by when the cross-reference table is rebuilt in parallel
+    int xrefRebuildChunkSize = ParallelXrefScanner.DEFAULT_CHUNK_SIZE;
+
     protected PdfTokenizer tokens;
     protected PdfEncryption decrypt;
 
@@ -168,6 +192,7 @@ public class PdfReader implements Closeable {
         this(
                 new RandomAccessSourceFactory()
                         .setForceRead(false)
+                        .setUseLockFreeAccess(properties != null && properties.concurrentReading)
                         .createBestSource(filename),
                 properties,
                 true
@@ -199,6 +224,9 @@ public class PdfReader implements Closeable {
     PdfReader(IRandomAccessSource byteSource, ReaderProperties properties, boolean closeStream) throws IOException {
         this.properties = properties;
         this.tokens = getOffsetTokeniser(byteSource, closeStream);
+        if (properties != null && properties.objectStreamCacheSize > 0) {
+            this.objectStreamCache = new ObjectStreamCache(properties.objectStreamCacheSize);
+        }
     }
 
     /**
@@ -207,6 +235,13 @@ public class PdfReader implements Closeable {
      * @throws IOException on error.
      */
     public void close() throws IOException {
+        // The copied streams which were not written yet shall not lose their data with the source
+        for (PdfStream copy : getPendingRawDataCopies()) {
+            copy.loadPendingRawData();
+        }
+        if (objectStreamCache != null) {
+            objectStreamCache.clear();
+        }
         tokens.close();
     }
 
@@ -294,6 +329,35 @@ public class PdfReader implements Closeable {
         return rebuiltXref;
     }
 
+    /**
+     * Checks if the document is linearized, i.e. if its first object is the linearization parameter dictionary
+     * and the file length specified in it matches the actual one. The incremental updates appended to
+     * a linearized document invalidate its linearization.
+     *
+     * @return true, if the document is linearized.
+     * @throws PdfException if the method has been invoked before the PDF document was read.
+     */
+    public boolean isLinearized() {
+        if (pdfDocument == null || !pdfDocument.getXref().isReadingCompleted()) {
+            throw new PdfException(KernelExceptionMessageConstant.DOCUMENT_HAS_NOT_BEEN_READ_YET);
+        }
+        PdfXrefTable xref = pdfDocument.getXref();
+        // the references of the other objects are not created, since there may be millions of them
+        int firstObjNr = xref.getObjNumberWithSmallestOffset();
+        PdfIndirectReference first = firstObjNr == 0 ? null : xref.get(firstObjNr);
+        if (first == null || first.getOffset() > LINEARIZATION_DICTIONARY_MAX_OFFSET) {
+            return false;
+        }
+        PdfObject object = first.getRefersTo();
+        if (object == null || object.getType() != PdfObject.DICTIONARY) {
+            return false;
+        }
+        PdfDictionary dictionary = (PdfDictionary) object;
+        PdfNumber length = dictionary.getAsNumber(PdfName.L);
+        return dictionary.containsKey(PdfName.Linearized) && length != null
+                && length.longValue() == getFileLength();
+    }
+
     /**
      * Some documents contain hybrid XRef, for more information see "7.5.8.4 Compatibility with Applications
      * That Do Not Support Compressed Reference Streams" in PDF 32000-1:2008 spec.
@@ -339,6 +403,26 @@ public class PdfReader implements Closeable {
         return fixedXref;
     }
 
+    /**
+     * Gets the number of times the objects of an object stream were read with the decoded data of the object stream
+     * taken from the cache, see {@link ReaderProperties#setObjectStreamCacheSize(long)}.
+     *
+     * @return the number of the object stream cache hits, or 0 if the cache is disabled
+     */
+    public long getObjectStreamCacheHitCount() {
+        return objectStreamCache == null ? 0 : objectStreamCache.getHitCount();
+    }
+
+    /**
+     * Gets the number of times the objects of an object stream were read with the object stream decoded
+     * as it was not found in the cache, see {@link ReaderProperties#setObjectStreamCacheSize(long)}.
+     *
+     * @return the number of the object stream cache misses, or 0 if the cache is disabled
+     */
+    public long getObjectStreamCacheMissCount() {
+        return objectStreamCache == null ? 0 : objectStreamCache.getMissCount();
+    }
+
     /**
      * Gets position of the last Cross-Reference table.
      *
@@ -384,10 +468,7 @@ public class PdfReader implements Closeable {
             throw new PdfException(KernelExceptionMessageConstant.UNABLE_TO_READ_STREAM_BYTES);
         }
 
-        PdfName type = stream.getAsName(PdfName.Type);
-        if (!PdfName.XRef.equals(type) && !PdfName.ObjStm.equals(type)) {
-            checkPdfStreamLength(stream);
-        }
+        checkStreamLengthBeforeReading(stream);
         long offset = stream.getOffset();
         if (offset <= 0)
             return null;
@@ -400,33 +481,13 @@ public class PdfReader implements Closeable {
             file.seek(offset);
             bytes = new byte[length];
             file.readFully(bytes);
-            boolean embeddedStream = pdfDocument.doesStreamBelongToEmbeddedFile(stream);
-            if (decrypt != null && (!decrypt.isEmbeddedFilesOnly() || embeddedStream)) {
-                PdfObject filter = stream.get(PdfName.Filter, true);
-                boolean skip = false;
-                if (filter != null) {
-                    if (filter.isFlushed()) {
-                        IndirectFilterUtils.throwFlushedFilterException(stream);
-                    }
-                    if (PdfName.Crypt.equals(filter)) {
-                        skip = true;
-                    } else if (filter.getType() == PdfObject.ARRAY) {
-                        PdfArray filters = (PdfArray) filter;
-                        for (int k = 0; k < filters.size(); k++) {
-                            if (filters.get(k).isFlushed()) {
-                                IndirectFilterUtils.throwFlushedFilterException(stream);
-                            }
-                            if (!filters.isEmpty() && PdfName.Crypt.equals(filters.get(k, true))) {
-                                skip = true;
-                                break;
-                            }
-                        }
+            if (isStreamDecryptionRequired(stream)) {
+                if (isConcurrentReading()) {
+                    synchronized (readingLock) {
+                        bytes = decryptStreamBytes(stream, bytes);
                     }
-                    filter.release();
-                }
-                if (!skip) {
-                    decrypt.setHashKeyForNextObject(stream.getIndirectReference().getObjNumber(), stream.getIndirectReference().getGenNumber());
-                    bytes = decrypt.decryptByteArray(bytes);
+                } else {
+                    bytes = decryptStreamBytes(stream, bytes);
                 }
             }
         } finally {
@@ -439,6 +500,89 @@ public class PdfReader implements Closeable {
         return bytes;
     }
 
+    /**
+     * Checks if the data of the stream can be transferred to another document as is, i.e. if the stream was not
+     * modified since it was read and its data are not encrypted.
+     *
+     * @param stream a {@link PdfStream} stream instance read by this reader
+     * @return true if the raw data of the stream are the data to be written for the copy of the stream
+     */
+    boolean isRawDataTransferAllowed(PdfStream stream) {
+        if (stream.getOutputStream() != null || stream.getInputStream() != null || stream.isFlushed()
+                || stream.getIndirectReference() == null || stream.getIndirectReference().getReader() != this) {
+            return false;
+        }
+        try {
+            checkStreamLengthBeforeReading(stream);
+        } catch (IOException e) {
+            return false;
+        }
+        return stream.getOffset() > 0 && stream.getLength() >= 0 && !isStreamDecryptionRequired(stream);
+    }
+
+    /**
+     * Reads the raw data of the stream located at the specified offset of the document.
+     *
+     * @param offset the offset of the stream data
+     * @param length the length of the stream data
+     * @return byte[] array.
+     * @throws IOException on error.
+     */
+    byte[] readStreamBytesRaw(long offset, int length) throws IOException {
+        byte[] bytes = new byte[length];
+        if (length > 0) {
+            RandomAccessFileOrArray file = tokens.getSafeFile();
+            try {
+                file.seek(offset);
+                file.readFully(bytes);
+            } finally {
+                closeSafeFile(file);
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Writes the raw data of the stream located at the specified offset of the document to the output
+     * by chunks, without reading the whole data into memory.
+     *
+     * @param offset the offset of the stream data
+     * @param length the length of the stream data
+     * @param out    the output to write the data to
+     * @throws IOException on error.
+     */
+    void transferStreamBytesRaw(long offset, int length, OutputStream out) throws IOException {
+        if (length <= 0) {
+            return;
+        }
+        RandomAccessFileOrArray file = tokens.getSafeFile();
+        try {
+            file.seek(offset);
+            byte[] buffer = new byte[Math.min(length, RAW_DATA_TRANSFER_BUFFER_SIZE)];
+            int remaining = length;
+            while (remaining > 0) {
+                int n = Math.min(remaining, buffer.length);
+                file.readFully(buffer, 0, n);
+                out.write(buffer, 0, n);
+                remaining -= n;
+            }
+        } finally {
+            closeSafeFile(file);
+        }
+    }
+
+    void addPendingRawDataCopy(PdfStream copy) {
+        synchronized (pendingRawDataCopies) {
+            pendingRawDataCopies.add(copy);
+        }
+    }
+
+    void removePendingRawDataCopy(PdfStream copy) {
+        synchronized (pendingRawDataCopies) {
+            pendingRawDataCopies.remove(copy);
+        }
+    }
+
     /**
      * Reads, decrypts and optionally decodes stream bytes into {@link ByteArrayInputStream}.
      * User is responsible for closing returned stream.
@@ -453,6 +597,46 @@ public class PdfReader implements Closeable {
         return bytes != null ? new ByteArrayInputStream(bytes) : null;
     }
 
+    /**
+     * Creates a stream which reads, decrypts and optionally decodes stream bytes on the fly.
+     * User is responsible for closing returned stream.
+     * <p>
+     * Unlike {@link #readStream(PdfStream, boolean)}, the stream bytes are not read into memory as a whole:
+     * they are read from the document source as they are consumed, and the filters which implement
+     * {@link com.itextpdf.kernel.pdf.filters.IStreamingFilterHandler} decode them incrementally, see
+     * {@link #decodeStream(InputStream, PdfDictionary, Map)}. Thus the returned stream is valid only until
+     * this reader is closed, and the errors of reading, decryption and decoding, including the exceeded
+     * memory limits, are thrown by the methods of the returned stream as the bytes are consumed.
+     *
+     * @param stream a {@link PdfStream} stream instance to be read
+     * @param decode true if to get decoded stream, false if to leave it originally encoded.
+     * @return InputStream or {@code null} if reading was failed.
+     * @throws IOException on error.
+     */
+    public InputStream readStreamLazily(PdfStream stream, boolean decode) throws IOException {
+        if (stream == null) {
+            throw new PdfException(KernelExceptionMessageConstant.UNABLE_TO_READ_STREAM_BYTES);
+        }
+        checkStreamLengthBeforeReading(stream);
+        long offset = stream.getOffset();
+        if (offset <= 0) {
+            return null;
+        }
+        int length = stream.getLength();
+        InputStream is = length <= 0 ? new ByteArrayInputStream(new byte[0]) : new RASInputStream(
+                new WindowRandomAccessSource(tokens.getSafeFile().createSourceView(), offset, length));
+        if (length > 0 && isStreamDecryptionRequired(stream)) {
+            if (isConcurrentReading()) {
+                synchronized (readingLock) {
+                    is = createStreamDecryptionStream(stream, is);
+                }
+            } else {
+                is = createStreamDecryptionStream(stream, is);
+            }
+        }
+        return decode ? decodeStream(is, stream) : is;
+    }
+
     /**
      * Decode bytes applying the filters specified in the provided dictionary using default filter handlers.
      *
@@ -478,72 +662,95 @@ public class PdfReader implements Closeable {
         if (b == null) {
             return null;
         }
-        PdfObject filter = streamDictionary.get(PdfName.Filter);
-        PdfArray filters = new PdfArray();
-        if (filter != null) {
-            if (filter.getType() == PdfObject.NAME) {
-                filters.add(filter);
-            } else if (filter.getType() == PdfObject.ARRAY) {
-                filters = ((PdfArray) filter);
-            }
-        }
-
-        MemoryLimitsAwareHandler memoryLimitsAwareHandler = null;
-        if (null != streamDictionary.getIndirectReference()) {
-            memoryLimitsAwareHandler = streamDictionary.getIndirectReference().getDocument().memoryLimitsAwareHandler;
-        }
+        PdfArray filters = getFilters(streamDictionary);
+        MemoryLimitsAwareHandler memoryLimitsAwareHandler = getMemoryLimitsAwareHandler(streamDictionary);
 
         final boolean memoryLimitsAwarenessRequired = null != memoryLimitsAwareHandler &&
                 memoryLimitsAwareHandler.isMemoryLimitsAwarenessRequiredOnDecompression(filters);
 
-        if(memoryLimitsAwarenessRequired) {
-            memoryLimitsAwareHandler.beginDecompressedPdfStreamProcessing();
+        PdfArray dp = getDecodeParams(streamDictionary);
+        if (memoryLimitsAwarenessRequired) {
+            // The handler tracks the stream which is being decompressed at the moment,
+            // so streams of the same document must not be decoded concurrently in this case.
+            synchronized (memoryLimitsAwareHandler) {
+                memoryLimitsAwareHandler.beginDecompressedPdfStreamProcessing();
+                b = applyFilters(b, filters, dp, streamDictionary, filterHandlers, memoryLimitsAwareHandler);
+                memoryLimitsAwareHandler.endDecompressedPdfStreamProcessing();
+            }
+            return b;
         }
+        return applyFilters(b, filters, dp, streamDictionary, filterHandlers, null);
+    }
 
-        PdfArray dp = new PdfArray();
-        PdfObject dpo = streamDictionary.get(PdfName.DecodeParms);
-        if (dpo == null || (dpo.getType() != PdfObject.DICTIONARY && dpo.getType() != PdfObject.ARRAY)) {
-            if (dpo != null) dpo.release();
-            dpo = streamDictionary.get(PdfName.DP);
+    /**
+     * Creates a stream which decodes the data of the passed stream on the fly applying the filters specified in
+     * the provided dictionary using default filter handlers.
+     *
+     * @param is               the stream of the data to decode
+     * @param streamDictionary the dictionary that contains filter information
+     * @return the stream of the decoded data
+     * @throws PdfException if there are any problems decoding the data
+     * @see #decodeStream(InputStream, PdfDictionary, Map)
+     */
+    public static InputStream decodeStream(InputStream is, PdfDictionary streamDictionary) {
+        return decodeStream(is, streamDictionary, FilterHandlers.getDefaultFilterHandlers());
+    }
+
+    /**
+     * Creates a stream which decodes the data of the passed stream on the fly applying the filters specified in
+     * the provided dictionary using the provided filter handlers.
+     * <p>
+     * The handlers which implement {@link com.itextpdf.kernel.pdf.filters.IStreamingFilterHandler} decode the data
+     * incrementally, keeping only bounded buffers in memory. The data passed to any other handler are read into
+     * memory as a whole to be decoded. If the document of the stream requires the memory limits awareness on
+     * decompression of the stream, the limits of its {@link MemoryLimitsAwareHandler} are enforced on the decoded
+     * data as they are read.
+     *
+     * @param is               the stream of the data to decode
+     * @param streamDictionary the dictionary that contains filter information
+     * @param filterHandlers   the map used to look up a handler for each type of filter
+     * @return the stream of the decoded data, which closes the passed stream on closing
+     * @throws PdfException if there are any problems decoding the data
+     */
+    public static InputStream decodeStream(InputStream is, PdfDictionary streamDictionary,
+            Map<PdfName, IFilterHandler> filterHandlers) {
+        if (is == null) {
+            return null;
         }
-        if (dpo != null) {
-            if (dpo.getType() == PdfObject.DICTIONARY) {
-                dp.add(dpo);
-            } else if (dpo.getType() == PdfObject.ARRAY) {
-                dp = ((PdfArray) dpo);
-            }
-            dpo.release();
+        PdfArray filters = getFilters(streamDictionary);
+        MemoryLimitsAwareHandler memoryLimitsAwareHandler = getMemoryLimitsAwareHandler(streamDictionary);
+        if (memoryLimitsAwareHandler != null
+                && !memoryLimitsAwareHandler.isMemoryLimitsAwarenessRequiredOnDecompression(filters)) {
+            memoryLimitsAwareHandler = null;
         }
+        PdfArray dp = getDecodeParams(streamDictionary);
+        MemoryLimitsAwareInputStream lastStage = null;
         for (int j = 0; j < filters.size(); ++j) {
             PdfName filterName = (PdfName) filters.get(j);
-            IFilterHandler filterHandler = filterHandlers.get(filterName);
-            if (filterHandler == null)
-                throw new PdfException(KernelExceptionMessageConstant.THIS_FILTER_IS_NOT_SUPPORTED)
-                        .setMessageParams(filterName);
-
-            PdfDictionary decodeParams;
-            if (j < dp.size()) {
-                PdfObject dpEntry = dp.get(j, true);
-                if (dpEntry == null || dpEntry.getType() == PdfObject.NULL) {
-                    decodeParams = null;
-                } else if (dpEntry.getType() == PdfObject.DICTIONARY) {
-                    decodeParams = (PdfDictionary) dpEntry;
-                } else {
-                    throw new PdfException(KernelExceptionMessageConstant.THIS_DECODE_PARAMETER_TYPE_IS_NOT_SUPPORTED)
-                            .setMessageParams(dpEntry.getClass().toString());
-                }
+            IFilterHandler filterHandler = getFilterHandler(filterHandlers, filterName);
+            PdfDictionary decodeParams = getFilterDecodeParams(dp, j);
+            if (filterHandler instanceof IStreamingFilterHandler) {
+                is = ((IStreamingFilterHandler) filterHandler).decodeStream(is, filterName, decodeParams,
+                        streamDictionary);
             } else {
-                decodeParams = null;
+                byte[] b;
+                try {
+                    b = StreamUtil.inputStreamToArray(is);
+                    is.close();
+                } catch (IOException e) {
+                    throw new PdfException(KernelExceptionMessageConstant.IO_EXCEPTION, e);
+                }
+                is = new ByteArrayInputStream(filterHandler.decode(b, filterName, decodeParams, streamDictionary));
             }
-            b = filterHandler.decode(b, filterName, decodeParams, streamDictionary);
-            if (memoryLimitsAwarenessRequired) {
-                memoryLimitsAwareHandler.considerBytesOccupiedByDecompressedPdfStream(b.length);
+            if (memoryLimitsAwareHandler != null) {
+                lastStage = new MemoryLimitsAwareInputStream(is, memoryLimitsAwareHandler, lastStage);
+                is = lastStage;
             }
         }
-        if (memoryLimitsAwarenessRequired) {
-            memoryLimitsAwareHandler.endDecompressedPdfStreamProcessing();
+        if (lastStage != null) {
+            lastStage.setLastStage();
         }
-        return b;
+        return is;
     }
 
     /**
@@ -556,6 +763,29 @@ public class PdfReader implements Closeable {
         return tokens.getSafeFile();
     }
 
+    /**
+     * Creates a new reader of the same PDF document, which shares the source bytes with this reader,
+     * but parses the document independently of it. The new reader has the same properties and settings
+     * as this one, so it can be used to open another {@link PdfDocument} instance of the same document,
+     * e.g. to process the document on several threads at once. The only exception is the
+     * {@link ReaderProperties#setMemoryLimitsAwareHandler(MemoryLimitsAwareHandler) memory limits aware handler},
+     * which counts the memory used by a single document: the new reader gets its own
+     * {@link MemoryLimitsAwareHandler#createNewInstance() new instance} of it.
+     * <p>
+     * The new reader doesn't own the source bytes, so this reader must not be closed before it.
+     *
+     * @return the new reader of the same document
+     * @throws IOException if the source bytes can't be accessed
+     */
+    public PdfReader createView() throws IOException {
+        ReaderProperties viewProperties = properties == null ? null : properties.createCopyForAnotherDocument();
+        PdfReader view = new PdfReader(tokens.getSafeFile().createSourceView(), viewProperties, false);
+        view.unethicalReading = unethicalReading;
+        view.memorySavingMode = memorySavingMode;
+        view.strictnessLevel = strictnessLevel;
+        return view;
+    }
+
     /**
      * Provides the size of the opened file.
      *
@@ -766,49 +996,54 @@ public class PdfReader implements Closeable {
         }
         pdfDocument.getXref().markReadingCompleted();
         readDecryptObj();
+        if (isConcurrentReading()) {
+            // Creating a view wraps the shared byte source into a thread-safe one unless it is thread-safe already,
+            // which must happen before the document is accessed from different threads.
+            tokens.getSafeFile().close();
+        }
     }
 
     protected void readObjectStream(PdfStream objectStream) throws IOException {
+        readObjectStream(objectStream, null);
+    }
+
+    /**
+     * Reads the objects of the object stream.
+     *
+     * @param objectStream       the object stream to read
+     * @param requestedReference the reference to the object the object stream is read for, which is
+     *                           referenced strongly until it is returned to the caller even if the objects
+     *                           are reclaimable, or {@code null}
+     * @throws IOException on error
+     */
+    private void readObjectStream(PdfStream objectStream, PdfIndirectReference requestedReference)
+            throws IOException {
         if (objectStream == null) {
             throw new PdfException(KernelExceptionMessageConstant.UNABLE_TO_READ_OBJECT_STREAM);
         }
 
         int objectStreamNumber = objectStream.getIndirectReference().getObjNumber();
-        int first = objectStream.getAsNumber(PdfName.First).intValue();
-        int n = objectStream.getAsNumber(PdfName.N).intValue();
-        byte[] bytes = readStreamBytes(objectStream, true);
+        ObjectStreamCache.ObjectStreamData objectStreamData =
+                objectStreamCache != null ? objectStreamCache.get(objectStreamNumber) : null;
+        if (objectStreamData == null) {
+            objectStreamData = readObjectStreamData(objectStream);
+            if (objectStreamCache != null) {
+                objectStreamCache.put(objectStreamNumber, objectStreamData);
+            }
+        }
+        int n = objectStreamData.objNumbers.length;
+        int[] address = objectStreamData.addresses;
+        int[] objNumber = objectStreamData.objNumbers;
         PdfTokenizer saveTokens = tokens;
         try {
-            tokens = new PdfTokenizer(new RandomAccessFileOrArray(new RandomAccessSourceFactory().createSource(bytes)));
-            int[] address = new int[n];
-            int[] objNumber = new int[n];
-            boolean ok = true;
-            for (int k = 0; k < n; ++k) {
-                ok = tokens.nextToken();
-                if (!ok)
-                    break;
-                if (tokens.getTokenType() != PdfTokenizer.TokenType.Number) {
-                    ok = false;
-                    break;
-                }
-                objNumber[k] = tokens.getIntValue();
-                ok = tokens.nextToken();
-                if (!ok)
-                    break;
-                if (tokens.getTokenType() != PdfTokenizer.TokenType.Number) {
-                    ok = false;
-                    break;
-                }
-                address[k] = tokens.getIntValue() + first;
-            }
-            if (!ok)
-                throw new PdfException(KernelExceptionMessageConstant.ERROR_WHILE_READING_OBJECT_STREAM);
+            tokens = new PdfTokenizer(new RandomAccessFileOrArray(
+                    new RandomAccessSourceFactory().createSource(objectStreamData.bytes)));
             for (int k = 0; k < n; ++k) {
                 tokens.seek(address[k]);
                 tokens.nextToken();
                 PdfObject obj;
                 PdfIndirectReference reference = pdfDocument.getXref().get(objNumber[k]);
-                if (reference.refersTo != null || reference.getObjStreamNumber() != objectStreamNumber) {
+                if (reference.getLoadedRefersTo() != null || reference.getObjStreamNumber() != objectStreamNumber) {
                     // We skip reading of objects stream's element k if either it is already available in xref
                     // or if corresponding indirect object reference points to a different object stream.
                     // The first check prevents from re-initializing objects which are already read. One of the cases
@@ -826,7 +1061,11 @@ public class PdfReader implements Closeable {
                     tokens.seek(address[k]);
                     obj = readObject(false, true);
                 }
-                reference.setRefersTo(obj);
+                if (reference != requestedReference && isObjectReclaimable()) {
+                    reference.setReclaimableRefersTo(obj);
+                } else {
+                    reference.setRefersTo(obj);
+                }
                 obj.setIndirectReference(reference);
             }
             objectStream.getIndirectReference().setState(PdfObject.ORIGINAL_OBJECT_STREAM);
@@ -835,8 +1074,48 @@ public class PdfReader implements Closeable {
         }
     }
 
+    private ObjectStreamCache.ObjectStreamData readObjectStreamData(PdfStream objectStream) throws IOException {
+        int first = objectStream.getAsNumber(PdfName.First).intValue();
+        int n = objectStream.getAsNumber(PdfName.N).intValue();
+        byte[] bytes = readStreamBytes(objectStream, true);
+        PdfTokenizer tokenizer = new PdfTokenizer(
+                new RandomAccessFileOrArray(new RandomAccessSourceFactory().createSource(bytes)));
+        int[] address = new int[n];
+        int[] objNumber = new int[n];
+        boolean ok = true;
+        for (int k = 0; k < n; ++k) {
+            ok = tokenizer.nextToken();
+            if (!ok)
+                break;
+            if (tokenizer.getTokenType() != PdfTokenizer.TokenType.Number) {
+                ok = false;
+                break;
+            }
+            objNumber[k] = tokenizer.getIntValue();
+            ok = tokenizer.nextToken();
+            if (!ok)
+                break;
+            if (tokenizer.getTokenType() != PdfTokenizer.TokenType.Number) {
+                ok = false;
+                break;
+            }
+            address[k] = tokenizer.getIntValue() + first;
+        }
+        if (!ok)
+            throw new PdfException(KernelExceptionMessageConstant.ERROR_WHILE_READING_OBJECT_STREAM);
+        return new ObjectStreamCache.ObjectStreamData(bytes, objNumber, address);
+    }
+
     protected PdfObject readObject(PdfIndirectReference reference) {
-        return readObject(reference, true);
+        if (!isConcurrentReading()) {
+            return readObject(reference, true);
+        }
+        synchronized (readingLock) {
+            PdfObject object = readObject(reference, true);
+            // The object is published while the lock is still held, so that it is never parsed twice
+            reference.setRefersTo(object);
+            return object;
+        }
     }
 
     protected PdfObject readObject(boolean readAsDirect) throws IOException {
@@ -955,7 +1234,8 @@ public class PdfReader implements Closeable {
 
     protected PdfName readPdfName(boolean readAsDirect) {
         if (readAsDirect) {
-            PdfName cachedName = PdfName.staticNames.get(tokens.getStringValue());
+            PdfName cachedName = PdfName.getStaticName(tokens.getInternalByteContent(), 0,
+                    tokens.getByteContentLength());
             if (cachedName != null)
                 return cachedName;
         }
@@ -1111,37 +1391,44 @@ public class PdfReader implements Closeable {
                     end--;
                     continue;
                 }
+                if (xref.hasNotCreatedReference(num)) {
+                    // the entry has already been read from a more recent xref section
+                    continue;
+                }
                 PdfIndirectReference reference = xref.get(num);
                 boolean refReadingState = reference != null && reference.checkState(PdfObject.READING) && reference.getGenNumber() == gen;
                 // for references that are added by xref table itself (like 0 entry)
                 boolean refFirstEncountered = reference == null
                         || !refReadingState && reference.getDocument() == null;
 
-                if (refFirstEncountered) {
-                    reference = new PdfIndirectReference(pdfDocument, num, gen, pos);
-                } else if (refReadingState) {
+                if (refReadingState) {
                     reference.setOffset(pos);
                     reference.clearState(PdfObject.READING);
-                } else {
+                } else if (!refFirstEncountered) {
                     continue;
                 }
 
+                boolean free = false;
                 if (tokens.tokenValueEqualsTo(PdfTokenizer.N)) {
                     if (pos == 0) {
                         tokens.throwError(
                                 KernelExceptionMessageConstant.FILE_POSITION_0_CROSS_REFERENCE_ENTRY_IN_THIS_XREF_SUBSECTION);
                     }
                 } else if (tokens.tokenValueEqualsTo(PdfTokenizer.F)) {
-                    if (refFirstEncountered) {
-                        reference.setState(PdfObject.FREE);
-                    }
+                    free = true;
                 } else {
                     tokens.throwError(
                             KernelExceptionMessageConstant.INVALID_CROSS_REFERENCE_ENTRY_IN_THIS_XREF_SUBSECTION);
                 }
 
                 if (refFirstEncountered) {
-                    xref.add(reference);
+                    if (free) {
+                        xref.add((PdfIndirectReference) new PdfIndirectReference(pdfDocument, num, gen, pos)
+                                .setState(PdfObject.FREE));
+                    } else {
+                        // the reference is created only when the object is requested
+                        xref.addNotCreatedReference(pdfDocument, num, gen, pos, 0);
+                    }
                 }
             }
         }
@@ -1242,33 +1529,39 @@ public class PdfReader implements Closeable {
                         field3 = (field3 << 8) + (b[bptr++] & 0xff);
                     }
                     int base = start;
-                    PdfIndirectReference newReference;
-                    switch (type) {
-                        case 0:
-                            newReference = (PdfIndirectReference) new PdfIndirectReference(pdfDocument, base, field3, field2).setState(PdfObject.FREE);
-                            break;
-                        case 1:
-                            newReference = new PdfIndirectReference(pdfDocument, base, field3, field2);
-                            break;
-                        case 2:
-                            newReference = new PdfIndirectReference(pdfDocument, base, 0, field3);
-                            newReference.setObjStreamNumber((int) field2);
-                            break;
-                        default:
-                            throw new PdfException(KernelExceptionMessageConstant.INVALID_XREF_STREAM);
+                    if (type > 2) {
+                        throw new PdfException(KernelExceptionMessageConstant.INVALID_XREF_STREAM);
                     }
+                    if (xref.hasNotCreatedReference(base)) {
+                        // the entry has already been read from a more recent xref stream
+                        ++start;
+                        continue;
+                    }
+                    int genNr = type == 2 ? 0 : field3;
 
                     PdfIndirectReference reference = xref.get(base);
-                    boolean refReadingState = reference != null && reference.checkState(PdfObject.READING) && reference.getGenNumber() == newReference.getGenNumber();
+                    boolean refReadingState = reference != null && reference.checkState(PdfObject.READING) && reference.getGenNumber() == genNr;
                     // for references that are added by xref table itself (like 0 entry)
                     boolean refFirstEncountered = reference == null
                             || !refReadingState && reference.getDocument() == null;
 
                     if (refFirstEncountered) {
-                        xref.add(newReference);
+                        switch (type) {
+                            case 0:
+                                xref.add((PdfIndirectReference) new PdfIndirectReference(pdfDocument, base, field3,
+                                        field2).setState(PdfObject.FREE));
+                                break;
+                            case 1:
+                                // the reference is created only when the object is requested
+                                xref.addNotCreatedReference(pdfDocument, base, field3, field2, 0);
+                                break;
+                            default:
+                                xref.addNotCreatedReference(pdfDocument, base, 0, field3, (int) field2);
+                                break;
+                        }
                     } else if (refReadingState) {
-                        reference.setOffset(newReference.getOffset());
-                        reference.setObjStreamNumber(newReference.getObjStreamNumber());
+                        reference.setOffset(type == 2 ? -1 : field2);
+                        reference.setObjStreamNumber(type == 2 ? (int) field2 : 0);
                         reference.clearState(PdfObject.READING);
                     }
                     ++start;
@@ -1303,10 +1596,7 @@ public class PdfReader implements Closeable {
                     continue;
                 int num = obj[0];
                 int gen = obj[1];
-                PdfIndirectReference reference = xref.get(num);
-                if (reference != null && reference.getGenNumber() == gen) {
-                    reference.fixOffset(pos);
-                }
+                xref.fixOffset(num, gen, pos);
             }
         }
     }
@@ -1316,10 +1606,18 @@ public class PdfReader implements Closeable {
         xrefStm = false;
         hybridXref = false;
         rebuiltXref = true;
+        if (objectStreamCache != null) {
+            // object numbers may refer to other object streams after the cross-reference table is rebuilt
+            objectStreamCache.clear();
+        }
         PdfXrefTable xref = pdfDocument.getXref();
         xref.clear();
         tokens.seek(0);
         trailer = null;
+        if (properties != null && properties.xrefRebuildExecutor != null) {
+            rebuildXrefInParallel(properties.xrefRebuildExecutor);
+            return;
+        }
         ByteBuffer buffer = new ByteBuffer(24);
         try (PdfTokenizer lineTokenizer = new PdfTokenizer(
                 new RandomAccessFileOrArray(new ReusableRandomAccessSource(buffer)))) {
@@ -1368,6 +1666,31 @@ public class PdfReader implements Closeable {
         }
     }
 
+    private void rebuildXrefInParallel(Executor executor) throws IOException {
+        ParallelXrefScanner.ScanResult scanResult = new ParallelXrefScanner(executor, xrefRebuildChunkSize)
+                .scan(tokens.getSafeFile().createSourceView());
+        PdfXrefTable xref = pdfDocument.getXref();
+        for (int i = 0; i < scanResult.getObjectCount(); ++i) {
+            int num = scanResult.getObjectNumber(i);
+            int gen = scanResult.getGenerationNumber(i);
+            if (xref.get(num) == null || xref.get(num).getGenNumber() <= gen) {
+                xref.add(new PdfIndirectReference(pdfDocument, num, gen, scanResult.getObjectPosition(i)));
+            }
+        }
+        // the last trailer is used, as if the document was read line by line
+        Long trailerIndex = null;
+        List<Long> trailers = scanResult.getTrailers();
+        for (int i = trailers.size() - 1; i >= 0 && trailerIndex == null; --i) {
+            tokens.seek((long) trailers.get(i));
+            tokens.nextToken();
+            long pos = tokens.getPosition();
+            if (isCurrentObjectATrailer()) {
+                trailerIndex = pos;
+            }
+        }
+        setTrailerFromTrailerIndex(trailerIndex);
+    }
+
     private boolean isCurrentObjectATrailer() {
         try {
             final PdfDictionary dic = (PdfDictionary) readObject(false);
@@ -1417,6 +1740,34 @@ public class PdfReader implements Closeable {
         return memorySavingMode;
     }
 
+    /**
+     * Checks if the document is opened with concurrent reading enabled,
+     * see {@link ReaderProperties#setConcurrentReading(boolean)}.
+     *
+     * @return {@code true} if the document may be read from several threads at once
+     */
+    public boolean isConcurrentReading() {
+        return properties.concurrentReading;
+    }
+
+    boolean isMetadataOnlyMode() {
+        return properties.metadataOnlyMode;
+    }
+
+    /**
+     * Checks if the objects read from the document are referenced softly, which is the case only for the documents
+     * opened in reading mode with {@link ReaderProperties#setReclaimableObjects(boolean)} enabled.
+     *
+     * @return true if the objects read from the document may be reclaimed by the garbage collector
+     */
+    boolean isObjectReclaimable() {
+        return properties.reclaimableObjects && pdfDocument != null && pdfDocument.getWriter() == null;
+    }
+
+    Object getReadingLock() {
+        return readingLock;
+    }
+
     void setXrefProcessor(XrefProcessor xrefProcessor) {
         this.xrefProcessor = xrefProcessor;
     }
@@ -1455,11 +1806,156 @@ public class PdfReader implements Closeable {
         }
     }
 
+    List<PdfStream> getPendingRawDataCopies() {
+        synchronized (pendingRawDataCopies) {
+            return new ArrayList<>(pendingRawDataCopies);
+        }
+    }
+
+    private static void closeSafeFile(RandomAccessFileOrArray file) {
+        try {
+            file.close();
+        } catch (Exception e) {
+            // ignored
+        }
+    }
+
+    private void checkStreamLengthBeforeReading(PdfStream stream) throws IOException {
+        PdfName type = stream.getAsName(PdfName.Type);
+        if (!PdfName.XRef.equals(type) && !PdfName.ObjStm.equals(type)) {
+            if (isConcurrentReading()) {
+                synchronized (readingLock) {
+                    checkPdfStreamLength(stream);
+                }
+            } else {
+                checkPdfStreamLength(stream);
+            }
+        }
+    }
+
+    private boolean isStreamDecryptionRequired(PdfStream stream) {
+        boolean embeddedStream = pdfDocument.doesStreamBelongToEmbeddedFile(stream);
+        if (decrypt == null || (decrypt.isEmbeddedFilesOnly() && !embeddedStream)) {
+            return false;
+        }
+        PdfObject filter = stream.get(PdfName.Filter, true);
+        boolean skip = false;
+        if (filter != null) {
+            if (filter.isFlushed()) {
+                IndirectFilterUtils.throwFlushedFilterException(stream);
+            }
+            if (PdfName.Crypt.equals(filter)) {
+                skip = true;
+            } else if (filter.getType() == PdfObject.ARRAY) {
+                PdfArray filters = (PdfArray) filter;
+                for (int k = 0; k < filters.size(); k++) {
+                    if (filters.get(k).isFlushed()) {
+                        IndirectFilterUtils.throwFlushedFilterException(stream);
+                    }
+                    if (!filters.isEmpty() && PdfName.Crypt.equals(filters.get(k, true))) {
+                        skip = true;
+                        break;
+                    }
+                }
+            }
+            filter.release();
+        }
+        return !skip;
+    }
+
+    private InputStream createStreamDecryptionStream(PdfStream stream, InputStream is) {
+        decrypt.setHashKeyForNextObject(stream.getIndirectReference().getObjNumber(),
+                stream.getIndirectReference().getGenNumber());
+        return decrypt.getDecryptionStream(is);
+    }
+
+    private byte[] decryptStreamBytes(PdfStream stream, byte[] bytes) {
+        decrypt.setHashKeyForNextObject(stream.getIndirectReference().getObjNumber(),
+                stream.getIndirectReference().getGenNumber());
+        return decrypt.decryptByteArray(bytes);
+    }
+
+    private static byte[] applyFilters(byte[] b, PdfArray filters, PdfArray dp, PdfDictionary streamDictionary,
+            Map<PdfName, IFilterHandler> filterHandlers, MemoryLimitsAwareHandler memoryLimitsAwareHandler) {
+        for (int j = 0; j < filters.size(); ++j) {
+            PdfName filterName = (PdfName) filters.get(j);
+            IFilterHandler filterHandler = getFilterHandler(filterHandlers, filterName);
+            PdfDictionary decodeParams = getFilterDecodeParams(dp, j);
+            b = filterHandler.decode(b, filterName, decodeParams, streamDictionary);
+            if (memoryLimitsAwareHandler != null) {
+                memoryLimitsAwareHandler.considerBytesOccupiedByDecompressedPdfStream(b.length);
+            }
+        }
+        return b;
+    }
+
+    private static PdfArray getFilters(PdfDictionary streamDictionary) {
+        PdfObject filter = streamDictionary.get(PdfName.Filter);
+        PdfArray filters = new PdfArray();
+        if (filter != null) {
+            if (filter.getType() == PdfObject.NAME) {
+                filters.add(filter);
+            } else if (filter.getType() == PdfObject.ARRAY) {
+                filters = ((PdfArray) filter);
+            }
+        }
+        return filters;
+    }
+
+    private static PdfArray getDecodeParams(PdfDictionary streamDictionary) {
+        PdfArray dp = new PdfArray();
+        PdfObject dpo = streamDictionary.get(PdfName.DecodeParms);
+        if (dpo == null || (dpo.getType() != PdfObject.DICTIONARY && dpo.getType() != PdfObject.ARRAY)) {
+            if (dpo != null) dpo.release();
+            dpo = streamDictionary.get(PdfName.DP);
+        }
+        if (dpo != null) {
+            if (dpo.getType() == PdfObject.DICTIONARY) {
+                dp.add(dpo);
+            } else if (dpo.getType() == PdfObject.ARRAY) {
+                dp = ((PdfArray) dpo);
+            }
+            dpo.release();
+        }
+        return dp;
+    }
+
+    private static MemoryLimitsAwareHandler getMemoryLimitsAwareHandler(PdfDictionary streamDictionary) {
+        if (null != streamDictionary.getIndirectReference()) {
+            return streamDictionary.getIndirectReference().getDocument().memoryLimitsAwareHandler;
+        }
+        return null;
+    }
+
+    private static IFilterHandler getFilterHandler(Map<PdfName, IFilterHandler> filterHandlers, PdfName filterName) {
+        IFilterHandler filterHandler = filterHandlers.get(filterName);
+        if (filterHandler == null)
+            throw new PdfException(KernelExceptionMessageConstant.THIS_FILTER_IS_NOT_SUPPORTED)
+                    .setMessageParams(filterName);
+        return filterHandler;
+    }
+
+    private static PdfDictionary getFilterDecodeParams(PdfArray dp, int filterIndex) {
+        if (filterIndex >= dp.size()) {
+            return null;
+        }
+        PdfObject dpEntry = dp.get(filterIndex, true);
+        if (dpEntry == null || dpEntry.getType() == PdfObject.NULL) {
+            return null;
+        } else if (dpEntry.getType() == PdfObject.DICTIONARY) {
+            return (PdfDictionary) dpEntry;
+        } else {
+            throw new PdfException(KernelExceptionMessageConstant.THIS_DECODE_PARAMETER_TYPE_IS_NOT_SUPPORTED)
+                    .setMessageParams(dpEntry.getClass().toString());
+        }
+    }
+
     private PdfObject readObject(PdfIndirectReference reference, boolean fixXref) {
         if (reference == null)
             return null;
-        if (reference.refersTo != null)
-            return reference.refersTo;
+        PdfObject loadedObject = reference.getLoadedRefersTo();
+        if (loadedObject != null)
+            return loadedObject;
         try {
             currentIndirectReference = reference;
             if (reference.getObjStreamNumber() > 0) {
@@ -1471,8 +1967,12 @@ public class PdfReader implements Closeable {
                             , reference.getObjStreamNumber(), reference.getIndex()));
                 }
 
-                readObjectStream(objectStream);
-                return reference.refersTo;
+                if (isObjectReclaimable()) {
+                    readObjectStream(objectStream, reference);
+                } else {
+                    readObjectStream(objectStream);
+                }
+                return reference.getLoadedRefersTo();
             } else if (reference.getOffset() > 0) {
                 PdfObject object;
                 try {
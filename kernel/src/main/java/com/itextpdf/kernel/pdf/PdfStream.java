@@ -45,6 +45,10 @@ public class PdfStream extends PdfDictionary {
     private InputStream inputStream;
     private long offset;
     private int length = -1;
+    // The source of the data of the copied stream which are transferred on write unless they are accessed before
+    private PdfReader rawDataReader;
+    private long rawDataOffset;
+    private int rawDataLength;
 
     /**
      * Constructs a {@code PdfStream}-object.
@@ -166,6 +170,7 @@ public class PdfStream extends PdfDictionary {
      * @return output stream
      */
     public PdfOutputStream getOutputStream() {
+        loadPendingRawData();
         return outputStream;
     }
 
@@ -227,7 +232,16 @@ public class PdfStream extends PdfDictionary {
             return null;
         }
         byte[] bytes = null;
-        if (outputStream != null && outputStream.getOutputStream() != null) {
+        if (rawDataReader != null) {
+            try {
+                bytes = rawDataReader.readStreamBytesRaw(rawDataOffset, rawDataLength);
+                if (decoded && containsKey(PdfName.Filter)) {
+                    bytes = PdfReader.decodeBytes(bytes, this);
+                }
+            } catch (IOException ioe) {
+                throw new PdfException(KernelExceptionMessageConstant.CANNOT_GET_PDF_STREAM_BYTES, ioe, this);
+            }
+        } else if (outputStream != null && outputStream.getOutputStream() != null) {
             assert outputStream.getOutputStream() instanceof ByteArrayOutputStream
                     : "Invalid OutputStream: ByteArrayByteArrayOutputStream expected";
             try {
@@ -285,9 +299,10 @@ public class PdfStream extends PdfDictionary {
                     KernelExceptionMessageConstant.CANNOT_SET_DATA_TO_PDF_STREAM_WHICH_WAS_CREATED_BY_INPUT_STREAM);
         }
 
+        loadPendingRawData();
         boolean outputStreamIsUninitialized = outputStream == null;
         if (outputStreamIsUninitialized) {
-            outputStream = new PdfOutputStream(new ByteArrayOutputStream());
+            outputStream = new PdfOutputStream(createDataStream());
         }
 
         if (append) {
@@ -324,11 +339,89 @@ public class PdfStream extends PdfDictionary {
         remove(PdfName.DecodeParms);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If the stream data storage is set for the document writer, the data of the stream are moved to
+     * the buffer which keeps the large data in the storage, see
+     * {@link WriterProperties#setStreamDataStorage(IStreamDataStorage, int)}.
+     */
+    @Override
+    public PdfObject makeIndirect(PdfDocument document, PdfIndirectReference reference) {
+        boolean wasDirect = getIndirectReference() == null;
+        super.makeIndirect(document, reference);
+        if (wasDirect && getIndirectReference() != null && outputStream != null
+                && outputStream.getOutputStream() != null
+                && outputStream.getOutputStream().getClass() == ByteArrayOutputStream.class) {
+            ByteArrayOutputStream data = (ByteArrayOutputStream) outputStream.getOutputStream();
+            ByteArrayOutputStream buffer = document.getWriter().createStreamDataBuffer(0);
+            if (buffer.getClass() != ByteArrayOutputStream.class) {
+                try {
+                    data.writeTo(buffer);
+                } catch (IOException e) {
+                    throw new PdfException(KernelExceptionMessageConstant.IO_EXCEPTION, e);
+                }
+                outputStream.setOutputStream(buffer);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Checks if the data of the stream are still to be transferred from the document this stream was copied from.
+     */
+    boolean hasPendingRawData() {
+        return rawDataReader != null;
+    }
+
+    int getPendingRawDataLength() {
+        return rawDataLength;
+    }
+
+    /**
+     * Writes the data of the copied stream to the output as is, directly from the source document.
+     *
+     * @param out the output to write the data to
+     * @throws IOException on error
+     */
+    void writePendingRawData(java.io.OutputStream out) throws IOException {
+        rawDataReader.transferStreamBytesRaw(rawDataOffset, rawDataLength, out);
+        discardPendingRawData();
+    }
+
+    /**
+     * Reads the data of the copied stream from the source document to the output stream of this stream, so that
+     * they can be modified or outlive the source document.
+     */
+    void loadPendingRawData() {
+        if (rawDataReader == null) {
+            return;
+        }
+        PdfReader reader = rawDataReader;
+        discardPendingRawData();
+        try {
+            byte[] bytes = reader.readStreamBytesRaw(rawDataOffset, rawDataLength);
+            if (outputStream == null) {
+                outputStream = new PdfOutputStream(createDataStream());
+            }
+            outputStream.write(bytes);
+        } catch (IOException ioe) {
+            throw new PdfException(KernelExceptionMessageConstant.CANNOT_COPY_OBJECT_CONTENT, ioe, this);
+        }
+    }
+
     @Override
     protected PdfObject newInstance() {
         return new PdfStream();
     }
 
+    private void discardPendingRawData() {
+        if (rawDataReader != null) {
+            rawDataReader.removePendingRawDataCopy(this);
+            rawDataReader = null;
+        }
+    }
+
     protected long getOffset() {
         return offset;
     }
@@ -353,6 +446,17 @@ public class PdfStream extends PdfDictionary {
         super.copyContent(from, document, copyFilter);
         PdfStream stream = (PdfStream) from;
         assert inputStream == null : "Try to copy the PdfStream that has been just created.";
+        PdfReader reader = stream.getIndirectReference() != null ? stream.getIndirectReference().getReader() : null;
+        if (document != null && document.getWriter() != null && reader != null
+                && reader.isRawDataTransferAllowed(stream)) {
+            // The data of the unmodified stream are transferred from the source document as is when the copy is
+            // written, see PdfOutputStream
+            rawDataReader = reader;
+            rawDataOffset = stream.getOffset();
+            rawDataLength = stream.getLength();
+            reader.addPendingRawDataCopy(this);
+            return;
+        }
         byte[] bytes = stream.getBytes(false);
         try {
             outputStream.write(bytes);
@@ -363,7 +467,7 @@ public class PdfStream extends PdfDictionary {
 
     protected void initOutputStream(java.io.OutputStream stream) {
         if (getOutputStream() == null && inputStream == null)
-            outputStream = new PdfOutputStream(stream != null ? stream : new ByteArrayOutputStream());
+            outputStream = new PdfOutputStream(stream != null ? stream : createDataStream());
     }
 
     /**
@@ -371,6 +475,7 @@ public class PdfStream extends PdfDictionary {
      */
     protected void releaseContent() {
         super.releaseContent();
+        discardPendingRawData();
         try {
             if (outputStream != null) {
                 outputStream.close();
@@ -384,4 +489,12 @@ public class PdfStream extends PdfDictionary {
     protected InputStream getInputStream() {
         return inputStream;
     }
+
+    private ByteArrayOutputStream createDataStream() {
+        PdfIndirectReference reference = getIndirectReference();
+        PdfWriter writer = reference != null && reference.getDocument() != null
+                ? reference.getDocument().getWriter()
+                : null;
+        return writer != null ? writer.createStreamDataBuffer(0) : new ByteArrayOutputStream();
+    }
 }
@@ -24,12 +24,16 @@ package com.itextpdf.kernel.pdf;
 
 import com.itextpdf.commons.utils.FileUtil;
 import com.itextpdf.io.logs.IoLogMessageConstant;
+import com.itextpdf.io.source.ByteArrayOutputStream;
 import com.itextpdf.io.source.ByteUtils;
 import com.itextpdf.kernel.utils.ICopyFilter;
 import com.itextpdf.kernel.utils.NullCopyFilter;
 
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -58,7 +62,24 @@ public class PdfWriter extends PdfOutputStream {
     /**
      * Is used in smart mode to serialize and store serialized objects content.
      */
-    private SmartModePdfObjectsSerializer smartModeSerializer = new SmartModePdfObjectsSerializer();
+    private final SmartModePdfObjectsSerializer smartModeSerializer;
+
+    /**
+     * Compresses the streams ahead of their serialization if the stream compression executor is set.
+     */
+    private final ParallelStreamCompressor streamCompressor;
+
+    /**
+     * The stream the linearized document is written to, if the linearization mode is enabled.
+     * Until the document is closed it is written to an intermediate buffer.
+     */
+    private java.io.OutputStream linearizationTarget;
+
+    /**
+     * The stream data buffers whose data are currently kept in the stream data storage.
+     */
+    private final Set<SpillingByteArrayOutputStream> spilledStreamData =
+            Collections.newSetFromMap(new IdentityHashMap<SpillingByteArrayOutputStream, Boolean>());
 
     /**
      * Create a PdfWriter writing to the passed File and with default writer properties.
@@ -85,6 +106,16 @@ public class PdfWriter extends PdfOutputStream {
     public PdfWriter(java.io.OutputStream os, WriterProperties properties) {
         super(new CountOutputStream(FileUtil.wrapWithBufferedOutputStream(os)));
         this.properties = properties;
+        this.streamCompressor = properties.streamCompressionExecutor == null ? null
+                : new ParallelStreamCompressor(properties.streamCompressionExecutor);
+        this.smartModeSerializer = properties.digestSmartMode
+                ? new DigestSmartModePdfObjectsSerializer(properties.smartModeMaxDigestsInMemory,
+                        properties.smartModeSpillDirectory)
+                : new SmartModePdfObjectsSerializer();
+        if (properties.linearizationMode) {
+            this.linearizationTarget = outputStream;
+            this.outputStream = new ByteArrayOutputStream();
+        }
     }
 
     /**
@@ -114,6 +145,19 @@ public class PdfWriter extends PdfOutputStream {
         this(FileUtil.getBufferedOutputStream(filename), properties);
     }
 
+    @Override
+    public void close() throws IOException {
+        smartModeSerializer.close();
+        for (SpillingByteArrayOutputStream streamData : new ArrayList<>(spilledStreamData)) {
+            streamData.releaseSpilledData();
+        }
+        if (linearizationTarget != null && isCloseStream()) {
+            // The document has not been linearized, e.g. because of an error on closing
+            linearizationTarget.close();
+        }
+        super.close();
+    }
+
     /**
      * Indicates if to use full compression mode.
      *
@@ -331,6 +375,7 @@ public class PdfWriter extends PdfOutputStream {
      *                         automatically.
      */
     protected void flushWaitingObjects(Set<PdfIndirectReference> forbiddenToFlush) {
+        compressStreamsAhead(forbiddenToFlush, false);
         PdfXrefTable xref = document.getXref();
         boolean needFlush = true;
         while (needFlush) {
@@ -352,6 +397,9 @@ public class PdfWriter extends PdfOutputStream {
             objectStream.flush();
             objectStream = null;
         }
+        if (streamCompressor != null) {
+            streamCompressor.clear();
+        }
     }
 
     /**
@@ -361,9 +409,10 @@ public class PdfWriter extends PdfOutputStream {
      *                         automatically.
      */
     protected void flushModifiedWaitingObjects(Set<PdfIndirectReference> forbiddenToFlush) {
+        compressStreamsAhead(forbiddenToFlush, true);
         PdfXrefTable xref = document.getXref();
         for (int i = 1; i < xref.size(); i++) {
-            PdfIndirectReference indirectReference = xref.get(i);
+            PdfIndirectReference indirectReference = xref.getIfCreated(i);
             if (null != indirectReference && !indirectReference.isFree() && !forbiddenToFlush.contains(
                     indirectReference)) {
                 boolean isModified = indirectReference.checkState(PdfObject.MODIFIED);
@@ -381,6 +430,90 @@ public class PdfWriter extends PdfOutputStream {
             objectStream.flush();
             objectStream = null;
         }
+        if (streamCompressor != null) {
+            streamCompressor.clear();
+        }
+    }
+
+    /**
+     * Submits the not yet flushed streams of the document for the compression on the stream compression executor,
+     * so that they are compressed in parallel before they are actually written. Does nothing if the executor
+     * is not set.
+     *
+     * @param forbiddenToFlush a {@link Set} of {@link PdfIndirectReference references} that are not going to be
+     *                         flushed
+     * @param modifiedOnly     whether only the modified streams are going to be flushed
+     */
+    void compressStreamsAhead(Set<PdfIndirectReference> forbiddenToFlush, boolean modifiedOnly) {
+        if (streamCompressor == null) {
+            return;
+        }
+        PdfXrefTable xref = document.getXref();
+        for (int i = 1; i < xref.size(); i++) {
+            PdfIndirectReference indirectReference = modifiedOnly ? xref.getIfCreated(i) : xref.get(i);
+            if (indirectReference != null && !indirectReference.isFree()
+                    && !indirectReference.checkState(PdfObject.FLUSHED)
+                    && (!modifiedOnly || indirectReference.checkState(PdfObject.MODIFIED))
+                    && !forbiddenToFlush.contains(indirectReference)) {
+                PdfObject obj = indirectReference.getRefersTo(false);
+                if (obj != null && obj.isStream()) {
+                    streamCompressor.submit((PdfStream) obj, getCompressionLevel());
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the data of the stream compressed ahead of its serialization, if any.
+     *
+     * @param stream           the stream which is being written
+     * @param compressionLevel the compression level the stream is going to be written with
+     * @return the compressed data or {@code null} if the stream should be compressed on write
+     */
+    ByteArrayOutputStream getCompressedAhead(PdfStream stream, int compressionLevel) {
+        return streamCompressor == null ? null : streamCompressor.take(stream, compressionLevel);
+    }
+
+    /**
+     * Creates a buffer for the data of a stream of the document. If the stream data storage is set,
+     * the data are moved to the storage once they exceed the spill threshold.
+     *
+     * @param initialSize the initial size of the buffer
+     * @return the new buffer
+     */
+    ByteArrayOutputStream createStreamDataBuffer(int initialSize) {
+        if (properties.streamDataStorage == null) {
+            return new ByteArrayOutputStream(initialSize);
+        }
+        return new SpillingByteArrayOutputStream(initialSize, properties.streamDataStorage,
+                properties.streamDataSpillThreshold, spilledStreamData);
+    }
+
+    /**
+     * Checks if the document is written linearized.
+     *
+     * @return true if the linearization mode is enabled, false otherwise
+     */
+    boolean isLinearized() {
+        return properties.linearizationMode;
+    }
+
+    /**
+     * Rewrites the completely written document as a linearized one to the actual output stream.
+     * Does nothing if the linearization mode is not enabled.
+     *
+     * @throws IOException in case of any I/O error
+     */
+    void linearize() throws IOException {
+        if (linearizationTarget == null) {
+            return;
+        }
+        byte[] bytes = ((ByteArrayOutputStream) outputStream).toByteArray();
+        outputStream = linearizationTarget;
+        linearizationTarget = null;
+        currentPos = 0;
+        new PdfLinearizer(bytes).writeTo(this);
+        flush();
     }
 
     /**
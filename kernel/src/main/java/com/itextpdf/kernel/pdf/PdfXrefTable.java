@@ -49,6 +49,7 @@ public class PdfXrefTable {
 
     private static final int INITIAL_CAPACITY = 32;
     private static final int MAX_GENERATION = 65535;
+    private static final int NOT_CREATED_ENTRY_ABSENT = -1;
 
     /**
      * The maximum offset in a cross-reference stream. This is a limitation of the PDF specification.
@@ -63,6 +64,18 @@ public class PdfXrefTable {
     private static final byte[] inUseXRefEntry = ByteUtils.getIsoBytes("n \n");
 
     private PdfIndirectReference[] xref;
+
+    /**
+     * Compact storage of the entries read from the document for which no {@link PdfIndirectReference} has been
+     * created yet. The references are only created when they are requested, which saves a lot of memory
+     * for the documents with many objects of which only a few are actually used. The arrays are indexed
+     * by object number and are allocated on the first such entry only.
+     */
+    private long[] notCreatedOffsets;
+    private int[] notCreatedGenerations;
+    private int[] notCreatedObjStreamNumbers;
+    private PdfDocument notCreatedReferencesDocument;
+
     private int count = 0;
     private boolean readingCompleted;
     private MemoryLimitsAwareHandler memoryLimitsAwareHandler;
@@ -74,6 +87,9 @@ public class PdfXrefTable {
      */
     private final TreeMap<Integer, PdfIndirectReference> freeReferencesLinkedList;
 
+    // the document for which the free references list is to be initialized on first use
+    private PdfDocument freeReferencesListDeferredDocument;
+
     /**
      * Creates a {@link PdfXrefTable} which will be used to store xref structure of the pdf document.
      * Capacity and {@link MemoryLimitsAwareHandler} instance would be set by default values.
@@ -143,6 +159,9 @@ public class PdfXrefTable {
         this.count = Math.max(this.count, objNr);
         ensureCount(objNr);
         xref[objNr] = reference;
+        if (hasNotCreatedReference(objNr)) {
+            notCreatedGenerations[objNr] = NOT_CREATED_ENTRY_ABSENT;
+        }
         return reference;
     }
 
@@ -163,8 +182,9 @@ public class PdfXrefTable {
     public int getCountOfIndirectObjects() {
         int countOfIndirectObjects = 0;
 
-        for (final PdfIndirectReference ref: xref) {
-            if (ref != null && ! ref.isFree()) {
+        for (int i = 0; i < xref.length; i++) {
+            final PdfIndirectReference ref = xref[i];
+            if (ref != null && ! ref.isFree() || hasNotCreatedReference(i)) {
                 countOfIndirectObjects++;
             }
         }
@@ -182,7 +202,14 @@ public class PdfXrefTable {
         if (index > count) {
             return null;
         }
-        return xref[index];
+        if (notCreatedGenerations == null) {
+            return xref[index];
+        }
+        if (notCreatedReferencesDocument.isConcurrentReading()) {
+            // the references may be created concurrently, so they are read under the same lock they are created with
+            return getOrCreateReferenceSynchronized(index);
+        }
+        return getOrCreateReference(index);
     }
 
     /**
@@ -282,7 +309,7 @@ public class PdfXrefTable {
 
         if (!document.properties.appendMode) {
             for (int i = count; i > 0; --i) {
-                PdfIndirectReference lastRef = xref[i];
+                PdfIndirectReference lastRef = get(i);
                 if (lastRef == null || lastRef.isFree()) {
                     removeFreeRefFromList(i);
                     --count;
@@ -417,6 +444,7 @@ public class PdfXrefTable {
                 writeLong(startxref).
                 writeString("\n%%EOF\n");
         xref = null;
+        clearNotCreatedReferences();
         freeReferencesLinkedList.clear();
     }
 
@@ -445,20 +473,30 @@ public class PdfXrefTable {
         return readingCompleted;
     }
 
+    /**
+     * Postpones the initialization of the free references list until it is used.
+     *
+     * @param pdfDocument is the current {@link PdfDocument document}
+     */
+    void deferFreeReferencesListInitialization(PdfDocument pdfDocument) {
+        freeReferencesListDeferredDocument = pdfDocument;
+    }
+
     /**
      * Set up appropriate state for the free references list.
      *
      * @param pdfDocument is the current {@link PdfDocument document}
      */
     void initFreeReferencesList(PdfDocument pdfDocument) {
+        freeReferencesListDeferredDocument = null;
         freeReferencesLinkedList.clear();
 
         // ensure zero object is free
-        xref[0].setState(PdfObject.FREE);
+        get(0).setState(PdfObject.FREE);
         TreeSet<Integer> freeReferences = new TreeSet<>();
         for (int i = 1; i < size() && i < xref.length; ++i) {
             PdfIndirectReference ref = xref[i];
-            if (ref == null || ref.isFree()) {
+            if (ref == null && !hasNotCreatedReference(i) || ref != null && ref.isFree()) {
                 freeReferences.add(i);
             }
         }
@@ -523,6 +561,7 @@ public class PdfXrefTable {
             }
             xref[i] = null;
         }
+        clearNotCreatedReferences();
         count = 1;
     }
 
@@ -533,15 +572,122 @@ public class PdfXrefTable {
         for (int i = 1; i <= count; i++) {
             xref[i] = null;
         }
+        clearNotCreatedReferences();
         count = 1;
     }
 
+    /**
+     * Adds an entry read from the document without creating its {@link PdfIndirectReference}, which is
+     * created only when it is requested via {@link #get(int)}. Such entries are neither free nor modified.
+     *
+     * @param document        the document which is being read
+     * @param objNr           the object number
+     * @param genNr           the generation number
+     * @param offsetOrIndex   the offset of the object, or its index in the object stream
+     * @param objStreamNumber the number of the object stream the object is stored in, or 0
+     */
+    void addNotCreatedReference(PdfDocument document, int objNr, int genNr, long offsetOrIndex,
+            int objStreamNumber) {
+        this.count = Math.max(this.count, objNr);
+        ensureCount(objNr);
+        if (notCreatedGenerations == null) {
+            notCreatedOffsets = new long[xref.length];
+            notCreatedGenerations = new int[xref.length];
+            notCreatedObjStreamNumbers = new int[xref.length];
+            Arrays.fill(notCreatedGenerations, NOT_CREATED_ENTRY_ABSENT);
+        }
+        notCreatedReferencesDocument = document;
+        xref[objNr] = null;
+        notCreatedOffsets[objNr] = offsetOrIndex;
+        notCreatedGenerations[objNr] = genNr;
+        notCreatedObjStreamNumbers[objNr] = objStreamNumber;
+    }
+
+    /**
+     * Checks if there is an entry for which {@link PdfIndirectReference} has not been created yet.
+     *
+     * @param objNr the object number
+     * @return true if the entry has been added but the reference has not been created yet
+     */
+    boolean hasNotCreatedReference(int objNr) {
+        return notCreatedGenerations != null && objNr < notCreatedGenerations.length
+                && notCreatedGenerations[objNr] != NOT_CREATED_ENTRY_ABSENT;
+    }
+
+    /**
+     * Gets the reference only if it has been created already. Unlike {@link #get(int)} it does not create
+     * the references for the entries read from the document, which is useful when looking for modified
+     * references, since not created ones can't be modified.
+     *
+     * @param index is the index of required object
+     * @return reference to object with the provided index, or {@code null} if it has not been created
+     */
+    PdfIndirectReference getIfCreated(int index) {
+        if (index > count) {
+            return null;
+        }
+        return xref[index];
+    }
+
+    /**
+     * Finds the object which is stored first in the document, i.e. the in-use object with the smallest offset
+     * which is not stored in an object stream. Unlike going through {@link #get(int)}, it does not create
+     * the references for the entries read from the document.
+     *
+     * @return the number of the object with the smallest offset, or 0 if there is no such object
+     */
+    synchronized int getObjNumberWithSmallestOffset() {
+        int firstObjNr = 0;
+        long firstOffset = Long.MAX_VALUE;
+        int size = Math.min(size(), xref.length);
+        for (int i = 1; i < size; i++) {
+            long offset;
+            PdfIndirectReference reference = xref[i];
+            if (reference != null) {
+                if (reference.isFree() || reference.getObjStreamNumber() != 0) {
+                    continue;
+                }
+                offset = reference.getOffset();
+            } else if (hasNotCreatedReference(i) && notCreatedObjStreamNumbers[i] == 0) {
+                offset = notCreatedOffsets[i];
+            } else {
+                continue;
+            }
+            if (offset > 0 && offset < firstOffset) {
+                firstOffset = offset;
+                firstObjNr = i;
+            }
+        }
+        return firstObjNr;
+    }
+
+    /**
+     * Fixes the offset of the object, see {@link PdfIndirectReference#fixOffset(long)}.
+     *
+     * @param objNr  the object number
+     * @param genNr  the generation number
+     * @param offset the actual offset of the object
+     */
+    void fixOffset(int objNr, int genNr, long offset) {
+        if (objNr > count) {
+            return;
+        }
+        if (xref[objNr] == null && hasNotCreatedReference(objNr)) {
+            if (notCreatedGenerations[objNr] == genNr) {
+                notCreatedOffsets[objNr] = offset;
+            }
+        } else if (xref[objNr] != null && xref[objNr].getGenNumber() == genNr) {
+            xref[objNr].fixOffset(offset);
+        }
+    }
+
     private List<Integer> createSections(PdfDocument document, boolean dropObjectsFromObjectStream) {
         List<Integer> sections = new ArrayList<>();
         int first = 0;
         int len = 0;
         for (int i = 0; i < size(); i++) {
-            PdfIndirectReference reference = xref[i];
+            // Not created references are not modified, so there is no need to create them in append mode
+            PdfIndirectReference reference = document.properties.appendMode ? xref[i] : get(i);
             if (document.properties.appendMode && reference != null &&
                     (!reference.checkState(PdfObject.MODIFIED) || (dropObjectsFromObjectStream && reference.getObjStreamNumber() != 0))) {
                 reference = null;
@@ -589,6 +735,9 @@ public class PdfXrefTable {
 
     private void appendNewRefToFreeList(PdfIndirectReference reference) {
         reference.setOffset(0);
+        if (freeReferencesListDeferredDocument != null) {
+            initFreeReferencesList(freeReferencesListDeferredDocument);
+        }
         if (freeReferencesLinkedList.<Integer, PdfIndirectReference>isEmpty()) {
             assert false;
             // free references list is not initialized yet
@@ -610,6 +759,9 @@ public class PdfXrefTable {
      * passed as parameter. {@code null} - if given object number doesn't correspond to free reference or equals to zero.
      */
     private PdfIndirectReference removeFreeRefFromList(int freeRefObjNr) {
+        if (freeReferencesListDeferredDocument != null) {
+            initFreeReferencesList(freeReferencesListDeferredDocument);
+        }
         if (freeReferencesLinkedList.<Integer, PdfIndirectReference>isEmpty()) {
             assert false;
             // free references list is not initialized yet
@@ -655,10 +807,48 @@ public class PdfXrefTable {
 
     private void extendXref(int capacity) {
         if (this.memoryLimitsAwareHandler != null) {
+            // The compact storage of the not created references has the same capacity, so the limit covers both
             this.memoryLimitsAwareHandler.checkIfXrefStructureExceedsTheLimit(capacity);
         }
         PdfIndirectReference[] newXref = new PdfIndirectReference[capacity];
         System.arraycopy(this.xref, 0, newXref, 0, this.xref.length);
         this.xref = newXref;
+        if (notCreatedGenerations != null) {
+            int oldCapacity = notCreatedGenerations.length;
+            notCreatedOffsets = Arrays.copyOf(notCreatedOffsets, capacity);
+            notCreatedGenerations = Arrays.copyOf(notCreatedGenerations, capacity);
+            notCreatedObjStreamNumbers = Arrays.copyOf(notCreatedObjStreamNumbers, capacity);
+            Arrays.fill(notCreatedGenerations, oldCapacity, capacity, NOT_CREATED_ENTRY_ABSENT);
+        }
+    }
+
+    /**
+     * Gets the reference, see {@link #getOrCreateReference(int)}. Synchronized, so that only a single reference
+     * is created for an entry and the created reference is safely published when the document is read concurrently.
+     */
+    private synchronized PdfIndirectReference getOrCreateReferenceSynchronized(int index) {
+        return getOrCreateReference(index);
+    }
+
+    /**
+     * Gets the reference, creating it for the entry read from the document if needed.
+     */
+    private PdfIndirectReference getOrCreateReference(int index) {
+        if (xref[index] == null && hasNotCreatedReference(index)) {
+            PdfIndirectReference reference = new PdfIndirectReference(notCreatedReferencesDocument, index,
+                    notCreatedGenerations[index], notCreatedOffsets[index]);
+            if (notCreatedObjStreamNumbers[index] != 0) {
+                reference.setObjStreamNumber(notCreatedObjStreamNumbers[index]);
+            }
+            xref[index] = reference;
+            notCreatedGenerations[index] = NOT_CREATED_ENTRY_ABSENT;
+        }
+        return xref[index];
+    }
+
+    private void clearNotCreatedReferences() {
+        notCreatedOffsets = null;
+        notCreatedGenerations = null;
+        notCreatedObjStreamNumbers = null;
     }
 }
@@ -22,10 +22,12 @@
  */
 package com.itextpdf.kernel.pdf;
 
+import com.itextpdf.kernel.exceptions.KernelExceptionMessageConstant;
 import com.itextpdf.kernel.security.IExternalDecryptionProcess;
 
 import java.security.Key;
 import java.security.cert.Certificate;
+import java.util.concurrent.Executor;
 
 public class ReaderProperties {
 
@@ -43,6 +45,16 @@ public class ReaderProperties {
 
     protected MemoryLimitsAwareHandler memoryLimitsAwareHandler;
 
+    protected boolean concurrentReading = false;
+
+    protected long objectStreamCacheSize = 0;
+
+    protected boolean reclaimableObjects = false;
+
+    protected boolean metadataOnlyMode = false;
+
+    protected Executor xrefRebuildExecutor;
+
     /**
      * Defines the password which will be used if the document is encrypted with standard encryption.
      * This could be either user or owner password.
@@ -114,4 +126,135 @@ public class ReaderProperties {
         return this;
     }
 
+    /**
+     * Defines whether the document is going to be read from several threads at the same time.
+     * <p>
+     * If enabled, {@link PdfDocument#getPage(int)}, {@link PdfIndirectReference#getRefersTo()} and
+     * {@link PdfStream#getBytes()} can be safely called from different threads, so that one parsed document can be
+     * processed page by page in a thread pool. Parsing of the objects themselves is still serialized, while reading and
+     * decoding of the streams, which is usually the most time-consuming part, is done in parallel. If the document is
+     * opened from a file by its name, the file is read with lock-free positional reads.
+     * <p>
+     * Concurrent reading is supported only for the documents opened in reading mode, i.e. without {@link PdfWriter}.
+     * Note that the objects must not be modified or released while they are accessed from other threads.
+     * By default concurrent reading is disabled.
+     *
+     * @param concurrentReading true to enable concurrent reading, false to disable it
+     * @return this {@link ReaderProperties} instance
+     */
+    public ReaderProperties setConcurrentReading(boolean concurrentReading) {
+        this.concurrentReading = concurrentReading;
+        return this;
+    }
+
+    /**
+     * Sets the size of the cache of the decoded object streams.
+     * <p>
+     * Objects stored in a compressed object stream are read by decoding the whole object stream. If the objects
+     * of the same object stream are read again, e.g. when the pages scattered over the document are accessed
+     * and released repeatedly, the cache allows to avoid decoding the object stream each time.
+     * The decoded data and the offset tables of the recently used object streams are kept until their
+     * estimated size exceeds the specified size, then the least recently used ones are evicted.
+     * Cache hits and misses are counted, see {@link PdfReader#getObjectStreamCacheHitCount()} and
+     * {@link PdfReader#getObjectStreamCacheMissCount()}.
+     * <p>
+     * By default the cache is disabled.
+     *
+     * @param objectStreamCacheSize the estimated memory in bytes the cache may retain, or 0 to disable the cache
+     * @return this {@link ReaderProperties} instance
+     */
+    public ReaderProperties setObjectStreamCacheSize(long objectStreamCacheSize) {
+        if (objectStreamCacheSize < 0) {
+            throw new IllegalArgumentException(
+                    KernelExceptionMessageConstant.OBJECT_STREAM_CACHE_SIZE_SHALL_NOT_BE_NEGATIVE);
+        }
+        this.objectStreamCacheSize = objectStreamCacheSize;
+        return this;
+    }
+
+    /**
+     * Defines whether the objects read from the document can be reclaimed by the garbage collector.
+     * <p>
+     * By default an object read from the document stays in memory until the document is closed or the object is
+     * released with {@link PdfObject#release()}, so processing of a large document accumulates its whole object graph.
+     * If enabled, the objects are referenced softly by their indirect references: the objects which are not used
+     * anymore are reclaimed when the memory is needed, and transparently re-read from the document on the
+     * next access. Thus the same object may be represented by different {@link PdfObject} instances over time,
+     * so the objects shall not be compared by identity. The objects which are modified with
+     * {@link PdfObject#setModified()} are not reclaimed.
+     * <p>
+     * Reclaimable objects are supported only for the documents opened in reading mode, i.e. without
+     * {@link PdfWriter}. By default the objects are not reclaimable.
+     *
+     * @param reclaimableObjects true to allow the objects to be reclaimed, false otherwise
+     * @return this {@link ReaderProperties} instance
+     */
+    public ReaderProperties setReclaimableObjects(boolean reclaimableObjects) {
+        this.reclaimableObjects = reclaimableObjects;
+        return this;
+    }
+
+    /**
+     * Defines whether the document is opened in metadata-only mode, which is useful when only the document-level
+     * properties are needed, e.g. the number of pages, the document info and XMP metadata, the encryption and
+     * the PDF/A conformance level.
+     * <p>
+     * In this mode opening of the document reads only the cross-reference structure, the trailer and the catalog,
+     * while the structures which are not needed for these properties are initialized on first access:
+     * the page tree is set up when the number of pages or the pages are requested, which reads only the root
+     * of the page tree, and the tag structure is read when it is requested. The time spent on opening the document can be
+     * obtained with {@link PdfDocument#getOpeningTimeNanos()}.
+     * <p>
+     * Metadata-only mode is supported only for the documents opened in reading mode, i.e. without {@link PdfWriter}.
+     * By default the mode is disabled.
+     *
+     * @param metadataOnlyMode true to enable metadata-only mode, false to disable it
+     * @return this {@link ReaderProperties} instance
+     */
+    public ReaderProperties setMetadataOnlyMode(boolean metadataOnlyMode) {
+        this.metadataOnlyMode = metadataOnlyMode;
+        return this;
+    }
+
+    /**
+     * Defines the executor on which the cross-reference table of a damaged document is rebuilt.
+     * <p>
+     * If the cross-reference table of the document can't be read, it's rebuilt by scanning the whole document
+     * for the beginnings of the indirect objects and the trailers. By default the document is scanned line by line
+     * on the reading thread. If the executor is set, the document is split into chunks which are read with bulk reads
+     * and scanned on the executor in parallel, which reduces the repair time of large documents. The rebuilt
+     * cross-reference table is the same. The executor is not shut down by iText.
+     *
+     * @param xrefRebuildExecutor the executor to scan the document on, or {@code null}
+     *                            to scan the document on the reading thread
+     * @return this {@link ReaderProperties} instance
+     */
+    public ReaderProperties setXrefRebuildExecutor(Executor xrefRebuildExecutor) {
+        this.xrefRebuildExecutor = xrefRebuildExecutor;
+        return this;
+    }
+
+    /**
+     * Creates a copy of these properties for another document. The memory limits aware handler, which counts
+     * the memory used by a single document, is not shared, each copy gets its own
+     * {@link MemoryLimitsAwareHandler#createNewInstance() new instance} of it.
+     *
+     * @return the copy of these properties
+     */
+    ReaderProperties createCopyForAnotherDocument() {
+        ReaderProperties copy = new ReaderProperties();
+        copy.password = password;
+        copy.certificateKey = certificateKey;
+        copy.certificate = certificate;
+        copy.certificateKeyProvider = certificateKeyProvider;
+        copy.externalDecryptionProcess = externalDecryptionProcess;
+        copy.memoryLimitsAwareHandler = memoryLimitsAwareHandler == null
+                ? null : memoryLimitsAwareHandler.createNewInstance();
+        copy.concurrentReading = concurrentReading;
+        copy.objectStreamCacheSize = objectStreamCacheSize;
+        copy.reclaimableObjects = reclaimableObjects;
+        copy.metadataOnlyMode = metadataOnlyMode;
+        copy.xrefRebuildExecutor = xrefRebuildExecutor;
+        return copy;
+    }
 }
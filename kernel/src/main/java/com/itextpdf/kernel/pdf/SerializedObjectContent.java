@@ -33,6 +33,10 @@ class SerializedObjectContent {
         this.hash = calculateHash(serializedContent);
     }
 
+    byte[] getSerializedContent() {
+        return serializedContent;
+    }
+
     @Override
     public boolean equals(Object obj) {
         return obj instanceof SerializedObjectContent
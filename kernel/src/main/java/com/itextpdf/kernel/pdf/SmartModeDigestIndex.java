@@ -0,0 +1,304 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.kernel.pdf;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded index of the object digests used in the digest smart mode, which maps a digest of the object content
+ * to the number of the object in the document being written.
+ * <p>
+ * At most the specified number of entries is kept in memory. The least recently used entries are either moved to
+ * a temporary spill file, which is an open addressing hash table on disk, or forgotten, if no spill directory is
+ * specified. Forgetting a digest only means that a later duplicate of the object is written once again.
+ */
+final class SmartModeDigestIndex implements Closeable {
+
+    private static final int INITIAL_SPILL_CAPACITY = 1 << 16;
+
+    private final int digestLength;
+    private final int maxEntriesInMemory;
+    private final File spillDirectory;
+    private final LinkedHashMap<DigestKey, Integer> entries;
+
+    private SpillFile spillFile;
+
+    /**
+     * Creates the index.
+     *
+     * @param digestLength       the length of the digests in bytes, at least 8
+     * @param maxEntriesInMemory the maximum number of entries kept in memory
+     * @param spillDirectory     the directory to create the spill file in, or {@code null} to forget
+     *                           the least recently used entries instead
+     */
+    SmartModeDigestIndex(int digestLength, int maxEntriesInMemory, File spillDirectory) {
+        this.digestLength = digestLength;
+        this.maxEntriesInMemory = maxEntriesInMemory;
+        this.spillDirectory = spillDirectory;
+        this.entries = new LinkedHashMap<DigestKey, Integer>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<DigestKey, Integer> eldest) {
+                if (size() <= SmartModeDigestIndex.this.maxEntriesInMemory) {
+                    return false;
+                }
+                spill(eldest.getKey(), eldest.getValue());
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Gets the number of the object with the specified digest.
+     *
+     * @param digest the digest of the object content
+     * @return the object number, or 0 if there is no such object in the index
+     * @throws IOException if the spill file can't be read
+     */
+    int get(byte[] digest) throws IOException {
+        Integer objNr = entries.get(new DigestKey(digest));
+        if (objNr != null) {
+            return (int) objNr;
+        }
+        return spillFile == null ? 0 : spillFile.get(digest);
+    }
+
+    /**
+     * Adds the object to the index.
+     *
+     * @param digest the digest of the object content
+     * @param objNr  the object number
+     * @throws IOException if the spill file can't be written
+     */
+    void put(byte[] digest, int objNr) throws IOException {
+        try {
+            entries.put(new DigestKey(digest), objNr);
+        } catch (SpillException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Gets the number of entries kept in memory.
+     *
+     * @return the number of entries in memory
+     */
+    int getNumberOfEntriesInMemory() {
+        return entries.size();
+    }
+
+    /**
+     * Gets the number of entries moved to the spill file.
+     *
+     * @return the number of spilled entries
+     */
+    int getNumberOfSpilledEntries() {
+        return spillFile == null ? 0 : spillFile.count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        entries.clear();
+        if (spillFile != null) {
+            spillFile.close();
+            spillFile = null;
+        }
+    }
+
+    private void spill(DigestKey key, int objNr) {
+        if (spillDirectory == null) {
+            return;
+        }
+        try {
+            if (spillFile == null) {
+                spillFile = new SpillFile(spillDirectory, digestLength, INITIAL_SPILL_CAPACITY);
+            }
+            spillFile = spillFile.put(key.digest, objNr);
+        } catch (IOException e) {
+            // removeEldestEntry can't throw checked exceptions
+            throw new SpillException(e);
+        }
+    }
+
+    private static final class DigestKey {
+        private final byte[] digest;
+        private final int hash;
+
+        DigestKey(byte[] digest) {
+            this.digest = digest;
+            // The digest is uniformly distributed, so its first bytes are a good hash already
+            this.hash = (digest[0] & 0xff) << 24 | (digest[1] & 0xff) << 16 | (digest[2] & 0xff) << 8
+                    | digest[3] & 0xff;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof DigestKey && Arrays.equals(digest, ((DigestKey) obj).digest);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * The open addressing hash table with linear probing stored in a temporary file. Every slot contains a digest
+     * followed by a 4-byte object number, which is 0 for the empty slots.
+     */
+    private static final class SpillFile implements Closeable {
+        private final File directory;
+        private final File file;
+        private final RandomAccessFile raf;
+        private final int digestLength;
+        private final int slotLength;
+        private final long capacity;
+        private final byte[] slot;
+        private int count;
+
+        SpillFile(File directory, int digestLength, long capacity) throws IOException {
+            this.directory = directory;
+            this.file = File.createTempFile("itext-smart-mode", ".idx", directory);
+            this.raf = new RandomAccessFile(file, "rw");
+            this.digestLength = digestLength;
+            this.slotLength = digestLength + 4;
+            this.capacity = capacity;
+            this.slot = new byte[slotLength];
+            raf.setLength(capacity * slotLength);
+        }
+
+        int get(byte[] digest) throws IOException {
+            long index = firstSlot(digest);
+            while (true) {
+                readSlot(index);
+                int objNr = objNr();
+                if (objNr == 0) {
+                    return 0;
+                }
+                if (digestEquals(digest)) {
+                    return objNr;
+                }
+                index = (index + 1) & (capacity - 1);
+            }
+        }
+
+        /**
+         * Adds the entry to the file.
+         *
+         * @return this file, or the new one, if it has been grown
+         */
+        SpillFile put(byte[] digest, int objNr) throws IOException {
+            SpillFile target = this;
+            if ((count + 1) * 2L > capacity) {
+                target = grow();
+            }
+            target.putWithoutGrowing(digest, objNr);
+            return target;
+        }
+
+        @Override
+        public void close() throws IOException {
+            raf.close();
+            file.delete();
+        }
+
+        private void putWithoutGrowing(byte[] digest, int objNr) throws IOException {
+            long index = firstSlot(digest);
+            while (true) {
+                readSlot(index);
+                if (objNr() == 0) {
+                    count++;
+                    break;
+                } else if (digestEquals(digest)) {
+                    break;
+                }
+                index = (index + 1) & (capacity - 1);
+            }
+            System.arraycopy(digest, 0, slot, 0, digestLength);
+            slot[digestLength] = (byte) (objNr >>> 24);
+            slot[digestLength + 1] = (byte) (objNr >>> 16);
+            slot[digestLength + 2] = (byte) (objNr >>> 8);
+            slot[digestLength + 3] = (byte) objNr;
+            raf.seek(index * slotLength);
+            raf.write(slot);
+        }
+
+        private SpillFile grow() throws IOException {
+            SpillFile grown = new SpillFile(directory, digestLength, capacity * 2);
+            byte[] digest = new byte[digestLength];
+            for (long i = 0; i < capacity; i++) {
+                readSlot(i);
+                int objNr = objNr();
+                if (objNr != 0) {
+                    System.arraycopy(slot, 0, digest, 0, digestLength);
+                    grown.putWithoutGrowing(digest, objNr);
+                }
+            }
+            close();
+            return grown;
+        }
+
+        private long firstSlot(byte[] digest) {
+            long hash = 0;
+            for (int i = 0; i < 8; i++) {
+                hash = hash << 8 | digest[i] & 0xff;
+            }
+            return hash & (capacity - 1);
+        }
+
+        private void readSlot(long index) throws IOException {
+            raf.seek(index * slotLength);
+            raf.readFully(slot);
+        }
+
+        private int objNr() {
+            return (slot[digestLength] & 0xff) << 24 | (slot[digestLength + 1] & 0xff) << 16
+                    | (slot[digestLength + 2] & 0xff) << 8 | slot[digestLength + 3] & 0xff;
+        }
+
+        private boolean digestEquals(byte[] digest) {
+            for (int i = 0; i < digestLength; i++) {
+                if (slot[i] != digest[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final class SpillException extends RuntimeException {
+        SpillException(IOException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized IOException getCause() {
+            return (IOException) super.getCause();
+        }
+    }
+}
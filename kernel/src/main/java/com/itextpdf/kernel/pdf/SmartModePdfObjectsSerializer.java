@@ -157,12 +157,18 @@ class SmartModePdfObjectsSerializer {
         bb.append("$\\A");
     }
 
-    private boolean isKeyRefersBack(PdfDictionary dic, PdfName key) {
+    /**
+     * Releases the resources held by the serializer. Called when the writer is closed.
+     */
+    void close() {
+    }
+
+    boolean isKeyRefersBack(PdfDictionary dic, PdfName key) {
         // ignore recursive call
         return key.equals(PdfName.P) && (dic.get(key).isIndirectReference() || dic.get(key).isDictionary())
                 || key.equals(PdfName.Parent);
     }
 
-    private static class SelfReferenceException extends Exception {
+    static class SelfReferenceException extends Exception {
     }
 }
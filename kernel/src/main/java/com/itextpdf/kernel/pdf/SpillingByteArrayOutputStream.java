@@ -0,0 +1,205 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.kernel.pdf;
+
+import com.itextpdf.io.source.ByteArrayOutputStream;
+import com.itextpdf.kernel.exceptions.KernelExceptionMessageConstant;
+import com.itextpdf.kernel.exceptions.PdfException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Set;
+
+/**
+ * A {@link ByteArrayOutputStream} for the data of a {@link PdfStream}, which moves the data to a buffer of
+ * the {@link IStreamDataStorage} once their size exceeds the spill threshold.
+ * <p>
+ * After spilling, the internal byte array only collects the small writes, which are moved to the storage buffer
+ * in batches. The data are kept in the storage until the stream is reset, reassigned or closed.
+ */
+final class SpillingByteArrayOutputStream extends ByteArrayOutputStream {
+
+    private static final int WRITE_BATCH_SIZE = 8 * 1024;
+
+    private final IStreamDataStorage storage;
+    private final int spillThreshold;
+    private final Set<SpillingByteArrayOutputStream> spilledStreams;
+    private IStreamDataBuffer spilledData;
+
+    /**
+     * Creates the stream.
+     *
+     * @param size           the initial size of the internal byte array
+     * @param storage        the storage to move the data to
+     * @param spillThreshold the size of the data in bytes, exceeding which the data are moved to the storage
+     * @param spilledStreams the set to register the stream in while its data are kept in the storage
+     */
+    SpillingByteArrayOutputStream(int size, IStreamDataStorage storage, int spillThreshold,
+            Set<SpillingByteArrayOutputStream> spilledStreams) {
+        super(size);
+        this.storage = storage;
+        this.spillThreshold = spillThreshold;
+        this.spilledStreams = spilledStreams;
+    }
+
+    /**
+     * Checks if the data have been moved to the storage.
+     *
+     * @return true if the data are kept in the storage, false if they are kept in the internal byte array
+     */
+    boolean isSpilled() {
+        return spilledData != null;
+    }
+
+    /**
+     * Gets the number of bytes kept on heap.
+     *
+     * @return the number of bytes in the internal byte array
+     */
+    int getHeapSize() {
+        return count;
+    }
+
+    @Override
+    public void write(int b) {
+        super.write(b);
+        if (spilledData == null ? count > spillThreshold : count >= WRITE_BATCH_SIZE) {
+            moveToStorage();
+        }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        if (spilledData == null && count + len > spillThreshold) {
+            moveToStorage();
+        }
+        if (spilledData == null) {
+            super.write(b, off, len);
+        } else if (len >= WRITE_BATCH_SIZE) {
+            moveToStorage();
+            writeToStorage(b, off, len);
+        } else {
+            super.write(b, off, len);
+            if (count >= WRITE_BATCH_SIZE) {
+                moveToStorage();
+            }
+        }
+    }
+
+    @Override
+    public void writeTo(OutputStream out) throws IOException {
+        if (spilledData != null) {
+            spilledData.writeTo(out);
+        }
+        out.write(buf, 0, count);
+    }
+
+    @Override
+    public byte[] toByteArray() {
+        if (spilledData == null) {
+            return super.toByteArray();
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(size());
+        try {
+            writeTo(bytes);
+        } catch (IOException e) {
+            throw new PdfException(KernelExceptionMessageConstant.IO_EXCEPTION, e);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public int size() {
+        if (spilledData == null) {
+            return count;
+        }
+        // the stream length is an integer, so the larger data can't be written
+        long size = spilledData.size() + count;
+        if (size > Integer.MAX_VALUE) {
+            throw new PdfException(KernelExceptionMessageConstant.STREAM_DATA_EXCEED_MAX_INTEGER_VALUE);
+        }
+        return (int) size;
+    }
+
+    @Override
+    public void reset() {
+        releaseSpilledData();
+        super.reset();
+    }
+
+    @Override
+    public ByteArrayOutputStream assignBytes(byte[] bytes, int count) {
+        releaseSpilledData();
+        if (count <= spillThreshold) {
+            return super.assignBytes(bytes, count);
+        }
+        this.buf = new byte[WRITE_BATCH_SIZE];
+        this.count = 0;
+        moveToStorage();
+        writeToStorage(bytes, 0, count);
+        return this;
+    }
+
+    @Override
+    public ByteArrayOutputStream assignBytes(byte[] bytes) {
+        return assignBytes(bytes, bytes.length);
+    }
+
+    @Override
+    public void close() throws IOException {
+        releaseSpilledData();
+        super.close();
+    }
+
+    /**
+     * Releases the data kept in the storage, if any.
+     */
+    void releaseSpilledData() {
+        if (spilledData != null) {
+            spilledData.release();
+            spilledData = null;
+            spilledStreams.remove(this);
+            count = 0;
+        }
+    }
+
+    private void moveToStorage() {
+        if (spilledData == null) {
+            spilledData = storage.createBuffer();
+            spilledStreams.add(this);
+            writeToStorage(buf, 0, count);
+            buf = new byte[WRITE_BATCH_SIZE];
+        } else {
+            writeToStorage(buf, 0, count);
+        }
+        count = 0;
+    }
+
+    private void writeToStorage(byte[] b, int off, int len) {
+        try {
+            spilledData.write(b, off, len);
+        } catch (IOException e) {
+            throw new PdfException(KernelExceptionMessageConstant.IO_EXCEPTION, e);
+        }
+    }
+}
@@ -56,4 +56,13 @@ public class StampingProperties extends DocumentProperties {
         this.preserveEncryption = true;
         return this;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StampingProperties setPagesMemoryBudget(long maxRetainedPagesMemory, int minRetainedPages) {
+        super.setPagesMemoryBudget(maxRetainedPagesMemory, minRetainedPages);
+        return this;
+    }
 }
@@ -0,0 +1,168 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.kernel.pdf;
+
+import com.itextpdf.kernel.exceptions.KernelExceptionMessageConstant;
+import com.itextpdf.kernel.exceptions.PdfException;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * A {@link IStreamDataStorage} which keeps the stream data in temporary files, which are read back
+ * when the streams are written.
+ * <p>
+ * Each stream gets its own file, which is created once the stream data exceed a small write buffer and
+ * deleted as soon as the stream is written, so the disk space is freed progressively while the document
+ * is being written.
+ */
+public class TempFileStreamDataStorage implements IStreamDataStorage {
+
+    private static final String TEMP_FILE_PREFIX = "itext-stream";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private final File directory;
+
+    /**
+     * Creates the storage which keeps the files in the default temporary-file directory.
+     */
+    public TempFileStreamDataStorage() {
+        this(null);
+    }
+
+    /**
+     * Creates the storage.
+     *
+     * @param directory the directory to create the files in, or {@code null} to use the default
+     *                  temporary-file directory
+     */
+    public TempFileStreamDataStorage(File directory) {
+        this.directory = directory;
+    }
+
+    @Override
+    public IStreamDataBuffer createBuffer() {
+        return new TempFileBuffer(directory);
+    }
+
+    private static final class TempFileBuffer implements IStreamDataBuffer {
+
+        private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+        private final File directory;
+        private byte[] writeBuffer = new byte[WRITE_BUFFER_SIZE];
+        private int writeBufferCount;
+        private File file;
+        private RandomAccessFile raf;
+        private long fileLength;
+
+        TempFileBuffer(File directory) {
+            this.directory = directory;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (writeBufferCount + len <= writeBuffer.length) {
+                System.arraycopy(b, off, writeBuffer, writeBufferCount, len);
+                writeBufferCount += len;
+                return;
+            }
+            flushWriteBuffer();
+            if (len >= writeBuffer.length) {
+                writeToFile(b, off, len);
+            } else {
+                System.arraycopy(b, off, writeBuffer, 0, len);
+                writeBufferCount = len;
+            }
+        }
+
+        @Override
+        public long size() {
+            return fileLength + writeBufferCount;
+        }
+
+        @Override
+        public void writeTo(OutputStream out) throws IOException {
+            if (raf != null) {
+                // the file is not memory mapped, since a mapped file can't be deleted on some platforms
+                // until the mapping is garbage collected
+                FileChannel channel = raf.getChannel();
+                byte[] transferBuffer = new byte[WRITE_BUFFER_SIZE];
+                ByteBuffer transfer = ByteBuffer.wrap(transferBuffer);
+                long position = 0;
+                while (position < fileLength) {
+                    transfer.clear();
+                    transfer.limit((int) Math.min(transferBuffer.length, fileLength - position));
+                    int n = channel.read(transfer, position);
+                    if (n < 0) {
+                        throw new IOException(KernelExceptionMessageConstant.UNEXPECTED_END_OF_FILE);
+                    }
+                    out.write(transferBuffer, 0, n);
+                    position += n;
+                }
+            }
+            out.write(writeBuffer, 0, writeBufferCount);
+        }
+
+        @Override
+        public void release() {
+            writeBufferCount = 0;
+            fileLength = 0;
+            if (raf == null) {
+                return;
+            }
+            try {
+                raf.close();
+            } catch (IOException e) {
+                throw new PdfException(KernelExceptionMessageConstant.IO_EXCEPTION, e);
+            } finally {
+                raf = null;
+                file.delete();
+                file = null;
+            }
+        }
+
+        private void flushWriteBuffer() throws IOException {
+            if (writeBufferCount > 0) {
+                writeToFile(writeBuffer, 0, writeBufferCount);
+                writeBufferCount = 0;
+            }
+        }
+
+        private void writeToFile(byte[] b, int off, int len) throws IOException {
+            if (raf == null) {
+                file = File.createTempFile(TEMP_FILE_PREFIX, TEMP_FILE_SUFFIX, directory);
+                raf = new RandomAccessFile(file, "rw");
+            }
+            FileChannel channel = raf.getChannel();
+            ByteBuffer data = ByteBuffer.wrap(b, off, len);
+            while (data.hasRemaining()) {
+                fileLength += channel.write(data, fileLength);
+            }
+        }
+    }
+}
@@ -23,8 +23,11 @@
 package com.itextpdf.kernel.pdf;
 
 import com.itextpdf.bouncycastleconnector.BouncyCastleFactoryCreator;
+import com.itextpdf.kernel.exceptions.KernelExceptionMessageConstant;
 
+import java.io.File;
 import java.security.cert.Certificate;
+import java.util.concurrent.Executor;
 
 public class WriterProperties {
 
@@ -41,6 +44,22 @@ public class WriterProperties {
      * and reused if there's an object with the same content later.
      */
     protected boolean smartMode;
+
+    /**
+     * Indicates if the smart mode compares the objects by their digests, see
+     * {@link #useDigestSmartMode(int, File)}.
+     */
+    protected boolean digestSmartMode;
+
+    /**
+     * The maximum number of the object digests kept in memory in the digest smart mode.
+     */
+    protected int smartModeMaxDigestsInMemory;
+
+    /**
+     * The directory for the digests which don't fit into memory in the digest smart mode, or {@code null}.
+     */
+    protected File smartModeSpillDirectory;
     protected boolean addXmpMetadata;
     protected boolean addUAXmpMetadata;
     protected PdfVersion pdfVersion;
@@ -55,6 +74,26 @@ public class WriterProperties {
      */
     protected PdfString modifiedDocumentId;
 
+    /**
+     * The executor to compress the streams on, if any.
+     */
+    protected Executor streamCompressionExecutor;
+
+    /**
+     * Indicates if the document is written linearized.
+     */
+    protected boolean linearizationMode;
+
+    /**
+     * The storage the data of the large streams are moved to, or {@code null} to keep them on heap.
+     */
+    protected IStreamDataStorage streamDataStorage;
+
+    /**
+     * The size of the stream data in bytes, exceeding which the data are moved to the stream data storage.
+     */
+    protected int streamDataSpillThreshold;
+
     public WriterProperties() {
         smartMode = false;
         addUAXmpMetadata = false;
@@ -90,6 +129,31 @@ public class WriterProperties {
         return this;
     }
 
+    /**
+     * Enables smart mode which compares the objects by SHA-256 digests of their content.
+     * <br>
+     * Unlike {@link #useSmartMode()}, the content of the objects is not kept in memory: the objects are digested
+     * on the fly and only fixed-size digests of the copied objects are stored. At most
+     * {@code maxDigestsInMemory} digests are kept in memory, the least recently used ones are moved to
+     * a temporary file in {@code spillDirectory}, which is deleted when the writer is closed. If the directory is
+     * not specified, they are forgotten, so that only the later duplicates of the recently copied objects are
+     * reused. This keeps deduplication on with bounded memory for arbitrarily large merges.
+     *
+     * @param maxDigestsInMemory the maximum number of digests kept in memory, shall be positive
+     * @param spillDirectory     the directory for the digests which don't fit into memory, or {@code null}
+     * @return this {@link WriterProperties} instance
+     */
+    public WriterProperties useDigestSmartMode(int maxDigestsInMemory, File spillDirectory) {
+        if (maxDigestsInMemory <= 0) {
+            throw new IllegalArgumentException(KernelExceptionMessageConstant.MAX_DIGESTS_IN_MEMORY_SHALL_BE_POSITIVE);
+        }
+        this.smartMode = true;
+        this.digestSmartMode = true;
+        this.smartModeMaxDigestsInMemory = maxDigestsInMemory;
+        this.smartModeSpillDirectory = spillDirectory;
+        return this;
+    }
+
     /**
      * If true, default XMPMetadata based on {@link PdfDocumentInfo} will be added.
      * For PDF 2.0 documents, metadata will be added in any case.
@@ -113,6 +177,68 @@ public class WriterProperties {
         return this;
     }
 
+    /**
+     * Defines the executor on which the streams are compressed when the document is being closed.
+     * <p>
+     * By default the streams are compressed one by one while they are written. If the executor is set,
+     * the streams which are going to be written on closing are compressed on it ahead of their serialization,
+     * so that the compression of the different streams, which is usually the most time-consuming part of writing
+     * image- and content-heavy documents, is done in parallel. The produced document is exactly the same.
+     * Note that the uncompressed data of the streams are copied for their compression, which temporarily
+     * increases memory consumption. The executor is not shut down by iText.
+     *
+     * @param streamCompressionExecutor the executor to compress the streams on, or {@code null}
+     *                                  to compress the streams on the writing thread
+     * @return this {@link WriterProperties} instance
+     */
+    public WriterProperties setStreamCompressionExecutor(Executor streamCompressionExecutor) {
+        this.streamCompressionExecutor = streamCompressionExecutor;
+        return this;
+    }
+
+    /**
+     * Defines the storage the data of the large streams are kept in until the streams are written.
+     * <p>
+     * By default the data of every stream are kept in a heap byte array until the stream is flushed, so that
+     * large embedded images and files can require a lot of heap. If the storage is set, once the data of a stream
+     * of the document exceed {@code spillThreshold} bytes, they are moved to a buffer of the storage, e.g. to
+     * a temporary file with {@link TempFileStreamDataStorage} or to the direct memory with
+     * {@link OffHeapStreamDataStorage}, and are read back from it when the stream is written. The data are moved
+     * once the stream is made indirect in the document, so the streams created without a document, e.g. by
+     * {@link com.itextpdf.kernel.pdf.xobject.PdfImageXObject}, shall be made indirect explicitly to benefit from it.
+     * The storage buffers which weren't released by the time the writer is closed are released on closing.
+     *
+     * @param streamDataStorage the storage to move the large stream data to, or {@code null} to keep them on heap
+     * @param spillThreshold    the size of the stream data in bytes, exceeding which the data are moved to
+     *                          the storage, shall not be negative
+     * @return this {@link WriterProperties} instance
+     */
+    public WriterProperties setStreamDataStorage(IStreamDataStorage streamDataStorage, int spillThreshold) {
+        if (spillThreshold < 0) {
+            throw new IllegalArgumentException(KernelExceptionMessageConstant.SPILL_THRESHOLD_SHALL_NOT_BE_NEGATIVE);
+        }
+        this.streamDataStorage = streamDataStorage;
+        this.streamDataSpillThreshold = spillThreshold;
+        return this;
+    }
+
+    /**
+     * Defines if the document is written linearized (also known as "Fast Web View"), so that viewers are able
+     * to display the first page before the whole document is downloaded.
+     * <p>
+     * The document is buffered in memory until it is closed and is reordered afterwards, so the memory consumption
+     * is proportional to the size of the document. The linearized document uses classic cross-reference tables
+     * and does not contain object streams. Linearization is supported neither for encrypted documents nor in
+     * append mode.
+     *
+     * @param linearizationMode true to write the document linearized, false otherwise
+     * @return this {@link WriterProperties} instance
+     */
+    public WriterProperties setLinearizationMode(boolean linearizationMode) {
+        this.linearizationMode = linearizationMode;
+        return this;
+    }
+
     /**
      * Defines if full compression mode is enabled. If enabled, not only the content of the pdf document will be
      * compressed, but also the pdf document inner structure.
@@ -807,6 +807,16 @@ public class CanvasGraphicsState {
             textKnockout = (boolean) tk;
     }
 
+    /**
+     * Replaces all the values of this object with the values of the source graphics state,
+     * e.g. to reuse this object instead of creating a new copy.
+     *
+     * @param source the Graphics State to copy from
+     */
+    protected final void updateFrom(CanvasGraphicsState source) {
+        copyFrom(source);
+    }
+
     private void copyFrom(CanvasGraphicsState source) {
         this.ctm = source.ctm;
         this.strokeColor = source.strokeColor;
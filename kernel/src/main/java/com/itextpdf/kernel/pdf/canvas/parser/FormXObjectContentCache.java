@@ -0,0 +1,123 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.kernel.pdf.canvas.parser;
+
+import com.itextpdf.kernel.pdf.PdfIndirectReference;
+import com.itextpdf.kernel.pdf.PdfObject;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps the parsed operators and operands of the recently processed Form XObjects of a {@link PdfCanvasProcessor},
+ * so that the content of the same Form XObject can be replayed without decoding and parsing its stream again.
+ *
+ * <p>
+ * The size of the cache is limited by {@link PdfCanvasProcessor#setFormXObjectCacheSize(long)} and is measured
+ * in the bytes of the decoded content streams, the least recently used Form XObjects are evicted first.
+ */
+final class FormXObjectContentCache {
+
+    private final long maxSize;
+    // Form XObjects by their indirect references in the order of their use, the least recently used first
+    private final LinkedHashMap<PdfIndirectReference, ParsedContent> contents = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long size = 0;
+    private long hitCount = 0;
+    private long missCount = 0;
+
+    FormXObjectContentCache(long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    long getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Gets the parsed content of the Form XObject and registers the cache hit or miss.
+     *
+     * @param reference the indirect reference of the Form XObject stream
+     * @return the parsed content or {@code null} if the Form XObject is not cached
+     */
+    ParsedContent get(PdfIndirectReference reference) {
+        ParsedContent content = contents.get(reference);
+        if (content == null) {
+            ++missCount;
+        } else {
+            ++hitCount;
+        }
+        return content;
+    }
+
+    /**
+     * Puts the parsed content of the Form XObject to the cache, evicting the least recently used Form XObjects
+     * if the size of the cache is exceeded. The content which exceeds the size of the cache on its own is not cached.
+     *
+     * @param reference the indirect reference of the Form XObject stream
+     * @param content   the parsed content of the Form XObject
+     */
+    void put(PdfIndirectReference reference, ParsedContent content) {
+        if (content.contentLength > maxSize) {
+            return;
+        }
+        ParsedContent previous = contents.put(reference, content);
+        if (previous != null) {
+            size -= previous.contentLength;
+        }
+        size += content.contentLength;
+        Iterator<Map.Entry<PdfIndirectReference, ParsedContent>> iterator = contents.entrySet().iterator();
+        while (size > maxSize && iterator.hasNext()) {
+            size -= iterator.next().getValue().contentLength;
+            iterator.remove();
+        }
+    }
+
+    long getHitCount() {
+        return hitCount;
+    }
+
+    long getMissCount() {
+        return missCount;
+    }
+
+    long getSize() {
+        return size;
+    }
+
+    /**
+     * The operations of a parsed content stream, each of them is the list of the operands followed by the operator,
+     * along with the length of the decoded content stream.
+     */
+    static final class ParsedContent {
+        final List<List<PdfObject>> operations;
+        final long contentLength;
+
+        ParsedContent(List<List<PdfObject>> operations, long contentLength) {
+            this.operations = operations;
+            this.contentLength = contentLength;
+        }
+    }
+}
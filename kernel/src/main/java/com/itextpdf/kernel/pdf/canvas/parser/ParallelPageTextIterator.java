@@ -0,0 +1,190 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.kernel.pdf.canvas.parser;
+
+import com.itextpdf.kernel.exceptions.KernelExceptionMessageConstant;
+import com.itextpdf.kernel.exceptions.PdfException;
+import com.itextpdf.kernel.font.PdfFont;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfReader;
+import com.itextpdf.kernel.pdf.canvas.parser.listener.ITextExtractionStrategy;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Extracts the text of the pages of a document on an {@link Executor}, returning the texts in page order.
+ * The pages are processed by separate {@link PdfCanvasProcessor} instances, which share the fonts.
+ */
+final class ParallelPageTextIterator implements Iterator<String> {
+
+    /**
+     * The maximum number of pages whose text is extracted ahead of the page which is going to be returned next,
+     * which bounds the memory consumed by the extracted texts which are not consumed yet.
+     */
+    static final int MAX_PAGES_IN_PROGRESS = 64;
+
+    private final PdfDocument pdfDocument;
+    private final Supplier<? extends ITextExtractionStrategy> strategySupplier;
+    private final Executor executor;
+    private final Map<Integer, WeakReference<PdfFont>> fontCache = new HashMap<>();
+    private final Queue<PageTextTask> tasks = new ArrayDeque<>();
+    private final int numberOfPages;
+    private final Thread callingThread;
+    private int nextSubmittedPage = 1;
+
+    ParallelPageTextIterator(PdfDocument pdfDocument, Supplier<? extends ITextExtractionStrategy> strategySupplier,
+            Executor executor) {
+        this.pdfDocument = pdfDocument;
+        this.strategySupplier = strategySupplier;
+        this.executor = executor;
+        this.numberOfPages = pdfDocument.getNumberOfPages();
+        this.callingThread = Thread.currentThread();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !tasks.isEmpty() || nextSubmittedPage <= numberOfPages;
+    }
+
+    @Override
+    public String next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        while (tasks.size() < MAX_PAGES_IN_PROGRESS && nextSubmittedPage <= numberOfPages) {
+            submit(nextSubmittedPage++);
+        }
+        PageTextTask task = tasks.remove();
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            cancel();
+            Thread.currentThread().interrupt();
+            throw new PdfException(e);
+        } catch (ExecutionException e) {
+            cancel();
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new PdfException(cause);
+        }
+    }
+
+    private void submit(final int pageNumber) {
+        // the strategies are created on the calling thread, so the supplier doesn't need to be thread-safe
+        final ITextExtractionStrategy strategy = strategySupplier.get();
+        PageTextTask task = new PageTextTask(() -> {
+            // checked before the document is accessed, so that it is never read concurrently unless it's allowed
+            if (Thread.currentThread() != callingThread && !isConcurrentReading(pdfDocument)) {
+                throw new IllegalArgumentException(
+                        KernelExceptionMessageConstant.CONCURRENT_READING_REQUIRED_FOR_PARALLEL_TEXT_EXTRACTION);
+            }
+            PdfCanvasProcessor processor = new PdfCanvasProcessor(strategy);
+            processor.setFontCache(fontCache);
+            processor.processPageContent(pdfDocument.getPage(pageNumber));
+            return strategy.getResultantText();
+        });
+        tasks.add(task);
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            task.run();
+        }
+    }
+
+    /**
+     * Cancels the extraction of the remaining pages after a failure and waits for the pages which are being
+     * processed already, so that the document is not used any more once the failure is rethrown.
+     */
+    private void cancel() {
+        for (PageTextTask task : tasks) {
+            task.cancel(false);
+        }
+        for (PageTextTask task : tasks) {
+            try {
+                task.awaitFinished();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        tasks.clear();
+        nextSubmittedPage = numberOfPages + 1;
+    }
+
+    /**
+     * Checks if the document is allowed to be read concurrently. The documents without a reader, i.e. the ones
+     * created for writing only, are never read concurrently.
+     */
+    private static boolean isConcurrentReading(PdfDocument pdfDocument) {
+        PdfReader reader = pdfDocument.getReader();
+        return reader != null && reader.isConcurrentReading();
+    }
+
+    /**
+     * The task which can be waited for even after it is cancelled, since {@link FutureTask#get()} doesn't wait
+     * for the cancelled task which is still running.
+     */
+    private static final class PageTextTask extends FutureTask<String> {
+        private final CountDownLatch finished = new CountDownLatch(1);
+        private volatile boolean started;
+
+        PageTextTask(Callable<String> callable) {
+            super(callable);
+        }
+
+        @Override
+        public void run() {
+            // a task which starts after it is cancelled doesn't call the callable
+            started = true;
+            try {
+                super.run();
+            } finally {
+                finished.countDown();
+            }
+        }
+
+        void awaitFinished() throws InterruptedException {
+            if (started) {
+                finished.await();
+            }
+        }
+    }
+}
@@ -55,10 +55,20 @@ public class ParserGraphicsState extends CanvasGraphicsState {
      */
     ParserGraphicsState(ParserGraphicsState source) {
         super(source);
+        // The clipping path is never modified in place, each change replaces it with a new path,
+        // so it is shared with the source instead of being copied.
+        clippingPath = source.clippingPath;
+    }
 
-        if (source.clippingPath != null) {
-            clippingPath = new Path(source.clippingPath);
-        }
+    /**
+     * Replaces all the values of this object with the values of the source graphics state,
+     * so that the object can be reused instead of creating a new copy.
+     *
+     * @param source the Graphics State to copy from
+     */
+    void updateFrom(ParserGraphicsState source) {
+        super.updateFrom(source);
+        clippingPath = source.clippingPath;
     }
 
     @Override
@@ -103,6 +113,7 @@ public class ParserGraphicsState extends CanvasGraphicsState {
      *
      * <strong>Note:</strong> The returned clipping path is in the transformed user space, so
      * if you want to get it in default user space, apply transformation matrix ({@link CanvasGraphicsState#getCtm()}).
+     * The returned path may be shared with the saved graphics states and should not be modified.
      *
      * @return The current clipping path.
      */
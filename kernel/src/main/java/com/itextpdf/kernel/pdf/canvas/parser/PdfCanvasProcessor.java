@@ -45,9 +45,12 @@ import com.itextpdf.kernel.colors.Separation;
 import com.itextpdf.kernel.exceptions.KernelExceptionMessageConstant;
 import com.itextpdf.kernel.font.PdfFont;
 import com.itextpdf.kernel.font.PdfFontFactory;
+import com.itextpdf.kernel.geom.LineSegment;
 import com.itextpdf.kernel.geom.Matrix;
 import com.itextpdf.kernel.geom.NoninvertibleTransformException;
 import com.itextpdf.kernel.geom.Path;
+import com.itextpdf.kernel.geom.Rectangle;
+import com.itextpdf.kernel.geom.Vector;
 import com.itextpdf.kernel.pdf.MemoryLimitsAwareHandler;
 import com.itextpdf.kernel.pdf.PdfArray;
 import com.itextpdf.kernel.pdf.PdfDictionary;
@@ -90,6 +93,19 @@ import java.util.*;
 public class PdfCanvasProcessor {
     public static final String DEFAULT_OPERATOR = "DefaultOperator";
 
+    private static final int MAX_POOLED_GRAPHICS_STATES = 32;
+
+    private static final int MAX_RESOLVED_OPERATORS = 256;
+
+    // the tolerance of the region of interest checks, which keeps them conservative in spite of rounding errors
+    private static final float REGION_OF_INTEREST_TOLERANCE = 0.01f;
+
+    /**
+     * The default size of the Form XObject content cache, see {@link #setFormXObjectCacheSize(long)}.
+     * The cache is disabled by default.
+     */
+    public static final long DEFAULT_FORM_XOBJECT_CACHE_SIZE = 0;
+
     /**
      * Listener that will be notified of render events
      */
@@ -132,9 +148,20 @@ public class PdfCanvasProcessor {
      */
     private final Stack<ParserGraphicsState> gsStack = new Stack<>();
 
+    /**
+     * The graphics states popped from the stack, which are re-used by the subsequent (q) operators.
+     */
+    private final List<ParserGraphicsState> graphicsStatePool = new ArrayList<>();
+
     private Matrix textMatrix;
     private Matrix textLineMatrix;
 
+    /**
+     * The registered operators by the operator literals met in the content, so that the literals
+     * don't have to be converted to strings to look the operators up.
+     */
+    private final Map<PdfLiteral, IContentOperator> resolvedOperators = new HashMap<>();
+
     /**
      * A map with all supported XObject handlers
      */
@@ -160,6 +187,18 @@ public class PdfCanvasProcessor {
      */
     private long pageSize = 0;
 
+    /**
+     * The region of the page the content is processed for, {@code null} if the whole page is of interest.
+     */
+    private Rectangle regionOfInterest = null;
+
+    /**
+     * The parsed content of the processed Form XObjects, {@code null} if such caching is disabled.
+     */
+    private FormXObjectContentCache formXObjectCache;
+
+    private Boolean processContentOverridden;
+
     /**
      * Creates a new PDF Content Stream Processor that will send its output to the
      * designated render listener.
@@ -217,6 +256,7 @@ public class PdfCanvasProcessor {
      * @return the existing registered operator, if any
      */
     public IContentOperator registerContentOperator(String operatorString, IContentOperator operator) {
+        resolvedOperators.clear();
         return operators.put(operatorString, operator);
     }
 
@@ -229,6 +269,57 @@ public class PdfCanvasProcessor {
         return new ArrayList<String>(operators.keySet());
     }
 
+    /**
+     * Sets the region of the page the content is processed for, in the default user space coordinates.
+     * The text and images whose bounding boxes cannot intersect this region are skipped:
+     * no {@link EventType#RENDER_TEXT} and {@link EventType#RENDER_IMAGE} events are reported for them.
+     * Other events are reported as usual. If the listener supports no events other than these two,
+     * the Form XObjects whose bounding boxes cannot intersect this region are neither decoded nor processed.
+     *
+     * <p>
+     * This is meant for the listeners which are only interested in a part of the page, e.g. the ones
+     * filtering the text with a {@link com.itextpdf.kernel.pdf.canvas.parser.filter.TextRegionEventFilter},
+     * so that the content outside that part doesn't need to be processed. The region survives {@link #reset()}.
+     *
+     * @param regionOfInterest the region of interest or {@code null} to process the whole content
+     */
+    public void setRegionOfInterest(Rectangle regionOfInterest) {
+        this.regionOfInterest = regionOfInterest == null ? null : regionOfInterest.clone();
+    }
+
+    /**
+     * Gets the region of the page the content is processed for, see {@link #setRegionOfInterest(Rectangle)}.
+     *
+     * @return the region of interest or {@code null} if the whole content is processed
+     */
+    public Rectangle getRegionOfInterest() {
+        return regionOfInterest == null ? null : regionOfInterest.clone();
+    }
+
+    /**
+     * Sets the maximum size, in bytes of the decoded content streams, of the Form XObjects whose parsed
+     * operators and operands are kept by this processor. When the same Form XObject is drawn again, its
+     * operators are replayed under the current graphics state instead of decoding and parsing
+     * its content stream once more. The cached content survives {@link #reset()}, so that a processor
+     * re-used for the pages of a document benefits from the Form XObjects shared between pages.
+     *
+     * <p>
+     * The cache relies on the Form XObject streams not being modified while the processor is used.
+     * The Form XObjects are not cached if a subclass overrides {@link #processContent(byte[], PdfResources)},
+     * so that their content is always passed to the overriding method.
+     * Pass 0 to disable the caching. The default size is {@link #DEFAULT_FORM_XOBJECT_CACHE_SIZE},
+     * i.e. the caching is disabled unless it is explicitly enabled.
+     *
+     * @param size the maximum size of the cached Form XObject content streams in bytes
+     */
+    public void setFormXObjectCacheSize(long size) {
+        if (size < 0) {
+            throw new IllegalArgumentException(
+                    KernelExceptionMessageConstant.FORM_XOBJECT_CACHE_SIZE_CANNOT_BE_NEGATIVE);
+        }
+        formXObjectCache = size == 0 ? null : new FormXObjectContentCache(size);
+    }
+
     /**
      * Resets the graphics state stack, matrices and resources.
      */
@@ -247,6 +338,10 @@ public class PdfCanvasProcessor {
     /**
      * Gets the current {@link ParserGraphicsState}
      *
+     * <p>
+     * The graphics states are re-used once they are restored by the (Q) operator, so the returned
+     * object should be copied if it's needed after the current graphics state is restored.
+     *
      * @return the current {@link ParserGraphicsState}
      */
     public ParserGraphicsState getGraphicsState() {
@@ -261,29 +356,7 @@ public class PdfCanvasProcessor {
      * @param resources    the resources of the content stream. Must not be null.
      */
     public void processContent(byte[] contentBytes, PdfResources resources) {
-        if (resources == null) {
-            throw new PdfException(KernelExceptionMessageConstant.RESOURCES_CANNOT_BE_NULL);
-        }
-        if (memoryLimitsHandler != null) {
-            pageSize += (long)contentBytes.length;
-            memoryLimitsHandler.checkIfPageSizeExceedsTheLimit(this.pageSize);
-        }
-
-        this.resourcesStack.add(resources);
-        PdfTokenizer tokeniser = new PdfTokenizer(new RandomAccessFileOrArray(new RandomAccessSourceFactory().createSource(contentBytes)));
-        PdfCanvasParser ps = new PdfCanvasParser(tokeniser, resources);
-        List<PdfObject> operands = new ArrayList<>();
-        try {
-            while (ps.parse(operands).size() > 0) {
-                PdfLiteral operator = (PdfLiteral) operands.get(operands.size() - 1);
-                invokeOperator(operator, operands);
-            }
-        } catch (IOException e) {
-            throw new PdfException(KernelExceptionMessageConstant.CANNOT_PARSE_CONTENT_STREAM, e);
-        }
-
-        this.resourcesStack.remove(resourcesStack.size() - 1);
-
+        processContent(contentBytes, resources, null);
     }
 
     /**
@@ -445,9 +518,16 @@ public class PdfCanvasProcessor {
      * @param operands a list with operands
      */
     protected void invokeOperator(PdfLiteral operator, List<PdfObject> operands) {
-        IContentOperator op = operators.get(operator.toString());
+        IContentOperator op = resolvedOperators.get(operator);
         if (op == null) {
-            op = operators.get(DEFAULT_OPERATOR);
+            op = operators.get(operator.toString());
+            if (op == null) {
+                op = operators.get(DEFAULT_OPERATOR);
+            }
+            // the number of distinct operators is small unless the content is broken
+            if (op != null && resolvedOperators.size() < MAX_RESOLVED_OPERATORS) {
+                resolvedOperators.put(operator, op);
+            }
         }
         op.invoke(this, operator, operands);
     }
@@ -483,14 +563,160 @@ public class PdfCanvasProcessor {
             return PdfFontFactory.createFont(fontDict);
         } else {
             int n = fontDict.getIndirectReference().getObjNumber();
-            WeakReference<PdfFont> fontRef = cachedFonts.get(n);
-            PdfFont font = (PdfFont) (fontRef == null ? null : fontRef.get());
-            if (font == null) {
-                font = PdfFontFactory.createFont(fontDict);
-                cachedFonts.put(n, new WeakReference<>(font));
+            // the cache may be shared by the processors of different pages processed in parallel
+            synchronized (cachedFonts) {
+                WeakReference<PdfFont> fontRef = cachedFonts.get(n);
+                PdfFont font = (PdfFont) (fontRef == null ? null : fontRef.get());
+                if (font == null) {
+                    font = PdfFontFactory.createFont(fontDict);
+                    cachedFonts.put(n, new WeakReference<>(font));
+                }
+                return font;
+            }
+        }
+    }
+
+    /**
+     * Sets the font cache, which allows to share the fonts, and thus their decoding data, between the processors
+     * of the pages of the same document, including the ones used on different threads.
+     *
+     * @param cachedFonts the font cache
+     */
+    void setFontCache(Map<Integer, WeakReference<PdfFont>> cachedFonts) {
+        this.cachedFonts = cachedFonts;
+    }
+
+    /**
+     * Gets the cached parsed content of the Form XObject.
+     *
+     * @param xObjectStream the Form XObject stream
+     * @return the parsed content or {@code null} if it is not cached
+     */
+    FormXObjectContentCache.ParsedContent getCachedFormXObjectContent(PdfStream xObjectStream) {
+        PdfIndirectReference reference = xObjectStream.getIndirectReference();
+        if (formXObjectCache == null || reference == null) {
+            return null;
+        }
+        return formXObjectCache.get(reference);
+    }
+
+    /**
+     * Processes the content of the Form XObject and caches its parsed operators and operands
+     * if they can be replayed later.
+     *
+     * @param xObjectStream the Form XObject stream
+     * @param contentBytes  the decoded bytes of the Form XObject stream
+     * @param resources     the resources of the Form XObject
+     */
+    void processFormXObjectContent(PdfStream xObjectStream, byte[] contentBytes, PdfResources resources) {
+        PdfIndirectReference reference = xObjectStream.getIndirectReference();
+        if (formXObjectCache == null || reference == null || contentBytes.length > formXObjectCache.getMaxSize()
+                || isProcessContentOverridden()) {
+            processContent(contentBytes, resources);
+            return;
+        }
+        List<List<PdfObject>> operations = new ArrayList<>();
+        processContent(contentBytes, resources, operations);
+        // inline images are parsed against the resources, which are inherited if the form has none of its own
+        if (xObjectStream.getAsDictionary(PdfName.Resources) != null || !containsInlineImages(operations)) {
+            formXObjectCache.put(reference, new FormXObjectContentCache.ParsedContent(operations, contentBytes.length));
+        }
+    }
+
+    /**
+     * Replays the cached parsed content of a Form XObject under the current graphics state.
+     *
+     * @param content   the parsed content
+     * @param resources the resources of the Form XObject
+     */
+    void replayContent(FormXObjectContentCache.ParsedContent content, PdfResources resources) {
+        if (memoryLimitsHandler != null) {
+            pageSize += content.contentLength;
+            memoryLimitsHandler.checkIfPageSizeExceedsTheLimit(this.pageSize);
+        }
+
+        this.resourcesStack.add(resources);
+        List<PdfObject> operands = new ArrayList<>();
+        for (List<PdfObject> operation : content.operations) {
+            // operators are free to modify the list of the operands, so the cached one is not exposed
+            operands.clear();
+            operands.addAll(operation);
+            invokeOperator((PdfLiteral) operands.get(operands.size() - 1), operands);
+        }
+        this.resourcesStack.remove(resourcesStack.size() - 1);
+    }
+
+    /**
+     * Processes PDF syntax optionally recording the parsed operators with their operands.
+     *
+     * @param contentBytes       the bytes of a content stream
+     * @param resources          the resources of the content stream. Must not be null.
+     * @param recordedOperations the list to add the copies of the parsed operands lists to, or {@code null}
+     */
+    private void processContent(byte[] contentBytes, PdfResources resources, List<List<PdfObject>> recordedOperations) {
+        if (resources == null) {
+            throw new PdfException(KernelExceptionMessageConstant.RESOURCES_CANNOT_BE_NULL);
+        }
+        if (memoryLimitsHandler != null) {
+            pageSize += (long)contentBytes.length;
+            memoryLimitsHandler.checkIfPageSizeExceedsTheLimit(this.pageSize);
+        }
+
+        this.resourcesStack.add(resources);
+        PdfTokenizer tokeniser = new PdfTokenizer(new RandomAccessFileOrArray(new RandomAccessSourceFactory().createSource(contentBytes)));
+        PdfCanvasParser ps = new PdfCanvasParser(tokeniser, resources);
+        List<PdfObject> operands = new ArrayList<>();
+        try {
+            while (ps.parse(operands).size() > 0) {
+                PdfLiteral operator = (PdfLiteral) operands.get(operands.size() - 1);
+                if (recordedOperations != null) {
+                    recordedOperations.add(new ArrayList<>(operands));
+                }
+                invokeOperator(operator, operands);
             }
-            return font;
+        } catch (IOException e) {
+            throw new PdfException(KernelExceptionMessageConstant.CANNOT_PARSE_CONTENT_STREAM, e);
         }
+
+        this.resourcesStack.remove(resourcesStack.size() - 1);
+
+    }
+
+    /**
+     * Checks if only the events filtered by the region of interest are supported, so that the content
+     * outside the region can't produce any event.
+     */
+    private boolean isOnlyTextOrImageSupported() {
+        if (supportedEvents == null) {
+            return false;
+        }
+        for (EventType eventType : supportedEvents) {
+            if (eventType != EventType.RENDER_TEXT && eventType != EventType.RENDER_IMAGE) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isProcessContentOverridden() {
+        if (processContentOverridden == null) {
+            try {
+                processContentOverridden = getClass().getMethod("processContent", byte[].class, PdfResources.class)
+                        .getDeclaringClass() != PdfCanvasProcessor.class;
+            } catch (NoSuchMethodException e) {
+                processContentOverridden = true;
+            }
+        }
+        return (boolean) processContentOverridden;
+    }
+
+    private static boolean containsInlineImages(List<List<PdfObject>> operations) {
+        for (List<PdfObject> operation : operations) {
+            if ("EI".equals(operation.get(operation.size() - 1).toString())) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -546,8 +772,76 @@ public class PdfCanvasProcessor {
      */
     private void displayPdfString(PdfString string) {
         TextRenderInfo renderInfo = new TextRenderInfo(string, getGraphicsState(), textMatrix, markedContentStack);
-        textMatrix = new Matrix(renderInfo.getUnscaledWidth(), 0).multiply(textMatrix);
-        eventOccurred(renderInfo, EventType.RENDER_TEXT);
+        textMatrix = translate(textMatrix, renderInfo.getUnscaledWidth(), 0);
+        if (regionOfInterest == null || intersectsRegionOfInterest(renderInfo)) {
+            eventOccurred(renderInfo, EventType.RENDER_TEXT);
+        } else {
+            renderInfo.releaseGraphicsState();
+        }
+    }
+
+    private boolean intersectsRegionOfInterest(TextRenderInfo renderInfo) {
+        LineSegment baseline = renderInfo.getBaseline();
+        LineSegment ascentLine = renderInfo.getAscentLine();
+        LineSegment descentLine = renderInfo.getDescentLine();
+        float[] points = new float[12];
+        putLineSegment(points, 0, baseline);
+        putLineSegment(points, 4, ascentLine);
+        putLineSegment(points, 8, descentLine);
+        return intersectsRegionOfInterest(points);
+    }
+
+    private static void putLineSegment(float[] points, int offset, LineSegment segment) {
+        points[offset] = segment.getStartPoint().get(Vector.I1);
+        points[offset + 1] = segment.getStartPoint().get(Vector.I2);
+        points[offset + 2] = segment.getEndPoint().get(Vector.I1);
+        points[offset + 3] = segment.getEndPoint().get(Vector.I2);
+    }
+
+    /**
+     * Checks whether the rectangle transformed by the matrix to the default user space may intersect
+     * the region of interest.
+     *
+     * @param rectangle the rectangle
+     * @param matrix    the matrix transforming the rectangle to the default user space
+     * @return {@code false} if the transformed rectangle cannot intersect the region of interest
+     */
+    private boolean intersectsRegionOfInterest(Rectangle rectangle, Matrix matrix) {
+        float[] points = new float[] {
+                rectangle.getLeft(), rectangle.getBottom(), rectangle.getRight(), rectangle.getBottom(),
+                rectangle.getRight(), rectangle.getTop(), rectangle.getLeft(), rectangle.getTop()
+        };
+        for (int i = 0; i < points.length; i += 2) {
+            float x = points[i];
+            float y = points[i + 1];
+            points[i] = x * matrix.get(Matrix.I11) + y * matrix.get(Matrix.I21) + matrix.get(Matrix.I31);
+            points[i + 1] = x * matrix.get(Matrix.I12) + y * matrix.get(Matrix.I22) + matrix.get(Matrix.I32);
+        }
+        return intersectsRegionOfInterest(points);
+    }
+
+    /**
+     * Checks whether the bounding box of the points in the default user space may intersect the region of interest.
+     *
+     * @param points the x and y coordinates of the points one after another
+     * @return {@code false} if the bounding box of the points cannot intersect the region of interest
+     */
+    private boolean intersectsRegionOfInterest(float[] points) {
+        float minX = Float.MAX_VALUE;
+        float minY = Float.MAX_VALUE;
+        float maxX = -Float.MAX_VALUE;
+        float maxY = -Float.MAX_VALUE;
+        for (int i = 0; i < points.length; i += 2) {
+            minX = Math.min(minX, points[i]);
+            maxX = Math.max(maxX, points[i]);
+            minY = Math.min(minY, points[i + 1]);
+            maxY = Math.max(maxY, points[i + 1]);
+        }
+        // NaN coordinates fail all the comparisons, such content is kept
+        return !(maxX < regionOfInterest.getLeft() - REGION_OF_INTEREST_TOLERANCE
+                || minX > regionOfInterest.getRight() + REGION_OF_INTEREST_TOLERANCE
+                || maxY < regionOfInterest.getBottom() - REGION_OF_INTEREST_TOLERANCE
+                || minY > regionOfInterest.getTop() + REGION_OF_INTEREST_TOLERANCE);
     }
 
     /**
@@ -568,6 +862,10 @@ public class PdfCanvasProcessor {
     }
 
     private void displayImage(Stack<CanvasTag> canvasTagHierarchy, PdfStream imageStream, PdfName resourceName, boolean isInline) {
+        // images are drawn into the unit square of the user space
+        if (regionOfInterest != null && !intersectsRegionOfInterest(new Rectangle(1, 1), getGraphicsState().getCtm())) {
+            return;
+        }
         PdfDictionary colorSpaceDic = getResources().getResource(PdfName.ColorSpace);
         ImageRenderInfo renderInfo = new ImageRenderInfo(canvasTagHierarchy, getGraphicsState(), getGraphicsState().getCtm(),
                 imageStream, resourceName, colorSpaceDic, isInline);
@@ -582,7 +880,25 @@ public class PdfCanvasProcessor {
     private void applyTextAdjust(float tj) {
         final float adjustBy = FontProgram.convertTextSpaceToGlyphSpace(-tj) * getGraphicsState().getFontSize() * (
                 getGraphicsState().getHorizontalScaling() / 100F);
-        textMatrix = new Matrix(adjustBy, 0).multiply(textMatrix);
+        textMatrix = translate(textMatrix, adjustBy, 0);
+    }
+
+    /**
+     * Calculates the product of the translation matrix and the given affine matrix without creating
+     * the intermediate translation matrix, i.e. the same as {@code new Matrix(tx, ty).multiply(matrix)}.
+     *
+     * @param matrix the affine matrix to be translated
+     * @param tx     the horizontal translation
+     * @param ty     the vertical translation
+     * @return the translated matrix
+     */
+    private static Matrix translate(Matrix matrix, float tx, float ty) {
+        float a = matrix.get(Matrix.I11);
+        float b = matrix.get(Matrix.I12);
+        float c = matrix.get(Matrix.I21);
+        float d = matrix.get(Matrix.I22);
+        return new Matrix(a, b, c, d, tx * a + ty * c + matrix.get(Matrix.I31),
+                tx * b + ty * d + matrix.get(Matrix.I32));
     }
 
     private void initClippingPath(PdfPage page) {
@@ -654,17 +970,9 @@ public class PdfCanvasProcessor {
             PdfNumber ac = (PdfNumber) operands.get(1);
             PdfString string = (PdfString) operands.get(2);
 
-            List<PdfObject> twOperands = new ArrayList<PdfObject>(1);
-            twOperands.add(0, aw);
-            setTextWordSpacing.invoke(processor, null, twOperands);
-
-            List<PdfObject> tcOperands = new ArrayList<PdfObject>(1);
-            tcOperands.add(0, ac);
-            setTextCharacterSpacing.invoke(processor, null, tcOperands);
-
-            List<PdfObject> tickOperands = new ArrayList<PdfObject>(1);
-            tickOperands.add(0, string);
-            moveNextLineAndShowText.invoke(processor, null, tickOperands);
+            setTextWordSpacing.invoke(processor, aw.floatValue());
+            setTextCharacterSpacing.invoke(processor, ac.floatValue());
+            moveNextLineAndShowText.invoke(processor, string);
         }
     }
 
@@ -690,8 +998,12 @@ public class PdfCanvasProcessor {
          * {@inheritDoc}
          */
         public void invoke(PdfCanvasProcessor processor, PdfLiteral operator, List<PdfObject> operands) {
-            textMoveNextLine.invoke(processor, null, new ArrayList<PdfObject>(0));
-            showText.invoke(processor, null, operands);
+            invoke(processor, (PdfString) operands.get(0));
+        }
+
+        void invoke(PdfCanvasProcessor processor, PdfString string) {
+            textMoveNextLine.invoke(processor);
+            showText.invoke(processor, string);
         }
     }
 
@@ -703,8 +1015,10 @@ public class PdfCanvasProcessor {
          * {@inheritDoc}
          */
         public void invoke(PdfCanvasProcessor processor, PdfLiteral operator, List<PdfObject> operands) {
-            PdfString string = (PdfString) operands.get(0);
+            invoke(processor, (PdfString) operands.get(0));
+        }
 
+        void invoke(PdfCanvasProcessor processor, PdfString string) {
             processor.displayPdfString(string);
         }
     }
@@ -724,10 +1038,11 @@ public class PdfCanvasProcessor {
          * {@inheritDoc}
          */
         public void invoke(PdfCanvasProcessor processor, PdfLiteral operator, List<PdfObject> operands) {
-            List<PdfObject> tdoperands = new ArrayList<PdfObject>(2);
-            tdoperands.add(0, new PdfNumber(0));
-            tdoperands.add(1, new PdfNumber(-processor.getGraphicsState().getLeading()));
-            moveStartNextLine.invoke(processor, null, tdoperands);
+            invoke(processor);
+        }
+
+        void invoke(PdfCanvasProcessor processor) {
+            moveStartNextLine.invoke(processor, 0, -processor.getGraphicsState().getLeading());
         }
     }
 
@@ -767,12 +1082,11 @@ public class PdfCanvasProcessor {
          * {@inheritDoc}
          */
         public void invoke(PdfCanvasProcessor processor, PdfLiteral operator, List<PdfObject> operands) {
+            float tx = ((PdfNumber) operands.get(0)).floatValue();
             float ty = ((PdfNumber) operands.get(1)).floatValue();
 
-            List<PdfObject> tlOperands = new ArrayList<PdfObject>(1);
-            tlOperands.add(0, new PdfNumber(-ty));
-            setTextLeading.invoke(processor, null, tlOperands);
-            moveStartNextLine.invoke(processor, null, operands);
+            setTextLeading.invoke(processor, -ty);
+            moveStartNextLine.invoke(processor, tx, ty);
         }
     }
 
@@ -787,8 +1101,11 @@ public class PdfCanvasProcessor {
             float tx = ((PdfNumber) operands.get(0)).floatValue();
             float ty = ((PdfNumber) operands.get(1)).floatValue();
 
-            Matrix translationMatrix = new Matrix(tx, ty);
-            processor.textMatrix = translationMatrix.multiply(processor.textLineMatrix);
+            invoke(processor, tx, ty);
+        }
+
+        void invoke(PdfCanvasProcessor processor, float tx, float ty) {
+            processor.textMatrix = translate(processor.textLineMatrix, tx, ty);
             processor.textLineMatrix = processor.textMatrix;
         }
     }
@@ -850,7 +1167,11 @@ public class PdfCanvasProcessor {
          */
         public void invoke(PdfCanvasProcessor processor, PdfLiteral operator, List<PdfObject> operands) {
             PdfNumber leading = (PdfNumber) operands.get(0);
-            processor.getGraphicsState().setLeading(leading.floatValue());
+            invoke(processor, leading.floatValue());
+        }
+
+        void invoke(PdfCanvasProcessor processor, float leading) {
+            processor.getGraphicsState().setLeading(leading);
         }
     }
 
@@ -876,7 +1197,11 @@ public class PdfCanvasProcessor {
          */
         public void invoke(PdfCanvasProcessor processor, PdfLiteral operator, List<PdfObject> operands) {
             PdfNumber charSpace = (PdfNumber) operands.get(0);
-            processor.getGraphicsState().setCharSpacing(charSpace.floatValue());
+            invoke(processor, charSpace.floatValue());
+        }
+
+        void invoke(PdfCanvasProcessor processor, float charSpace) {
+            processor.getGraphicsState().setCharSpacing(charSpace);
         }
     }
 
@@ -889,7 +1214,11 @@ public class PdfCanvasProcessor {
          */
         public void invoke(PdfCanvasProcessor processor, PdfLiteral operator, List<PdfObject> operands) {
             PdfNumber wordSpace = (PdfNumber) operands.get(0);
-            processor.getGraphicsState().setWordSpacing(wordSpace.floatValue());
+            invoke(processor, wordSpace.floatValue());
+        }
+
+        void invoke(PdfCanvasProcessor processor, float wordSpace) {
+            processor.getGraphicsState().setWordSpacing(wordSpace);
         }
     }
 
@@ -936,7 +1265,13 @@ public class PdfCanvasProcessor {
          */
         public void invoke(PdfCanvasProcessor processor, PdfLiteral operator, List<PdfObject> operands) {
             ParserGraphicsState gs = processor.gsStack.peek();
-            ParserGraphicsState copy = new ParserGraphicsState(gs);
+            ParserGraphicsState copy;
+            if (processor.graphicsStatePool.isEmpty()) {
+                copy = new ParserGraphicsState(gs);
+            } else {
+                copy = processor.graphicsStatePool.remove(processor.graphicsStatePool.size() - 1);
+                copy.updateFrom(gs);
+            }
             processor.gsStack.push(copy);
         }
     }
@@ -1071,7 +1406,10 @@ public class PdfCanvasProcessor {
          * {@inheritDoc}
          */
         public void invoke(PdfCanvasProcessor processor, PdfLiteral operator, List<PdfObject> operands) {
-            processor.gsStack.pop();
+            ParserGraphicsState restoredGs = processor.gsStack.pop();
+            if (processor.graphicsStatePool.size() < MAX_POOLED_GRAPHICS_STATES) {
+                processor.graphicsStatePool.add(restoredGs);
+            }
             ParserGraphicsState gs = processor.getGraphicsState();
             processor.eventOccurred(new ClippingPathInfo(gs, gs.getClippingPath(), gs.getCtm()), EventType.CLIP_PATH_CHANGED);
         }
@@ -1412,6 +1750,22 @@ public class PdfCanvasProcessor {
 
         public void handleXObject(PdfCanvasProcessor processor, Stack<CanvasTag> canvasTagHierarchy, PdfStream xObjectStream, PdfName xObjectName) {
 
+            Matrix formMatrix = null;
+            final PdfArray matrix = xObjectStream.getAsArray(PdfName.Matrix);
+            if (matrix != null) {
+                float a = matrix.getAsNumber(0).floatValue();
+                float b = matrix.getAsNumber(1).floatValue();
+                float c = matrix.getAsNumber(2).floatValue();
+                float d = matrix.getAsNumber(3).floatValue();
+                float e = matrix.getAsNumber(4).floatValue();
+                float f = matrix.getAsNumber(5).floatValue();
+                formMatrix = new Matrix(a, b, c, d, e, f);
+            }
+            if (processor.regionOfInterest != null && processor.isOnlyTextOrImageSupported()
+                    && !intersectsRegionOfInterest(processor, xObjectStream.getAsArray(PdfName.BBox), formMatrix)) {
+                return;
+            }
+
             PdfDictionary resourcesDic = xObjectStream.getAsDictionary(PdfName.Resources);
             PdfResources resources;
             if (resourcesDic == null) {
@@ -1423,27 +1777,41 @@ public class PdfCanvasProcessor {
             // we read the content bytes up here so if it fails we don't leave the graphics state stack corrupted
             // this is probably not necessary (if we fail on this, probably the entire content stream processing
             // operation should be rejected
-            byte[] contentBytes;
-            contentBytes = xObjectStream.getBytes();
-            final PdfArray matrix = xObjectStream.getAsArray(PdfName.Matrix);
+            FormXObjectContentCache.ParsedContent parsedContent = processor.getCachedFormXObjectContent(xObjectStream);
+            byte[] contentBytes = null;
+            if (parsedContent == null) {
+                contentBytes = xObjectStream.getBytes();
+            }
 
             new PushGraphicsStateOperator().invoke(processor, null, null);
 
-            if (matrix != null) {
-                float a = matrix.getAsNumber(0).floatValue();
-                float b = matrix.getAsNumber(1).floatValue();
-                float c = matrix.getAsNumber(2).floatValue();
-                float d = matrix.getAsNumber(3).floatValue();
-                float e = matrix.getAsNumber(4).floatValue();
-                float f = matrix.getAsNumber(5).floatValue();
-                Matrix formMatrix = new Matrix(a, b, c, d, e, f);
+            if (formMatrix != null) {
                 processor.getGraphicsState().updateCtm(formMatrix);
             }
 
-            processor.processContent(contentBytes, resources);
+            if (parsedContent == null) {
+                processor.processFormXObjectContent(xObjectStream, contentBytes, resources);
+            } else {
+                processor.replayContent(parsedContent, resources);
+            }
 
             new PopGraphicsStateOperator().invoke(processor, null, null);
         }
+
+        private static boolean intersectsRegionOfInterest(PdfCanvasProcessor processor, PdfArray bBox,
+                Matrix formMatrix) {
+            if (bBox == null || bBox.size() != 4) {
+                return true;
+            }
+            for (int i = 0; i < 4; ++i) {
+                if (bBox.getAsNumber(i) == null) {
+                    return true;
+                }
+            }
+            Matrix ctm = processor.getGraphicsState().getCtm();
+            return processor.intersectsRegionOfInterest(bBox.toRectangle(),
+                    formMatrix == null ? ctm : formMatrix.multiply(ctm));
+        }
     }
 
     /**
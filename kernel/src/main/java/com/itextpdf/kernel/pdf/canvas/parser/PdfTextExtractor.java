@@ -22,12 +22,18 @@
  */
 package com.itextpdf.kernel.pdf.canvas.parser;
 
+import com.itextpdf.kernel.pdf.PdfDocument;
 import com.itextpdf.kernel.pdf.canvas.parser.listener.LocationTextExtractionStrategy;
 import com.itextpdf.kernel.pdf.canvas.parser.listener.ITextExtractionStrategy;
 import com.itextpdf.kernel.pdf.PdfPage;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 
 public final class PdfTextExtractor {
 
@@ -74,4 +80,47 @@ public final class PdfTextExtractor {
     public static String getTextFromPage(PdfPage page) {
         return getTextFromPage(page, new LocationTextExtractionStrategy());
     }
+
+    /**
+     * Extracts text from all the pages of the document in parallel, processing each page on the executor.
+     * <p>
+     * Each page is processed by its own {@link PdfCanvasProcessor} with its own strategy instance, while the fonts,
+     * including their ToUnicode maps, are read once and shared between the pages. The document shall be opened
+     * with {@link com.itextpdf.kernel.pdf.ReaderProperties#setConcurrentReading(boolean) concurrent reading}
+     * enabled, unless the executor runs the tasks on the calling thread. The executor is not shut down by iText.
+     *
+     * @param pdfDocument      the document for the text to be extracted from
+     * @param strategySupplier the supplier of the strategies, which is called once per page on the calling thread
+     * @param executor         the executor to process the pages on
+     * @return the texts of the pages in page order
+     * @throws IllegalArgumentException if the executor runs the tasks on other threads, but the document
+     *                                  is not opened with concurrent reading enabled
+     */
+    public static List<String> getTextFromPages(PdfDocument pdfDocument,
+            Supplier<? extends ITextExtractionStrategy> strategySupplier, Executor executor) {
+        List<String> texts = new ArrayList<>(pdfDocument.getNumberOfPages());
+        Iterator<String> iterator = iterateTextFromPages(pdfDocument, strategySupplier, executor);
+        while (iterator.hasNext()) {
+            texts.add(iterator.next());
+        }
+        return texts;
+    }
+
+    /**
+     * Extracts text from all the pages of the document in parallel, like
+     * {@link #getTextFromPages(PdfDocument, Supplier, Executor)} does, but returns the texts one by one
+     * in page order as soon as they are extracted. The pages are processed ahead of the returned ones only to a limited
+     * extent, so that the texts which are not consumed yet don't accumulate in memory.
+     *
+     * @param pdfDocument      the document for the text to be extracted from
+     * @param strategySupplier the supplier of the strategies, which is called once per page on the calling thread
+     * @param executor         the executor to process the pages on
+     * @return the iterator over the texts of the pages in page order. Its {@link Iterator#next()} throws
+     * {@link IllegalArgumentException} if the executor runs the tasks on other threads, but the document
+     * is not opened with concurrent reading enabled
+     */
+    public static Iterator<String> iterateTextFromPages(PdfDocument pdfDocument,
+            Supplier<? extends ITextExtractionStrategy> strategySupplier, Executor executor) {
+        return new ParallelPageTextIterator(pdfDocument, strategySupplier, executor);
+    }
 }
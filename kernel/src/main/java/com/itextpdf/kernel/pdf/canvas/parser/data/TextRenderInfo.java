@@ -23,9 +23,11 @@
 package com.itextpdf.kernel.pdf.canvas.parser.data;
 
 import com.itextpdf.io.font.FontProgram;
+import com.itextpdf.io.font.otf.Glyph;
 import com.itextpdf.io.font.otf.GlyphLine;
 import com.itextpdf.kernel.colors.Color;
 import com.itextpdf.kernel.font.PdfFont;
+import com.itextpdf.kernel.font.PdfSimpleFont;
 import com.itextpdf.kernel.font.PdfType0Font;
 import com.itextpdf.kernel.geom.LineSegment;
 import com.itextpdf.kernel.geom.Matrix;
@@ -461,6 +463,8 @@ public class TextRenderInfo extends AbstractRenderInfo {
             float[] widthAndWordSpacing = getWidthAndWordSpacing(string);
             return (float)(((double)widthAndWordSpacing[0] * (double)gs.getFontSize() + (double)gs.getCharSpacing()
                     + (double)widthAndWordSpacing[1]) * (double)gs.getHorizontalScaling() / 100f);
+        } else if (gs.getFont() instanceof PdfSimpleFont && string.getEncoding() == null) {
+            return getSimpleFontStringWidth((PdfSimpleFont<?>) gs.getFont(), string);
         } else {
             float totalWidth = 0;
             for (PdfString str : splitString(string)) {
@@ -470,6 +474,37 @@ public class TextRenderInfo extends AbstractRenderInfo {
         }
     }
 
+    /**
+     * Calculates the width of the string shown with a simple font the same way as summing up the widths
+     * of the single character strings, but without creating these strings and decoding them into glyph lines.
+     */
+    private float getSimpleFontStringWidth(PdfSimpleFont<?> font, PdfString string) {
+        String value = string.getValue();
+        float totalWidth = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char ch = value.charAt(i);
+            // one byte corresponds to one character
+            int code = ch & 0xff;
+            Glyph glyph = font.getFontProgram().getGlyphByCode(code);
+            if (glyph == null) {
+                int uni = font.getFontEncoding().getUnicode(code);
+                if (uni > -1) {
+                    glyph = font.getGlyph(uni);
+                }
+            }
+            if (glyph == null) {
+                // let the regular decoding report the missing glyph
+                totalWidth += getPdfStringWidth(new PdfString(value.substring(i, i + 1), null), true);
+            } else {
+                float width = FontProgram.convertTextSpaceToGlyphSpace((float) glyph.getWidth());
+                float wordSpacing = ch == ' ' ? gs.getWordSpacing() : 0;
+                totalWidth += (float) (((double) width * (double) gs.getFontSize() + (double) gs.getCharSpacing()
+                        + (double) wordSpacing) * (double) gs.getHorizontalScaling() / 100f);
+            }
+        }
+        return totalWidth;
+    }
+
     /**
      * Calculates width and word spacing of a single character PDF string.
      * IMPORTANT: Shall ONLY be used for a single character pdf strings.
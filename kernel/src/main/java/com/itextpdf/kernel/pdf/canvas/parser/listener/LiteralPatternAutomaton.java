@@ -0,0 +1,163 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.kernel.pdf.canvas.parser.listener;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Aho-Corasick automaton which finds the occurrences of a set of literal strings in a single pass over a text.
+ */
+final class LiteralPatternAutomaton {
+    private final int[] literalLengths;
+
+    private final char[][] transitionChars;
+    private final int[][] transitionTargets;
+    private final int[] failures;
+    private final int[][] outputs;
+
+    /**
+     * Builds the automaton for the passed literals.
+     *
+     * @param literals the non-empty literals to be searched for
+     */
+    LiteralPatternAutomaton(List<String> literals) {
+        literalLengths = new int[literals.size()];
+        List<TreeMap<Character, Integer>> transitions = new ArrayList<>();
+        List<List<Integer>> stateOutputs = new ArrayList<>();
+        transitions.add(new TreeMap<Character, Integer>());
+        stateOutputs.add(new ArrayList<Integer>());
+        for (int i = 0; i < literals.size(); i++) {
+            String literal = literals.get(i);
+            literalLengths[i] = literal.length();
+            int state = 0;
+            for (int j = 0; j < literal.length(); j++) {
+                Integer next = transitions.get(state).get(literal.charAt(j));
+                if (next == null) {
+                    next = transitions.size();
+                    transitions.add(new TreeMap<Character, Integer>());
+                    stateOutputs.add(new ArrayList<Integer>());
+                    transitions.get(state).put(literal.charAt(j), next);
+                }
+                state = (int) next;
+            }
+            stateOutputs.get(state).add(i);
+        }
+
+        int stateCount = transitions.size();
+        transitionChars = new char[stateCount][];
+        transitionTargets = new int[stateCount][];
+        for (int state = 0; state < stateCount; state++) {
+            TreeMap<Character, Integer> stateTransitions = transitions.get(state);
+            transitionChars[state] = new char[stateTransitions.size()];
+            transitionTargets[state] = new int[stateTransitions.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> transition : stateTransitions.entrySet()) {
+                transitionChars[state][i] = (char) transition.getKey();
+                transitionTargets[state][i] = (int) transition.getValue();
+                i++;
+            }
+        }
+
+        // breadth-first traversal guarantees that the failure state of each state is completed before the state itself
+        failures = new int[stateCount];
+        outputs = new int[stateCount][];
+        outputs[0] = toArray(stateOutputs.get(0));
+        Deque<Integer> queue = new ArrayDeque<>();
+        queue.add(0);
+        while (!queue.isEmpty()) {
+            int state = (int) queue.poll();
+            for (int i = 0; i < transitionChars[state].length; i++) {
+                char ch = transitionChars[state][i];
+                int child = transitionTargets[state][i];
+                if (state != 0) {
+                    int failure = failures[state];
+                    int next;
+                    while ((next = getTransition(failure, ch)) < 0 && failure != 0) {
+                        failure = failures[failure];
+                    }
+                    failures[child] = next < 0 ? 0 : next;
+                }
+                List<Integer> childOutputs = stateOutputs.get(child);
+                for (int output : outputs[failures[child]]) {
+                    childOutputs.add(output);
+                }
+                outputs[child] = toArray(childOutputs);
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * Finds the occurrences of every literal in the passed text. For each literal the occurrences do not overlap
+     * and are reported in the same way as successive {@link java.util.regex.Matcher#find()} calls would report them
+     * for a literal pattern, while occurrences of different literals may overlap.
+     *
+     * @param text the text to be searched
+     *
+     * @return for each literal, in the order the literals were passed to the constructor,
+     * the list of the start indices of its occurrences
+     */
+    List<List<Integer>> findAll(String text) {
+        List<List<Integer>> result = new ArrayList<>(literalLengths.length);
+        for (int i = 0; i < literalLengths.length; i++) {
+            result.add(new ArrayList<Integer>());
+        }
+        int[] nextAllowedStarts = new int[literalLengths.length];
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            int next;
+            while ((next = getTransition(state, ch)) < 0 && state != 0) {
+                state = failures[state];
+            }
+            state = next < 0 ? 0 : next;
+            for (int literal : outputs[state]) {
+                int start = i + 1 - literalLengths[literal];
+                if (start >= nextAllowedStarts[literal]) {
+                    result.get(literal).add(start);
+                    nextAllowedStarts[literal] = i + 1;
+                }
+            }
+        }
+        return result;
+    }
+
+    private int getTransition(int state, char ch) {
+        int i = Arrays.binarySearch(transitionChars[state], ch);
+        return i < 0 ? -1 : transitionTargets[state][i];
+    }
+
+    private static int[] toArray(List<Integer> list) {
+        int[] array = new int[list.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = (int) list.get(i);
+        }
+        return array;
+    }
+}
@@ -0,0 +1,223 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.kernel.pdf.canvas.parser.listener;
+
+import com.itextpdf.kernel.exceptions.KernelExceptionMessageConstant;
+import com.itextpdf.kernel.geom.Rectangle;
+import com.itextpdf.kernel.pdf.canvas.parser.EventType;
+import com.itextpdf.kernel.pdf.canvas.parser.data.IEventData;
+import com.itextpdf.kernel.pdf.canvas.parser.data.TextRenderInfo;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * This class is designed to search for the occurrences of several patterns at once and return the resultant
+ * rectangles, each tagged with the id of the pattern it matches.
+ * <p>
+ * The text of the page is collected and mapped only once for all patterns. Literal patterns are matched together
+ * in a single pass over that text, regular expressions are matched against the same text. For every pattern
+ * the result is the same as the one of a separate {@link RegexBasedLocationExtractionStrategy}.
+ */
+public class MultiPatternLocationExtractionStrategy implements ILocationExtractionStrategy {
+    private static final String REGEX_METACHARACTERS = "\\^$.|?*+()[]{}";
+
+    private final List<String> patternIds = new ArrayList<>();
+    // null entries stand for literal patterns
+    private final List<Pattern> patterns = new ArrayList<>();
+    private final List<String> literals = new ArrayList<>();
+    private LiteralPatternAutomaton literalsAutomaton;
+    private List<CharacterRenderInfo> parseResult = new ArrayList<>();
+
+    /**
+     * Adds a literal text to be searched for.
+     *
+     * @param patternId the id the found locations are tagged with
+     * @param literal the text to be searched for, must not be empty
+     *
+     * @return this strategy
+     */
+    public MultiPatternLocationExtractionStrategy addLiteral(String patternId, String literal) {
+        if (literal == null || literal.isEmpty()) {
+            throw new IllegalArgumentException(KernelExceptionMessageConstant.LITERAL_TO_SEARCH_FOR_CANNOT_BE_EMPTY);
+        }
+        patternIds.add(patternId);
+        patterns.add(null);
+        literals.add(literal);
+        literalsAutomaton = null;
+        return this;
+    }
+
+    /**
+     * Adds a regular expression to be searched for.
+     * Patterns which match a plain text are searched for as literals.
+     *
+     * @param patternId the id the found locations are tagged with
+     * @param pattern the pattern to be searched for
+     *
+     * @return this strategy
+     */
+    public MultiPatternLocationExtractionStrategy addPattern(String patternId, Pattern pattern) {
+        String literal = toLiteral(pattern);
+        if (literal != null) {
+            return addLiteral(patternId, literal);
+        }
+        patternIds.add(patternId);
+        patterns.add(pattern);
+        return this;
+    }
+
+    /**
+     * Adds a regular expression to be searched for.
+     * Patterns which match a plain text are searched for as literals.
+     *
+     * @param patternId the id the found locations are tagged with
+     * @param regex the regular expression to be searched for
+     *
+     * @return this strategy
+     */
+    public MultiPatternLocationExtractionStrategy addPattern(String patternId, String regex) {
+        return addPattern(patternId, Pattern.compile(regex));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * All the returned locations are {@link PatternPdfTextLocation} instances.
+     */
+    @Override
+    public Collection<IPdfTextLocation> getResultantLocations() {
+        // align characters in "logical" order
+        Collections.sort(parseResult, new TextChunkLocationBasedComparator(new DefaultTextChunkLocationComparator()));
+
+        CharacterRenderInfo.StringConversionInfo txt = CharacterRenderInfo.mapString(parseResult);
+
+        List<List<Integer>> literalMatches = null;
+        if (!literals.isEmpty()) {
+            if (literalsAutomaton == null) {
+                literalsAutomaton = new LiteralPatternAutomaton(literals);
+            }
+            literalMatches = literalsAutomaton.findAll(txt.text);
+        }
+
+        List<IPdfTextLocation> retval = new ArrayList<>();
+        int literalIndex = 0;
+        for (int i = 0; i < patternIds.size(); i++) {
+            String patternId = patternIds.get(i);
+            List<IPdfTextLocation> patternLocations = new ArrayList<>();
+            Pattern pattern = patterns.get(i);
+            if (pattern == null) {
+                String literal = literals.get(literalIndex);
+                for (int start : literalMatches.get(literalIndex)) {
+                    addLocations(patternLocations, txt, start, start + literal.length(), literal, patternId);
+                }
+                literalIndex++;
+            } else {
+                Matcher mat = pattern.matcher(txt.text);
+                while (mat.find()) {
+                    addLocations(patternLocations, txt, mat.start(), mat.end(), mat.group(0), patternId);
+                }
+            }
+
+            // ligatures can produces same rectangle
+            Collections.sort(patternLocations, new RegexBasedLocationExtractionStrategy.PdfTextLocationComparator());
+            RegexBasedLocationExtractionStrategy.removeDuplicates(patternLocations);
+            retval.addAll(patternLocations);
+        }
+
+        Collections.sort(retval, new RegexBasedLocationExtractionStrategy.PdfTextLocationComparator());
+        return retval;
+    }
+
+    @Override
+    public void eventOccurred(IEventData data, EventType type) {
+        if (data instanceof TextRenderInfo) {
+            parseResult.addAll(toCRI((TextRenderInfo) data));
+        }
+    }
+
+    @Override
+    public Set<EventType> getSupportedEvents() {
+        return null;
+    }
+
+    /**
+     * Convert {@link TextRenderInfo} to {@link CharacterRenderInfo}.
+     * This method is protected and not final so that custom implementations can choose to override it.
+     *
+     * @param tri {@link TextRenderInfo} object
+     *
+     * @return a list of {@link CharacterRenderInfo}s which represents the passed {@link TextRenderInfo}
+     *
+     * @see RegexBasedLocationExtractionStrategy#toCRI(TextRenderInfo)
+     */
+    protected List<CharacterRenderInfo> toCRI(TextRenderInfo tri) {
+        return RegexBasedLocationExtractionStrategy.toCharacterRenderInfos(tri);
+    }
+
+    /**
+     * Converts {@link CharacterRenderInfo} objects to {@link Rectangle}s.
+     * This method is protected and not final so that custom implementations can choose to override it.
+     *
+     * @param cris list of {@link CharacterRenderInfo} objects
+     *
+     * @return a list of {@link Rectangle}s, one per line of the passed characters
+     *
+     * @see RegexBasedLocationExtractionStrategy#toRectangles(List)
+     */
+    protected List<Rectangle> toRectangles(List<CharacterRenderInfo> cris) {
+        return RegexBasedLocationExtractionStrategy.toLineRectangles(cris);
+    }
+
+    private void addLocations(List<IPdfTextLocation> locations, CharacterRenderInfo.StringConversionInfo txt,
+            int start, int end, String text, String patternId) {
+        Integer startIndex = RegexBasedLocationExtractionStrategy.getStartIndex(txt.indexMap, start, txt.text);
+        Integer endIndex = RegexBasedLocationExtractionStrategy.getEndIndex(txt.indexMap, end - 1);
+        if (startIndex != null && endIndex != null && startIndex <= endIndex) {
+            for (Rectangle r : toRectangles(parseResult.subList(startIndex.intValue(), endIndex.intValue() + 1))) {
+                locations.add(new PatternPdfTextLocation(0, r, text, patternId));
+            }
+        }
+    }
+
+    private static String toLiteral(Pattern pattern) {
+        if (pattern.flags() == Pattern.LITERAL) {
+            return pattern.pattern().isEmpty() ? null : pattern.pattern();
+        }
+        if (pattern.flags() != 0 || pattern.pattern().isEmpty()) {
+            return null;
+        }
+        String regex = pattern.pattern();
+        for (int i = 0; i < regex.length(); i++) {
+            if (REGEX_METACHARACTERS.indexOf(regex.charAt(i)) >= 0) {
+                return null;
+            }
+        }
+        return regex;
+    }
+}
@@ -0,0 +1,47 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.kernel.pdf.canvas.parser.listener;
+
+import com.itextpdf.kernel.geom.Rectangle;
+
+/**
+ * Text location found by {@link MultiPatternLocationExtractionStrategy}, tagged with the id of the pattern it matches.
+ */
+public class PatternPdfTextLocation extends DefaultPdfTextLocation {
+
+    private final String patternId;
+
+    public PatternPdfTextLocation(int pageNr, Rectangle rect, String text, String patternId) {
+        super(pageNr, rect, text);
+        this.patternId = patternId;
+    }
+
+    /**
+     * Gets the id of the pattern this location matches.
+     *
+     * @return the id passed when the pattern was added to the strategy
+     */
+    public String getPatternId() {
+        return patternId;
+    }
+}
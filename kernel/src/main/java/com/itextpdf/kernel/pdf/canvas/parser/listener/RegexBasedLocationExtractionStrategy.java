@@ -88,7 +88,7 @@ public class RegexBasedLocationExtractionStrategy implements ILocationExtraction
         return retval;
     }
 
-    private void removeDuplicates(List<IPdfTextLocation> sortedList) {
+    static void removeDuplicates(List<IPdfTextLocation> sortedList) {
         IPdfTextLocation lastItem = null;
         int orgSize = sortedList.size();
         for (int i = orgSize - 1; i >= 0; i--) {
@@ -125,11 +125,7 @@ public class RegexBasedLocationExtractionStrategy implements ILocationExtraction
      * @return a list of {@link CharacterRenderInfo}s which represents the passed {@link TextRenderInfo} ?
      */
     protected List<CharacterRenderInfo> toCRI(TextRenderInfo tri) {
-        List<CharacterRenderInfo> cris = new ArrayList<>();
-        for (TextRenderInfo subTri : tri.getCharacterRenderInfos()) {
-            cris.add(new CharacterRenderInfo(subTri));
-        }
-        return cris;
+        return toCharacterRenderInfos(tri);
     }
 
     /**
@@ -146,6 +142,18 @@ public class RegexBasedLocationExtractionStrategy implements ILocationExtraction
      * @return an array containing the elements of this list
      */
     protected List<Rectangle> toRectangles(List<CharacterRenderInfo> cris) {
+        return toLineRectangles(cris);
+    }
+
+    static List<CharacterRenderInfo> toCharacterRenderInfos(TextRenderInfo tri) {
+        List<CharacterRenderInfo> cris = new ArrayList<>();
+        for (TextRenderInfo subTri : tri.getCharacterRenderInfos()) {
+            cris.add(new CharacterRenderInfo(subTri));
+        }
+        return cris;
+    }
+
+    static List<Rectangle> toLineRectangles(List<CharacterRenderInfo> cris) {
         List<Rectangle> retval = new ArrayList<>();
         if (cris.isEmpty()) {
             return retval;
@@ -169,7 +177,7 @@ public class RegexBasedLocationExtractionStrategy implements ILocationExtraction
         return retval;
     }
 
-    private static Integer getStartIndex(Map<Integer, Integer> indexMap, int index,
+    static Integer getStartIndex(Map<Integer, Integer> indexMap, int index,
             String txt) {
         while (!indexMap.containsKey(index) && index < txt.length()) {
             index++;
@@ -177,14 +185,14 @@ public class RegexBasedLocationExtractionStrategy implements ILocationExtraction
         return indexMap.get(index);
     }
 
-    private static Integer getEndIndex(Map<Integer, Integer> indexMap, int index) {
+    static Integer getEndIndex(Map<Integer, Integer> indexMap, int index) {
         while (!indexMap.containsKey(index) && index >= 0) {
             index--;
         }
         return indexMap.get(index);
     }
 
-    private static final class PdfTextLocationComparator
+    static final class PdfTextLocationComparator
             implements Comparator<com.itextpdf.kernel.pdf.canvas.parser.listener.IPdfTextLocation> {
         @Override
         public int compare(com.itextpdf.kernel.pdf.canvas.parser.listener.IPdfTextLocation l1,
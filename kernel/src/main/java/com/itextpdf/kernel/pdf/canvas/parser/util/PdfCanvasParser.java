@@ -23,6 +23,7 @@
 package com.itextpdf.kernel.pdf.canvas.parser.util;
 
 import com.itextpdf.commons.utils.MessageFormatUtil;
+import com.itextpdf.io.source.ByteUtils;
 import com.itextpdf.kernel.exceptions.PdfException;
 import com.itextpdf.io.source.PdfTokenizer;
 import com.itextpdf.kernel.exceptions.KernelExceptionMessageConstant;
@@ -45,6 +46,11 @@ import java.util.List;
  */
 public class PdfCanvasParser {
 
+    private static final byte[] BI = ByteUtils.getIsoBytes("BI");
+
+    // must be a power of two
+    private static final int LITERALS_CACHE_SIZE = 128;
+
     /**
      * Holds value of property tokeniser.
      */
@@ -52,6 +58,13 @@ public class PdfCanvasParser {
 
     private PdfResources currentResources;
 
+    /**
+     * The recently read literals, mostly operators, which are returned again when the same literal
+     * is met in the content instead of creating new objects. The cache is direct-mapped by the hash of the literal.
+     */
+    private final PdfLiteral[] literals = new PdfLiteral[LITERALS_CACHE_SIZE];
+    private final byte[][] literalBytes = new byte[LITERALS_CACHE_SIZE][];
+
     /**
      * Creates a new instance of PdfContentParser
      * @param tokeniser the tokeniser with the content
@@ -95,7 +108,7 @@ public class PdfCanvasParser {
         while ((ob = readObject()) != null) {
             ls.add(ob);
             if (tokeniser.getTokenType() == PdfTokenizer.TokenType.Other) {
-                if ("BI".equals(ob.toString())) {
+                if (tokeniser.tokenValueEqualsTo(BI)) {
                     PdfStream inlineImageAsStream = InlineImageParsingUtils.parse(this, currentResources.getResource(PdfName.ColorSpace));
                     ls.clear();
                     ls.add(inlineImageAsStream);
@@ -138,7 +151,11 @@ public class PdfCanvasParser {
             if (tokeniser.getTokenType() != PdfTokenizer.TokenType.Name)
                 tokeniser.throwError(
                         KernelExceptionMessageConstant.THIS_DICTIONARY_KEY_IS_NOT_A_NAME, tokeniser.getStringValue());
-            PdfName name = new PdfName(tokeniser.getStringValue());
+            PdfName name = PdfName.getStaticName(tokeniser.getInternalByteContent(), 0,
+                    tokeniser.getByteContentLength());
+            if (name == null) {
+                name = new PdfName(tokeniser.getStringValue());
+            }
             PdfObject obj = readObject();
             dic.put(name, obj);
         }
@@ -185,13 +202,39 @@ public class PdfCanvasParser {
                 PdfString str = new PdfString(tokeniser.getDecodedStringContent()).setHexWriting(tokeniser.isHexString());
                 return str;
             case Name:
-                return new PdfName(tokeniser.getByteContent());
+                PdfName staticName = PdfName.getStaticName(tokeniser.getInternalByteContent(), 0,
+                        tokeniser.getByteContentLength());
+                return staticName != null ? staticName : new PdfName(tokeniser.getByteContent());
             case Number:
                 //use PdfNumber(byte[]) here, as in this case number parsing won't happen until it's needed.
                 return new PdfNumber(tokeniser.getByteContent());
             default:
-                return new PdfLiteral(tokeniser.getByteContent());
+                return readLiteral();
+        }
+    }
+
+    /**
+     * Gets the literal for the current token. The same instance is returned for the same literal
+     * met recently in the content, so the literals shall not be modified.
+     *
+     * @return the literal
+     */
+    private PdfLiteral readLiteral() {
+        byte[] content = tokeniser.getInternalByteContent();
+        int length = tokeniser.getByteContentLength();
+        int hash = 0;
+        for (int i = 0; i < length; ++i) {
+            hash = 31 * hash + content[i];
+        }
+        int index = (hash ^ (hash >>> 16)) & (LITERALS_CACHE_SIZE - 1);
+        if (literals[index] != null && tokeniser.tokenValueEqualsTo(literalBytes[index])) {
+            return literals[index];
         }
+        byte[] bytes = tokeniser.getByteContent();
+        PdfLiteral literal = new PdfLiteral(bytes);
+        literals[index] = literal;
+        literalBytes[index] = bytes;
+        return literal;
     }
 
     /**
@@ -31,12 +31,13 @@ import com.itextpdf.kernel.pdf.PdfName;
 import com.itextpdf.kernel.pdf.PdfObject;
 
 import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
 
 
 /**
  * Handles ASCII85Decode filter
  */
-public class ASCII85DecodeFilter extends MemoryLimitsAwareFilter {
+public class ASCII85DecodeFilter extends MemoryLimitsAwareFilter implements IStreamingFilterHandler {
 
     /**
      * Decodes the input bytes according to ASCII85.
@@ -58,6 +59,15 @@ public class ASCII85DecodeFilter extends MemoryLimitsAwareFilter {
         return b;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public InputStream decodeStream(InputStream in, PdfName filterName, PdfObject decodeParams,
+            PdfDictionary streamDictionary) {
+        return new ASCII85DecodeInputStream(in);
+    }
+
 
     /**
      * Decodes the input bytes according to ASCII85.
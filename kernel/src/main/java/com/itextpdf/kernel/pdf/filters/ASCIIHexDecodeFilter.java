@@ -32,11 +32,12 @@ import com.itextpdf.kernel.pdf.PdfName;
 import com.itextpdf.kernel.pdf.PdfObject;
 
 import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
 
 /**
  * Handles ASCIIHexDecode filter
  */
-public class ASCIIHexDecodeFilter extends MemoryLimitsAwareFilter {
+public class ASCIIHexDecodeFilter extends MemoryLimitsAwareFilter implements IStreamingFilterHandler {
 
     /**
      * Decodes a byte[] according to ASCII Hex encoding.
@@ -58,6 +59,15 @@ public class ASCIIHexDecodeFilter extends MemoryLimitsAwareFilter {
         return b;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public InputStream decodeStream(InputStream in, PdfName filterName, PdfObject decodeParams,
+            PdfDictionary streamDictionary) {
+        return new ASCIIHexDecodeInputStream(in);
+    }
+
     /**
      * Decodes a byte[] according to ASCII Hex encoding.
      *
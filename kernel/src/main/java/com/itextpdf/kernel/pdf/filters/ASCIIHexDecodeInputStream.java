@@ -0,0 +1,70 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.kernel.pdf.filters;
+
+import com.itextpdf.io.source.ByteBuffer;
+import com.itextpdf.io.source.PdfTokenizer;
+import com.itextpdf.kernel.exceptions.KernelExceptionMessageConstant;
+import com.itextpdf.kernel.exceptions.PdfException;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Decodes the ASCII hex data of another stream on the fly.
+ */
+class ASCIIHexDecodeInputStream extends DecodingInputStream {
+
+    private boolean first = true;
+    private int n1;
+
+    ASCIIHexDecodeInputStream(InputStream in) {
+        super(in);
+    }
+
+    @Override
+    protected boolean decodeNext() throws IOException {
+        int ch = readEncoded();
+        if (ch == -1 || ch == '>') {
+            if (!first) {
+                write((byte) (n1 << 4));
+                first = true;
+            }
+            return false;
+        }
+        if (PdfTokenizer.isWhitespace(ch)) {
+            return true;
+        }
+        int n = ByteBuffer.getHex(ch);
+        if (n == -1) {
+            throw new PdfException(KernelExceptionMessageConstant.ILLEGAL_CHARACTER_IN_ASCIIHEXDECODE);
+        }
+        if (first) {
+            n1 = n;
+        } else {
+            write((byte) ((n1 << 4) + n));
+        }
+        first = !first;
+        return true;
+    }
+}
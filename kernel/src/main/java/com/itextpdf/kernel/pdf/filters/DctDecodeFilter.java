@@ -27,6 +27,8 @@ import com.itextpdf.kernel.pdf.PdfDictionary;
 import com.itextpdf.kernel.pdf.PdfName;
 import com.itextpdf.kernel.pdf.PdfObject;
 
+import java.io.InputStream;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -34,7 +36,7 @@ import org.slf4j.LoggerFactory;
  * Handles a DCTDecode filter. For now no modification applies and the data would be return as is
  * (in JPEG baseline format).
  */
-public class DctDecodeFilter implements IFilterHandler {
+public class DctDecodeFilter implements IStreamingFilterHandler {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DctDecodeFilter.class);
 
@@ -43,4 +45,11 @@ public class DctDecodeFilter implements IFilterHandler {
         LOGGER.info(KernelLogMessageConstant.DCTDECODE_FILTER_DECODING);
         return b;
     }
+
+    @Override
+    public InputStream decodeStream(InputStream in, PdfName filterName, PdfObject decodeParams,
+            PdfDictionary streamDictionary) {
+        LOGGER.info(KernelLogMessageConstant.DCTDECODE_FILTER_DECODING);
+        return in;
+    }
 }
@@ -0,0 +1,156 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.kernel.pdf.filters;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * A base for the streams which decode the data of another stream step by step, keeping only
+ * a bounded portion of the decoded data in memory.
+ */
+abstract class DecodingInputStream extends InputStream {
+
+    private static final int INPUT_BUFFER_SIZE = 8192;
+    private static final int MIN_DECODED_PORTION = 4096;
+
+    private final InputStream in;
+    private final byte[] inputBuffer = new byte[INPUT_BUFFER_SIZE];
+    private int inputPosition;
+    private int inputLimit;
+
+    private byte[] buffer = new byte[MIN_DECODED_PORTION * 2];
+    private int position;
+    private int limit;
+    private boolean finished;
+
+    /**
+     * Creates the stream.
+     *
+     * @param in the stream of the data to decode
+     */
+    DecodingInputStream(InputStream in) {
+        this.in = in;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position++] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        int n = Math.min(len, limit - position);
+        System.arraycopy(buffer, position, b, off, n);
+        position += n;
+        return n;
+    }
+
+    @Override
+    public int available() {
+        return limit - position;
+    }
+
+    @Override
+    public void close() throws IOException {
+        finished = true;
+        position = limit = 0;
+        in.close();
+    }
+
+    /**
+     * Decodes the next portion of the data and passes it to {@link #write(int)} or {@link #write(byte[], int, int)}.
+     *
+     * @return true if there could be more data to decode, false if the end of the decoded data is reached
+     *
+     * @throws IOException if the data can't be read
+     */
+    protected abstract boolean decodeNext() throws IOException;
+
+    /**
+     * Reads the next byte of the encoded data.
+     *
+     * @return the next byte, or -1 if the end of the encoded data is reached
+     *
+     * @throws IOException if the data can't be read
+     */
+    protected int readEncoded() throws IOException {
+        if (inputPosition == inputLimit) {
+            int n = in.read(inputBuffer, 0, inputBuffer.length);
+            if (n <= 0) {
+                return -1;
+            }
+            inputPosition = 0;
+            inputLimit = n;
+        }
+        return inputBuffer[inputPosition++] & 0xff;
+    }
+
+    /**
+     * Appends a decoded byte.
+     *
+     * @param b the byte to append
+     */
+    protected void write(int b) {
+        ensureCapacity(1);
+        buffer[limit++] = (byte) b;
+    }
+
+    /**
+     * Appends the decoded bytes.
+     *
+     * @param b   the bytes to append
+     * @param off the offset of the first byte to append
+     * @param len the number of bytes to append
+     */
+    protected void write(byte[] b, int off, int len) {
+        ensureCapacity(len);
+        System.arraycopy(b, off, buffer, limit, len);
+        limit += len;
+    }
+
+    private boolean fill() throws IOException {
+        position = limit = 0;
+        while (limit < MIN_DECODED_PORTION && !finished) {
+            finished = !decodeNext();
+        }
+        return limit > 0;
+    }
+
+    private void ensureCapacity(int len) {
+        if (limit + len > buffer.length) {
+            byte[] newBuffer = new byte[Math.max(buffer.length * 2, limit + len)];
+            System.arraycopy(buffer, 0, newBuffer, 0, limit);
+            buffer = newBuffer;
+        }
+    }
+}
@@ -27,10 +27,12 @@ import com.itextpdf.kernel.pdf.PdfName;
 import com.itextpdf.kernel.pdf.PdfObject;
 import com.itextpdf.kernel.pdf.xobject.PdfImageXObject;
 
+import java.io.InputStream;
+
 /**
  * A filter that doesn't modify the stream at all
  */
-public class DoNothingFilter implements IFilterHandler {
+public class DoNothingFilter implements IStreamingFilterHandler {
     private PdfName lastFilterName;
 
     @Override
@@ -38,4 +40,11 @@ public class DoNothingFilter implements IFilterHandler {
         lastFilterName = filterName;
         return b;
     }
+
+    @Override
+    public InputStream decodeStream(InputStream in, PdfName filterName, PdfObject decodeParams,
+            PdfDictionary streamDictionary) {
+        lastFilterName = filterName;
+        return in;
+    }
 }
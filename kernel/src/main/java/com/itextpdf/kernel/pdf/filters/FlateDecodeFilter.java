@@ -22,6 +22,7 @@
  */
 package com.itextpdf.kernel.pdf.filters;
 
+import com.itextpdf.io.source.ZlibCodecPool;
 import com.itextpdf.kernel.exceptions.PdfException;
 import com.itextpdf.kernel.exceptions.KernelExceptionMessageConstant;
 import com.itextpdf.kernel.exceptions.MemoryLimitsAwareException;
@@ -35,12 +36,14 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.Inflater;
 import java.util.zip.InflaterInputStream;
 
 /**
  * Handles FlateDecode filter.
  */
-public class FlateDecodeFilter extends MemoryLimitsAwareFilter {
+public class FlateDecodeFilter extends MemoryLimitsAwareFilter implements IStreamingFilterHandler {
 
     /**
      * A helper to flateDecode.
@@ -53,6 +56,42 @@ public class FlateDecodeFilter extends MemoryLimitsAwareFilter {
         return flateDecodeInternal(in, strict, new ByteArrayOutputStream());
     }
 
+    /**
+     * Creates a stream which inflates the data of the passed stream on the fly.
+     *
+     * @param in     the stream of the compressed data
+     * @param strict {@code true} to fail with an {@link IOException} on reading a corrupted stream.
+     *               {@code false} to end the decoded data where the corruption is detected.
+     * @return the stream of the decoded data, which shall be closed to return the inflater to the pool
+     */
+    public static InputStream flateDecode(InputStream in, boolean strict) {
+        return new FlateDecodeInputStream(in, strict);
+    }
+
+    /**
+     * Creates a stream which reverts the predictor specified in the decode parameters on the fly.
+     *
+     * @param in           the stream of the data to which the predictor was applied
+     * @param decodeParams PdfDictionary of decodeParams.
+     * @return the stream of the decoded data, or the passed stream if no predictor is applied
+     */
+    public static InputStream decodePredictor(InputStream in, PdfObject decodeParams) {
+        if (decodeParams == null || decodeParams.getType() != PdfObject.DICTIONARY) {
+            return in;
+        }
+        PdfDictionary dic = (PdfDictionary) decodeParams;
+        PdfObject obj = dic.get(PdfName.Predictor);
+        if (obj == null || obj.getType() != PdfObject.NUMBER) {
+            return in;
+        }
+        int predictor = ((PdfNumber) obj).intValue();
+        if (predictor < 10 && predictor != 2) {
+            return in;
+        }
+        return new PredictorDecodeInputStream(in, predictor, getNumberOrDefault(dic, PdfName.Colors, 1),
+                getNumberOrDefault(dic, PdfName.BitsPerComponent, 8), getNumberOrDefault(dic, PdfName.Columns, 1));
+    }
+
     /**
      * @param in           Input byte array.
      * @param decodeParams PdfDictionary of decodeParams.
@@ -187,6 +226,15 @@ public class FlateDecodeFilter extends MemoryLimitsAwareFilter {
         return b;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public InputStream decodeStream(InputStream in, PdfName filterName, PdfObject decodeParams,
+            PdfDictionary streamDictionary) {
+        return decodePredictor(flateDecode(in, false), decodeParams);
+    }
+
     /**
      * A helper to flateDecode.
      *
@@ -197,7 +245,9 @@ public class FlateDecodeFilter extends MemoryLimitsAwareFilter {
      */
     protected static byte[] flateDecodeInternal(byte[] in, boolean strict, ByteArrayOutputStream out) {
         ByteArrayInputStream stream = new ByteArrayInputStream(in);
-        InflaterInputStream zip = new InflaterInputStream(stream);
+        ZlibCodecPool pool = ZlibCodecPool.getInstance();
+        Inflater inflater = pool.acquireInflater();
+        InflaterInputStream zip = new InflaterInputStream(stream, inflater);
         byte[] b = new byte[strict ? 4092 : 1];
         try {
             int n;
@@ -214,6 +264,8 @@ public class FlateDecodeFilter extends MemoryLimitsAwareFilter {
                 return null;
             }
             return out.toByteArray();
+        } finally {
+            pool.releaseInflater(inflater);
         }
     }
 
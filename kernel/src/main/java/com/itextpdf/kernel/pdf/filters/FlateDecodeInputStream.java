@@ -0,0 +1,93 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.kernel.pdf.filters;
+
+import com.itextpdf.io.source.ZlibCodecPool;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Inflates the data of another stream on the fly with an inflater from {@link ZlibCodecPool},
+ * which is returned to the pool when the stream is closed.
+ */
+class FlateDecodeInputStream extends InflaterInputStream {
+
+    private static final int INPUT_BUFFER_SIZE = 8192;
+
+    private final boolean strict;
+    private Inflater pooledInflater;
+    private boolean corrupted;
+
+    /**
+     * Creates the stream.
+     *
+     * @param in     the stream of the compressed data
+     * @param strict {@code true} to fail on a corrupted stream, {@code false} to end the decoded data at
+     *               the point where the corruption is detected
+     */
+    FlateDecodeInputStream(InputStream in, boolean strict) {
+        this(in, ZlibCodecPool.getInstance().acquireInflater(), strict);
+    }
+
+    private FlateDecodeInputStream(InputStream in, Inflater inflater, boolean strict) {
+        super(in, inflater, INPUT_BUFFER_SIZE);
+        this.pooledInflater = inflater;
+        this.strict = strict;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (corrupted) {
+            return -1;
+        }
+        try {
+            return super.read(b, off, len);
+        } catch (IOException e) {
+            if (strict) {
+                throw e;
+            }
+            corrupted = true;
+            return -1;
+        }
+    }
+
+    @Override
+    public int available() throws IOException {
+        return corrupted ? 0 : super.available();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            super.close();
+        } finally {
+            if (pooledInflater != null) {
+                ZlibCodecPool.getInstance().releaseInflater(pooledInflater);
+                pooledInflater = null;
+            }
+        }
+    }
+}
@@ -27,6 +27,7 @@ import com.itextpdf.kernel.pdf.PdfName;
 import com.itextpdf.kernel.pdf.PdfObject;
 
 import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
 
 /**
  * Handles strict FlateDecode filter.
@@ -44,6 +45,15 @@ public class FlateDecodeStrictFilter extends FlateDecodeFilter {
         return b;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public InputStream decodeStream(InputStream in, PdfName filterName, PdfObject decodeParams,
+            PdfDictionary streamDictionary) {
+        return decodePredictor(flateDecode(in, true), decodeParams);
+    }
+
     /**
      * A helper to flateDecode.
      *
@@ -27,6 +27,8 @@ import com.itextpdf.kernel.pdf.PdfDictionary;
 import com.itextpdf.kernel.pdf.PdfName;
 import com.itextpdf.kernel.pdf.PdfObject;
 
+import java.io.InputStream;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -34,7 +36,7 @@ import org.slf4j.LoggerFactory;
  * Handles a JPXDecode filter. For now no modification applies and the data would be return as is
  * (in JPEG2000 format).
  */
-public class JpxDecodeFilter implements IFilterHandler {
+public class JpxDecodeFilter implements IStreamingFilterHandler {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(JpxDecodeFilter.class);
 
@@ -43,4 +45,11 @@ public class JpxDecodeFilter implements IFilterHandler {
         LOGGER.info(KernelLogMessageConstant.JPXDECODE_FILTER_DECODING);
         return b;
     }
+
+    @Override
+    public InputStream decodeStream(InputStream in, PdfName filterName, PdfObject decodeParams,
+            PdfDictionary streamDictionary) {
+        LOGGER.info(KernelLogMessageConstant.JPXDECODE_FILTER_DECODING);
+        return in;
+    }
 }
@@ -0,0 +1,140 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.kernel.pdf.filters;
+
+import com.itextpdf.kernel.exceptions.KernelExceptionMessageConstant;
+import com.itextpdf.kernel.exceptions.PdfException;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Decodes the LZW compressed data of another stream on the fly, the same way as {@link LZWDecoder} does.
+ */
+class LZWDecodeInputStream extends DecodingInputStream {
+
+    private static final int CLEAR_TABLE = 256;
+    private static final int END_OF_INFORMATION = 257;
+
+    private static final int[] AND_TABLE = {511, 1023, 2047, 4095};
+
+    private final byte[][] stringTable = new byte[8192][];
+    private int tableIndex;
+    private int bitsToGet = 9;
+    private int nextData;
+    private int nextBits;
+    private int oldCode;
+    private boolean started;
+
+    LZWDecodeInputStream(InputStream in) {
+        super(in);
+        for (int i = 0; i < 256; i++) {
+            stringTable[i] = new byte[] {(byte) i};
+        }
+        initializeStringTable();
+    }
+
+    @Override
+    protected boolean decodeNext() throws IOException {
+        if (!started) {
+            started = true;
+            int first = readEncoded();
+            int second = readEncoded();
+            if (first == 0x00 && second == 0x01) {
+                throw new PdfException(KernelExceptionMessageConstant.LZW_FLAVOUR_NOT_SUPPORTED);
+            }
+            if (first == -1 || second == -1) {
+                return false;
+            }
+            nextData = (first << 8) | second;
+            nextBits = 16;
+        }
+        int code = getNextCode();
+        if (code == END_OF_INFORMATION) {
+            return false;
+        }
+        if (code == CLEAR_TABLE) {
+            initializeStringTable();
+            code = getNextCode();
+            if (code == END_OF_INFORMATION) {
+                return false;
+            }
+            writeString(stringTable[code]);
+            oldCode = code;
+        } else if (code < tableIndex) {
+            byte[] string = stringTable[code];
+            writeString(string);
+            addStringToTable(stringTable[oldCode], string[0]);
+            oldCode = code;
+        } else {
+            byte[] string = stringTable[oldCode];
+            string = addStringToTable(string, string[0]);
+            writeString(string);
+            oldCode = code;
+        }
+        return true;
+    }
+
+    private void initializeStringTable() {
+        tableIndex = 258;
+        bitsToGet = 9;
+    }
+
+    private void writeString(byte[] string) {
+        write(string, 0, string.length);
+    }
+
+    private byte[] addStringToTable(byte[] oldString, byte newByte) {
+        int length = oldString.length;
+        byte[] string = new byte[length + 1];
+        System.arraycopy(oldString, 0, string, 0, length);
+        string[length] = newByte;
+        stringTable[tableIndex++] = string;
+        if (tableIndex == 511) {
+            bitsToGet = 10;
+        } else if (tableIndex == 1023) {
+            bitsToGet = 11;
+        } else if (tableIndex == 2047) {
+            bitsToGet = 12;
+        }
+        return string;
+    }
+
+    /**
+     * Gets the next 9, 10, 11 or 12 bits code. The end of the data is treated as the EndOfInformation code
+     * to be robust to the cases wherein the EndOfInformation code has been omitted.
+     */
+    private int getNextCode() throws IOException {
+        while (nextBits < bitsToGet) {
+            int b = readEncoded();
+            if (b == -1) {
+                return END_OF_INFORMATION;
+            }
+            nextData = (nextData << 8) | b;
+            nextBits += 8;
+        }
+        int code = (nextData >> (nextBits - bitsToGet)) & AND_TABLE[bitsToGet - 9];
+        nextBits -= bitsToGet;
+        return code;
+    }
+}
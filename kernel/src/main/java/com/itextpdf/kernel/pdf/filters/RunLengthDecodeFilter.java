@@ -28,11 +28,12 @@ import com.itextpdf.kernel.pdf.PdfName;
 import com.itextpdf.kernel.pdf.PdfObject;
 
 import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
 
 /**
  * Handles RunLengthDecode filter.
  */
-public class RunLengthDecodeFilter extends MemoryLimitsAwareFilter {
+public class RunLengthDecodeFilter extends MemoryLimitsAwareFilter implements IStreamingFilterHandler {
 
     /**
      * {@inheritDoc}
@@ -63,4 +64,13 @@ public class RunLengthDecodeFilter extends MemoryLimitsAwareFilter {
         }
         return outputStream.toByteArray();
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public InputStream decodeStream(InputStream in, PdfName filterName, PdfObject decodeParams,
+            PdfDictionary streamDictionary) {
+        return new RunLengthDecodeInputStream(in);
+    }
 }
@@ -22,11 +22,28 @@
  */
 package com.itextpdf.kernel.utils;
 
+import com.itextpdf.kernel.exceptions.KernelExceptionMessageConstant;
+import com.itextpdf.kernel.exceptions.PdfException;
 import com.itextpdf.kernel.pdf.IPdfPageExtraCopier;
+import com.itextpdf.kernel.pdf.PdfArray;
+import com.itextpdf.kernel.pdf.PdfDictionary;
 import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfName;
+import com.itextpdf.kernel.pdf.PdfObject;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Helper class to merge a number of existing documents into one.
@@ -94,7 +111,8 @@ public class PdfMerger {
      * This method merges pages from the source document to the current one.
      * <p>
      * If <i>closeSourceDocuments</i> flag is set to <i>true</i> (see {@link #setCloseSourceDocuments(boolean)}),
-     * passed {@code PdfDocument} will be closed after pages are merged.
+     * passed {@code PdfDocument} will be closed after pages are merged. Before that the copied streams which are
+     * transferred from it as is are written to the output, see {@link PdfDocument#flushCopiedStreams(PdfDocument)}.
      * <p>
      * See also {@link com.itextpdf.kernel.pdf.PdfDocument#copyPagesTo}.
      *
@@ -115,7 +133,8 @@ public class PdfMerger {
      * This method merges pages from the source document to the current one.
      * <p>
      * If <i>closeSourceDocuments</i> flag is set to <i>true</i> (see {@link #setCloseSourceDocuments(boolean)}),
-     * passed {@code PdfDocument} will be closed after pages are merged.
+     * passed {@code PdfDocument} will be closed after pages are merged. Before that the copied streams which are
+     * transferred from it as is are written to the output, see {@link PdfDocument#flushCopiedStreams(PdfDocument)}.
      * <p>
      * See also {@link com.itextpdf.kernel.pdf.PdfDocument#copyPagesTo}.
      *
@@ -131,7 +150,8 @@ public class PdfMerger {
      * This method merges pages from the source document to the current one.
      * <p>
      * If <i>closeSourceDocuments</i> flag is set to <i>true</i> (see {@link #setCloseSourceDocuments(boolean)}),
-     * passed {@code PdfDocument} will be closed after pages are merged.
+     * passed {@code PdfDocument} will be closed after pages are merged. Before that the copied streams which are
+     * transferred from it as is are written to the output, see {@link PdfDocument#flushCopiedStreams(PdfDocument)}.
      * <p>
      * See also {@link com.itextpdf.kernel.pdf.PdfDocument#copyPagesTo}.
      *
@@ -155,7 +175,58 @@ public class PdfMerger {
 
         from.copyPagesTo(pages, pdfDocument, copier);
         if (properties.isCloseSrcDocuments()) {
-            from.close();
+            closeSource(from);
+        }
+        return this;
+    }
+
+    /**
+     * This method merges all pages of the source documents to the current one, in the order of the list.
+     * <p>
+     * The source documents are opened by the passed callables, e.g. {@code () -> new PdfDocument(new PdfReader(path))}.
+     * If the preparation executor is set (see {@link PdfMergerProperties#setPreparationExecutor(Executor)}),
+     * the next source documents are opened and their pages are pre-parsed on the executor while the pages of
+     * the current one are being copied, otherwise the source documents are opened one by one on the calling thread.
+     * Either way the pages are copied on the calling thread in the order of the list, so the result is the same as
+     * merging the documents one by one with {@link #merge(PdfDocument, int, int)}.
+     * <p>
+     * The source documents are always closed after their pages are merged, regardless of the
+     * <i>closeSourceDocuments</i> flag, since they are opened by this method. Before that the copied streams which
+     * are transferred from them as is are written to the output, see
+     * {@link PdfDocument#flushCopiedStreams(PdfDocument)}.
+     *
+     * @param sources - list of callables which open the source documents
+     * @return this {@code PdfMerger} instance
+     */
+    public PdfMerger merge(List<? extends Callable<PdfDocument>> sources) {
+        Executor executor = properties.getPreparationExecutor();
+        if (executor == null) {
+            for (Callable<PdfDocument> source : sources) {
+                mergeSource(openSource(source));
+            }
+            return this;
+        }
+        Deque<PreparationTask> preparedSources = new ArrayDeque<>();
+        int nextSource = 0;
+        try {
+            while (nextSource < sources.size() || !preparedSources.isEmpty()) {
+                while (nextSource < sources.size() && preparedSources.size() < properties.getMaxPreparedDocuments()) {
+                    PreparationTask task = new PreparationTask(new SourcePreparation(sources.get(nextSource++),
+                            properties.isMergeOutlines()));
+                    try {
+                        executor.execute(task);
+                    } catch (RejectedExecutionException e) {
+                        task.run();
+                    }
+                    preparedSources.addLast(task);
+                }
+                // the task is removed only when it is finished, so that an interrupted merging still closes its document
+                PdfDocument from = getPreparedSource(preparedSources.getFirst());
+                preparedSources.removeFirst();
+                mergeSource(from);
+            }
+        } finally {
+            closePreparedSources(preparedSources);
         }
         return this;
     }
@@ -171,4 +242,179 @@ public class PdfMerger {
     public void close() {
         pdfDocument.close();
     }
+
+    private void mergeSource(PdfDocument from) {
+        try {
+            merge(from, 1, from.getNumberOfPages());
+            if (!from.isClosed()) {
+                closeSource(from);
+            }
+        } finally {
+            if (!from.isClosed()) {
+                from.close();
+            }
+        }
+    }
+
+    private void closeSource(PdfDocument from) {
+        // the copied streams are written before their source is closed, so that their data are not read into memory
+        pdfDocument.flushCopiedStreams(from);
+        from.close();
+    }
+
+    private static PdfDocument openSource(Callable<PdfDocument> source) {
+        try {
+            return source.call();
+        } catch (PdfException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new PdfException(KernelExceptionMessageConstant.CANNOT_OPEN_SOURCE_DOCUMENT_FOR_MERGING, e);
+        }
+    }
+
+    private static PdfDocument getPreparedSource(FutureTask<PdfDocument> task) {
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PdfException(KernelExceptionMessageConstant.CANNOT_OPEN_SOURCE_DOCUMENT_FOR_MERGING, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof PdfException) {
+                throw (PdfException) e.getCause();
+            }
+            throw new PdfException(KernelExceptionMessageConstant.CANNOT_OPEN_SOURCE_DOCUMENT_FOR_MERGING,
+                    e.getCause());
+        }
+    }
+
+    private static void closePreparedSources(Deque<PreparationTask> preparedSources) {
+        for (PreparationTask task : preparedSources) {
+            task.cancel(false);
+        }
+        // the tasks which are already running keep opening the source documents even if they are cancelled
+        boolean interrupted = false;
+        for (PreparationTask task : preparedSources) {
+            while (true) {
+                try {
+                    task.awaitFinished();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            PdfDocument document = task.getPreparedDocument();
+            if (document != null && !document.isClosed()) {
+                document.close();
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * The task which can be waited for even after it is cancelled, since {@link FutureTask#get()} doesn't wait
+     * for the cancelled task which is still running, and which keeps the opened document even if it is cancelled,
+     * so that the document can be closed.
+     */
+    private static final class PreparationTask extends FutureTask<PdfDocument> {
+        private final CountDownLatch finished = new CountDownLatch(1);
+        private volatile boolean started;
+        private volatile PdfDocument preparedDocument;
+
+        PreparationTask(Callable<PdfDocument> callable) {
+            super(callable);
+        }
+
+        @Override
+        public void run() {
+            // a task which starts after it is cancelled doesn't call the callable
+            started = true;
+            try {
+                super.run();
+            } finally {
+                finished.countDown();
+            }
+        }
+
+        @Override
+        protected void set(PdfDocument document) {
+            preparedDocument = document;
+            super.set(document);
+        }
+
+        void awaitFinished() throws InterruptedException {
+            if (started) {
+                finished.await();
+            }
+        }
+
+        PdfDocument getPreparedDocument() {
+            return preparedDocument;
+        }
+    }
+
+    /**
+     * Opens the source document and resolves the objects reachable from its pages, so that
+     * the copying of the pages on the merging thread doesn't need to parse them.
+     */
+    private static final class SourcePreparation implements Callable<PdfDocument> {
+        private final Callable<PdfDocument> source;
+        private final boolean prepareOutlines;
+
+        SourcePreparation(Callable<PdfDocument> source, boolean prepareOutlines) {
+            this.source = source;
+            this.prepareOutlines = prepareOutlines;
+        }
+
+        @Override
+        public PdfDocument call() {
+            PdfDocument document = openSource(source);
+            try {
+                Set<PdfObject> visited = Collections.newSetFromMap(new IdentityHashMap<PdfObject, Boolean>());
+                for (int pageNum = 1; pageNum <= document.getNumberOfPages(); pageNum++) {
+                    resolveReachableObjects(document.getPage(pageNum).getPdfObject(), visited);
+                }
+                if (prepareOutlines && document.hasOutlines()) {
+                    document.getOutlines(false);
+                }
+            } catch (RuntimeException e) {
+                document.close();
+                throw e;
+            }
+            return document;
+        }
+
+        private static void resolveReachableObjects(PdfDictionary page, Set<PdfObject> visited) {
+            Deque<PdfObject> objects = new ArrayDeque<>();
+            objects.push(page);
+            while (!objects.isEmpty()) {
+                PdfObject object = objects.pop();
+                if (!visited.add(object)) {
+                    continue;
+                }
+                if (object.isDictionary() || object.isStream()) {
+                    PdfDictionary dictionary = (PdfDictionary) object;
+                    for (PdfName key : dictionary.keySet()) {
+                        // The parent of a page leads to the whole page tree, which is not copied with the page
+                        if (PdfName.Parent.equals(key) && PdfName.Page.equals(dictionary.getAsName(PdfName.Type))) {
+                            continue;
+                        }
+                        pushIfContainer(objects, dictionary.get(key, true));
+                    }
+                } else if (object.isArray()) {
+                    PdfArray array = (PdfArray) object;
+                    for (int i = 0; i < array.size(); i++) {
+                        pushIfContainer(objects, array.get(i, true));
+                    }
+                }
+            }
+        }
+
+        private static void pushIfContainer(Deque<PdfObject> objects, PdfObject object) {
+            if (object != null && (object.isDictionary() || object.isStream() || object.isArray())) {
+                objects.push(object);
+            }
+        }
+    }
 }
@@ -22,6 +22,10 @@
  */
 package com.itextpdf.kernel.utils;
 
+import com.itextpdf.kernel.exceptions.KernelExceptionMessageConstant;
+
+import java.util.concurrent.Executor;
+
 /**
  * Class with additional properties for {@link PdfMerger} processing.
  * Needs to be passed at merger initialization.
@@ -31,6 +35,8 @@ public class PdfMergerProperties {
     private boolean mergeTags;
     private boolean mergeOutlines;
     private boolean mergeScripts;
+    private Executor preparationExecutor;
+    private int maxPreparedDocuments;
 
     /**
      * Default constructor, use provided setters for configuration options.
@@ -40,6 +46,8 @@ public class PdfMergerProperties {
         mergeTags = true;
         mergeOutlines = true;
         mergeScripts = false;
+        preparationExecutor = null;
+        maxPreparedDocuments = 4;
     }
 
     /**
@@ -78,6 +86,25 @@ public class PdfMergerProperties {
         return mergeScripts;
     }
 
+    /**
+     * get the executor on which the source documents passed to {@link PdfMerger#merge(java.util.List)} are opened
+     * and pre-parsed
+     *
+     * @return the executor, or null if the source documents are opened on the merging thread
+     */
+    public Executor getPreparationExecutor() {
+        return preparationExecutor;
+    }
+
+    /**
+     * get the maximum number of source documents which are opened and pre-parsed ahead of their merging
+     *
+     * @return the maximum number of prepared source documents
+     */
+    public int getMaxPreparedDocuments() {
+        return maxPreparedDocuments;
+    }
+
     /**
      * close source documents after merging
      *
@@ -126,4 +153,34 @@ public class PdfMergerProperties {
         this.mergeScripts = mergeNames;
         return this;
     }
+
+    /**
+     * open and pre-parse the source documents passed to {@link PdfMerger#merge(java.util.List)} on the executor,
+     * while the pages of the previous source documents are being copied on the merging thread.
+     * The executor is not shut down by iText.
+     *
+     * @param preparationExecutor the executor, or null to open the source documents on the merging thread
+     *
+     * @return <code>PdfMergerProperties</code> instance
+     */
+    public PdfMergerProperties setPreparationExecutor(Executor preparationExecutor) {
+        this.preparationExecutor = preparationExecutor;
+        return this;
+    }
+
+    /**
+     * set the maximum number of source documents which are opened and pre-parsed ahead of their merging,
+     * which limits the memory held by the prepared documents. Default value - 4.
+     *
+     * @param maxPreparedDocuments the maximum number of prepared source documents, must be positive
+     *
+     * @return <code>PdfMergerProperties</code> instance
+     */
+    public PdfMergerProperties setMaxPreparedDocuments(int maxPreparedDocuments) {
+        if (maxPreparedDocuments <= 0) {
+            throw new IllegalArgumentException(KernelExceptionMessageConstant.MAX_PREPARED_DOCUMENTS_SHALL_BE_POSITIVE);
+        }
+        this.maxPreparedDocuments = maxPreparedDocuments;
+        return this;
+    }
 }
@@ -32,12 +32,22 @@ import com.itextpdf.kernel.pdf.PdfName;
 import com.itextpdf.kernel.pdf.PdfObject;
 import com.itextpdf.kernel.pdf.PdfOutline;
 import com.itextpdf.kernel.pdf.PdfPage;
+import com.itextpdf.kernel.pdf.PdfReader;
 import com.itextpdf.kernel.pdf.PdfWriter;
 
+import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Helper class to split the document based on some condition.
@@ -210,6 +220,92 @@ public class PdfSplitter {
         return splitDocuments;
     }
 
+    /**
+     * Splits a document into smaller documents with no more than @pageCount pages each, producing
+     * the resultant documents in parallel on the executor.
+     * <p>
+     * See {@link #extractPageRanges(List, IDocumentReadyListener, Executor)} for the details.
+     *
+     * @param pageCount     the biggest possible number of pages in a split document.
+     * @param documentReady the event listener which is called when another document is ready.
+     *                      It is called on the executor threads, so it must be thread-safe.
+     * @param executor      the executor on which the resultant documents are produced.
+     */
+    public void splitByPageCount(int pageCount, IDocumentReadyListener documentReady, Executor executor) {
+        List<PageRange> pageRanges = new ArrayList<>();
+        for (int startPage = 1; startPage <= pdfDocument.getNumberOfPages(); startPage += pageCount) {
+            int endPage = Math.min(startPage + pageCount - 1, pdfDocument.getNumberOfPages());
+            pageRanges.add(new PageRange().addPageSequence(startPage, endPage));
+        }
+        extractPageRanges(pageRanges, documentReady, executor);
+    }
+
+    /**
+     * Extracts the specified page ranges from a document, producing the resultant documents
+     * in parallel on the executor.
+     * <p>
+     * The pages are not copied from the document to be split itself, since copying pages is not thread-safe.
+     * Instead, each executor thread copies the pages from its own {@link PdfDocument} instance of the same
+     * document, opened with {@link PdfReader#createView()}, so that the source bytes are shared,
+     * but the objects are parsed by every instance separately. The number of such instances doesn't exceed
+     * the number of the page ranges which are processed at once. Thus the document to be split must not be
+     * modified and must not be closed until this method returns.
+     * <p>
+     * {@link #getNextPdfWriter(PageRange)} and the listener are called on the executor threads,
+     * so they must be thread-safe. This method returns after all the resultant documents are passed to
+     * the listener. If any of them fails, the page ranges which are not started yet are skipped
+     * and the failure is rethrown.
+     *
+     * @param pageRanges    the list of page ranges for each of the resultant document.
+     * @param documentReady the event listener which is called when another document is ready.
+     *                      It is called on the executor threads, so it must be thread-safe.
+     * @param executor      the executor on which the resultant documents are produced.
+     */
+    public void extractPageRanges(List<PageRange> pageRanges, IDocumentReadyListener documentReady,
+            Executor executor) {
+        SourceDocumentPool sourceDocuments = new SourceDocumentPool(pdfDocument.getReader(), metaInfo);
+        List<SplitTask> tasks = new ArrayList<>(pageRanges.size());
+        try {
+            for (final PageRange pageRange : pageRanges) {
+                SplitTask task = new SplitTask(() -> {
+                    PdfDocument sourceDocument = sourceDocuments.take();
+                    try {
+                        PdfDocument currentDocument = createPdfDocument(sourceDocument, pageRange);
+                        sourceDocument.copyPagesTo(pageRange.getQualifyingPageNums(
+                                sourceDocument.getNumberOfPages()), currentDocument);
+                        documentReady.documentReady(currentDocument, pageRange);
+                    } finally {
+                        sourceDocuments.release(sourceDocument);
+                    }
+                    return null;
+                });
+                tasks.add(task);
+                try {
+                    executor.execute(task);
+                } catch (RejectedExecutionException e) {
+                    task.run();
+                }
+            }
+            for (SplitTask task : tasks) {
+                waitForSplitTask(task);
+            }
+        } finally {
+            for (SplitTask task : tasks) {
+                task.cancel(false);
+            }
+            // the tasks which are already running keep using the source documents even if they are cancelled
+            for (SplitTask task : tasks) {
+                try {
+                    task.awaitFinished();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+            sourceDocuments.close();
+        }
+    }
+
     /**
      * Extracts the specified page ranges from a document.
      *
@@ -245,14 +341,66 @@ public class PdfSplitter {
     }
 
     private PdfDocument createPdfDocument(PageRange currentPageRange) {
+        return createPdfDocument(pdfDocument, currentPageRange);
+    }
+
+    private PdfDocument createPdfDocument(PdfDocument sourceDocument, PageRange currentPageRange) {
         PdfDocument newDocument = new PdfDocument(getNextPdfWriter(currentPageRange), new DocumentProperties().setEventCountingMetaInfo(metaInfo));
-        if (pdfDocument.isTagged() && preserveTagged)
+        if (sourceDocument.isTagged() && preserveTagged)
             newDocument.setTagged();
-        if (pdfDocument.hasOutlines() && preserveOutlines)
+        if (sourceDocument.hasOutlines() && preserveOutlines)
             newDocument.initializeOutlines();
         return newDocument;
     }
 
+    private static void waitForSplitTask(FutureTask<Void> task) {
+        try {
+            task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PdfException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new PdfException(cause);
+        }
+    }
+
+    /**
+     * The task which can be waited for even after it is cancelled, since {@link FutureTask#get()} doesn't wait
+     * for the cancelled task which is still running.
+     */
+    private static final class SplitTask extends FutureTask<Void> {
+        private final CountDownLatch finished = new CountDownLatch(1);
+        private volatile boolean started;
+
+        SplitTask(Callable<Void> callable) {
+            super(callable);
+        }
+
+        @Override
+        public void run() {
+            // a task which starts after it is cancelled doesn't call the callable
+            started = true;
+            try {
+                super.run();
+            } finally {
+                finished.countDown();
+            }
+        }
+
+        void awaitFinished() throws InterruptedException {
+            if (started) {
+                finished.await();
+            }
+        }
+    }
+
     /**
      * The event listener which is called when another document is ready.
      */
@@ -415,4 +563,56 @@ public class PdfSplitter {
             splitDocuments.add(pdfDocument);
         }
     }
+
+    /**
+     * The {@link PdfDocument} instances of the document to be split, which are used by the executor
+     * threads to copy the pages from. An instance is used by one thread at a time and is reused
+     * by the subsequent page ranges.
+     */
+    private static final class SourceDocumentPool {
+        private final PdfReader reader;
+        private final IMetaInfo metaInfo;
+        private final Deque<PdfDocument> freeDocuments = new ArrayDeque<>();
+        private final List<PdfDocument> allDocuments = new ArrayList<>();
+
+        SourceDocumentPool(PdfReader reader, IMetaInfo metaInfo) {
+            this.reader = reader;
+            this.metaInfo = metaInfo;
+        }
+
+        PdfDocument take() {
+            synchronized (freeDocuments) {
+                if (!freeDocuments.isEmpty()) {
+                    return freeDocuments.pop();
+                }
+            }
+            PdfDocument document;
+            try {
+                document = new PdfDocument(reader.createView(),
+                        new DocumentProperties().setEventCountingMetaInfo(metaInfo));
+            } catch (IOException e) {
+                throw new PdfException(KernelExceptionMessageConstant.CANNOT_OPEN_DOCUMENT, e);
+            }
+            synchronized (freeDocuments) {
+                allDocuments.add(document);
+            }
+            return document;
+        }
+
+        void release(PdfDocument document) {
+            synchronized (freeDocuments) {
+                freeDocuments.push(document);
+            }
+        }
+
+        void close() {
+            synchronized (freeDocuments) {
+                for (PdfDocument document : allDocuments) {
+                    document.close();
+                }
+                allDocuments.clear();
+                freeDocuments.clear();
+            }
+        }
+    }
 }
@@ -0,0 +1,131 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.kernel.pdf;
+
+import com.itextpdf.test.ExtendedITextTest;
+import com.itextpdf.test.annotations.type.UnitTest;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@Category(UnitTest.class)
+public class CompactPdfNameMapTest extends ExtendedITextTest {
+
+    @Test
+    public void entriesAreSortedByKeyTest() {
+        CompactPdfNameMap map = new CompactPdfNameMap();
+        map.put(PdfName.Type, PdfName.Font);
+        map.put(PdfName.BaseFont, new PdfName("Helvetica"));
+        map.put(PdfName.Subtype, PdfName.Type1);
+        map.put(PdfName.Encoding, PdfName.WinAnsiEncoding);
+
+        List<PdfName> keys = new ArrayList<>(map.keySet());
+        Assert.assertEquals(4, map.size());
+        Assert.assertEquals(PdfName.BaseFont, keys.get(0));
+        Assert.assertEquals(PdfName.Encoding, keys.get(1));
+        Assert.assertEquals(PdfName.Subtype, keys.get(2));
+        Assert.assertEquals(PdfName.Type, keys.get(3));
+    }
+
+    @Test
+    public void lookupByEqualNameTest() {
+        CompactPdfNameMap map = new CompactPdfNameMap();
+        map.put(new PdfName("Custom"), new PdfNumber(1));
+
+        Assert.assertTrue(map.containsKey(new PdfName("Custom")));
+        Assert.assertEquals(new PdfNumber(1), map.get(new PdfName("Custom")));
+        Assert.assertNull(map.get(PdfName.Type));
+        Assert.assertNull(map.get("Custom"));
+        Assert.assertEquals(new PdfNumber(1), map.put(new PdfName("Custom"), new PdfNumber(2)));
+        Assert.assertEquals(1, map.size());
+    }
+
+    @Test
+    public void switchToTreeMapAndBackTest() {
+        CompactPdfNameMap map = new CompactPdfNameMap();
+        for (int i = 0; i <= CompactPdfNameMap.MAX_ARRAY_SIZE; i++) {
+            map.put(new PdfName("Key" + (char) ('a' + i)), new PdfNumber(i));
+        }
+        Assert.assertEquals(CompactPdfNameMap.MAX_ARRAY_SIZE + 1, map.size());
+        Assert.assertEquals(new PdfNumber(3), map.get(new PdfName("Keyd")));
+        Assert.assertEquals(new PdfName("Keya"), map.keySet().iterator().next());
+
+        map.clear();
+        Assert.assertTrue(map.isEmpty());
+        map.put(PdfName.Type, PdfName.Page);
+        Assert.assertEquals(PdfName.Page, map.get(PdfName.Type));
+    }
+
+    @Test
+    public void iteratorRemoveAndSetValueTest() {
+        CompactPdfNameMap map = new CompactPdfNameMap();
+        map.put(PdfName.A, new PdfNumber(1));
+        map.put(PdfName.B, new PdfNumber(2));
+        map.put(PdfName.C, new PdfNumber(3));
+
+        Iterator<Map.Entry<PdfName, PdfObject>> iterator = map.entrySet().iterator();
+        iterator.next().setValue(new PdfNumber(10));
+        iterator.next();
+        iterator.remove();
+        Assert.assertTrue(iterator.hasNext());
+        Assert.assertEquals(PdfName.C, iterator.next().getKey());
+        Assert.assertFalse(iterator.hasNext());
+
+        Assert.assertEquals(2, map.size());
+        Assert.assertEquals(new PdfNumber(10), map.get(PdfName.A));
+        Assert.assertFalse(map.containsKey(PdfName.B));
+        Assert.assertTrue(map.values().contains(new PdfNumber(3)));
+    }
+
+    @Test
+    public void sameBehaviourAsTreeMapTest() {
+        Random random = new Random(42);
+        CompactPdfNameMap map = new CompactPdfNameMap();
+        TreeMap<PdfName, PdfObject> expected = new TreeMap<>();
+        for (int i = 0; i < 10000; i++) {
+            PdfName key = new PdfName("N" + random.nextInt(CompactPdfNameMap.MAX_ARRAY_SIZE * 2));
+            switch (random.nextInt(4)) {
+                case 0:
+                case 1:
+                    PdfNumber value = new PdfNumber(i);
+                    Assert.assertEquals(expected.put(key, value), map.put(key, value));
+                    break;
+                case 2:
+                    Assert.assertEquals(expected.remove(key), map.remove(key));
+                    break;
+                default:
+                    Assert.assertEquals(expected.get(key), map.get(key));
+                    break;
+            }
+            Assert.assertEquals(expected.size(), map.size());
+        }
+        Assert.assertEquals(new ArrayList<>(expected.entrySet()), new ArrayList<>(map.entrySet()));
+    }
+}
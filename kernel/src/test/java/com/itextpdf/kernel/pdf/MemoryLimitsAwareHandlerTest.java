@@ -53,6 +53,25 @@ public class MemoryLimitsAwareHandlerTest extends ExtendedITextTest {
         Assert.assertEquals(500000000, handler.getMaxSizeOfDecompressedPdfStreamsSum());
     }
 
+    @Test
+    public void createNewInstanceKeepsLimitsButNotConsideredMemoryTest() {
+        MemoryLimitsAwareHandler handler = new MemoryLimitsAwareHandler(1000000);
+        handler.setMaxXObjectsSizePerPage(1024);
+        handler.considerIncrementallyDecompressedPdfStream(1000);
+
+        MemoryLimitsAwareHandler newHandler = handler.createNewInstance();
+
+        Assert.assertNotSame(handler, newHandler);
+        Assert.assertEquals(handler.getMaxSizeOfSingleDecompressedPdfStream(),
+                newHandler.getMaxSizeOfSingleDecompressedPdfStream());
+        Assert.assertEquals(handler.getMaxSizeOfDecompressedPdfStreamsSum(),
+                newHandler.getMaxSizeOfDecompressedPdfStreamsSum());
+        Assert.assertEquals(handler.getMaxNumberOfElementsInXrefStructure(),
+                newHandler.getMaxNumberOfElementsInXrefStructure());
+        Assert.assertEquals(1024, newHandler.getMaxXObjectsSizePerPage());
+        Assert.assertEquals(0, newHandler.getAllMemoryUsedForDecompression());
+    }
+
     @Test
     public void overridenMemoryHandler() {
         MemoryLimitsAwareHandler defaultHandler = new MemoryLimitsAwareHandler();
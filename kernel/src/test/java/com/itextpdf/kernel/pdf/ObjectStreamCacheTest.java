@@ -0,0 +1,86 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.kernel.pdf;
+
+import com.itextpdf.kernel.pdf.ObjectStreamCache.ObjectStreamData;
+import com.itextpdf.test.ExtendedITextTest;
+import com.itextpdf.test.annotations.type.UnitTest;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@Category(UnitTest.class)
+public class ObjectStreamCacheTest extends ExtendedITextTest {
+
+    @Test
+    public void leastRecentlyUsedEvictedTest() {
+        ObjectStreamData data = createData(1000);
+        long dataSize = getDataSize(data);
+        ObjectStreamCache cache = new ObjectStreamCache(dataSize * 2);
+        cache.put(1, data);
+        cache.put(2, createData(1000));
+        Assert.assertSame(data, cache.get(1));
+
+        // the second object stream is the least recently used one now
+        cache.put(3, createData(1000));
+        Assert.assertEquals(dataSize * 2, cache.getSize());
+        Assert.assertNull(cache.get(2));
+        Assert.assertNotNull(cache.get(1));
+        Assert.assertNotNull(cache.get(3));
+        Assert.assertEquals(3, cache.getHitCount());
+        Assert.assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void dataExceedingCacheSizeNotCachedTest() {
+        ObjectStreamCache cache = new ObjectStreamCache(100);
+        cache.put(1, createData(1000));
+        Assert.assertNull(cache.get(1));
+        Assert.assertEquals(0, cache.getSize());
+    }
+
+    @Test
+    public void replaceAndClearTest() {
+        ObjectStreamData data = createData(10);
+        ObjectStreamCache cache = new ObjectStreamCache(1000);
+        cache.put(1, createData(20));
+        cache.put(1, data);
+        Assert.assertEquals(getDataSize(data), cache.getSize());
+        Assert.assertSame(data, cache.get(1));
+
+        cache.clear();
+        Assert.assertEquals(0, cache.getSize());
+        Assert.assertNull(cache.get(1));
+    }
+
+    private static ObjectStreamData createData(int length) {
+        return new ObjectStreamData(new byte[length], new int[] {1, 2}, new int[] {0, 10});
+    }
+
+    private static long getDataSize(ObjectStreamData data) {
+        ObjectStreamCache cache = new ObjectStreamCache(Long.MAX_VALUE);
+        cache.put(0, data);
+        return cache.getSize();
+    }
+}
@@ -0,0 +1,175 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.kernel.pdf;
+
+import com.itextpdf.kernel.font.PdfFontFactory;
+import com.itextpdf.kernel.pdf.canvas.PdfCanvas;
+import com.itextpdf.kernel.pdf.canvas.parser.PdfTextExtractor;
+import com.itextpdf.kernel.utils.CompareTool;
+import com.itextpdf.test.ExtendedITextTest;
+import com.itextpdf.test.annotations.type.IntegrationTest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@Category(IntegrationTest.class)
+public class PagesMemoryBudgetTest extends ExtendedITextTest {
+
+    private static final String destinationFolder = "./target/test/com/itextpdf/kernel/pdf/PagesMemoryBudgetTest/";
+
+    private static final int NUMBER_OF_PAGES = 30;
+    private static final int LINES_PER_PAGE = 200;
+    private static final long BUDGET = 100 * 1024;
+    private static final long MAX_PAGE_SIZE = 16 * 1024;
+
+    @BeforeClass
+    public static void beforeClass() {
+        createOrClearDestinationFolder(destinationFolder);
+    }
+
+    @AfterClass
+    public static void afterClass() {
+        CompareTool.cleanup(destinationFolder);
+    }
+
+    @Test
+    public void pagesAreFlushedInWritingModeTest() throws IOException {
+        String outFile = destinationFolder + "pagesAreFlushedInWritingMode.pdf";
+        try (PdfDocument pdfDocument = new PdfDocument(CompareTool.createTestPdfWriter(outFile),
+                new DocumentProperties().setPagesMemoryBudget(BUDGET, 2))) {
+            for (int i = 1; i <= NUMBER_OF_PAGES; i++) {
+                fillPage(pdfDocument.addNewPage(), i);
+                // The budget is checked when a page is added, before its content is written
+                Assert.assertTrue(pdfDocument.getRetainedPagesMemory() <= BUDGET + MAX_PAGE_SIZE);
+            }
+            Assert.assertTrue(pdfDocument.getPage(1).isFlushed());
+            Assert.assertFalse(pdfDocument.getPage(NUMBER_OF_PAGES - 1).isFlushed());
+            Assert.assertFalse(pdfDocument.getPage(NUMBER_OF_PAGES).isFlushed());
+        }
+
+        try (PdfDocument pdfDocument = new PdfDocument(CompareTool.createOutputReader(outFile))) {
+            Assert.assertEquals(NUMBER_OF_PAGES, pdfDocument.getNumberOfPages());
+            for (int i = 1; i <= NUMBER_OF_PAGES; i++) {
+                Assert.assertTrue(PdfTextExtractor.getTextFromPage(pdfDocument.getPage(i)).startsWith("Page " + i));
+            }
+        }
+    }
+
+    @Test
+    public void pagesAreReleasedInReadingModeTest() throws IOException {
+        String srcFile = destinationFolder + "pagesAreReleasedInReadingModeSource.pdf";
+        createSourceDocument(srcFile);
+
+        try (PdfDocument pdfDocument = new PdfDocument(CompareTool.createOutputReader(srcFile),
+                new DocumentProperties().setPagesMemoryBudget(1024, 1))) {
+            PdfPage firstPage = pdfDocument.getPage(1);
+            for (int i = 1; i <= NUMBER_OF_PAGES; i++) {
+                Assert.assertTrue(PdfTextExtractor.getTextFromPage(pdfDocument.getPage(i)).startsWith("Page " + i));
+            }
+            // The first page was released and is read again
+            Assert.assertNotSame(firstPage, pdfDocument.getPage(1));
+            Assert.assertTrue(PdfTextExtractor.getTextFromPage(pdfDocument.getPage(1)).startsWith("Page 1"));
+        }
+    }
+
+    @Test
+    public void pagesAreNotDroppedWhileCopyingTest() throws IOException {
+        String srcFile = destinationFolder + "pagesAreNotDroppedWhileCopyingSource.pdf";
+        String outFile = destinationFolder + "pagesAreNotDroppedWhileCopying.pdf";
+        createSourceDocument(srcFile);
+
+        try (PdfDocument srcDocument = new PdfDocument(CompareTool.createOutputReader(srcFile),
+                new DocumentProperties().setPagesMemoryBudget(1024, 1));
+                PdfDocument outDocument = new PdfDocument(CompareTool.createTestPdfWriter(outFile),
+                        new DocumentProperties().setPagesMemoryBudget(1024, 1))) {
+            srcDocument.copyPagesTo(1, NUMBER_OF_PAGES, outDocument);
+            Assert.assertTrue(outDocument.getPage(1).isFlushed());
+            Assert.assertFalse(outDocument.getPage(NUMBER_OF_PAGES).isFlushed());
+        }
+
+        try (PdfDocument pdfDocument = new PdfDocument(CompareTool.createOutputReader(outFile))) {
+            Assert.assertEquals(NUMBER_OF_PAGES, pdfDocument.getNumberOfPages());
+            Assert.assertTrue(PdfTextExtractor.getTextFromPage(pdfDocument.getPage(7)).startsWith("Page 7"));
+        }
+    }
+
+    @Test
+    public void retainedMemoryFollowsPageContentTest() throws IOException {
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfWriter(new ByteArrayOutputStream()),
+                new DocumentProperties().setPagesMemoryBudget(100 * BUDGET, 1))) {
+            long previousMemory = 0;
+            for (int i = 1; i <= NUMBER_OF_PAGES; i++) {
+                PdfPage page = pdfDocument.addNewPage();
+                long emptyPageMemory = pdfDocument.getRetainedPagesMemory();
+                fillPage(page, i);
+                // The page estimate is refreshed after its content is written
+                long memory = pdfDocument.getRetainedPagesMemory();
+                Assert.assertTrue(emptyPageMemory > previousMemory);
+                Assert.assertTrue(memory > emptyPageMemory + LINES_PER_PAGE * 10);
+                previousMemory = memory;
+            }
+            Assert.assertFalse(pdfDocument.getPage(1).isFlushed());
+        }
+    }
+
+    @Test
+    public void pagesAreNotTrackedWithoutBudgetTest() throws IOException {
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfWriter(new ByteArrayOutputStream()))) {
+            for (int i = 1; i <= 3; i++) {
+                fillPage(pdfDocument.addNewPage(), i);
+            }
+            Assert.assertEquals(0, pdfDocument.getRetainedPagesMemory());
+            Assert.assertFalse(pdfDocument.getPage(1).isFlushed());
+        }
+    }
+
+    @Test
+    public void invalidBudgetTest() {
+        DocumentProperties properties = new DocumentProperties();
+        Assert.assertThrows(IllegalArgumentException.class, () -> properties.setPagesMemoryBudget(-1, 1));
+        Assert.assertThrows(IllegalArgumentException.class, () -> properties.setPagesMemoryBudget(1024, 0));
+    }
+
+    private static void createSourceDocument(String filename) throws IOException {
+        try (PdfDocument pdfDocument = new PdfDocument(CompareTool.createTestPdfWriter(filename))) {
+            for (int i = 1; i <= NUMBER_OF_PAGES; i++) {
+                fillPage(pdfDocument.addNewPage(), i);
+            }
+        }
+    }
+
+    private static void fillPage(PdfPage page, int pageNumber) throws IOException {
+        PdfCanvas canvas = new PdfCanvas(page);
+        canvas.beginText().setFontAndSize(PdfFontFactory.createFont(), 6).moveText(36, 800);
+        canvas.showText("Page " + pageNumber);
+        for (int i = 0; i < LINES_PER_PAGE; i++) {
+            canvas.moveText(0, -4).showText("Line " + i + " of the page " + pageNumber);
+        }
+        canvas.endText().release();
+    }
+}
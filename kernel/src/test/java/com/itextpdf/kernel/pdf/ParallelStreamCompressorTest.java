@@ -0,0 +1,135 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.kernel.pdf;
+
+import com.itextpdf.io.source.ByteArrayOutputStream;
+import com.itextpdf.kernel.pdf.filters.FlateDecodeFilter;
+import com.itextpdf.test.ExtendedITextTest;
+import com.itextpdf.test.annotations.type.UnitTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@Category(UnitTest.class)
+public class ParallelStreamCompressorTest extends ExtendedITextTest {
+
+    @Test
+    public void compressAheadTest() {
+        ParallelStreamCompressor compressor = new ParallelStreamCompressor(Runnable::run);
+        byte[] data = createData();
+        PdfStream stream = new PdfStream(data);
+
+        compressor.submit(stream, CompressionConstants.DEFAULT_COMPRESSION);
+        ByteArrayOutputStream compressed = compressor.take(stream, CompressionConstants.DEFAULT_COMPRESSION);
+
+        Assert.assertNotNull(compressed);
+        Assert.assertArrayEquals(data, FlateDecodeFilter.flateDecode(compressed.toByteArray(), true));
+        // the compressed data are taken only once
+        Assert.assertNull(compressor.take(stream, CompressionConstants.DEFAULT_COMPRESSION));
+    }
+
+    @Test
+    public void streamDataChangedAfterSubmissionTest() {
+        ParallelStreamCompressor compressor = new ParallelStreamCompressor(Runnable::run);
+        PdfStream stream = new PdfStream(createData());
+
+        compressor.submit(stream, CompressionConstants.DEFAULT_COMPRESSION);
+        stream.setData(new byte[] {1, 2, 3}, true);
+
+        Assert.assertNull(compressor.take(stream, CompressionConstants.DEFAULT_COMPRESSION));
+    }
+
+    @Test
+    public void streamDataReplacedWithSameLengthAfterSubmissionTest() {
+        ParallelStreamCompressor compressor = new ParallelStreamCompressor(Runnable::run);
+        byte[] data = createData();
+        PdfStream stream = new PdfStream(data);
+
+        compressor.submit(stream, CompressionConstants.DEFAULT_COMPRESSION);
+        byte[] newData = data.clone();
+        newData[0]++;
+        stream.setData(newData);
+
+        Assert.assertNull(compressor.take(stream, CompressionConstants.DEFAULT_COMPRESSION));
+    }
+
+    @Test
+    public void compressionLevelChangedAfterSubmissionTest() {
+        ParallelStreamCompressor compressor = new ParallelStreamCompressor(Runnable::run);
+        PdfStream stream = new PdfStream(createData());
+
+        compressor.submit(stream, CompressionConstants.DEFAULT_COMPRESSION);
+
+        Assert.assertNull(compressor.take(stream, CompressionConstants.BEST_COMPRESSION));
+    }
+
+    @Test
+    public void notCompressedStreamsAreNotSubmittedTest() {
+        ParallelStreamCompressor compressor = new ParallelStreamCompressor(Runnable::run);
+        PdfStream filteredStream = new PdfStream(createData());
+        filteredStream.put(PdfName.Filter, PdfName.DCTDecode);
+        PdfStream smallStream = new PdfStream(new byte[] {1, 2, 3});
+
+        compressor.submit(filteredStream, CompressionConstants.DEFAULT_COMPRESSION);
+        compressor.submit(smallStream, CompressionConstants.DEFAULT_COMPRESSION);
+
+        Assert.assertNull(compressor.take(filteredStream, CompressionConstants.DEFAULT_COMPRESSION));
+        Assert.assertNull(compressor.take(smallStream, CompressionConstants.DEFAULT_COMPRESSION));
+    }
+
+    @Test
+    public void streamsInFlightAreBoundedTest() {
+        List<Runnable> startedTasks = new ArrayList<>();
+        ParallelStreamCompressor compressor = new ParallelStreamCompressor(startedTasks::add);
+        byte[] data = createData();
+        List<PdfStream> streams = new ArrayList<>();
+        for (int i = 0; i < ParallelStreamCompressor.MAX_STREAMS_IN_FLIGHT + 5; i++) {
+            PdfStream stream = new PdfStream(data);
+            streams.add(stream);
+            compressor.submit(stream, CompressionConstants.DEFAULT_COMPRESSION);
+        }
+        Assert.assertEquals(ParallelStreamCompressor.MAX_STREAMS_IN_FLIGHT, startedTasks.size());
+
+        startedTasks.get(0).run();
+        ByteArrayOutputStream compressed = compressor.take(streams.get(0), CompressionConstants.DEFAULT_COMPRESSION);
+        Assert.assertArrayEquals(data, FlateDecodeFilter.flateDecode(compressed.toByteArray(), true));
+        // the next waiting stream is started once a stream compressed ahead is written
+        Assert.assertEquals(ParallelStreamCompressor.MAX_STREAMS_IN_FLIGHT + 1, startedTasks.size());
+        // the waiting stream which is written before its compression has started is compressed on write
+        PdfStream lastStream = streams.get(streams.size() - 1);
+        Assert.assertNull(compressor.take(lastStream, CompressionConstants.DEFAULT_COMPRESSION));
+        compressor.clear();
+    }
+
+    private static byte[] createData() {
+        byte[] data = new byte[10000];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) (i % 7 + i / 100);
+        }
+        return data;
+    }
+}
@@ -0,0 +1,208 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.kernel.pdf;
+
+import com.itextpdf.io.font.constants.StandardFonts;
+import com.itextpdf.io.source.ByteArrayOutputStream;
+import com.itextpdf.io.source.ByteUtils;
+import com.itextpdf.kernel.exceptions.KernelExceptionMessageConstant;
+import com.itextpdf.kernel.exceptions.PdfException;
+import com.itextpdf.kernel.font.PdfFont;
+import com.itextpdf.kernel.font.PdfFontFactory;
+import com.itextpdf.kernel.pdf.canvas.PdfCanvas;
+import com.itextpdf.kernel.pdf.canvas.parser.PdfTextExtractor;
+import com.itextpdf.test.ExtendedITextTest;
+import com.itextpdf.test.annotations.type.IntegrationTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@Category(IntegrationTest.class)
+public class PdfLinearizerTest extends ExtendedITextTest {
+
+    @Test
+    public void linearizedDocumentTest() throws IOException {
+        byte[] pdf = createDocument(new WriterProperties().setLinearizationMode(true), 3);
+
+        Assert.assertTrue(new String(pdf, 0, 1024, "ISO-8859-1").contains("/Linearized 1"));
+        PdfReader reader = new PdfReader(new ByteArrayInputStream(pdf));
+        PdfDocument pdfDocument = new PdfDocument(reader);
+        Assert.assertFalse(reader.hasRebuiltXref());
+        Assert.assertFalse(reader.hasFixedXref());
+        Assert.assertTrue(reader.isLinearized());
+        Assert.assertEquals(3, pdfDocument.getNumberOfPages());
+        for (int i = 1; i <= 3; i++) {
+            Assert.assertEquals("Page " + i, PdfTextExtractor.getTextFromPage(pdfDocument.getPage(i)));
+        }
+        Assert.assertEquals("Linearization", pdfDocument.getDocumentInfo().getTitle());
+        pdfDocument.close();
+    }
+
+    @Test
+    public void linearizationDictionaryTest() throws IOException {
+        byte[] pdf = createDocument(new WriterProperties().setLinearizationMode(true), 4);
+
+        PdfReader reader = new PdfReader(new ByteArrayInputStream(pdf));
+        PdfDocument pdfDocument = new PdfDocument(reader);
+        PdfDictionary linearizationDictionary = findLinearizationDictionary(pdfDocument);
+        Assert.assertEquals(pdf.length, linearizationDictionary.getAsNumber(PdfName.L).longValue());
+        Assert.assertEquals(4, linearizationDictionary.getAsNumber(PdfName.N).intValue());
+        Assert.assertEquals(pdfDocument.getPage(1).getPdfObject().getIndirectReference().getObjNumber(),
+                linearizationDictionary.getAsNumber(PdfName.O).intValue());
+
+        PdfArray hints = linearizationDictionary.getAsArray(PdfName.H);
+        int hintStreamOffset = hints.getAsNumber(0).intValue();
+        String hintStream = new String(pdf, hintStreamOffset, hints.getAsNumber(1).intValue(), "ISO-8859-1");
+        Assert.assertTrue(hintStream.contains(" 0 obj\n"));
+        Assert.assertTrue(hintStream.endsWith("endobj\n"));
+        Assert.assertTrue(hintStream.contains("/S "));
+
+        // The first page objects shall end before the offset specified by the E entry
+        long endOfFirstPage = linearizationDictionary.getAsNumber(PdfName.E).longValue();
+        Assert.assertTrue(pdfDocument.getPage(1).getPdfObject().getIndirectReference().getOffset() < endOfFirstPage);
+        for (int i = 2; i <= 4; i++) {
+            Assert.assertTrue(
+                    pdfDocument.getPage(i).getPdfObject().getIndirectReference().getOffset() >= endOfFirstPage);
+        }
+        // T entry points at the whitespace preceding the first entry of the main cross-reference table
+        int mainXrefFirstEntry = linearizationDictionary.getAsNumber(PdfName.T).intValue();
+        Assert.assertEquals("\n0000000000 65535 f", new String(pdf, mainXrefFirstEntry, 19, "ISO-8859-1"));
+        pdfDocument.close();
+    }
+
+    @Test
+    public void singlePageLinearizedDocumentTest() throws IOException {
+        byte[] pdf = createDocument(new WriterProperties().setLinearizationMode(true).setFullCompressionMode(true), 1);
+
+        PdfReader reader = new PdfReader(new ByteArrayInputStream(pdf));
+        PdfDocument pdfDocument = new PdfDocument(reader);
+        Assert.assertFalse(reader.hasRebuiltXref());
+        Assert.assertTrue(reader.isLinearized());
+        Assert.assertEquals("Page 1", PdfTextExtractor.getTextFromPage(pdfDocument.getPage(1)));
+        pdfDocument.close();
+    }
+
+    @Test
+    public void linearizationCheckDoesNotCreateReferencesTest() throws IOException {
+        byte[] pdf = createDocument(new WriterProperties().setLinearizationMode(true), 10);
+
+        PdfReader reader = new PdfReader(new ByteArrayInputStream(pdf));
+        PdfDocument pdfDocument = new PdfDocument(reader);
+        int createdBefore = countCreatedReferences(pdfDocument.getXref());
+        Assert.assertTrue(reader.isLinearized());
+        // only the reference of the linearization parameter dictionary may be created
+        Assert.assertTrue(countCreatedReferences(pdfDocument.getXref()) <= createdBefore + 1);
+        pdfDocument.close();
+    }
+
+    @Test
+    public void notLinearizedDocumentTest() throws IOException {
+        byte[] pdf = createDocument(new WriterProperties(), 2);
+
+        PdfReader reader = new PdfReader(new ByteArrayInputStream(pdf));
+        PdfDocument pdfDocument = new PdfDocument(reader);
+        Assert.assertFalse(reader.isLinearized());
+        pdfDocument.close();
+    }
+
+    @Test
+    public void incrementalUpdateInvalidatesLinearizationTest() throws IOException {
+        byte[] pdf = createDocument(new WriterProperties().setLinearizationMode(true), 2);
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        PdfDocument pdfDocument = new PdfDocument(new PdfReader(new ByteArrayInputStream(pdf)), new PdfWriter(baos),
+                new StampingProperties().useAppendMode());
+        pdfDocument.getDocumentInfo().setAuthor("Author");
+        pdfDocument.close();
+
+        PdfReader reader = new PdfReader(new ByteArrayInputStream(baos.toByteArray()));
+        PdfDocument updatedDocument = new PdfDocument(reader);
+        Assert.assertFalse(reader.isLinearized());
+        Assert.assertEquals("Author", updatedDocument.getDocumentInfo().getAuthor());
+        Assert.assertEquals(2, updatedDocument.getNumberOfPages());
+        updatedDocument.close();
+    }
+
+    @Test
+    public void linearizationInAppendModeTest() throws IOException {
+        byte[] pdf = createDocument(new WriterProperties(), 1);
+
+        PdfReader reader = new PdfReader(new ByteArrayInputStream(pdf));
+        PdfWriter writer = new PdfWriter(new ByteArrayOutputStream(),
+                new WriterProperties().setLinearizationMode(true));
+        Exception e = Assert.assertThrows(PdfException.class,
+                () -> new PdfDocument(reader, writer, new StampingProperties().useAppendMode()));
+        Assert.assertEquals(KernelExceptionMessageConstant.LINEARIZATION_IS_NOT_SUPPORTED_IN_APPEND_MODE,
+                e.getMessage());
+    }
+
+    @Test
+    public void linearizationOfEncryptedDocumentTest() {
+        WriterProperties properties = new WriterProperties().setLinearizationMode(true)
+                .setStandardEncryption(ByteUtils.getIsoBytes("user"), ByteUtils.getIsoBytes("owner"),
+                        EncryptionConstants.ALLOW_PRINTING, EncryptionConstants.ENCRYPTION_AES_128);
+        PdfWriter writer = new PdfWriter(new ByteArrayOutputStream(), properties);
+        Exception e = Assert.assertThrows(PdfException.class, () -> new PdfDocument(writer));
+        Assert.assertEquals(KernelExceptionMessageConstant.LINEARIZATION_IS_NOT_SUPPORTED_FOR_ENCRYPTED_DOCUMENTS,
+                e.getMessage());
+    }
+
+    private static byte[] createDocument(WriterProperties properties, int numberOfPages) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        PdfDocument pdfDocument = new PdfDocument(new PdfWriter(baos, properties));
+        pdfDocument.getDocumentInfo().setTitle("Linearization");
+        PdfFont font = PdfFontFactory.createFont(StandardFonts.HELVETICA);
+        for (int i = 1; i <= numberOfPages; i++) {
+            PdfPage page = pdfDocument.addNewPage();
+            new PdfCanvas(page).beginText().setFontAndSize(font, 12).moveText(36, 800)
+                    .showText("Page " + i).endText().release();
+        }
+        pdfDocument.close();
+        return baos.toByteArray();
+    }
+
+    private static PdfDictionary findLinearizationDictionary(PdfDocument pdfDocument) {
+        PdfXrefTable xref = pdfDocument.getXref();
+        for (int i = 1; i < xref.size(); i++) {
+            PdfObject object = xref.get(i).getRefersTo();
+            if (object instanceof PdfDictionary && ((PdfDictionary) object).containsKey(PdfName.Linearized)) {
+                return (PdfDictionary) object;
+            }
+        }
+        Assert.fail("Linearization parameter dictionary is not found");
+        return null;
+    }
+
+    private static int countCreatedReferences(PdfXrefTable xref) {
+        int count = 0;
+        for (int i = 0; i < xref.size(); i++) {
+            if (xref.getIfCreated(i) != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -26,6 +26,7 @@ import com.itextpdf.test.ExtendedITextTest;
 import com.itextpdf.test.ITextTest;
 import com.itextpdf.test.annotations.type.UnitTest;
 
+import java.nio.charset.StandardCharsets;
 import org.junit.Assert;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
@@ -43,6 +44,18 @@ public class PdfNameTest extends ExtendedITextTest {
         Assert.assertEquals(str2, createStringByEscaped(name2.getInternalContent()));
     }
 
+    @Test
+    public void getStaticNameTest() {
+        byte[] content = "/Type /Unknown".getBytes(StandardCharsets.ISO_8859_1);
+        Assert.assertSame(PdfName.Type, PdfName.getStaticName(content, 1, 4));
+        Assert.assertNull(PdfName.getStaticName(content, 7, 7));
+        Assert.assertNull(PdfName.getStaticName(content, 1, 3));
+        for (PdfName name : PdfName.staticNames.values()) {
+            byte[] value = name.getValue().getBytes(StandardCharsets.ISO_8859_1);
+            Assert.assertSame(name, PdfName.getStaticName(value, 0, value.length));
+        }
+    }
+
     @Test
     public void basicCompareToTest(){
         // /#C3#9Cberschrift_1
@@ -24,6 +24,7 @@ package com.itextpdf.kernel.pdf;
 
 import com.itextpdf.commons.utils.FileUtil;
 import com.itextpdf.io.logs.IoLogMessageConstant;
+import com.itextpdf.io.util.StreamUtil;
 import com.itextpdf.kernel.exceptions.KernelExceptionMessageConstant;
 import com.itextpdf.kernel.exceptions.MemoryLimitsAwareException;
 import com.itextpdf.test.ExtendedITextTest;
@@ -31,6 +32,7 @@ import com.itextpdf.test.annotations.LogMessage;
 import com.itextpdf.test.annotations.LogMessages;
 import com.itextpdf.test.annotations.type.IntegrationTest;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -314,4 +316,101 @@ public class PdfReaderDecodeTest extends ExtendedITextTest {
             Assert.assertEquals(KernelExceptionMessageConstant.DURING_DECOMPRESSION_SINGLE_STREAM_OCCUPIED_MORE_MEMORY_THAN_ALLOWED, e.getMessage());
         }
     }
+
+    @Test
+    @LogMessages(messages = {
+            @LogMessage(messageTemplate = IoLogMessageConstant.INVALID_INDIRECT_REFERENCE),
+            @LogMessage(messageTemplate = IoLogMessageConstant.XREF_ERROR_WHILE_READING_TABLE_WILL_BE_REBUILT)
+    })
+    public void readStreamTest() throws IOException {
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfReader(SOURCE_FOLDER + "timing.pdf"))) {
+            PdfStream stream = pdfDocument.getFirstPage().getContentStream(0);
+
+            try (InputStream is = pdfDocument.getReader().readStreamLazily(stream, false)) {
+                Assert.assertArrayEquals(stream.getBytes(false), StreamUtil.inputStreamToArray(is));
+            }
+            try (InputStream is = pdfDocument.getReader().readStreamLazily(stream, true)) {
+                byte[] decoded = StreamUtil.inputStreamToArray(is);
+                Assert.assertEquals(1000000, decoded.length);
+                Assert.assertArrayEquals(stream.getBytes(true), decoded);
+            }
+        }
+    }
+
+    @Test
+    @LogMessages(messages = {
+            @LogMessage(messageTemplate = IoLogMessageConstant.INVALID_INDIRECT_REFERENCE),
+            @LogMessage(messageTemplate = IoLogMessageConstant.XREF_ERROR_WHILE_READING_TABLE_WILL_BE_REBUILT)
+    })
+    public void readStreamIsReadEagerlyTest() throws IOException {
+        InputStream is;
+        byte[] expected;
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfReader(SOURCE_FOLDER + "timing.pdf"))) {
+            PdfStream stream = pdfDocument.getFirstPage().getContentStream(0);
+            expected = stream.getBytes(true);
+            is = pdfDocument.getReader().readStream(stream, true);
+        }
+        // the stream is still valid after the reader is closed
+        Assert.assertTrue(is instanceof ByteArrayInputStream);
+        Assert.assertArrayEquals(expected, StreamUtil.inputStreamToArray(is));
+    }
+
+    @Test
+    @LogMessages(messages = {
+            @LogMessage(messageTemplate = IoLogMessageConstant.INVALID_INDIRECT_REFERENCE),
+            @LogMessage(messageTemplate = IoLogMessageConstant.XREF_ERROR_WHILE_READING_TABLE_WILL_BE_REBUILT)
+    })
+    public void customMemoryHandlerSingleStreamingTest() throws IOException {
+        MemoryLimitsAwareHandler handler = new MemoryLimitsAwareHandler();
+        handler.setMaxSizeOfSingleDecompressedPdfStream(1000);
+
+        try (PdfDocument pdfDocument = new PdfDocument(
+                new PdfReader(SOURCE_FOLDER + "timing.pdf",
+                        new ReaderProperties().setMemoryLimitsAwareHandler(handler)),
+                new PdfWriter(new ByteArrayOutputStream()))) {
+
+            PdfStream stream = pdfDocument.getFirstPage().getContentStream(0);
+            byte[] b = stream.getBytes(false);
+
+            PdfArray array = new PdfArray();
+            stream.put(PdfName.Filter, array);
+            array.add(PdfName.Fl);
+            array.add(PdfName.Fl);
+            Assert.assertEquals(992, decodeStream(b, stream).length);
+
+            array.add(PdfName.Fl);
+            Exception e = Assert.assertThrows(MemoryLimitsAwareException.class, () -> decodeStream(b, stream));
+            Assert.assertEquals(KernelExceptionMessageConstant.DURING_DECOMPRESSION_SINGLE_STREAM_OCCUPIED_MORE_MEMORY_THAN_ALLOWED, e.getMessage());
+        }
+    }
+
+    @Test
+    @LogMessages(messages = {
+            @LogMessage(messageTemplate = IoLogMessageConstant.INVALID_INDIRECT_REFERENCE),
+            @LogMessage(messageTemplate = IoLogMessageConstant.XREF_ERROR_WHILE_READING_TABLE_WILL_BE_REBUILT)
+    })
+    public void customMemoryHandlerSumStreamingTest() throws IOException {
+        MemoryLimitsAwareHandler handler = new MemoryLimitsAwareHandler();
+        handler.setMaxSizeOfDecompressedPdfStreamsSum(100000);
+
+        try (PdfDocument pdfDocument = new PdfDocument(
+                new PdfReader(SOURCE_FOLDER + "timing.pdf",
+                        new ReaderProperties().setMemoryLimitsAwareHandler(handler)),
+                new PdfWriter(new ByteArrayOutputStream()))) {
+
+            PdfStream stream = pdfDocument.getFirstPage().getContentStream(0);
+            InputStream is = pdfDocument.getReader().readStreamLazily(stream, true);
+
+            Exception e = Assert.assertThrows(MemoryLimitsAwareException.class,
+                    () -> StreamUtil.inputStreamToArray(is)
+            );
+            Assert.assertEquals(KernelExceptionMessageConstant.DURING_DECOMPRESSION_MULTIPLE_STREAMS_IN_SUM_OCCUPIED_MORE_MEMORY_THAN_ALLOWED, e.getMessage());
+        }
+    }
+
+    private static byte[] decodeStream(byte[] b, PdfStream stream) throws IOException {
+        try (InputStream is = PdfReader.decodeStream(new ByteArrayInputStream(b), stream)) {
+            return StreamUtil.inputStreamToArray(is);
+        }
+    }
 }
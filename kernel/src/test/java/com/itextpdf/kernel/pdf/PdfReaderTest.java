@@ -26,6 +26,7 @@ import com.itextpdf.commons.utils.FileUtil;
 import com.itextpdf.commons.utils.MessageFormatUtil;
 import com.itextpdf.io.exceptions.IoExceptionMessageConstant;
 import com.itextpdf.io.font.PdfEncodings;
+import com.itextpdf.io.font.constants.StandardFonts;
 import com.itextpdf.io.logs.IoLogMessageConstant;
 import com.itextpdf.io.source.ByteArrayOutputStream;
 import com.itextpdf.io.source.ByteUtils;
@@ -38,7 +39,10 @@ import com.itextpdf.kernel.exceptions.KernelExceptionMessageConstant;
 import com.itextpdf.kernel.exceptions.MemoryLimitsAwareException;
 import com.itextpdf.kernel.exceptions.PdfException;
 import com.itextpdf.kernel.exceptions.XrefCycledReferencesException;
+import com.itextpdf.kernel.font.PdfFont;
+import com.itextpdf.kernel.font.PdfFontFactory;
 import com.itextpdf.kernel.pdf.PdfReader.StrictnessLevel;
+import com.itextpdf.kernel.pdf.canvas.PdfCanvas;
 import com.itextpdf.kernel.pdf.canvas.parser.PdfTextExtractor;
 import com.itextpdf.kernel.utils.CompareTool;
 import com.itextpdf.kernel.xmp.XMPConst;
@@ -64,6 +68,11 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import org.junit.AfterClass;
 import org.junit.Assert;
 import org.junit.BeforeClass;
@@ -2863,12 +2872,387 @@ public class PdfReaderTest extends ExtendedITextTest {
         });
     }
 
+    @Test
+    public void createViewTest() throws IOException {
+        String filename = SOURCE_FOLDER + "1000PagesDocumentWithFullCompression.pdf";
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfReader(filename))) {
+            String expectedText = PdfTextExtractor.getTextFromPage(pdfDocument.getPage(500));
+            try (PdfDocument view = new PdfDocument(pdfDocument.getReader().createView())) {
+                Assert.assertEquals(pdfDocument.getNumberOfPages(), view.getNumberOfPages());
+                Assert.assertEquals(expectedText, PdfTextExtractor.getTextFromPage(view.getPage(500)));
+                Assert.assertNotSame(pdfDocument.getPage(500).getPdfObject(), view.getPage(500).getPdfObject());
+            }
+            // Closing the view doesn't close the source bytes
+            Assert.assertFalse(PdfTextExtractor.getTextFromPage(pdfDocument.getPage(700)).isEmpty());
+        }
+    }
+
+    @Test
+    public void concurrentReadingOfPagesTest() throws IOException, InterruptedException, ExecutionException {
+        String filename = SOURCE_FOLDER + "1000PagesDocumentWithFullCompression.pdf";
+        List<String> expectedTexts = new ArrayList<>();
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfReader(filename))) {
+            for (int i = 1; i <= pdfDocument.getNumberOfPages(); i++) {
+                expectedTexts.add(PdfTextExtractor.getTextFromPage(pdfDocument.getPage(i)));
+            }
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfReader(filename,
+                new ReaderProperties().setConcurrentReading(true)))) {
+            List<Future<String>> texts = new ArrayList<>();
+            for (int i = 1; i <= pdfDocument.getNumberOfPages(); i++) {
+                final int pageNumber = i;
+                texts.add(executor.submit(
+                        () -> PdfTextExtractor.getTextFromPage(pdfDocument.getPage(pageNumber))));
+            }
+            for (int i = 0; i < texts.size(); i++) {
+                Assert.assertEquals(expectedTexts.get(i), texts.get(i).get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void concurrentReadingResolvesObjectOnceTest() throws IOException, InterruptedException,
+            ExecutionException {
+        String filename = SOURCE_FOLDER + "1000PagesDocument.pdf";
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfReader(filename,
+                new ReaderProperties().setConcurrentReading(true)))) {
+            int objectCount = pdfDocument.getNumberOfPdfObjects();
+            List<Future<List<PdfObject>>> resolved = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                resolved.add(executor.submit(() -> {
+                    List<PdfObject> objects = new ArrayList<>();
+                    for (int objNr = 1; objNr < objectCount; objNr++) {
+                        objects.add(pdfDocument.getPdfObject(objNr));
+                    }
+                    return objects;
+                }));
+            }
+            List<PdfObject> expected = resolved.get(0).get();
+            for (Future<List<PdfObject>> objects : resolved) {
+                List<PdfObject> actual = objects.get();
+                for (int i = 0; i < expected.size(); i++) {
+                    Assert.assertSame(expected.get(i), actual.get(i));
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void concurrentReadingOfFontWithoutTypeTest() throws IOException, InterruptedException,
+            ExecutionException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfWriter(baos))) {
+            PdfFont font = PdfFontFactory.createFont(StandardFonts.HELVETICA);
+            for (int i = 1; i <= 50; i++) {
+                new PdfCanvas(pdfDocument.addNewPage()).beginText().setFontAndSize(font, 12).moveText(36, 800)
+                        .showText("Page " + i).endText().release();
+            }
+        }
+        ByteArrayOutputStream withoutType = new ByteArrayOutputStream();
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfReader(new ByteArrayInputStream(baos.toByteArray())),
+                new PdfWriter(withoutType))) {
+            getFirstFontDictionary(pdfDocument).remove(PdfName.Type);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfReader(
+                new ByteArrayInputStream(withoutType.toByteArray()),
+                new ReaderProperties().setConcurrentReading(true)))) {
+            Assert.assertFalse(getFirstFontDictionary(pdfDocument).containsKey(PdfName.Type));
+            List<Future<String>> texts = new ArrayList<>();
+            for (int i = 1; i <= pdfDocument.getNumberOfPages(); i++) {
+                final int pageNumber = i;
+                texts.add(executor.submit(
+                        () -> PdfTextExtractor.getTextFromPage(pdfDocument.getPage(pageNumber))));
+            }
+            for (int i = 0; i < texts.size(); i++) {
+                Assert.assertEquals("Page " + (i + 1), texts.get(i).get());
+            }
+            // the shared font dictionary is not modified while it is read concurrently
+            Assert.assertFalse(getFirstFontDictionary(pdfDocument).containsKey(PdfName.Type));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void concurrentReadingInStampingModeTest() throws IOException {
+        PdfReader reader = new PdfReader(new ByteArrayInputStream(createPdfDocumentForTest()),
+                new ReaderProperties().setConcurrentReading(true));
+        PdfWriter writer = new PdfWriter(new ByteArrayOutputStream());
+
+        Exception e = Assert.assertThrows(PdfException.class, () -> new PdfDocument(reader, writer));
+        Assert.assertEquals(KernelExceptionMessageConstant.CONCURRENT_READING_REQUIRES_READING_MODE,
+                e.getMessage());
+    }
+
+    private static PdfDictionary getFirstFontDictionary(PdfDocument pdfDocument) {
+        PdfDictionary fonts = pdfDocument.getPage(1).getResources().getResource(PdfName.Font);
+        return fonts.getAsDictionary(fonts.keySet().iterator().next());
+    }
+
     private static PdfDictionary getTestPdfDictionary() {
         HashMap<PdfName, PdfObject> tmpMap = new HashMap<PdfName, PdfObject>();
         tmpMap.put(new PdfName("b"), new PdfName("c"));
         return new PdfDictionary(tmpMap);
     }
 
+    @Test
+    public void objectStreamCacheTest() throws IOException {
+        byte[] document = createPdfDocumentWithObjects(true);
+        ReaderProperties properties = new ReaderProperties().setObjectStreamCacheSize(1024 * 1024);
+        try (PdfDocument pdfDoc = new PdfDocument(new PdfReader(new ByteArrayInputStream(document), properties))) {
+            PdfReader reader = pdfDoc.getReader();
+            PdfIndirectReference reference = (PdfIndirectReference) pdfDoc.getCatalog().getPdfObject()
+                    .getAsArray(new PdfName("Objects")).get(0, false);
+            Assert.assertTrue(reference.getObjStreamNumber() > 0);
+
+            long missCount = reader.getObjectStreamCacheMissCount();
+            Assert.assertTrue(missCount > 0);
+            Assert.assertEquals(0, reader.getObjectStreamCacheHitCount());
+
+            for (int i = 1; i <= 3; i++) {
+                // The object is re-read from the cached object stream data
+                reference.getRefersTo().release();
+                Assert.assertEquals(new PdfNumber(0), ((PdfDictionary) reference.getRefersTo()).get(PdfName.Index));
+                Assert.assertEquals(i, reader.getObjectStreamCacheHitCount());
+                Assert.assertEquals(missCount, reader.getObjectStreamCacheMissCount());
+            }
+        }
+    }
+
+    @Test
+    public void objectStreamCacheExceededTest() throws IOException {
+        byte[] document = createPdfDocumentWithObjects(true);
+        ReaderProperties properties = new ReaderProperties().setObjectStreamCacheSize(10);
+        try (PdfDocument pdfDoc = new PdfDocument(new PdfReader(new ByteArrayInputStream(document), properties))) {
+            PdfReader reader = pdfDoc.getReader();
+            PdfIndirectReference reference = (PdfIndirectReference) pdfDoc.getCatalog().getPdfObject()
+                    .getAsArray(new PdfName("Objects")).get(0, false);
+            long missCount = reader.getObjectStreamCacheMissCount();
+
+            reference.getRefersTo().release();
+            Assert.assertEquals(new PdfNumber(0), ((PdfDictionary) reference.getRefersTo()).get(PdfName.Index));
+            Assert.assertEquals(0, reader.getObjectStreamCacheHitCount());
+            Assert.assertEquals(missCount + 1, reader.getObjectStreamCacheMissCount());
+        }
+    }
+
+    @Test
+    public void objectStreamCacheDisabledByDefaultTest() throws IOException {
+        byte[] document = createPdfDocumentWithObjects(true);
+        try (PdfDocument pdfDoc = new PdfDocument(new PdfReader(new ByteArrayInputStream(document)))) {
+            PdfIndirectReference reference = (PdfIndirectReference) pdfDoc.getCatalog().getPdfObject()
+                    .getAsArray(new PdfName("Objects")).get(0, false);
+            reference.getRefersTo().release();
+            Assert.assertEquals(new PdfNumber(0), ((PdfDictionary) reference.getRefersTo()).get(PdfName.Index));
+            Assert.assertEquals(0, pdfDoc.getReader().getObjectStreamCacheHitCount());
+            Assert.assertEquals(0, pdfDoc.getReader().getObjectStreamCacheMissCount());
+        }
+    }
+
+    @Test
+    public void negativeObjectStreamCacheSizeTest() {
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> new ReaderProperties().setObjectStreamCacheSize(-1));
+    }
+
+    @Test
+    public void reclaimableObjectsTest() throws IOException {
+        for (boolean fullCompression : new boolean[] {false, true}) {
+            byte[] document = createPdfDocumentWithObjects(fullCompression);
+            ReaderProperties properties = new ReaderProperties().setReclaimableObjects(true);
+            try (PdfDocument pdfDoc = new PdfDocument(new PdfReader(new ByteArrayInputStream(document), properties))) {
+                PdfArray objects = pdfDoc.getCatalog().getPdfObject().getAsArray(new PdfName("Objects"));
+                PdfIndirectReference reference = (PdfIndirectReference) objects.get(1, false);
+                Assert.assertEquals(fullCompression, reference.getObjStreamNumber() > 0);
+
+                PdfDictionary object = (PdfDictionary) reference.getRefersTo();
+                Assert.assertEquals(new PdfNumber(1), object.get(PdfName.Index));
+                // the object is referenced softly only
+                Assert.assertNull(reference.refersTo);
+                Assert.assertSame(object, reference.getLoadedRefersTo());
+                Assert.assertSame(object, reference.getRefersTo());
+
+                // emulate the object being reclaimed by the garbage collector
+                reference.setRefersTo(null);
+                PdfDictionary reread = (PdfDictionary) reference.getRefersTo();
+                Assert.assertNotSame(object, reread);
+                Assert.assertEquals(new PdfNumber(1), reread.get(PdfName.Index));
+                Assert.assertSame(reference, reread.getIndirectReference());
+            }
+        }
+    }
+
+    @Test
+    public void modifiedReclaimableObjectRetainedTest() throws IOException {
+        byte[] document = createPdfDocumentWithObjects(true);
+        ReaderProperties properties = new ReaderProperties().setReclaimableObjects(true);
+        try (PdfDocument pdfDoc = new PdfDocument(new PdfReader(new ByteArrayInputStream(document), properties))) {
+            PdfArray objects = pdfDoc.getCatalog().getPdfObject().getAsArray(new PdfName("Objects"));
+            PdfIndirectReference reference = (PdfIndirectReference) objects.get(2, false);
+            PdfDictionary object = (PdfDictionary) reference.getRefersTo();
+
+            object.put(PdfName.Index, new PdfNumber(100));
+            object.setModified();
+            Assert.assertSame(object, reference.refersTo);
+        }
+    }
+
+    @Test
+    public void reclaimableObjectsNotSupportedInStampingModeTest() throws IOException {
+        byte[] document = createPdfDocumentWithObjects(true);
+        ReaderProperties properties = new ReaderProperties().setReclaimableObjects(true);
+        try (PdfDocument pdfDoc = new PdfDocument(new PdfReader(new ByteArrayInputStream(document), properties),
+                new PdfWriter(new ByteArrayOutputStream()))) {
+            PdfArray objects = pdfDoc.getCatalog().getPdfObject().getAsArray(new PdfName("Objects"));
+            PdfIndirectReference reference = (PdfIndirectReference) objects.get(3, false);
+            Assert.assertSame(reference.getRefersTo(), reference.refersTo);
+        }
+    }
+
+    @Test
+    public void metadataOnlyModeTest() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (PdfDocument pdfDoc = new PdfDocument(new PdfWriter(baos))) {
+            pdfDoc.setTagged();
+            pdfDoc.getDocumentInfo().setTitle("Metadata only");
+            for (int i = 0; i < 3; i++) {
+                pdfDoc.addNewPage();
+            }
+        }
+
+        ReaderProperties properties = new ReaderProperties().setMetadataOnlyMode(true);
+        try (PdfDocument pdfDoc = new PdfDocument(new PdfReader(new ByteArrayInputStream(baos.toByteArray()),
+                properties))) {
+            Assert.assertTrue(pdfDoc.getOpeningTimeNanos() > 0);
+            Assert.assertNull(pdfDoc.structTreeRoot);
+            Assert.assertEquals("Metadata only", pdfDoc.getDocumentInfo().getTitle());
+            Assert.assertEquals(3, pdfDoc.getNumberOfPages());
+            Assert.assertNotNull(pdfDoc.getPage(2));
+
+            Assert.assertTrue(pdfDoc.isTagged());
+            Assert.assertNotNull(pdfDoc.structTreeRoot);
+            Assert.assertSame(pdfDoc.structTreeRoot, pdfDoc.getStructTreeRoot());
+        }
+    }
+
+    @Test
+    public void metadataOnlyModeSetTaggedKeepsStructTreeRootTest() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (PdfDocument pdfDoc = new PdfDocument(new PdfWriter(baos))) {
+            pdfDoc.setTagged();
+            pdfDoc.addNewPage();
+        }
+
+        ReaderProperties properties = new ReaderProperties().setMetadataOnlyMode(true);
+        try (PdfDocument pdfDoc = new PdfDocument(new PdfReader(new ByteArrayInputStream(baos.toByteArray()),
+                properties))) {
+            PdfDictionary structTreeRoot = pdfDoc.getCatalog().getPdfObject()
+                    .getAsDictionary(PdfName.StructTreeRoot);
+            Assert.assertNotNull(structTreeRoot);
+            Assert.assertNull(pdfDoc.structTreeRoot);
+
+            pdfDoc.setTagged();
+            Assert.assertNotNull(pdfDoc.structTreeRoot);
+            Assert.assertSame(structTreeRoot, pdfDoc.getStructTreeRoot().getPdfObject());
+            Assert.assertSame(structTreeRoot, pdfDoc.getCatalog().getPdfObject()
+                    .getAsDictionary(PdfName.StructTreeRoot));
+        }
+    }
+
+    @Test
+    public void metadataOnlyModeInStampingModeTest() throws IOException {
+        byte[] document = createPdfDocumentForTest();
+        PdfReader reader = new PdfReader(new ByteArrayInputStream(document),
+                new ReaderProperties().setMetadataOnlyMode(true));
+        Exception e = Assert.assertThrows(PdfException.class,
+                () -> new PdfDocument(reader, new PdfWriter(new ByteArrayOutputStream())));
+        Assert.assertEquals(KernelExceptionMessageConstant.METADATA_ONLY_MODE_REQUIRES_READING_MODE, e.getMessage());
+    }
+
+    @Test
+    @LogMessages(messages = @LogMessage(messageTemplate =
+            IoLogMessageConstant.XREF_ERROR_WHILE_READING_TABLE_WILL_BE_REBUILT, ignore = true))
+    public void parallelXrefRebuildTest() throws IOException {
+        String[] filenames = new String[] {"correctSimpleDoc1.pdf", "correctSimpleDoc3.pdf", "OnlyTrailer.pdf",
+                "XRefWithBreaks.pdf", "XRefWithInvalidGenerations3.pdf", "noXrefAndTrailerWithInfo.pdf"};
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (String filename : filenames) {
+                try (PdfDocument expected = new PdfDocument(new PdfReader(SOURCE_FOLDER + filename))) {
+                    Assert.assertTrue(expected.getReader().hasRebuiltXref());
+                    for (int chunkSize : new int[] {1, 7, 100, ParallelXrefScanner.DEFAULT_CHUNK_SIZE}) {
+                        PdfReader reader = new PdfReader(SOURCE_FOLDER + filename,
+                                new ReaderProperties().setXrefRebuildExecutor(executor));
+                        reader.xrefRebuildChunkSize = chunkSize;
+                        try (PdfDocument actual = new PdfDocument(reader)) {
+                            Assert.assertTrue(reader.hasRebuiltXref());
+                            assertSameXref(expected.getXref(), actual.getXref());
+                            Assert.assertEquals(expected.getTrailer().toString(), actual.getTrailer().toString());
+                            Assert.assertEquals(expected.getNumberOfPages(), actual.getNumberOfPages());
+                        }
+                    }
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @LogMessages(messages = @LogMessage(messageTemplate =
+            IoLogMessageConstant.XREF_ERROR_WHILE_READING_TABLE_WILL_BE_REBUILT))
+    public void parallelXrefRebuildOnRejectingExecutorTest() throws IOException {
+        ReaderProperties properties = new ReaderProperties().setXrefRebuildExecutor(command -> {
+            throw new RejectedExecutionException();
+        });
+        PdfReader reader = new PdfReader(SOURCE_FOLDER + "correctSimpleDoc1.pdf", properties);
+        reader.xrefRebuildChunkSize = 10;
+        try (PdfDocument pdfDoc = new PdfDocument(reader)) {
+            Assert.assertTrue(reader.hasRebuiltXref());
+            Assert.assertEquals(1, pdfDoc.getNumberOfPages());
+        }
+    }
+
+    private static void assertSameXref(PdfXrefTable expected, PdfXrefTable actual) {
+        Assert.assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            PdfIndirectReference expectedReference = expected.get(i);
+            PdfIndirectReference actualReference = actual.get(i);
+            if (expectedReference == null || actualReference == null) {
+                Assert.assertSame(expectedReference, actualReference);
+            } else {
+                Assert.assertEquals(expectedReference.getGenNumber(), actualReference.getGenNumber());
+                Assert.assertEquals(expectedReference.getOffset(), actualReference.getOffset());
+            }
+        }
+    }
+
+    private static byte[] createPdfDocumentWithObjects(boolean fullCompression) throws IOException {
+        try (final ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
+            try (final PdfDocument pdfDoc = new PdfDocument(new PdfWriter(baos,
+                    new WriterProperties().setFullCompressionMode(fullCompression)))) {
+                pdfDoc.addNewPage();
+                PdfArray objects = new PdfArray();
+                for (int i = 0; i < 10; i++) {
+                    PdfDictionary object = new PdfDictionary();
+                    object.put(PdfName.Index, new PdfNumber(i));
+                    objects.add(object.makeIndirect(pdfDoc));
+                }
+                pdfDoc.getCatalog().put(new PdfName("Objects"), objects);
+            }
+            return baos.toByteArray();
+        }
+    }
+
     private static byte[] createPdfDocumentForTest() throws IOException {
         try (final ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
             try (final PdfDocument pdfDoc = new PdfDocument(new PdfWriter(baos))) {
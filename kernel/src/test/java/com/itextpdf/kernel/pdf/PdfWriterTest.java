@@ -26,7 +26,9 @@ import com.itextpdf.commons.utils.FileUtil;
 import com.itextpdf.io.source.ByteUtils;
 import com.itextpdf.commons.utils.DateTimeUtil;
 import com.itextpdf.kernel.exceptions.PdfException;
+import com.itextpdf.kernel.events.PdfDocumentEvent;
 import com.itextpdf.kernel.exceptions.KernelExceptionMessageConstant;
+import com.itextpdf.kernel.pdf.canvas.PdfCanvas;
 import com.itextpdf.kernel.utils.CompareTool;
 import com.itextpdf.test.ExtendedITextTest;
 import com.itextpdf.test.annotations.type.IntegrationTest;
@@ -44,6 +46,8 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 @Category(IntegrationTest.class)
 public class PdfWriterTest extends ExtendedITextTest {
@@ -620,4 +624,63 @@ public class PdfWriterTest extends ExtendedITextTest {
         Assert.assertArrayEquals("Stream by InputStream", streamContent.getBytes(), pdfStream.getBytes());
         document.close();
     }
+
+    @Test
+    public void streamCompressionExecutorTest() throws IOException {
+        byte[] expected = createDocumentWithContentStreams(new WriterProperties(), false);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            byte[] actual = createDocumentWithContentStreams(
+                    new WriterProperties().setStreamCompressionExecutor(executor), false);
+            assertSameContentStreams(expected, actual);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void streamCompressionExecutorContentChangedOnClosingTest() throws IOException {
+        byte[] expected = createDocumentWithContentStreams(new WriterProperties(), true);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            byte[] actual = createDocumentWithContentStreams(
+                    new WriterProperties().setStreamCompressionExecutor(executor), true);
+            assertSameContentStreams(expected, actual);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static byte[] createDocumentWithContentStreams(WriterProperties properties, boolean drawOnEndPage) {
+        java.io.ByteArrayOutputStream baos = new java.io.ByteArrayOutputStream();
+        PdfDocument pdfDoc = new PdfDocument(new PdfWriter(baos, properties));
+        if (drawOnEndPage) {
+            // appends to the last content stream of the page, i.e. changes the streams which are already submitted
+            pdfDoc.addEventHandler(PdfDocumentEvent.END_PAGE, event -> new PdfCanvas(((PdfDocumentEvent) event)
+                    .getPage()).moveTo(0, 0).lineTo(100, 100).stroke());
+        }
+        for (int i = 0; i < 10; i++) {
+            PdfCanvas canvas = new PdfCanvas(pdfDoc.addNewPage());
+            for (int j = 0; j < 1000; j++) {
+                canvas.rectangle(i * j % 500, j % 800, j % 37 + 1, i + 1).fill();
+            }
+        }
+        pdfDoc.close();
+        return baos.toByteArray();
+    }
+
+    private static void assertSameContentStreams(byte[] expected, byte[] actual) throws IOException {
+        try (PdfDocument expectedDoc = new PdfDocument(new PdfReader(new ByteArrayInputStream(expected)));
+                PdfDocument actualDoc = new PdfDocument(new PdfReader(new ByteArrayInputStream(actual)))) {
+            Assert.assertEquals(expectedDoc.getNumberOfPages(), actualDoc.getNumberOfPages());
+            for (int i = 1; i <= expectedDoc.getNumberOfPages(); i++) {
+                PdfStream expectedStream = expectedDoc.getPage(i).getFirstContentStream();
+                PdfStream actualStream = actualDoc.getPage(i).getFirstContentStream();
+                Assert.assertEquals(PdfName.FlateDecode, actualStream.get(PdfName.Filter));
+                Assert.assertArrayEquals(expectedStream.getBytes(false), actualStream.getBytes(false));
+            }
+        }
+    }
 }
@@ -178,6 +178,63 @@ public class PdfXrefTableUnitTest extends ExtendedITextTest {
         AssertUtil.doesNotThrow(() -> document.close());
     }
 
+    @Test
+    public void notCreatedReferencesTest() {
+        PdfXrefTable table = new PdfXrefTable();
+        table.addNotCreatedReference(null, 3, 1, 150, 0);
+        table.addNotCreatedReference(null, 100, 0, 2, 7);
+
+        Assert.assertEquals(101, table.size());
+        Assert.assertEquals(2, table.getCountOfIndirectObjects());
+        Assert.assertTrue(table.hasNotCreatedReference(3));
+        Assert.assertNull(table.getIfCreated(3));
+
+        PdfIndirectReference reference = table.get(3);
+        Assert.assertEquals(3, reference.getObjNumber());
+        Assert.assertEquals(1, reference.getGenNumber());
+        Assert.assertEquals(150, reference.getOffset());
+        Assert.assertFalse(table.hasNotCreatedReference(3));
+        Assert.assertSame(reference, table.get(3));
+        Assert.assertSame(reference, table.getIfCreated(3));
+
+        PdfIndirectReference objStmReference = table.get(100);
+        Assert.assertEquals(7, objStmReference.getObjStreamNumber());
+        Assert.assertEquals(2, objStmReference.getIndex());
+        Assert.assertEquals(2, table.getCountOfIndirectObjects());
+        Assert.assertNull(table.get(50));
+    }
+
+    @Test
+    public void notCreatedReferenceReplacedByAddedOneTest() {
+        PdfXrefTable table = new PdfXrefTable();
+        table.addNotCreatedReference(null, 5, 0, 150, 0);
+        PdfIndirectReference added = new PdfIndirectReference(null, 5, 0, 300);
+        table.add(added);
+
+        Assert.assertFalse(table.hasNotCreatedReference(5));
+        Assert.assertSame(added, table.get(5));
+    }
+
+    @Test
+    public void fixOffsetOfNotCreatedReferenceTest() {
+        PdfXrefTable table = new PdfXrefTable();
+        table.addNotCreatedReference(null, 5, 0, 150, 0);
+        table.fixOffset(5, 1, 200);
+        table.fixOffset(5, 0, 300);
+
+        Assert.assertEquals(300, table.get(5).getOffset());
+    }
+
+    @Test
+    public void clearNotCreatedReferencesTest() {
+        PdfXrefTable table = new PdfXrefTable();
+        table.addNotCreatedReference(null, 5, 0, 150, 0);
+        table.clear();
+
+        Assert.assertFalse(table.hasNotCreatedReference(5));
+        Assert.assertNull(table.get(5));
+    }
+
     @Test
     public void xRefIntMax() {
         PdfDocument document = new PdfDocument(new PdfWriter(new ByteArrayOutputStream()));
@@ -0,0 +1,119 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.kernel.pdf;
+
+import com.itextpdf.test.ExtendedITextTest;
+import com.itextpdf.test.annotations.type.UnitTest;
+
+import java.io.File;
+import java.io.IOException;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@Category(UnitTest.class)
+public class SmartModeDigestIndexTest extends ExtendedITextTest {
+
+    public static final String destinationFolder = "./target/test/com/itextpdf/kernel/pdf/SmartModeDigestIndexTest/";
+
+    private static final int DIGEST_LENGTH = 32;
+
+    @BeforeClass
+    public static void beforeClass() {
+        createOrClearDestinationFolder(destinationFolder);
+    }
+
+    @Test
+    public void entriesInMemoryTest() throws IOException {
+        try (SmartModeDigestIndex index = new SmartModeDigestIndex(DIGEST_LENGTH, 100, null)) {
+            for (int i = 1; i <= 50; i++) {
+                index.put(createDigest(i), i);
+            }
+            for (int i = 1; i <= 50; i++) {
+                Assert.assertEquals(i, index.get(createDigest(i)));
+            }
+            Assert.assertEquals(0, index.get(createDigest(51)));
+            Assert.assertEquals(50, index.getNumberOfEntriesInMemory());
+            Assert.assertEquals(0, index.getNumberOfSpilledEntries());
+        }
+    }
+
+    @Test
+    public void evictedEntriesAreForgottenWithoutSpillDirectoryTest() throws IOException {
+        try (SmartModeDigestIndex index = new SmartModeDigestIndex(DIGEST_LENGTH, 10, null)) {
+            for (int i = 1; i <= 20; i++) {
+                index.put(createDigest(i), i);
+            }
+            Assert.assertEquals(10, index.getNumberOfEntriesInMemory());
+            Assert.assertEquals(0, index.getNumberOfSpilledEntries());
+            Assert.assertEquals(0, index.get(createDigest(1)));
+            Assert.assertEquals(20, index.get(createDigest(20)));
+        }
+    }
+
+    @Test
+    public void recentlyUsedEntriesAreKeptInMemoryTest() throws IOException {
+        try (SmartModeDigestIndex index = new SmartModeDigestIndex(DIGEST_LENGTH, 2, null)) {
+            index.put(createDigest(1), 1);
+            index.put(createDigest(2), 2);
+            Assert.assertEquals(1, index.get(createDigest(1)));
+            index.put(createDigest(3), 3);
+            Assert.assertEquals(1, index.get(createDigest(1)));
+            Assert.assertEquals(0, index.get(createDigest(2)));
+        }
+    }
+
+    @Test
+    public void evictedEntriesAreSpilledToDiskTest() throws IOException {
+        File spillDirectory = new File(destinationFolder);
+        int entries = 40000;
+        try (SmartModeDigestIndex index = new SmartModeDigestIndex(DIGEST_LENGTH, 10, spillDirectory)) {
+            for (int i = 1; i <= entries; i++) {
+                index.put(createDigest(i), i);
+            }
+            Assert.assertEquals(10, index.getNumberOfEntriesInMemory());
+            Assert.assertEquals(entries - 10, index.getNumberOfSpilledEntries());
+            for (int i = 1; i <= entries; i++) {
+                Assert.assertEquals(i, index.get(createDigest(i)));
+            }
+            Assert.assertEquals(0, index.get(createDigest(entries + 1)));
+        }
+        File[] leftovers = spillDirectory.listFiles();
+        Assert.assertNotNull(leftovers);
+        Assert.assertEquals(0, leftovers.length);
+    }
+
+    private static byte[] createDigest(int seed) {
+        byte[] digest = new byte[DIGEST_LENGTH];
+        int value = seed * 0x9E3779B9;
+        for (int i = 0; i < DIGEST_LENGTH; i++) {
+            value = value * 31 + i;
+            digest[i] = (byte) (value >>> 24);
+        }
+        digest[0] = (byte) seed;
+        digest[1] = (byte) (seed >>> 8);
+        digest[2] = (byte) (seed >>> 16);
+        return digest;
+    }
+}
@@ -31,6 +31,7 @@ import com.itextpdf.kernel.pdf.xobject.PdfFormXObject;
 import com.itextpdf.kernel.utils.CompareTool;
 import com.itextpdf.test.ExtendedITextTest;
 import com.itextpdf.test.annotations.type.IntegrationTest;
+import java.io.File;
 import java.io.IOException;
 import org.junit.AfterClass;
 import org.junit.Assert;
@@ -577,4 +578,62 @@ public class SmartModeTest extends ExtendedITextTest {
             }
         }
     }
+
+    @Test
+    public void digestSmartModeCopyingInPdfWithIdenticalPagesTest() throws IOException {
+        String srcFile = sourceFolder + "docWithAllPagesIdenticalNotTagged.pdf";
+        String dstFile = destinationFolder + "digestSmartModeCopyingInPdfWithIdenticalPages.pdf";
+
+        try (PdfDocument pdfDest = new PdfDocument(CompareTool.createTestPdfWriter(dstFile,
+                new WriterProperties().useDigestSmartMode(1000, null)))) {
+
+            try (PdfDocument pdfSrc = new PdfDocument(new PdfReader(srcFile))) {
+                pdfSrc.copyPagesTo(1, pdfSrc.getNumberOfPages(), pdfDest);
+            }
+
+            PdfIndirectReference expectedContStm = pdfDest.getPage(1).getPdfObject()
+                    .getAsStream(PdfName.Contents).getIndirectReference();
+
+            for (int i = 2; i <= 10; i++) {
+                PdfIndirectReference pageContentStm = pdfDest.getPage(i).getPdfObject()
+                        .getAsStream(PdfName.Contents).getIndirectReference();
+
+                Assert.assertEquals(expectedContStm, pageContentStm);
+            }
+        }
+    }
+
+    @Test
+    public void digestSmartModeWithSpillingCopyingInPdfSamePagesDifferentXObjectsTest() throws IOException {
+        String srcFile = sourceFolder + "identicalPagesDifferentXObjects.pdf";
+        String dstFile = destinationFolder + "digestSmartModeWithSpillingCopyingInPdfSamePagesDifferentXObjects.pdf";
+
+        try (PdfDocument pdfDest = new PdfDocument(CompareTool.createTestPdfWriter(dstFile,
+                new WriterProperties().useDigestSmartMode(1, new File(destinationFolder))))) {
+
+            try (PdfDocument pdfSrc = new PdfDocument(new PdfReader(srcFile))) {
+                pdfSrc.copyPagesTo(1, pdfSrc.getNumberOfPages(), pdfDest);
+            }
+
+            PdfIndirectReference expectedImgRes = pdfDest.getPage(1).getPdfObject()
+                    .getAsDictionary(PdfName.Resources)
+                    .getAsDictionary(PdfName.XObject)
+                    .getAsStream(new PdfName("Im1")).getIndirectReference();
+
+            for (int i = 2; i <= 99; i++) {
+                PdfIndirectReference pagesImgRes = pdfDest.getPage(i).getPdfObject()
+                        .getAsDictionary(PdfName.Resources)
+                        .getAsDictionary(PdfName.XObject)
+                        .getAsStream(new PdfName("Im1")).getIndirectReference();
+
+                Assert.assertEquals(expectedImgRes, pagesImgRes);
+            }
+        }
+    }
+
+    @Test
+    public void digestSmartModeNonPositiveLimitTest() {
+        WriterProperties properties = new WriterProperties();
+        Assert.assertThrows(IllegalArgumentException.class, () -> properties.useDigestSmartMode(0, null));
+    }
 }
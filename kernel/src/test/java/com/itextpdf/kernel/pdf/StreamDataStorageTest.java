@@ -0,0 +1,229 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.kernel.pdf;
+
+import com.itextpdf.kernel.exceptions.KernelExceptionMessageConstant;
+import com.itextpdf.kernel.exceptions.PdfException;
+import com.itextpdf.kernel.pdf.canvas.PdfCanvas;
+import com.itextpdf.test.ExtendedITextTest;
+import com.itextpdf.test.annotations.type.IntegrationTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.Random;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@Category(IntegrationTest.class)
+public class StreamDataStorageTest extends ExtendedITextTest {
+
+    public static final String destinationFolder = "./target/test/com/itextpdf/kernel/pdf/StreamDataStorageTest/";
+
+    private static final int SPILL_THRESHOLD = 16 * 1024;
+
+    private static final PdfName DATA = new PdfName("Data");
+
+    @BeforeClass
+    public static void beforeClass() {
+        createOrClearDestinationFolder(destinationFolder);
+    }
+
+    @Test
+    public void heapStorageTest() throws IOException {
+        writeAndCheckDocument(new HeapStreamDataStorage(1000), false);
+    }
+
+    @Test
+    public void offHeapStorageTest() throws IOException {
+        writeAndCheckDocument(new OffHeapStreamDataStorage(1000), false);
+    }
+
+    @Test
+    public void tempFileStorageTest() throws IOException {
+        File directory = new File(destinationFolder, "tempFileStorage");
+        Assert.assertTrue(directory.mkdirs());
+        writeAndCheckDocument(new TempFileStreamDataStorage(directory), false);
+        Assert.assertEquals(0, directory.list().length);
+    }
+
+    @Test
+    public void tempFileStorageWithEncryptionTest() throws IOException {
+        File directory = new File(destinationFolder, "tempFileStorageWithEncryption");
+        Assert.assertTrue(directory.mkdirs());
+        writeAndCheckDocument(new TempFileStreamDataStorage(directory), true);
+        Assert.assertEquals(0, directory.list().length);
+    }
+
+    @Test
+    public void unwrittenStreamDataAreReleasedOnCloseTest() throws IOException {
+        File directory = new File(destinationFolder, "unwrittenStreamData");
+        Assert.assertTrue(directory.mkdirs());
+        WriterProperties properties = new WriterProperties()
+                .setStreamDataStorage(new TempFileStreamDataStorage(directory), SPILL_THRESHOLD);
+        PdfDocument pdfDocument = new PdfDocument(new PdfWriter(new ByteArrayOutputStream(), properties));
+        pdfDocument.addNewPage();
+        // The stream is not referenced from the document, so it is never written
+        new PdfStream(createData(1, 1024 * 1024)).makeIndirect(pdfDocument);
+        Assert.assertEquals(1, directory.list().length);
+        pdfDocument.close();
+        Assert.assertEquals(0, directory.list().length);
+    }
+
+    @Test
+    public void spillingStreamTest() throws IOException {
+        byte[] data = createData(2, 100 * 1024);
+        SpillingByteArrayOutputStream stream = new SpillingByteArrayOutputStream(0, new HeapStreamDataStorage(1000),
+                SPILL_THRESHOLD, new java.util.HashSet<SpillingByteArrayOutputStream>());
+        for (int i = 0; i < 100; i++) {
+            stream.write(data[i]);
+        }
+        stream.write(data, 100, 10 * 1024);
+        Assert.assertFalse(stream.isSpilled());
+        stream.write(data, 100 + 10 * 1024, 20 * 1024);
+        Assert.assertTrue(stream.isSpilled());
+        for (int i = 100 + 30 * 1024; i < 50 * 1024; i++) {
+            stream.write(data[i]);
+        }
+        stream.write(data, 50 * 1024, data.length - 50 * 1024);
+        Assert.assertEquals(data.length, stream.size());
+        Assert.assertArrayEquals(data, stream.toByteArray());
+        Assert.assertTrue(stream.getHeapSize() < SPILL_THRESHOLD);
+
+        stream.reset();
+        Assert.assertFalse(stream.isSpilled());
+        Assert.assertEquals(0, stream.size());
+
+        stream.assignBytes(data);
+        Assert.assertTrue(stream.isSpilled());
+        Assert.assertArrayEquals(data, stream.toByteArray());
+    }
+
+    @Test
+    public void spilledStreamSizeExceedsMaxIntegerTest() {
+        IStreamDataStorage storage = () -> new IStreamDataBuffer() {
+            private long size;
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                // pretends the data take a lot of space without keeping them
+                size += (long) len * 1024 * 1024;
+            }
+
+            @Override
+            public long size() {
+                return size;
+            }
+
+            @Override
+            public void writeTo(java.io.OutputStream out) {
+            }
+
+            @Override
+            public void release() {
+                size = 0;
+            }
+        };
+        SpillingByteArrayOutputStream stream = new SpillingByteArrayOutputStream(0, storage, SPILL_THRESHOLD,
+                new java.util.HashSet<SpillingByteArrayOutputStream>());
+        stream.write(createData(6, 4 * 1024), 0, 4 * 1024);
+        Assert.assertFalse(stream.isSpilled());
+        Assert.assertEquals(4 * 1024, stream.size());
+
+        stream.write(createData(7, 64 * 1024), 0, 64 * 1024);
+        Assert.assertTrue(stream.isSpilled());
+        Exception e = Assert.assertThrows(PdfException.class, () -> stream.size());
+        Assert.assertEquals(KernelExceptionMessageConstant.STREAM_DATA_EXCEED_MAX_INTEGER_VALUE, e.getMessage());
+    }
+
+    @Test
+    public void negativeSpillThresholdTest() {
+        WriterProperties properties = new WriterProperties();
+        HeapStreamDataStorage storage = new HeapStreamDataStorage();
+        Assert.assertThrows(IllegalArgumentException.class, () -> properties.setStreamDataStorage(storage, -1));
+    }
+
+    private static void writeAndCheckDocument(IStreamDataStorage storage, boolean encrypt) throws IOException {
+        byte[] data = createData(3, 1024 * 1024);
+        byte[] replacedData = createData(4, 512 * 1024);
+        byte[] smallData = createData(5, 100);
+
+        WriterProperties properties = new WriterProperties().setStreamDataStorage(storage, SPILL_THRESHOLD);
+        if (encrypt) {
+            properties.setStandardEncryption("user".getBytes(), "owner".getBytes(), EncryptionConstants.ALLOW_PRINTING,
+                    EncryptionConstants.ENCRYPTION_AES_128);
+        }
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfWriter(baos, properties))) {
+            PdfStream stream = (PdfStream) new PdfStream(data).makeIndirect(pdfDocument);
+            Assert.assertTrue(isSpilled(stream));
+            Assert.assertArrayEquals(data, stream.getBytes());
+            pdfDocument.getCatalog().put(DATA, stream);
+
+            PdfStream replacedStream = (PdfStream) new PdfStream().makeIndirect(pdfDocument);
+            replacedStream.setData(data);
+            replacedStream.setData(replacedData);
+            Assert.assertTrue(isSpilled(replacedStream));
+            pdfDocument.getCatalog().put(new PdfName("ReplacedData"), replacedStream);
+
+            PdfStream smallStream = (PdfStream) new PdfStream(smallData).makeIndirect(pdfDocument);
+            Assert.assertFalse(isSpilled(smallStream));
+            pdfDocument.getCatalog().put(new PdfName("SmallData"), smallStream);
+
+            PdfPage page = pdfDocument.addNewPage();
+            PdfCanvas canvas = new PdfCanvas(page);
+            for (int i = 0; i < 10000; i++) {
+                canvas.moveTo(i % 500, i % 700).lineTo(700 - i % 700, 500 - i % 500);
+            }
+            canvas.stroke();
+            Assert.assertTrue(isSpilled(page.getFirstContentStream()));
+        }
+
+        ReaderProperties readerProperties = new ReaderProperties();
+        if (encrypt) {
+            readerProperties.setPassword("owner".getBytes());
+        }
+        try (PdfDocument pdfDocument = new PdfDocument(
+                new PdfReader(new ByteArrayInputStream(baos.toByteArray()), readerProperties))) {
+            PdfDictionary catalog = pdfDocument.getCatalog().getPdfObject();
+            Assert.assertArrayEquals(data, catalog.getAsStream(DATA).getBytes());
+            Assert.assertArrayEquals(replacedData, catalog.getAsStream(new PdfName("ReplacedData")).getBytes());
+            Assert.assertArrayEquals(smallData, catalog.getAsStream(new PdfName("SmallData")).getBytes());
+            Assert.assertTrue(pdfDocument.getFirstPage().getContentBytes().length > SPILL_THRESHOLD);
+        }
+    }
+
+    private static boolean isSpilled(PdfStream stream) {
+        java.io.OutputStream data = stream.getOutputStream().getOutputStream();
+        return data instanceof SpillingByteArrayOutputStream && ((SpillingByteArrayOutputStream) data).isSpilled();
+    }
+
+    private static byte[] createData(long seed, int length) {
+        byte[] data = new byte[length];
+        new Random(seed).nextBytes(data);
+        return data;
+    }
+}
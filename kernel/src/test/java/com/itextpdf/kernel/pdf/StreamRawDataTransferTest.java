@@ -0,0 +1,178 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.kernel.pdf;
+
+import com.itextpdf.io.source.ByteUtils;
+import com.itextpdf.kernel.utils.PdfMerger;
+import com.itextpdf.test.ExtendedITextTest;
+import com.itextpdf.test.annotations.type.IntegrationTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@Category(IntegrationTest.class)
+public class StreamRawDataTransferTest extends ExtendedITextTest {
+
+    private static final String CONTENT = "0 0 m 100 100 l S\n";
+
+    @Test
+    public void unmodifiedStreamIsTransferredOnWriteTest() throws IOException {
+        byte[] source = createSourceDocument(CompressionConstants.DEFAULT_COMPRESSION);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (PdfDocument srcDoc = new PdfDocument(new PdfReader(new ByteArrayInputStream(source)));
+                PdfDocument destDoc = new PdfDocument(new PdfWriter(baos))) {
+            srcDoc.copyPagesTo(1, 1, destDoc);
+            PdfStream copy = destDoc.getFirstPage().getFirstContentStream();
+            byte[] rawSourceBytes = srcDoc.getFirstPage().getFirstContentStream().getBytes(false);
+
+            Assert.assertTrue(copy.hasPendingRawData());
+            Assert.assertArrayEquals(rawSourceBytes, copy.getBytes(false));
+            Assert.assertEquals(CONTENT, new String(copy.getBytes(), "ISO-8859-1"));
+            // reading the bytes doesn't load the data
+            Assert.assertTrue(copy.hasPendingRawData());
+
+            destDoc.close();
+            Assert.assertFalse(copy.hasPendingRawData());
+        }
+        assertContent(baos.toByteArray(), CONTENT);
+    }
+
+    @Test
+    public void sourceClosedBeforeDestinationTest() throws IOException {
+        byte[] source = createSourceDocument(CompressionConstants.DEFAULT_COMPRESSION);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (PdfDocument destDoc = new PdfDocument(new PdfWriter(baos))) {
+            PdfStream copy;
+            try (PdfDocument srcDoc = new PdfDocument(new PdfReader(new ByteArrayInputStream(source)))) {
+                srcDoc.copyPagesTo(1, 1, destDoc);
+                copy = destDoc.getFirstPage().getFirstContentStream();
+                Assert.assertTrue(copy.hasPendingRawData());
+            }
+            Assert.assertFalse(copy.hasPendingRawData());
+        }
+        assertContent(baos.toByteArray(), CONTENT);
+    }
+
+    @Test
+    public void streamModifiedAfterCopyingTest() throws IOException {
+        byte[] source = createSourceDocument(CompressionConstants.NO_COMPRESSION);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (PdfDocument srcDoc = new PdfDocument(new PdfReader(new ByteArrayInputStream(source)));
+                PdfDocument destDoc = new PdfDocument(new PdfWriter(baos))) {
+            srcDoc.copyPagesTo(1, 1, destDoc);
+            PdfStream copy = destDoc.getFirstPage().getFirstContentStream();
+
+            copy.getOutputStream().writeBytes(ByteUtils.getIsoBytes("0 0 100 100 re f\n"));
+            Assert.assertFalse(copy.hasPendingRawData());
+        }
+        assertContent(baos.toByteArray(), CONTENT + "0 0 100 100 re f\n");
+    }
+
+    @Test
+    public void uncompressedStreamIsCompressedOnWriteTest() throws IOException {
+        byte[] source = createSourceDocument(CompressionConstants.NO_COMPRESSION);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (PdfDocument srcDoc = new PdfDocument(new PdfReader(new ByteArrayInputStream(source)));
+                PdfDocument destDoc = new PdfDocument(new PdfWriter(baos))) {
+            srcDoc.copyPagesTo(1, 1, destDoc);
+            Assert.assertTrue(destDoc.getFirstPage().getFirstContentStream().hasPendingRawData());
+        }
+        try (PdfDocument pdfDoc = new PdfDocument(new PdfReader(new ByteArrayInputStream(baos.toByteArray())))) {
+            PdfStream contentStream = pdfDoc.getFirstPage().getFirstContentStream();
+            Assert.assertEquals(PdfName.FlateDecode, contentStream.getAsName(PdfName.Filter));
+        }
+        assertContent(baos.toByteArray(), CONTENT);
+    }
+
+    @Test
+    public void copiedStreamsAreFlushedBeforeSourceIsClosedTest() throws IOException {
+        byte[] source = createSourceDocument(CompressionConstants.DEFAULT_COMPRESSION);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (PdfDocument destDoc = new PdfDocument(new PdfWriter(baos))) {
+            PdfDocument srcDoc = new PdfDocument(new PdfReader(new ByteArrayInputStream(source)));
+            new PdfMerger(destDoc).setCloseSourceDocuments(true).merge(srcDoc, 1, 1);
+
+            Assert.assertTrue(srcDoc.isClosed());
+            // the loaded stream would be kept in memory till the destination document is closed
+            Assert.assertTrue(getFirstContentStreamReference(destDoc).checkState(PdfObject.FLUSHED));
+        }
+        assertContent(baos.toByteArray(), CONTENT);
+    }
+
+    @Test
+    public void copiedStreamsOfMergedSourcesAreFlushedTest() throws IOException {
+        byte[] source = createSourceDocument(CompressionConstants.DEFAULT_COMPRESSION);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (PdfDocument destDoc = new PdfDocument(new PdfWriter(baos))) {
+            Callable<PdfDocument> sourceOpener = () -> new PdfDocument(new PdfReader(new ByteArrayInputStream(source)));
+            new PdfMerger(destDoc).merge(Arrays.asList(sourceOpener, sourceOpener));
+
+            Assert.assertEquals(2, destDoc.getNumberOfPages());
+            Assert.assertTrue(getFirstContentStreamReference(destDoc).checkState(PdfObject.FLUSHED));
+        }
+        assertContent(baos.toByteArray(), CONTENT);
+    }
+
+    @Test
+    public void flushCopiedStreamsTest() throws IOException {
+        byte[] source = createSourceDocument(CompressionConstants.DEFAULT_COMPRESSION);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (PdfDocument srcDoc = new PdfDocument(new PdfReader(new ByteArrayInputStream(source)));
+                PdfDocument destDoc = new PdfDocument(new PdfWriter(baos))) {
+            srcDoc.copyPagesTo(1, 1, destDoc);
+            PdfStream copy = destDoc.getFirstPage().getFirstContentStream();
+
+            destDoc.flushCopiedStreams(srcDoc);
+            Assert.assertTrue(copy.isFlushed());
+            Assert.assertFalse(copy.hasPendingRawData());
+            Assert.assertTrue(srcDoc.getReader().getPendingRawDataCopies().isEmpty());
+        }
+        assertContent(baos.toByteArray(), CONTENT);
+    }
+
+    private static byte[] createSourceDocument(int compressionLevel) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (PdfDocument pdfDoc = new PdfDocument(new PdfWriter(baos,
+                new WriterProperties().setCompressionLevel(compressionLevel)))) {
+            pdfDoc.addNewPage().getFirstContentStream().getOutputStream().writeBytes(ByteUtils.getIsoBytes(CONTENT));
+        }
+        return baos.toByteArray();
+    }
+
+    private static PdfIndirectReference getFirstContentStreamReference(PdfDocument pdfDoc) {
+        PdfObject contents = pdfDoc.getFirstPage().getPdfObject().get(PdfName.Contents, false);
+        return contents.isIndirectReference() ? (PdfIndirectReference) contents : contents.getIndirectReference();
+    }
+
+    private static void assertContent(byte[] document, String expectedContent) throws IOException {
+        try (PdfDocument pdfDoc = new PdfDocument(new PdfReader(new ByteArrayInputStream(document)))) {
+            Assert.assertEquals(expectedContent, new String(pdfDoc.getFirstPage().getContentBytes(), "ISO-8859-1"));
+        }
+    }
+}
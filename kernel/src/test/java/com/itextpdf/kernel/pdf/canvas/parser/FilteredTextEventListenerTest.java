@@ -50,6 +50,21 @@ public class FilteredTextEventListenerTest extends ExtendedITextTest {
         Assert.assertFalse(textIsInRectangle(doc, "Upper Right", upperLeft));
     }
 
+    @Test
+    public void regionOfInterestTest() throws Exception {
+        PdfDocument doc = new PdfDocument(new PdfReader(sourceFolder + "in.pdf"));
+        float pageHeight = doc.getPage(1).getPageSize().getHeight();
+        Rectangle upperLeft = new Rectangle(0, (int) pageHeight - 30, 250, (int) pageHeight);
+
+        FilteredTextEventListener filterListener = new FilteredTextEventListener(
+                new LocationTextExtractionStrategy(), new TextRegionEventFilter(upperLeft));
+        PdfCanvasProcessor processor = new PdfCanvasProcessor(filterListener);
+        processor.setRegionOfInterest(upperLeft);
+        processor.processPageContent(doc.getPage(1));
+
+        Assert.assertEquals("Upper Left", filterListener.getResultantText());
+    }
+
     private boolean textIsInRectangle(PdfDocument doc, String text, Rectangle rect) {
         FilteredTextEventListener filterListener = new FilteredTextEventListener(new LocationTextExtractionStrategy(), new TextRegionEventFilter(rect));
         String extractedText = PdfTextExtractor.getTextFromPage(doc.getPage(1), filterListener);
@@ -0,0 +1,82 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.kernel.pdf.canvas.parser;
+
+import com.itextpdf.io.source.ByteArrayOutputStream;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfIndirectReference;
+import com.itextpdf.kernel.pdf.PdfLiteral;
+import com.itextpdf.kernel.pdf.PdfObject;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.kernel.pdf.canvas.parser.FormXObjectContentCache.ParsedContent;
+import com.itextpdf.test.ExtendedITextTest;
+import com.itextpdf.test.annotations.type.UnitTest;
+
+import java.util.Collections;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@Category(UnitTest.class)
+public class FormXObjectContentCacheTest extends ExtendedITextTest {
+
+    @Test
+    public void leastRecentlyUsedEvictedTest() {
+        try (PdfDocument document = new PdfDocument(new PdfWriter(new ByteArrayOutputStream()))) {
+            PdfIndirectReference first = document.createNextIndirectReference();
+            PdfIndirectReference second = document.createNextIndirectReference();
+            PdfIndirectReference third = document.createNextIndirectReference();
+            ParsedContent content = createContent(100);
+            FormXObjectContentCache cache = new FormXObjectContentCache(200);
+            cache.put(first, content);
+            cache.put(second, createContent(100));
+            Assert.assertSame(content, cache.get(first));
+
+            // the second Form XObject is the least recently used one now
+            cache.put(third, createContent(100));
+            Assert.assertEquals(200, cache.getSize());
+            Assert.assertNull(cache.get(second));
+            Assert.assertNotNull(cache.get(first));
+            Assert.assertNotNull(cache.get(third));
+            Assert.assertEquals(3, cache.getHitCount());
+            Assert.assertEquals(1, cache.getMissCount());
+        }
+    }
+
+    @Test
+    public void contentExceedingCacheSizeNotCachedTest() {
+        try (PdfDocument document = new PdfDocument(new PdfWriter(new ByteArrayOutputStream()))) {
+            PdfIndirectReference reference = document.createNextIndirectReference();
+            FormXObjectContentCache cache = new FormXObjectContentCache(100);
+            cache.put(reference, createContent(1000));
+            Assert.assertNull(cache.get(reference));
+            Assert.assertEquals(0, cache.getSize());
+        }
+    }
+
+    private static ParsedContent createContent(int length) {
+        List<PdfObject> operation = Collections.<PdfObject>singletonList(new PdfLiteral("n"));
+        return new ParsedContent(Collections.singletonList(operation), length);
+    }
+}
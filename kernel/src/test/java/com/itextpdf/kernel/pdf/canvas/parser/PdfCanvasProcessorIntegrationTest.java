@@ -22,16 +22,24 @@
  */
 package com.itextpdf.kernel.pdf.canvas.parser;
 
+import com.itextpdf.io.font.constants.StandardFonts;
+import com.itextpdf.io.image.ImageData;
+import com.itextpdf.io.image.ImageDataFactory;
 import com.itextpdf.io.logs.IoLogMessageConstant;
 import com.itextpdf.io.source.ByteArrayOutputStream;
+import com.itextpdf.kernel.font.PdfFont;
+import com.itextpdf.kernel.font.PdfFontFactory;
 import com.itextpdf.kernel.geom.Matrix;
+import com.itextpdf.kernel.geom.Rectangle;
 import com.itextpdf.kernel.logs.KernelLogMessageConstant;
 import com.itextpdf.kernel.exceptions.PdfException;
 import com.itextpdf.kernel.colors.Color;
 import com.itextpdf.kernel.pdf.PdfDocument;
 import com.itextpdf.kernel.pdf.PdfPage;
 import com.itextpdf.kernel.pdf.PdfReader;
+import com.itextpdf.kernel.pdf.PdfResources;
 import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.kernel.pdf.canvas.PdfCanvas;
 import com.itextpdf.kernel.pdf.canvas.parser.data.ClippingPathInfo;
 import com.itextpdf.kernel.pdf.canvas.parser.data.IEventData;
 import com.itextpdf.kernel.pdf.canvas.parser.data.ImageRenderInfo;
@@ -41,16 +49,21 @@ import com.itextpdf.kernel.pdf.canvas.parser.listener.IEventListener;
 import com.itextpdf.kernel.pdf.canvas.parser.listener.LocationTextExtractionStrategy;
 import com.itextpdf.kernel.pdf.colorspace.PdfColorSpace;
 import com.itextpdf.kernel.pdf.colorspace.PdfSpecialCs;
+import com.itextpdf.kernel.pdf.xobject.PdfFormXObject;
 import com.itextpdf.test.AssertUtil;
 import com.itextpdf.test.ExtendedITextTest;
 import com.itextpdf.test.annotations.LogMessage;
 import com.itextpdf.test.annotations.LogMessages;
 import com.itextpdf.test.annotations.type.IntegrationTest;
 
+import java.io.ByteArrayInputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
@@ -232,6 +245,154 @@ public class PdfCanvasProcessorIntegrationTest extends ExtendedITextTest {
         Assert.assertEquals(5, imageRenderInfo.getMcid());
     }
 
+    @Test
+    public void formXObjectCacheTest() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (PdfDocument document = new PdfDocument(new PdfWriter(baos))) {
+            PdfFormXObject nestedForm = new PdfFormXObject(new Rectangle(100, 20));
+            new PdfCanvas(nestedForm, document).rectangle(0, 0, 100, 20).stroke();
+
+            PdfFormXObject form = new PdfFormXObject(new Rectangle(100, 50));
+            new PdfCanvas(form, document)
+                    .beginText()
+                    .setFontAndSize(PdfFontFactory.createFont(StandardFonts.HELVETICA), 12)
+                    .moveText(5, 30)
+                    .showText("Letterhead")
+                    .endText()
+                    .addXObjectAt(nestedForm, 0, 0);
+            for (int i = 0; i < 3; ++i) {
+                PdfCanvas canvas = new PdfCanvas(document.addNewPage());
+                for (int j = 0; j < 10; ++j) {
+                    canvas.addXObjectWithTransformationMatrix(form, 1, 0, 0, 1 + i, 50 + 10 * j, 700 - 60 * j);
+                }
+            }
+        }
+
+        PdfDocument document = new PdfDocument(new PdfReader(new ByteArrayInputStream(baos.toByteArray())));
+        StringBuilder cachedEventsLog = new StringBuilder();
+        PdfCanvasProcessor processor = new PdfCanvasProcessor(new RecordTextAndPathPositionsListener(cachedEventsLog));
+        processor.setFormXObjectCacheSize(1024 * 1024);
+        StringBuilder eventsLog = new StringBuilder();
+        PdfCanvasProcessor noCacheProcessor = new PdfCanvasProcessor(new RecordTextAndPathPositionsListener(eventsLog));
+        for (int i = 1; i <= document.getNumberOfPages(); ++i) {
+            processor.processPageContent(document.getPage(i));
+            processor.reset();
+            noCacheProcessor.processPageContent(document.getPage(i));
+            noCacheProcessor.reset();
+        }
+        document.close();
+
+        Assert.assertEquals(eventsLog.toString(), cachedEventsLog.toString());
+        Assert.assertTrue(eventsLog.toString().contains("Letterhead 55.0,730.0,1.0"));
+    }
+
+    @Test
+    public void formXObjectCacheWithOverriddenProcessContentTest() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (PdfDocument document = new PdfDocument(new PdfWriter(baos))) {
+            PdfFormXObject form = new PdfFormXObject(new Rectangle(100, 20));
+            new PdfCanvas(form, document).rectangle(0, 0, 100, 20).stroke();
+            PdfCanvas canvas = new PdfCanvas(document.addNewPage());
+            for (int i = 0; i < 5; ++i) {
+                canvas.addXObjectAt(form, 50, 700 - 30 * i);
+            }
+        }
+
+        PdfDocument document = new PdfDocument(new PdfReader(new ByteArrayInputStream(baos.toByteArray())));
+        CountingContentProcessor processor = new CountingContentProcessor(new NoOpEventListener());
+        processor.setFormXObjectCacheSize(1024 * 1024);
+        processor.processPageContent(document.getPage(1));
+        document.close();
+
+        // the page content and every drawn form are passed to the overriding method
+        Assert.assertEquals(6, processor.processedContentCount);
+    }
+
+    @Test
+    public void negativeFormXObjectCacheSizeTest() {
+        PdfCanvasProcessor processor = new PdfCanvasProcessor(new NoOpEventListener());
+        Assert.assertThrows(IllegalArgumentException.class, () -> processor.setFormXObjectCacheSize(-1));
+    }
+
+    @Test
+    public void regionOfInterestTest() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (PdfDocument document = new PdfDocument(new PdfWriter(baos))) {
+            PdfFont font = PdfFontFactory.createFont(StandardFonts.HELVETICA);
+            PdfFormXObject form = new PdfFormXObject(new Rectangle(200, 50));
+            new PdfCanvas(form, document)
+                    .beginText()
+                    .setFontAndSize(font, 12)
+                    .moveText(5, 30)
+                    .showText("Form")
+                    .endText();
+            ImageData image = ImageDataFactory.create(1, 1, 1, 8, new byte[] {0}, null);
+
+            PdfCanvas canvas = new PdfCanvas(document.addNewPage());
+            canvas.beginText()
+                    .setFontAndSize(font, 12)
+                    .moveText(50, 800)
+                    .showText("Header")
+                    .moveText(0, -700)
+                    .showText("Body")
+                    .endText();
+            canvas.addXObjectAt(form, 300, 780);
+            canvas.addXObjectAt(form, 300, 100);
+            canvas.addImageFittedIntoRectangle(image, new Rectangle(50, 760, 10, 10), false);
+            canvas.addImageFittedIntoRectangle(image, new Rectangle(50, 50, 10, 10), true);
+        }
+
+        Rectangle header = new Rectangle(0, 750, 595, 92);
+        PdfDocument document = new PdfDocument(new PdfReader(new ByteArrayInputStream(baos.toByteArray())));
+        List<String> allEvents = new ArrayList<>();
+        new PdfCanvasProcessor(new RecordTextAndImageEventsListener(allEvents))
+                .processPageContent(document.getPage(1));
+        List<String> regionEvents = new ArrayList<>();
+        PdfCanvasProcessor processor = new PdfCanvasProcessor(new RecordTextAndImageEventsListener(regionEvents));
+        processor.setRegionOfInterest(header);
+        processor.processPageContent(document.getPage(1));
+        document.close();
+
+        Assert.assertEquals(Arrays.asList("Header", "Body", "Form", "Form", "image", "image"), allEvents);
+        Assert.assertEquals(Arrays.asList("Header", "Form", "image"), regionEvents);
+        Assert.assertTrue(header.equalsWithEpsilon(processor.getRegionOfInterest()));
+    }
+
+    @Test
+    public void regionOfInterestWithPathInFormTest() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (PdfDocument document = new PdfDocument(new PdfWriter(baos))) {
+            PdfFormXObject form = new PdfFormXObject(new Rectangle(200, 50));
+            new PdfCanvas(form, document)
+                    .rectangle(10, 10, 100, 20)
+                    .stroke()
+                    .beginText()
+                    .setFontAndSize(PdfFontFactory.createFont(StandardFonts.HELVETICA), 12)
+                    .moveText(5, 30)
+                    .showText("Form")
+                    .endText();
+            new PdfCanvas(document.addNewPage()).addXObjectAt(form, 300, 100);
+        }
+
+        PdfDocument document = new PdfDocument(new PdfReader(new ByteArrayInputStream(baos.toByteArray())));
+        List<String> events = new ArrayList<>();
+        PdfCanvasProcessor processor = new PdfCanvasProcessor(new IEventListener() {
+            public void eventOccurred(IEventData data, EventType type) {
+                events.add(type == EventType.RENDER_TEXT ? ((TextRenderInfo) data).getText() : type.name());
+            }
+
+            public Set<EventType> getSupportedEvents() {
+                return new HashSet<>(Arrays.asList(EventType.RENDER_TEXT, EventType.RENDER_PATH));
+            }
+        });
+        processor.setRegionOfInterest(new Rectangle(0, 750, 595, 92));
+        processor.processPageContent(document.getPage(1));
+        document.close();
+
+        // the form is outside the region, but its path is still reported, unlike its text
+        Assert.assertEquals(Collections.singletonList(EventType.RENDER_PATH.name()), events);
+    }
+
     private static class ColorParsingEventListener implements IEventListener {
         private List<IEventData> content = new ArrayList<>();
         private static final String pathDataExpected = "Path data expected.";
@@ -390,4 +551,61 @@ public class PdfCanvasProcessorIntegrationTest extends ExtendedITextTest {
             return null;
         }
     }
+
+    private static class RecordTextAndPathPositionsListener implements IEventListener {
+        private final StringBuilder sb;
+
+        RecordTextAndPathPositionsListener(StringBuilder sb) {
+            this.sb = sb;
+        }
+
+        public void eventOccurred(IEventData data, EventType type) {
+            if (type == EventType.RENDER_TEXT) {
+                TextRenderInfo renderInfo = (TextRenderInfo) data;
+                sb.append(renderInfo.getText()).append(' ').append(renderInfo.getBaseline().getStartPoint())
+                        .append('\n');
+            } else if (type == EventType.RENDER_PATH) {
+                PathRenderInfo renderInfo = (PathRenderInfo) data;
+                sb.append("path ").append(renderInfo.getCtm()).append('\n');
+            }
+        }
+
+        public Set<EventType> getSupportedEvents() {
+            return null;
+        }
+    }
+
+    private static class RecordTextAndImageEventsListener implements IEventListener {
+        private final List<String> events;
+
+        RecordTextAndImageEventsListener(List<String> events) {
+            this.events = events;
+        }
+
+        public void eventOccurred(IEventData data, EventType type) {
+            if (type == EventType.RENDER_TEXT) {
+                events.add(((TextRenderInfo) data).getText());
+            } else {
+                events.add("image");
+            }
+        }
+
+        public Set<EventType> getSupportedEvents() {
+            return new HashSet<>(Arrays.asList(EventType.RENDER_TEXT, EventType.RENDER_IMAGE));
+        }
+    }
+
+    private static class CountingContentProcessor extends PdfCanvasProcessor {
+        private int processedContentCount;
+
+        CountingContentProcessor(IEventListener eventListener) {
+            super(eventListener);
+        }
+
+        @Override
+        public void processContent(byte[] contentBytes, PdfResources resources) {
+            processedContentCount++;
+            super.processContent(contentBytes, resources);
+        }
+    }
 }
@@ -22,9 +22,11 @@
  */
 package com.itextpdf.kernel.pdf.canvas.parser;
 
+import com.itextpdf.kernel.geom.Matrix;
 import com.itextpdf.kernel.pdf.PdfDictionary;
 import com.itextpdf.kernel.pdf.PdfName;
 import com.itextpdf.kernel.pdf.PdfObject;
+import com.itextpdf.kernel.pdf.PdfResources;
 import com.itextpdf.kernel.pdf.canvas.parser.listener.FilteredEventListener;
 import com.itextpdf.test.ExtendedITextTest;
 import com.itextpdf.test.annotations.type.UnitTest;
@@ -32,6 +34,7 @@ import org.junit.Assert;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 
 @Category(UnitTest.class)
@@ -49,4 +52,16 @@ public class PdfCanvasProcessorUnitTest extends ExtendedITextTest {
         processor.registerContentOperator("BMC", contentOperator);
         contentOperator.invoke(processor, null, Collections.singletonList((PdfObject) null));
     }
+
+    @Test
+    public void restoredGraphicsStateReusedTest() {
+        PdfCanvasProcessor processor = new PdfCanvasProcessor(new FilteredEventListener());
+        processor.processContent("q 2 0 0 2 10 10 cm".getBytes(StandardCharsets.ISO_8859_1), new PdfResources());
+        ParserGraphicsState savedGs = processor.getGraphicsState();
+        Assert.assertEquals(new Matrix(2, 0, 0, 2, 10, 10), savedGs.getCtm());
+
+        processor.processContent("Q q".getBytes(StandardCharsets.ISO_8859_1), new PdfResources());
+        Assert.assertSame(savedGs, processor.getGraphicsState());
+        Assert.assertEquals(new Matrix(), processor.getGraphicsState().getCtm());
+    }
 }
@@ -22,9 +22,17 @@
  */
 package com.itextpdf.kernel.pdf.canvas.parser;
 
+import com.itextpdf.io.font.constants.StandardFonts;
 import com.itextpdf.io.logs.IoLogMessageConstant;
+import com.itextpdf.kernel.font.PdfFont;
+import com.itextpdf.kernel.font.PdfFontFactory;
 import com.itextpdf.kernel.pdf.PdfDocument;
 import com.itextpdf.kernel.pdf.PdfReader;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.kernel.pdf.ReaderProperties;
+import com.itextpdf.kernel.pdf.canvas.PdfCanvas;
+import com.itextpdf.kernel.pdf.canvas.parser.listener.LocationTextExtractionStrategy;
+import com.itextpdf.kernel.pdf.canvas.parser.listener.SimpleTextExtractionStrategy;
 import com.itextpdf.test.ExtendedITextTest;
 import com.itextpdf.test.annotations.LogMessage;
 import com.itextpdf.test.annotations.LogMessages;
@@ -33,7 +41,16 @@ import org.junit.Assert;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Category(IntegrationTest.class)
 public class PdfTextExtractorTest extends ExtendedITextTest {
@@ -161,4 +178,120 @@ public class PdfTextExtractorTest extends ExtendedITextTest {
             Assert.assertFalse(extractedText.contains("18个⽉"));
         }
     }
+
+    @Test
+    public void getTextFromPagesTest() throws IOException {
+        byte[] document = createMultiPageDocument(ParallelPageTextIterator.MAX_PAGES_IN_PROGRESS * 2 + 3);
+        List<String> expected = new ArrayList<>();
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfReader(new ByteArrayInputStream(document)))) {
+            for (int i = 1; i <= pdfDocument.getNumberOfPages(); i++) {
+                expected.add(PdfTextExtractor.getTextFromPage(pdfDocument.getPage(i),
+                        new LocationTextExtractionStrategy()));
+            }
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfReader(new ByteArrayInputStream(document),
+                new ReaderProperties().setConcurrentReading(true)))) {
+            List<String> texts = PdfTextExtractor.getTextFromPages(pdfDocument,
+                    () -> new LocationTextExtractionStrategy(), executor);
+            Assert.assertEquals(expected, texts);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void iterateTextFromPagesOnCallingThreadTest() throws IOException {
+        byte[] document = createMultiPageDocument(3);
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfReader(new ByteArrayInputStream(document)))) {
+            Iterator<String> texts = PdfTextExtractor.iterateTextFromPages(pdfDocument,
+                    () -> new SimpleTextExtractionStrategy(), command -> command.run());
+            for (int i = 1; i <= 3; i++) {
+                Assert.assertTrue(texts.hasNext());
+                Assert.assertEquals("Helvetica page " + i + "\nCourier page " + i, texts.next());
+            }
+            Assert.assertFalse(texts.hasNext());
+            Assert.assertThrows(NoSuchElementException.class, () -> texts.next());
+        }
+    }
+
+    @Test
+    public void getTextFromPagesFailureTest() throws IOException {
+        byte[] document = createMultiPageDocument(5);
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfReader(new ByteArrayInputStream(document)))) {
+            Iterator<String> texts = PdfTextExtractor.iterateTextFromPages(pdfDocument,
+                    () -> new SimpleTextExtractionStrategy() {
+                        @Override
+                        public String getResultantText() {
+                            throw new IllegalStateException("Failed");
+                        }
+                    }, command -> command.run());
+            Exception e = Assert.assertThrows(IllegalStateException.class, () -> texts.next());
+            Assert.assertEquals("Failed", e.getMessage());
+            Assert.assertFalse(texts.hasNext());
+        }
+    }
+
+    @Test
+    public void getTextFromPagesWithoutConcurrentReadingTest() throws IOException {
+        byte[] document = createMultiPageDocument(3);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfReader(new ByteArrayInputStream(document)))) {
+            Assert.assertThrows(IllegalArgumentException.class, () -> PdfTextExtractor.getTextFromPages(pdfDocument,
+                    () -> new LocationTextExtractionStrategy(), executor));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void getTextFromPagesFailureWaitsForRunningPagesTest() throws IOException {
+        byte[] document = createMultiPageDocument(8);
+        AtomicInteger runningPages = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfReader(new ByteArrayInputStream(document),
+                new ReaderProperties().setConcurrentReading(true)))) {
+            AtomicInteger createdStrategies = new AtomicInteger();
+            Assert.assertThrows(IllegalStateException.class, () -> PdfTextExtractor.getTextFromPages(pdfDocument,
+                    () -> {
+                        final boolean failing = createdStrategies.incrementAndGet() == 1;
+                        return new SimpleTextExtractionStrategy() {
+                            @Override
+                            public String getResultantText() {
+                                if (failing) {
+                                    throw new IllegalStateException("Failed");
+                                }
+                                runningPages.incrementAndGet();
+                                try {
+                                    Thread.sleep(50);
+                                } catch (InterruptedException e) {
+                                    Thread.currentThread().interrupt();
+                                }
+                                runningPages.decrementAndGet();
+                                return super.getResultantText();
+                            }
+                        };
+                    }, executor));
+            Assert.assertEquals(0, runningPages.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static byte[] createMultiPageDocument(int numberOfPages) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfWriter(baos))) {
+            PdfFont helvetica = PdfFontFactory.createFont(StandardFonts.HELVETICA);
+            PdfFont courier = PdfFontFactory.createFont(StandardFonts.COURIER);
+            for (int i = 1; i <= numberOfPages; i++) {
+                new PdfCanvas(pdfDocument.addNewPage())
+                        .beginText().setFontAndSize(helvetica, 12).moveText(36, 700)
+                        .showText("Helvetica page " + i).endText()
+                        .beginText().setFontAndSize(courier, 12).moveText(36, 600)
+                        .showText("Courier page " + i).endText();
+            }
+        }
+        return baos.toByteArray();
+    }
 }
@@ -22,10 +22,17 @@
  */
 package com.itextpdf.kernel.pdf.canvas.parser;
 
+import com.itextpdf.io.font.FontProgram;
+import com.itextpdf.io.font.constants.StandardFonts;
+import com.itextpdf.kernel.font.PdfFont;
+import com.itextpdf.kernel.font.PdfFontFactory;
 import com.itextpdf.kernel.geom.LineSegment;
 import com.itextpdf.kernel.geom.Vector;
 import com.itextpdf.kernel.pdf.PdfDocument;
 import com.itextpdf.kernel.pdf.PdfReader;
+import com.itextpdf.kernel.pdf.PdfString;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.kernel.pdf.canvas.PdfCanvas;
 import com.itextpdf.kernel.pdf.canvas.parser.data.IEventData;
 import com.itextpdf.kernel.pdf.canvas.parser.data.TextRenderInfo;
 import com.itextpdf.kernel.pdf.canvas.parser.listener.IEventListener;
@@ -34,6 +41,8 @@ import com.itextpdf.kernel.pdf.canvas.parser.listener.SimpleTextExtractionStrate
 import com.itextpdf.test.ExtendedITextTest;
 import com.itextpdf.test.annotations.type.IntegrationTest;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -126,6 +135,54 @@ public class TextRenderInfoTest extends ExtendedITextTest {
         Assert.assertEquals(expectedResult, result);
     }
 
+    @Test
+    public void simpleFontTextWidthTest() throws IOException {
+        String text = "Hello World";
+        float fontSize = 12;
+        float charSpacing = 1;
+        float wordSpacing = 3;
+        float horizontalScaling = 80;
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        PdfFont font;
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfWriter(baos))) {
+            font = PdfFontFactory.createFont(StandardFonts.HELVETICA);
+            new PdfCanvas(pdfDocument.addNewPage())
+                    .beginText()
+                    .setFontAndSize(font, fontSize)
+                    .setCharacterSpacing(charSpacing)
+                    .setWordSpacing(wordSpacing)
+                    .setHorizontalScaling(horizontalScaling)
+                    .moveText(10, 700)
+                    .showText(text)
+                    .endText();
+        }
+
+        // the width of each character is calculated on its own
+        float expectedWidth = 0;
+        for (char ch : text.toCharArray()) {
+            float width = FontProgram.convertTextSpaceToGlyphSpace(font.getContentWidth(new PdfString(String.valueOf(ch))));
+            expectedWidth += (float) (((double) width * fontSize + charSpacing + (ch == ' ' ? wordSpacing : 0))
+                    * horizontalScaling / 100f);
+        }
+
+        List<Float> widths = new ArrayList<>();
+        PdfDocument pdfDocument = new PdfDocument(new PdfReader(new ByteArrayInputStream(baos.toByteArray())));
+        new PdfCanvasProcessor(new IEventListener() {
+            @Override
+            public void eventOccurred(IEventData data, EventType type) {
+                widths.add(((TextRenderInfo) data).getUnscaledWidth());
+            }
+
+            @Override
+            public Set<EventType> getSupportedEvents() {
+                return Collections.singleton(EventType.RENDER_TEXT);
+            }
+        }).processPageContent(pdfDocument.getPage(FIRST_PAGE));
+        pdfDocument.close();
+
+        Assert.assertEquals(Collections.singletonList(expectedWidth), widths);
+    }
+
     private static class TextPositionEventListener implements IEventListener {
         List<LineSegment> lineSegments = new ArrayList<>();
 
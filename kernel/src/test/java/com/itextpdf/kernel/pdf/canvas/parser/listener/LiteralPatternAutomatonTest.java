@@ -0,0 +1,75 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.kernel.pdf.canvas.parser.listener;
+
+import com.itextpdf.test.ExtendedITextTest;
+import com.itextpdf.test.annotations.type.UnitTest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@Category(UnitTest.class)
+public class LiteralPatternAutomatonTest extends ExtendedITextTest {
+
+    @Test
+    public void overlappingLiteralsTest() {
+        LiteralPatternAutomaton automaton = new LiteralPatternAutomaton(Arrays.asList("he", "she", "his", "hers"));
+        List<List<Integer>> matches = automaton.findAll("ushers and his hershey");
+
+        Assert.assertEquals(Arrays.asList(2, 15, 19), matches.get(0));
+        Assert.assertEquals(Arrays.asList(1, 18), matches.get(1));
+        Assert.assertEquals(Arrays.asList(11), matches.get(2));
+        Assert.assertEquals(Arrays.asList(2, 15), matches.get(3));
+    }
+
+    @Test
+    public void sameAsMatcherFindTest() {
+        List<String> literals = Arrays.asList("aa", "aba", "a", "b", "abab", "aa");
+        String text = "aaabababaaaabbaba\nabaa";
+        List<List<Integer>> matches = new LiteralPatternAutomaton(literals).findAll(text);
+
+        for (int i = 0; i < literals.size(); i++) {
+            List<Integer> expected = new ArrayList<>();
+            Matcher matcher = Pattern.compile(literals.get(i), Pattern.LITERAL).matcher(text);
+            while (matcher.find()) {
+                expected.add(matcher.start());
+            }
+            Assert.assertEquals(expected, matches.get(i));
+        }
+    }
+
+    @Test
+    public void noMatchesTest() {
+        List<List<Integer>> matches = new LiteralPatternAutomaton(Arrays.asList("xyz", "zz")).findAll("xyxyzyz");
+
+        Assert.assertEquals(Arrays.asList(2), matches.get(0));
+        Assert.assertTrue(matches.get(1).isEmpty());
+    }
+}
@@ -0,0 +1,135 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.kernel.pdf.canvas.parser.listener;
+
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfReader;
+import com.itextpdf.kernel.pdf.canvas.parser.PdfCanvasProcessor;
+import com.itextpdf.test.ExtendedITextTest;
+import com.itextpdf.test.annotations.type.IntegrationTest;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@Category(IntegrationTest.class)
+public class MultiPatternLocationExtractionStrategyTest extends ExtendedITextTest {
+
+    private static final String sourceFolder = "./src/test/resources/com/itextpdf/kernel/parser/RegexBasedLocationExtractionStrategyTest/";
+
+    @Test
+    public void patternIdTest() throws IOException {
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfReader(sourceFolder + "in01.pdf"))) {
+            MultiPatternLocationExtractionStrategy extractionStrategy = new MultiPatternLocationExtractionStrategy()
+                    .addLiteral("signature", "{{Signature}}")
+                    .addPattern("missing", "\\{\\{Missing\\}\\}");
+            new PdfCanvasProcessor(extractionStrategy).processPageContent(pdfDocument.getPage(1));
+            List<IPdfTextLocation> locations = new ArrayList<>(extractionStrategy.getResultantLocations());
+
+            Assert.assertEquals(1, locations.size());
+            PatternPdfTextLocation location = (PatternPdfTextLocation) locations.get(0);
+            Assert.assertEquals("signature", location.getPatternId());
+            Assert.assertEquals("{{Signature}}", location.getText());
+            Assert.assertEquals(23, (int) location.getRectangle().getX());
+            Assert.assertEquals(375, (int) location.getRectangle().getY());
+            Assert.assertEquals(55, (int) location.getRectangle().getWidth());
+            Assert.assertEquals(11, (int) location.getRectangle().getHeight());
+        }
+    }
+
+    @Test
+    public void ligatureSameAsRegexBasedStrategyTest() throws IOException {
+        assertSameAsRegexBasedStrategy("ligature.pdf", "ca", "ll", "calligraphy", "l+", "a.", "lig");
+    }
+
+    @Test
+    public void newLinesSameAsRegexBasedStrategyTest() throws IOException {
+        assertSameAsRegexBasedStrategy("regexWithNewLineBetweenWordsTest.pdf",
+                "hello\\nworld", "hello", "o", "\\sworld", "\\n", "l");
+    }
+
+    @Test
+    public void rotatedTextSameAsRegexBasedStrategyTest() throws IOException {
+        assertSameAsRegexBasedStrategy("rotatedText.pdf", "[A-Za-z]+", "e", "t");
+    }
+
+    @Test
+    public void literalPatternTest() throws IOException {
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfReader(sourceFolder + "ligature.pdf"))) {
+            MultiPatternLocationExtractionStrategy extractionStrategy = new MultiPatternLocationExtractionStrategy()
+                    .addPattern("quoted", Pattern.compile("a.l", Pattern.LITERAL))
+                    .addPattern("regex", Pattern.compile("a.l"));
+            new PdfCanvasProcessor(extractionStrategy).processPageContent(pdfDocument.getPage(1));
+
+            for (IPdfTextLocation location : extractionStrategy.getResultantLocations()) {
+                Assert.assertEquals("regex", ((PatternPdfTextLocation) location).getPatternId());
+            }
+        }
+    }
+
+    @Test
+    public void emptyLiteralTest() {
+        MultiPatternLocationExtractionStrategy extractionStrategy = new MultiPatternLocationExtractionStrategy();
+        Assert.assertThrows(IllegalArgumentException.class, () -> extractionStrategy.addLiteral("empty", ""));
+    }
+
+    private static void assertSameAsRegexBasedStrategy(String fileName, String... regexes) throws IOException {
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfReader(sourceFolder + fileName))) {
+            MultiPatternLocationExtractionStrategy multiPatternStrategy = new MultiPatternLocationExtractionStrategy();
+            for (int i = 0; i < regexes.length; i++) {
+                multiPatternStrategy.addPattern(String.valueOf(i), regexes[i]);
+            }
+            new PdfCanvasProcessor(multiPatternStrategy).processPageContent(pdfDocument.getPage(1));
+            List<IPdfTextLocation> multiPatternLocations =
+                    new ArrayList<>(multiPatternStrategy.getResultantLocations());
+
+            int totalCount = 0;
+            for (int i = 0; i < regexes.length; i++) {
+                RegexBasedLocationExtractionStrategy regexStrategy = new RegexBasedLocationExtractionStrategy(regexes[i]);
+                new PdfCanvasProcessor(regexStrategy).processPageContent(pdfDocument.getPage(1));
+                List<IPdfTextLocation> expected = new ArrayList<>(regexStrategy.getResultantLocations());
+
+                List<IPdfTextLocation> actual = new ArrayList<>();
+                for (IPdfTextLocation location : multiPatternLocations) {
+                    if (String.valueOf(i).equals(((PatternPdfTextLocation) location).getPatternId())) {
+                        actual.add(location);
+                    }
+                }
+
+                Assert.assertEquals(regexes[i], expected.size(), actual.size());
+                for (int j = 0; j < expected.size(); j++) {
+                    Assert.assertEquals(expected.get(j).getText(), actual.get(j).getText());
+                    Assert.assertTrue(expected.get(j).getRectangle().equalsWithEpsilon(actual.get(j).getRectangle()));
+                }
+                totalCount += expected.size();
+            }
+            Assert.assertEquals(totalCount, multiPatternLocations.size());
+            Assert.assertTrue(totalCount > 0);
+        }
+    }
+}
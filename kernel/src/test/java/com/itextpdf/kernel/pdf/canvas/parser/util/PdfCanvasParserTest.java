@@ -30,16 +30,19 @@ import com.itextpdf.kernel.exceptions.KernelExceptionMessageConstant;
 import com.itextpdf.kernel.pdf.PdfArray;
 import com.itextpdf.kernel.pdf.PdfDictionary;
 import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfLiteral;
 import com.itextpdf.kernel.pdf.PdfName;
 import com.itextpdf.kernel.pdf.PdfObject;
 import com.itextpdf.kernel.pdf.PdfReader;
 import com.itextpdf.kernel.pdf.PdfResources;
+import com.itextpdf.kernel.pdf.PdfStream;
 import com.itextpdf.kernel.pdf.PdfString;
 import com.itextpdf.kernel.utils.CompareTool;
 import com.itextpdf.test.ExtendedITextTest;
 import com.itextpdf.test.annotations.type.IntegrationTest;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import org.junit.Assert;
@@ -100,4 +103,28 @@ public class PdfCanvasParserTest extends ExtendedITextTest {
         Assert.assertEquals(MessageFormatUtil.format(KernelExceptionMessageConstant.UNEXPECTED_TOKEN, ">>"),
                 exception.getCause().getMessage());
     }
+
+    @Test
+    public void repeatedLiteralsSharedTest() throws IOException {
+        byte[] content = "q 1 0 0 1 10 10 cm Q q BI /W 1 /H 1 /BPC 8 /CS /G ID \0 EI Q".getBytes(StandardCharsets.ISO_8859_1);
+        PdfTokenizer tokeniser = new PdfTokenizer(new RandomAccessFileOrArray(
+                new RandomAccessSourceFactory().createSource(content)));
+        PdfCanvasParser ps = new PdfCanvasParser(tokeniser, new PdfResources());
+
+        PdfObject firstSave = ps.parse(null).get(0);
+        List<PdfObject> transform = ps.parse(null);
+        PdfObject firstRestore = ps.parse(null).get(0);
+        List<PdfObject> secondSave = ps.parse(null);
+        List<PdfObject> inlineImage = ps.parse(null);
+        PdfObject secondRestore = ps.parse(null).get(0);
+
+        Assert.assertEquals(new PdfLiteral("cm"), transform.get(6));
+        Assert.assertEquals(new PdfLiteral("q"), firstSave);
+        Assert.assertSame(firstSave, secondSave.get(0));
+        Assert.assertEquals(new PdfLiteral("Q"), firstRestore);
+        Assert.assertSame(firstRestore, secondRestore);
+        Assert.assertTrue(inlineImage.get(0) instanceof PdfStream);
+        Assert.assertEquals(new PdfLiteral("EI"), inlineImage.get(1));
+        Assert.assertTrue(ps.parse(null).isEmpty());
+    }
 }
@@ -0,0 +1,166 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.kernel.pdf.filters;
+
+import com.itextpdf.io.util.StreamUtil;
+import com.itextpdf.kernel.pdf.PdfDictionary;
+import com.itextpdf.kernel.pdf.PdfName;
+import com.itextpdf.kernel.pdf.PdfNumber;
+import com.itextpdf.kernel.pdf.PdfObject;
+import com.itextpdf.test.ExtendedITextTest;
+import com.itextpdf.test.annotations.type.UnitTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DeflaterOutputStream;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@Category(UnitTest.class)
+public class StreamingFilterHandlersTest extends ExtendedITextTest {
+
+    @Test
+    public void flateDecodeTest() throws IOException {
+        byte[] data = createSampleData(100000);
+        byte[] encoded = deflate(data);
+
+        assertStreamingDecode(new FlateDecodeFilter(), PdfName.FlateDecode, encoded, null);
+        Assert.assertArrayEquals(data, decodeStream(new FlateDecodeFilter(), PdfName.FlateDecode, encoded, null));
+        Assert.assertArrayEquals(data,
+                decodeStream(new FlateDecodeStrictFilter(), PdfName.FlateDecode, encoded, null));
+    }
+
+    @Test
+    public void flateDecodePngPredictorTest() throws IOException {
+        int columns = 16;
+        ByteArrayOutputStream rows = new ByteArrayOutputStream();
+        byte[] sample = createSampleData(columns * 50);
+        for (int row = 0; row < 50; row++) {
+            // cycle through None, Sub, Up, Average and Paeth filter types
+            rows.write(row % 5);
+            rows.write(sample, row * columns, columns);
+        }
+        PdfDictionary decodeParams = new PdfDictionary();
+        decodeParams.put(PdfName.Predictor, new PdfNumber(15));
+        decodeParams.put(PdfName.Columns, new PdfNumber(columns));
+
+        byte[] decoded = decodeStream(new FlateDecodeFilter(), PdfName.FlateDecode,
+                deflate(rows.toByteArray()), decodeParams);
+        Assert.assertEquals(columns * 50, decoded.length);
+        assertStreamingDecode(new FlateDecodeFilter(), PdfName.FlateDecode, deflate(rows.toByteArray()),
+                decodeParams);
+    }
+
+    @Test
+    public void flateDecodeTiffPredictorTest() throws IOException {
+        PdfDictionary decodeParams = new PdfDictionary();
+        decodeParams.put(PdfName.Predictor, new PdfNumber(2));
+        decodeParams.put(PdfName.Colors, new PdfNumber(3));
+        decodeParams.put(PdfName.Columns, new PdfNumber(10));
+
+        assertStreamingDecode(new FlateDecodeFilter(), PdfName.FlateDecode, deflate(createSampleData(3000)),
+                decodeParams);
+    }
+
+    @Test
+    public void flateDecodeCorruptedDataTest() throws IOException {
+        byte[] encoded = deflate(createSampleData(100000));
+        for (int i = encoded.length / 2; i < encoded.length; i++) {
+            encoded[i] = (byte) 0xFF;
+        }
+
+        byte[] lenient = decodeStream(new FlateDecodeFilter(), PdfName.FlateDecode, encoded, null);
+        Assert.assertTrue(lenient.length < 100000);
+        Assert.assertThrows(IOException.class,
+                () -> decodeStream(new FlateDecodeStrictFilter(), PdfName.FlateDecode, encoded, null));
+    }
+
+    @Test
+    public void lzwDecodeTest() throws IOException {
+        byte[] bytes = {(byte) 0x80, 0x0B, 0x60, 0x50, 0x22, 0x0C, 0x0C, (byte) 0x85, 0x01};
+
+        byte[] decoded = decodeStream(new LZWDecodeFilter(), PdfName.LZWDecode, bytes, null);
+        Assert.assertEquals("-----A---B", new String(decoded, StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    public void ascii85DecodeTest() throws IOException {
+        byte[] bytes = "9jqo^BlbD-BleB1DJ+*+F(f,q/0JhKF<GL>Cj@.4Gp$d7F!,L7@<6@)/0JDEF<G%<+EV:2F!,O<DJ+*.@<*K0@<6L(Df-\\0Ec5e;DffZ(EZee.Bl.9pF\"AGXBPCsi+DGm>@3BB/F*&OCAfu2/AKYi(DIb:@FD,*)+C]U=@3BN#EcYf8ATD3s@q?d$AftVqCh[NqF<G:8+EV:.+Cf>-FD5W8ARlolDIal(DId<j@<?3r@:F%a+D58'ATD4$Bl@l3De:,-DJs`8ARoFb/0JMK@qB4^F!,R<AKZ&-DfTqBG%G>uD.RTpAKYo'+CT/5+Cei#DII?(E,9)oF*2M7/c~>"
+                .getBytes(StandardCharsets.US_ASCII);
+
+        assertStreamingDecode(new ASCII85DecodeFilter(), PdfName.ASCII85Decode, bytes, null);
+    }
+
+    @Test
+    public void asciiHexDecodeTest() throws IOException {
+        byte[] bytes = "4c6f72656d20 69707375 6d20646f6c6f7220 73697420616d65742e>"
+                .getBytes(StandardCharsets.US_ASCII);
+
+        byte[] decoded = decodeStream(new ASCIIHexDecodeFilter(), PdfName.ASCIIHexDecode, bytes, null);
+        Assert.assertEquals("Lorem ipsum dolor sit amet.", new String(decoded, StandardCharsets.US_ASCII));
+        assertStreamingDecode(new ASCIIHexDecodeFilter(), PdfName.ASCIIHexDecode, bytes, null);
+    }
+
+    @Test
+    public void runLengthDecodeTest() throws IOException {
+        byte[] bytes = {2, 'a', 'b', 'c', (byte) 253, 'x', 0, 'y', (byte) 128};
+
+        byte[] decoded = decodeStream(new RunLengthDecodeFilter(), PdfName.RunLengthDecode, bytes, null);
+        Assert.assertEquals("abcxxxxy", new String(decoded, StandardCharsets.US_ASCII));
+        assertStreamingDecode(new RunLengthDecodeFilter(), PdfName.RunLengthDecode, bytes, null);
+    }
+
+    private static void assertStreamingDecode(IStreamingFilterHandler filter, PdfName filterName, byte[] encoded,
+            PdfObject decodeParams) throws IOException {
+        byte[] expected = filter.decode(encoded, filterName, decodeParams, new PdfDictionary());
+        Assert.assertArrayEquals(expected, decodeStream(filter, filterName, encoded, decodeParams));
+    }
+
+    private static byte[] decodeStream(IStreamingFilterHandler filter, PdfName filterName, byte[] encoded,
+            PdfObject decodeParams) throws IOException {
+        try (InputStream is = filter.decodeStream(new ByteArrayInputStream(encoded), filterName, decodeParams,
+                new PdfDictionary())) {
+            return StreamUtil.inputStreamToArray(is);
+        }
+    }
+
+    private static byte[] deflate(byte[] data) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (DeflaterOutputStream zip = new DeflaterOutputStream(baos)) {
+            zip.write(data);
+        }
+        return baos.toByteArray();
+    }
+
+    private static byte[] createSampleData(int length) {
+        byte[] data = new byte[length];
+        for (int i = 0; i < length; i++) {
+            data[i] = (byte) ((i * 31) ^ (i >> 7));
+        }
+        return data;
+    }
+}
@@ -23,6 +23,9 @@
 package com.itextpdf.kernel.utils;
 
 import com.itextpdf.io.logs.IoLogMessageConstant;
+import com.itextpdf.io.source.ByteArrayOutputStream;
+import com.itextpdf.kernel.exceptions.KernelExceptionMessageConstant;
+import com.itextpdf.kernel.exceptions.PdfException;
 import com.itextpdf.kernel.logs.KernelLogMessageConstant;
 import com.itextpdf.kernel.pdf.PdfDictionary;
 import com.itextpdf.kernel.pdf.PdfDocument;
@@ -38,6 +41,9 @@ import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import javax.xml.parsers.ParserConfigurationException;
 import org.junit.AfterClass;
 import org.junit.Assert;
@@ -163,6 +169,81 @@ public class PdfMergerTest extends ExtendedITextTest {
         Assert.assertNull(new CompareTool().compareByContent(resultFile, sourceFolder + "cmp_mergedResult02.pdf", destinationFolder, "diff_"));
     }
 
+    @Test
+    public void mergeDocumentsInParallelTest() throws IOException, InterruptedException {
+        String resultFile = destinationFolder + "mergeDocumentsInParallel.pdf";
+        List<Callable<PdfDocument>> sources = new ArrayList<>();
+        for (String filename : new String[] {"doc1.pdf", "doc2.pdf", "doc3.pdf"}) {
+            sources.add(() -> new PdfDocument(new PdfReader(sourceFolder + filename)));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            PdfMergerProperties properties = new PdfMergerProperties()
+                    .setPreparationExecutor(executor)
+                    .setMaxPreparedDocuments(2);
+            new PdfMerger(new PdfDocument(CompareTool.createTestPdfWriter(resultFile)), properties)
+                    .merge(sources)
+                    .close();
+        } finally {
+            executor.shutdown();
+        }
+
+        Assert.assertNull(new CompareTool().compareByContent(resultFile, sourceFolder + "cmp_mergedResult02.pdf", destinationFolder, "diff_"));
+    }
+
+    @Test
+    @LogMessages(messages = {
+            @LogMessage(messageTemplate = IoLogMessageConstant.NOT_TAGGED_PAGES_IN_TAGGED_DOCUMENT, count = 4)
+    })
+    public void mergeDocumentsWithOutlinesInParallelTest() throws IOException, InterruptedException {
+        String sequentialResultFile = destinationFolder + "mergeDocumentsWithOutlinesSequentially.pdf";
+        String parallelResultFile = destinationFolder + "mergeDocumentsWithOutlinesInParallel.pdf";
+        String[] filenames = new String[] {"pdf_open_parameters.pdf", "outlinesNamedDestinations.pdf", "doc1.pdf"};
+
+        PdfMerger sequentialMerger = new PdfMerger(new PdfDocument(CompareTool.createTestPdfWriter(sequentialResultFile)))
+                .setCloseSourceDocuments(true);
+        for (String filename : filenames) {
+            PdfDocument source = new PdfDocument(new PdfReader(sourceFolder + filename));
+            sequentialMerger.merge(source, 1, source.getNumberOfPages());
+        }
+        sequentialMerger.close();
+
+        List<Callable<PdfDocument>> sources = new ArrayList<>();
+        for (String filename : filenames) {
+            sources.add(() -> new PdfDocument(new PdfReader(sourceFolder + filename)));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            new PdfMerger(new PdfDocument(CompareTool.createTestPdfWriter(parallelResultFile)),
+                    new PdfMergerProperties().setPreparationExecutor(executor))
+                    .merge(sources)
+                    .close();
+        } finally {
+            executor.shutdown();
+        }
+
+        Assert.assertNull(new CompareTool().compareByContent(parallelResultFile, sequentialResultFile, destinationFolder, "diff_"));
+    }
+
+    @Test
+    public void mergeDocumentsInParallelWithFailingSourceTest() throws IOException {
+        List<Callable<PdfDocument>> sources = new ArrayList<>();
+        sources.add(() -> new PdfDocument(new PdfReader(sourceFolder + "doc1.pdf")));
+        sources.add(() -> new PdfDocument(new PdfReader(sourceFolder + "notExisting.pdf")));
+        sources.add(() -> new PdfDocument(new PdfReader(sourceFolder + "doc3.pdf")));
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try (PdfDocument pdfDoc = new PdfDocument(new PdfWriter(new ByteArrayOutputStream()))) {
+            PdfMerger merger = new PdfMerger(pdfDoc, new PdfMergerProperties().setPreparationExecutor(executor));
+            Exception e = Assert.assertThrows(PdfException.class, () -> merger.merge(sources));
+            Assert.assertEquals(KernelExceptionMessageConstant.CANNOT_OPEN_SOURCE_DOCUMENT_FOR_MERGING, e.getMessage());
+            Assert.assertEquals(1, pdfDoc.getNumberOfPages());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
     @Test
     @LogMessages(messages = {
             @LogMessage(messageTemplate = IoLogMessageConstant.SOURCE_DOCUMENT_HAS_ACROFORM_DICTIONARY)
@@ -41,7 +41,10 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 @Category(IntegrationTest.class)
 public class PdfSplitterTest extends ExtendedITextTest{
@@ -129,6 +132,77 @@ public class PdfSplitterTest extends ExtendedITextTest{
         }
     }
 
+    @Test
+    @LogMessages(messages = {
+            @LogMessage(messageTemplate = IoLogMessageConstant.SOURCE_DOCUMENT_HAS_ACROFORM_DICTIONARY, count = 3)
+    })
+    public void splitDocumentInParallelTest() throws IOException, InterruptedException {
+        String inputFileName =  sourceFolder + "iphone_user_guide.pdf";
+        PdfDocument inputPdfDoc = new PdfDocument(new PdfReader(inputFileName));
+
+        PdfSplitter splitter = new PdfSplitter(inputPdfDoc) {
+            @Override
+            protected PdfWriter getNextPdfWriter(PageRange documentPageRange) {
+                int partNumber = (documentPageRange.getQualifyingPageNums(130).get(0) - 1) / 60 + 1;
+                try {
+                    return CompareTool.createTestPdfWriter(destinationFolder + "splitDocumentInParallel_" + partNumber + ".pdf");
+                } catch (FileNotFoundException e) {
+                    throw new RuntimeException();
+                }
+            }
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            splitter.splitByPageCount(60, new PdfSplitter.IDocumentReadyListener() {
+                @Override
+                public void documentReady(PdfDocument pdfDocument, PageRange pageRange) {
+                    if (new PageRange("61-120").equals(pageRange)) {
+                        pdfDocument.getDocumentInfo().setAuthor("Modified Author");
+                    }
+
+                    pdfDocument.close();
+                }
+            }, executor);
+        } finally {
+            executor.shutdown();
+        }
+        inputPdfDoc.close();
+
+        for (int i = 1; i <= 3; i++) {
+            Assert.assertNull(new CompareTool().compareByContent(destinationFolder + "splitDocumentInParallel_" + String.valueOf(i) + ".pdf",
+                    sourceFolder + "cmp/" + "cmp_splitDocument2_" + String.valueOf(i) + ".pdf", destinationFolder, "diff_"));
+        }
+    }
+
+    @Test
+    @LogMessages(messages = {
+            @LogMessage(messageTemplate = IoLogMessageConstant.SOURCE_DOCUMENT_HAS_ACROFORM_DICTIONARY)
+    })
+    public void extractPageRangesInParallelFailureTest() throws IOException {
+        String inputFileName =  sourceFolder + "iphone_user_guide.pdf";
+        try (PdfDocument inputPdfDoc = new PdfDocument(new PdfReader(inputFileName))) {
+            PdfSplitter splitter = new PdfSplitter(inputPdfDoc);
+            List<PageRange> pageRanges = Collections.singletonList(new PageRange("1-2"));
+
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+            try {
+                Exception e = Assert.assertThrows(IllegalStateException.class,
+                        () -> splitter.extractPageRanges(pageRanges, new PdfSplitter.IDocumentReadyListener() {
+                            @Override
+                            public void documentReady(PdfDocument pdfDocument, PageRange pageRange) {
+                                throw new IllegalStateException("Listener failure");
+                            }
+                        }, executor));
+                Assert.assertEquals("Listener failure", e.getMessage());
+            } finally {
+                executor.shutdown();
+            }
+
+            // The document to be split is not affected by the split
+            Assert.assertEquals(130, inputPdfDoc.getNumberOfPages());
+        }
+    }
+
     @Test
     @LogMessages(messages = {
             @LogMessage(messageTemplate = IoLogMessageConstant.SOURCE_DOCUMENT_HAS_ACROFORM_DICTIONARY, count = 2)